@@ -9,6 +9,7 @@ import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.protocol.Packable;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Basic Tarantool client interface
@@ -57,6 +58,17 @@ public interface TarantoolClient<T extends Packable, R extends Collection<T>>
      */
     TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException;
 
+    /**
+     * Create a batch for sending several independent requests to a single connection at once
+     *
+     * @return new empty batch
+     * @throws UnsupportedOperationException if the client doesn't support request batches
+     * @see TarantoolClientBatch
+     */
+    default TarantoolClientBatch<T, R> batch() {
+        throw new UnsupportedOperationException("Request batches are not supported by this client");
+    }
+
     /**
      * Provides operations for Tarantool spaces and indexes metadata
      *
@@ -79,4 +91,29 @@ public interface TarantoolClient<T extends Packable, R extends Collection<T>>
      * @return returns true if the establishing process has been started, else false
      */
     boolean refresh();
+
+    /**
+     * Get a future which completes when the client is ready for sending requests: the required fraction of the
+     * connections is established (see {@link TarantoolClientConfig#getMinHealthyConnectionsFraction()}) and the
+     * spaces metadata is loaded. The warm-up is started on the first call of this method, unless it has been started
+     * when the client was built (see {@link TarantoolClientConfig#isWarmUp()}). If the warm-up fails, the next call
+     * starts it again.
+     *
+     * @return readiness future
+     */
+    default CompletableFuture<Void> ready() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Check if the client is ready for sending requests. May be used as a health signal for holding the traffic
+     * until the client is warmed up. Starts the warm-up if it is not started yet.
+     *
+     * @return true, if the warm-up is completed successfully
+     * @see #ready()
+     */
+    default boolean isReady() {
+        CompletableFuture<Void> ready = ready();
+        return ready.isDone() && !ready.isCompletedExceptionally();
+    }
 }
@@ -0,0 +1,62 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.api.space.TarantoolSpaceOperations;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.Packable;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Collects independent requests for sending them to a single connection at once. The call, eval and space operations
+ * invoked on the batch are not sent immediately, they return the futures of the individual results, which complete
+ * after the batch is executed and the corresponding responses are received.
+ * <p>
+ * On execution, one connection is selected according to the client connection selection strategy, and all the
+ * collected requests are packed back-to-back and written to it with a single flush. The requests are executed by the
+ * server independently of each other, so the batch is not a transaction: a failure of one request does not affect
+ * the other ones.
+ * <p>
+ * A batch can be executed only once. The instances are not thread-safe.
+ *
+ * @param <T> tuple type
+ * @param <R> tuple collection type
+ * @author Alexey Kuzin
+ */
+public interface TarantoolClientBatch<T extends Packable, R extends Collection<T>>
+    extends TarantoolCallOperations, TarantoolEvalOperations {
+
+    /**
+     * Provides CRUD and other operations for a Tarantool space. The operations are added to the batch
+     *
+     * @param spaceName name of the space, must not be null or empty
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the client is not connected
+     */
+    TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException;
+
+    /**
+     * Provides CRUD and other operations for a Tarantool space. The operations are added to the batch
+     *
+     * @param spaceId ID of the space, must be greater than 0
+     * @return Tarantool space operations interface
+     * @throws TarantoolClientException if the client is not connected
+     */
+    TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException;
+
+    /**
+     * Get the number of requests collected in the batch
+     *
+     * @return number of requests
+     */
+    int size();
+
+    /**
+     * Send all the collected requests to a single connection. No requests may be added to the batch afterwards.
+     *
+     * @return future which completes when all the request futures complete, or completes exceptionally if any of
+     * the requests fails
+     * @throws TarantoolClientException if the batch has been already executed
+     */
+    CompletableFuture<Void> execute() throws TarantoolClientException;
+}
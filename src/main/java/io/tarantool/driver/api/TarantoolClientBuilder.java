@@ -1,8 +1,13 @@
 package io.tarantool.driver.api;
 
 import io.netty.handler.ssl.SslContext;
+import io.netty.util.Timer;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.api.connection.TarantoolRoutingMode;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.TarantoolCredentials;
 import io.tarantool.driver.mappers.DefaultMessagePackMapper;
@@ -220,6 +225,169 @@ public interface TarantoolClientBuilder extends TarantoolClientConfigurator<Tara
      */
     TarantoolClientBuilder withEventLoopThreadsNumber(int eventLoopThreadsNumber);
 
+    /**
+     * Specify the timer for tracking the request and connection timeouts. By default, a timer shared between all
+     * client instances is used
+     *
+     * @param timer timer instance, e.g. {@link io.netty.util.HashedWheelTimer}
+     * @return builder
+     */
+    TarantoolClientBuilder withTimer(Timer timer);
+
+    /**
+     * Enable the flush consolidation: the requests are written to the connection without flushing the socket, the
+     * flush is performed once the specified number of requests is written or the specified delay expires
+     *
+     * @param maxBatchedWrites number of requests after which the flush is performed immediately
+     * @param maxDelay         maximum flush delay, microseconds. If 0, the requests are flushed as soon as the
+     *                         connection event loop processes all the requests submitted to it at the moment
+     * @return builder
+     */
+    TarantoolClientBuilder withFlushConsolidation(int maxBatchedWrites, long maxDelay);
+
+    /**
+     * Specify the network transport type. By default, the native epoll transport is used if it is available,
+     * otherwise the NIO transport is used
+     *
+     * @param transportType transport type
+     * @return builder
+     */
+    TarantoolClientBuilder withTransportType(TarantoolTransportType transportType);
+
+    /**
+     * Specify the resources (event loop group, timer and allocator) shared by several clients. By default, each
+     * client creates its own resources
+     *
+     * @param clientResources client resources
+     * @return builder
+     * @see TarantoolClientResources
+     */
+    TarantoolClientBuilder withClientResources(TarantoolClientResources clientResources);
+
+    /**
+     * Specify the connection outbound buffer sizes, between which the connection is considered overloaded
+     *
+     * @param low  size after which the connection is not overloaded anymore, bytes
+     * @param high size after which the connection becomes overloaded, bytes
+     * @return builder
+     */
+    TarantoolClientBuilder withWriteBufferWaterMark(int low, int high);
+
+    /**
+     * Specify the maximum number of requests waiting for the responses in one connection. By default, the number is
+     * not limited
+     *
+     * @param maxInFlightRequests number of requests
+     * @return builder
+     */
+    TarantoolClientBuilder withMaxInFlightRequests(int maxInFlightRequests);
+
+    /**
+     * Specify the policy for handling the requests sent to an overloaded connection and the capacity of the
+     * per-connection queue used by {@link TarantoolOverloadPolicy#QUEUE}
+     *
+     * @param overloadPolicy    overload policy
+     * @param maxQueuedRequests queue capacity
+     * @return builder
+     */
+    TarantoolClientBuilder withOverloadPolicy(TarantoolOverloadPolicy overloadPolicy, int maxQueuedRequests);
+
+    /**
+     * Specify the exponential backoff for re-establishing the lost connections. A lost connection is replaced in the
+     * background, the other connections are not affected. Default is 100 ms and 10 seconds
+     *
+     * @param reconnectDelay    delay before the first attempt, milliseconds
+     * @param maxReconnectDelay maximum delay between the attempts, milliseconds
+     * @return builder
+     */
+    TarantoolClientBuilder withReconnectBackoff(long reconnectDelay, long maxReconnectDelay);
+
+    /**
+     * Establish the connections and load the spaces metadata in parallel when the client is built, instead of the
+     * first request. Use {@link TarantoolClient#ready()} for waiting until the specified fraction of the
+     * connections is established and the metadata is loaded
+     *
+     * @param minHealthyConnectionsFraction fraction of the connections, from 0 (exclusive) to 1
+     * @return builder
+     */
+    TarantoolClientBuilder withWarmUp(double minHealthyConnectionsFraction);
+
+    /**
+     * Establish the connections and load the spaces metadata when the client is built, see
+     * {@link #withWarmUp(double)}. The client does not become ready if the specified fraction of the connections
+     * is not established within the timeout
+     *
+     * @param minHealthyConnectionsFraction fraction of the connections, from 0 (exclusive) to 1
+     * @param warmUpTimeout                 time to wait for the connections, milliseconds
+     * @return builder
+     */
+    TarantoolClientBuilder withWarmUp(double minHealthyConnectionsFraction, long warmUpTimeout);
+
+    /**
+     * Change the number of connections per each Tarantool server according to the load, from the minimum to the
+     * maximum number. The default scale-up threshold and idle timeout are used
+     *
+     * @param minConnections minimum number of connections per server
+     * @param maxConnections maximum number of connections per server
+     * @return builder
+     */
+    TarantoolClientBuilder withConnectionPoolAutoscaling(int minConnections, int maxConnections);
+
+    /**
+     * Change the number of connections per each Tarantool server according to the load, from the minimum to the
+     * maximum number. A new connection is established when the average number of outstanding requests per
+     * connection reaches the threshold, an additional connection is closed when the load stays low during the idle
+     * timeout
+     *
+     * @param minConnections   minimum number of connections per server
+     * @param maxConnections   maximum number of connections per server
+     * @param scaleUpThreshold average number of outstanding requests per connection
+     * @param idleTimeout      idle timeout, milliseconds
+     * @return builder
+     */
+    TarantoolClientBuilder withConnectionPoolAutoscaling(
+        int minConnections, int maxConnections, int scaleUpThreshold, long idleTimeout);
+
+    /**
+     * Send a ping request to a server when nothing has been received from it during the specified interval. The
+     * connections to the servers which do not answer the ping within the read timeout are closed and replaced
+     *
+     * @param heartbeatInterval interval, milliseconds
+     * @return builder
+     * @see #withReadTimeout(int)
+     */
+    TarantoolClientBuilder withHeartbeat(long heartbeatInterval);
+
+    /**
+     * Route the read-only requests to the replicas or to the servers in the local zone, and the writes to the
+     * masters. The server roles and zones are provided by the cluster discovery
+     *
+     * @param routingMode routing mode
+     * @param localZone   zone the client is located in, may be null
+     * @return builder
+     * @see TarantoolRoutingMode
+     */
+    TarantoolClientBuilder withRoutingMode(TarantoolRoutingMode routingMode, String localZone);
+
+    /**
+     * Specify the functions which do not modify data. Their calls are routed as the read-only requests
+     *
+     * @param functionNames function names
+     * @return builder
+     * @see #withRoutingMode(TarantoolRoutingMode, String)
+     */
+    TarantoolClientBuilder withReadOnlyFunctions(String... functionNames);
+
+    /**
+     * Enable the circuit breakers for the server endpoints. The requests are not sent to the endpoints with open
+     * breakers, and fail fast without retries if the breakers of all endpoints are open
+     *
+     * @param circuitBreakerConfig circuit breaker settings
+     * @return builder
+     * @see TarantoolCircuitBreakerConfig
+     */
+    TarantoolClientBuilder withCircuitBreaker(TarantoolCircuitBreakerConfig circuitBreakerConfig);
+
     /**
      * Build the configured Tarantool client instance. Call this when you have specified all necessary settings.
      *
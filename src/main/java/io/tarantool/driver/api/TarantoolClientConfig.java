@@ -1,15 +1,25 @@
 package io.tarantool.driver.api;
 
 import io.netty.handler.ssl.SslContext;
+import io.netty.util.Timer;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.api.connection.TarantoolRoutingMode;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
+import io.tarantool.driver.core.TarantoolTimers;
 import io.tarantool.driver.mappers.MessagePackMapper;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.utils.Assert;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -27,6 +37,20 @@ public class TarantoolClientConfig {
     private static final int DEFAULT_CONNECTIONS = 1;
     private static final int DEFAULT_CURSOR_BATCH_SIZE = 100;
     private static final int DEFAULT_EVENT_LOOP_THREADS_NUMBER = 0;
+    private static final int DEFAULT_MAX_BATCHED_WRITES = 0; // disabled
+    private static final long DEFAULT_MAX_BATCH_DELAY = 0; // microseconds
+    private static final int DEFAULT_WRITE_BUFFER_LOW_WATER_MARK = 32 * 1024; // bytes
+    private static final int DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK = 64 * 1024; // bytes
+    private static final int DEFAULT_MAX_IN_FLIGHT_REQUESTS = 0; // unlimited
+    private static final int DEFAULT_MAX_QUEUED_REQUESTS = 1000;
+    private static final long DEFAULT_RECONNECT_DELAY = 100; // milliseconds
+    private static final long DEFAULT_MAX_RECONNECT_DELAY = 10000; // milliseconds
+    private static final double DEFAULT_MIN_HEALTHY_CONNECTIONS_FRACTION = 1.0;
+    private static final long DEFAULT_WARM_UP_TIMEOUT = 30000; // milliseconds
+    private static final int DEFAULT_MAX_CONNECTIONS = 0; // autoscaling disabled
+    private static final int DEFAULT_CONNECTION_SCALE_UP_THRESHOLD = 32; // outstanding requests per connection
+    private static final long DEFAULT_CONNECTION_IDLE_TIMEOUT = 60000; // milliseconds
+    private static final long DEFAULT_HEARTBEAT_INTERVAL = 0; // disabled
 
     private TarantoolCredentials credentials;
     private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
@@ -40,6 +64,29 @@ public class TarantoolClientConfig {
         TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory.INSTANCE;
     private final AtomicBoolean isSecure = new AtomicBoolean(false);
     private SslContext sslContext;
+    private Timer timer = TarantoolTimers.defaultTimer();
+    private int maxBatchedWrites = DEFAULT_MAX_BATCHED_WRITES;
+    private long maxBatchDelay = DEFAULT_MAX_BATCH_DELAY;
+    private TarantoolTransportType transportType = TarantoolTransportType.AUTO;
+    private TarantoolClientResources clientResources;
+    private int writeBufferLowWaterMark = DEFAULT_WRITE_BUFFER_LOW_WATER_MARK;
+    private int writeBufferHighWaterMark = DEFAULT_WRITE_BUFFER_HIGH_WATER_MARK;
+    private int maxInFlightRequests = DEFAULT_MAX_IN_FLIGHT_REQUESTS;
+    private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+    private TarantoolOverloadPolicy overloadPolicy = TarantoolOverloadPolicy.QUEUE;
+    private long reconnectDelay = DEFAULT_RECONNECT_DELAY;
+    private long maxReconnectDelay = DEFAULT_MAX_RECONNECT_DELAY;
+    private boolean warmUp;
+    private double minHealthyConnectionsFraction = DEFAULT_MIN_HEALTHY_CONNECTIONS_FRACTION;
+    private long warmUpTimeout = DEFAULT_WARM_UP_TIMEOUT;
+    private int maxConnections = DEFAULT_MAX_CONNECTIONS;
+    private int connectionScaleUpThreshold = DEFAULT_CONNECTION_SCALE_UP_THRESHOLD;
+    private long connectionIdleTimeout = DEFAULT_CONNECTION_IDLE_TIMEOUT;
+    private long heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
+    private TarantoolRoutingMode routingMode = TarantoolRoutingMode.ANY;
+    private String localZone;
+    private Set<String> readOnlyFunctions = Collections.emptySet();
+    private TarantoolCircuitBreakerConfig circuitBreakerConfig;
 
     /**
      * Basic constructor.
@@ -63,6 +110,29 @@ public class TarantoolClientConfig {
         this.isSecure.set(config.isSecure.get());
         this.sslContext = config.getSslContext();
         this.eventLoopThreadsNumber = config.getEventLoopThreadsNumber();
+        this.timer = config.getTimer();
+        this.maxBatchedWrites = config.getMaxBatchedWrites();
+        this.maxBatchDelay = config.getMaxBatchDelay();
+        this.transportType = config.getTransportType();
+        this.clientResources = config.getClientResources();
+        this.writeBufferLowWaterMark = config.getWriteBufferLowWaterMark();
+        this.writeBufferHighWaterMark = config.getWriteBufferHighWaterMark();
+        this.maxInFlightRequests = config.getMaxInFlightRequests();
+        this.maxQueuedRequests = config.getMaxQueuedRequests();
+        this.overloadPolicy = config.getOverloadPolicy();
+        this.reconnectDelay = config.getReconnectDelay();
+        this.maxReconnectDelay = config.getMaxReconnectDelay();
+        this.warmUp = config.isWarmUp();
+        this.minHealthyConnectionsFraction = config.getMinHealthyConnectionsFraction();
+        this.warmUpTimeout = config.getWarmUpTimeout();
+        this.maxConnections = config.getMaxConnections();
+        this.connectionScaleUpThreshold = config.getConnectionScaleUpThreshold();
+        this.connectionIdleTimeout = config.getConnectionIdleTimeout();
+        this.heartbeatInterval = config.getHeartbeatInterval();
+        this.routingMode = config.getRoutingMode();
+        this.localZone = config.getLocalZone();
+        this.readOnlyFunctions = config.getReadOnlyFunctions();
+        this.circuitBreakerConfig = config.getCircuitBreakerConfig();
     }
 
     /**
@@ -131,7 +201,8 @@ public class TarantoolClientConfig {
     }
 
     /**
-     * Set socket read timeout, in milliseconds
+     * Set socket read timeout, in milliseconds. If the heartbeat is enabled (see {@link #setHeartbeatInterval(long)}),
+     * the connection is closed when the server does not answer a heartbeat ping within this timeout
      *
      * @param readTimeout timeout for reading data from a socket, in milliseconds
      */
@@ -268,6 +339,467 @@ public class TarantoolClientConfig {
         this.eventLoopThreadsNumber = eventLoopThreadsNumber;
     }
 
+    /**
+     * Get the timer used for tracking the request and connection timeouts
+     *
+     * @return timer instance
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Set the timer used for tracking the request and connection timeouts. By default, a timer shared between all
+     * client instances is used. A custom timer is not stopped when the client is closed.
+     *
+     * @param timer timer instance
+     */
+    public void setTimer(Timer timer) {
+        this.timer = timer;
+    }
+
+    /**
+     * Get the number of requests written to a connection after which the pending requests are flushed to the socket
+     * immediately. If the value is 0, the flush consolidation is disabled and each request is flushed separately
+     *
+     * @return number of requests
+     */
+    public int getMaxBatchedWrites() {
+        return maxBatchedWrites;
+    }
+
+    /**
+     * Set the number of requests written to a connection after which the pending requests are flushed to the socket
+     * immediately. A positive value enables the flush consolidation, the default value is 0 (disabled).
+     *
+     * @param maxBatchedWrites number of requests
+     */
+    public void setMaxBatchedWrites(int maxBatchedWrites) {
+        this.maxBatchedWrites = maxBatchedWrites;
+    }
+
+    /**
+     * Get the maximum delay of flushing the requests to the socket when the flush consolidation is enabled
+     *
+     * @return delay, microseconds
+     */
+    public long getMaxBatchDelay() {
+        return maxBatchDelay;
+    }
+
+    /**
+     * Set the maximum delay of flushing the requests to the socket when the flush consolidation is enabled. If the
+     * value is 0 (default), the requests are flushed as soon as the connection event loop processes all the requests
+     * submitted to it at the moment.
+     *
+     * @param maxBatchDelay delay, microseconds
+     */
+    public void setMaxBatchDelay(long maxBatchDelay) {
+        this.maxBatchDelay = maxBatchDelay;
+    }
+
+    /**
+     * Get the network transport type used for the connections
+     *
+     * @return transport type
+     */
+    public TarantoolTransportType getTransportType() {
+        return transportType;
+    }
+
+    /**
+     * Set the network transport type used for the connections. By default, the native epoll transport is used if it
+     * is available on the classpath and supported by the platform, otherwise the NIO transport is used. The Unix
+     * domain socket addresses require the epoll transport.
+     *
+     * @param transportType transport type
+     */
+    public void setTransportType(TarantoolTransportType transportType) {
+        this.transportType = transportType;
+    }
+
+    /**
+     * Get the resources shared by several clients
+     *
+     * @return client resources or null, if each client creates its own resources
+     */
+    public TarantoolClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * Set the resources shared by several clients. If the resources are specified, the client uses their event loop
+     * group, timer and transport instead of creating its own ones, so the event loop threads number, timer and
+     * transport type settings of this config are ignored. The client retains the resources when it is created and
+     * releases them when it is closed.
+     *
+     * @param clientResources client resources
+     */
+    public void setClientResources(TarantoolClientResources clientResources) {
+        this.clientResources = clientResources;
+    }
+
+    /**
+     * Get the size of the connection outbound buffer, after which the connection is not overloaded anymore
+     *
+     * @return size in bytes
+     */
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    /**
+     * Set the size of the connection outbound buffer, after which the connection is not overloaded anymore.
+     * Default is 32 KiB
+     *
+     * @param writeBufferLowWaterMark size in bytes
+     */
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    /**
+     * Get the size of the connection outbound buffer, after which the connection becomes overloaded
+     *
+     * @return size in bytes
+     */
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    /**
+     * Set the size of the connection outbound buffer, after which the connection becomes overloaded. Default is
+     * 64 KiB
+     *
+     * @param writeBufferHighWaterMark size in bytes
+     */
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    /**
+     * Get the maximum number of requests waiting for the responses in one connection
+     *
+     * @return number of requests, 0 means unlimited
+     */
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * Set the maximum number of requests waiting for the responses in one connection. When the limit is reached, the
+     * connection becomes overloaded. Default is 0 (unlimited)
+     *
+     * @param maxInFlightRequests number of requests
+     */
+    public void setMaxInFlightRequests(int maxInFlightRequests) {
+        this.maxInFlightRequests = maxInFlightRequests;
+    }
+
+    /**
+     * Get the capacity of the per-connection queue for the requests sent to an overloaded connection
+     *
+     * @return number of requests
+     * @see TarantoolOverloadPolicy#QUEUE
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Set the capacity of the per-connection queue for the requests sent to an overloaded connection. Default is 1000
+     *
+     * @param maxQueuedRequests number of requests
+     * @see TarantoolOverloadPolicy#QUEUE
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * Get the policy for handling the requests sent to an overloaded connection
+     *
+     * @return overload policy
+     */
+    public TarantoolOverloadPolicy getOverloadPolicy() {
+        return overloadPolicy;
+    }
+
+    /**
+     * Set the policy for handling the requests sent to an overloaded connection. Default is
+     * {@link TarantoolOverloadPolicy#QUEUE}
+     *
+     * @param overloadPolicy overload policy
+     */
+    public void setOverloadPolicy(TarantoolOverloadPolicy overloadPolicy) {
+        this.overloadPolicy = overloadPolicy;
+    }
+
+    /**
+     * Get the delay before the first attempt to re-establish a lost connection
+     *
+     * @return delay, milliseconds
+     */
+    public long getReconnectDelay() {
+        return reconnectDelay;
+    }
+
+    /**
+     * Set the delay before the first attempt to re-establish a lost connection. The delay is doubled after each
+     * failed attempt until it reaches the maximum reconnect delay. Default is 100 ms
+     *
+     * @param reconnectDelay delay, milliseconds
+     */
+    public void setReconnectDelay(long reconnectDelay) {
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    /**
+     * Get the maximum delay between the attempts to re-establish a lost connection
+     *
+     * @return delay, milliseconds
+     */
+    public long getMaxReconnectDelay() {
+        return maxReconnectDelay;
+    }
+
+    /**
+     * Set the maximum delay between the attempts to re-establish a lost connection. Default is 10 seconds
+     *
+     * @param maxReconnectDelay delay, milliseconds
+     */
+    public void setMaxReconnectDelay(long maxReconnectDelay) {
+        this.maxReconnectDelay = maxReconnectDelay;
+    }
+
+    /**
+     * Check if the connections are established and the spaces metadata is loaded when the client is built
+     *
+     * @return true, if the eager warm-up is enabled
+     */
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Enable the connections establishing and the spaces metadata loading when the client is built instead of the
+     * first request. The connections to the new servers are also established right away when the client is
+     * refreshed. Default is false
+     *
+     * @param warmUp true, if the eager warm-up is enabled
+     */
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    /**
+     * Get the fraction of the connections which must be established for the client to become ready
+     *
+     * @return fraction of the connections, from 0 (exclusive) to 1
+     */
+    public double getMinHealthyConnectionsFraction() {
+        return minHealthyConnectionsFraction;
+    }
+
+    /**
+     * Set the fraction of the connections which must be established for the client to become ready. At least one
+     * connection is always required. Default is 1.0 (all connections)
+     *
+     * @param minHealthyConnectionsFraction fraction of the connections, from 0 (exclusive) to 1
+     */
+    public void setMinHealthyConnectionsFraction(double minHealthyConnectionsFraction) {
+        this.minHealthyConnectionsFraction = minHealthyConnectionsFraction;
+    }
+
+    /**
+     * Get the time to wait for the required fraction of the connections to be established during the warm-up
+     *
+     * @return timeout, milliseconds
+     */
+    public long getWarmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    /**
+     * Set the time to wait for the required fraction of the connections to be established during the warm-up. If
+     * the connections are not established in time, the warm-up fails, but the lost connections are still
+     * re-established in the background. Default is 30 seconds
+     *
+     * @param warmUpTimeout timeout, milliseconds
+     */
+    public void setWarmUpTimeout(long warmUpTimeout) {
+        this.warmUpTimeout = warmUpTimeout;
+    }
+
+    /**
+     * Get the maximum number of connections per one Tarantool server
+     *
+     * @return number of connections, 0 if the connection pool autoscaling is disabled
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Set the maximum number of connections per one Tarantool server. If it is greater than the number of
+     * connections (see {@link #setConnections(int)}), the connection pool of each server grows from that number up to
+     * the maximum one under load and shrinks back when the load decreases. Default is 0 (autoscaling disabled)
+     *
+     * @param maxConnections number of connections
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Check if the number of connections per server is changed dynamically according to the load
+     *
+     * @return true, if the connection pool autoscaling is enabled
+     */
+    public boolean isConnectionPoolAutoscaling() {
+        return maxConnections > connections;
+    }
+
+    /**
+     * Get the average number of outstanding requests per connection to a server, at which a new connection to that
+     * server is established
+     *
+     * @return number of requests
+     */
+    public int getConnectionScaleUpThreshold() {
+        return connectionScaleUpThreshold;
+    }
+
+    /**
+     * Set the average number of outstanding requests per connection to a server, at which a new connection to that
+     * server is established. The outstanding requests include both the requests sent to the server and the requests
+     * queued in the connection. Default is 32
+     *
+     * @param connectionScaleUpThreshold number of requests
+     */
+    public void setConnectionScaleUpThreshold(int connectionScaleUpThreshold) {
+        this.connectionScaleUpThreshold = connectionScaleUpThreshold;
+    }
+
+    /**
+     * Get the time during which the load of a server must stay low for one of the additional connections to that
+     * server to be closed
+     *
+     * @return timeout, milliseconds
+     */
+    public long getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    /**
+     * Set the time during which the load of a server must stay low for one of the additional connections to that
+     * server to be closed. The load is considered low if the outstanding requests would fit into one connection less
+     * with a half of the scale-up threshold per connection. Default is 60 seconds
+     *
+     * @param connectionIdleTimeout timeout, milliseconds
+     */
+    public void setConnectionIdleTimeout(long connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+    /**
+     * Get the interval of the connection heartbeat
+     *
+     * @return interval, milliseconds, 0 if the heartbeat is disabled
+     */
+    public long getHeartbeatInterval() {
+        return heartbeatInterval;
+    }
+
+    /**
+     * Set the interval of the connection heartbeat. When nothing has been received from a server during this
+     * interval, a ping request is sent to it, and the connection is closed and replaced if the server does not answer
+     * within the read timeout. The ping round trip time is available via
+     * {@link io.tarantool.driver.api.connection.TarantoolConnection#getRoundTripTime()}. Default is 0 (disabled)
+     *
+     * @param heartbeatInterval interval, milliseconds
+     */
+    public void setHeartbeatInterval(long heartbeatInterval) {
+        this.heartbeatInterval = heartbeatInterval;
+    }
+
+    /**
+     * Get the mode of routing the requests according to the server roles and zones
+     *
+     * @return routing mode
+     */
+    public TarantoolRoutingMode getRoutingMode() {
+        return routingMode;
+    }
+
+    /**
+     * Set the mode of routing the requests according to the server roles and zones. The roles and zones are provided
+     * by the cluster discovery or specified in the server addresses. Default is {@link TarantoolRoutingMode#ANY}
+     *
+     * @param routingMode routing mode
+     */
+    public void setRoutingMode(TarantoolRoutingMode routingMode) {
+        this.routingMode = routingMode;
+    }
+
+    /**
+     * Get the zone the client is located in
+     *
+     * @return zone name or null, if it is not specified
+     */
+    public String getLocalZone() {
+        return localZone;
+    }
+
+    /**
+     * Set the zone the client is located in. The read-only requests prefer the servers in this zone, see
+     * {@link TarantoolRoutingMode}
+     *
+     * @param localZone zone name
+     */
+    public void setLocalZone(String localZone) {
+        this.localZone = localZone;
+    }
+
+    /**
+     * Get the names of the functions which do not modify data
+     *
+     * @return function names
+     */
+    public Set<String> getReadOnlyFunctions() {
+        return readOnlyFunctions;
+    }
+
+    /**
+     * Set the names of the functions which do not modify data. The calls of these functions are routed as the
+     * read-only requests, see {@link TarantoolRoutingMode}. Default is an empty set
+     *
+     * @param readOnlyFunctions function names
+     */
+    public void setReadOnlyFunctions(Set<String> readOnlyFunctions) {
+        this.readOnlyFunctions = readOnlyFunctions;
+    }
+
+    /**
+     * Get the settings of the circuit breakers for the server endpoints
+     *
+     * @return circuit breaker settings or null, if the circuit breakers are disabled
+     */
+    public TarantoolCircuitBreakerConfig getCircuitBreakerConfig() {
+        return circuitBreakerConfig;
+    }
+
+    /**
+     * Set the settings of the circuit breakers for the server endpoints. The requests are not sent to the endpoints
+     * with open breakers, and fail fast if the breakers of all endpoints are open. Default is null, the circuit
+     * breakers are disabled
+     *
+     * @param circuitBreakerConfig circuit breaker settings
+     */
+    public void setCircuitBreakerConfig(TarantoolCircuitBreakerConfig circuitBreakerConfig) {
+        this.circuitBreakerConfig = circuitBreakerConfig;
+    }
+
     /**
      * A builder for {@link TarantoolClientConfig}
      */
@@ -419,6 +951,282 @@ public class TarantoolClientConfig {
             return this;
         }
 
+        /**
+         * Specify the timer for tracking the request and connection timeouts. By default, a timer shared between all
+         * client instances is used
+         *
+         * @param timer timer instance, e.g. {@link io.netty.util.HashedWheelTimer}
+         * @return builder
+         * @see TarantoolClientConfig#setTimer(Timer)
+         */
+        public Builder withTimer(Timer timer) {
+            Assert.notNull(timer, "Timer must not be null");
+            config.setTimer(timer);
+            return this;
+        }
+
+        /**
+         * Enable the flush consolidation: the requests are written to the connection without flushing the socket,
+         * the flush is performed once the specified number of requests is written or the specified delay expires
+         *
+         * @param maxBatchedWrites number of requests after which the flush is performed immediately
+         * @param maxDelay         maximum flush delay, microseconds. If 0, the requests are flushed as soon as the
+         *                         connection event loop processes all the requests submitted to it at the moment
+         * @return builder
+         * @see TarantoolClientConfig#setMaxBatchedWrites(int)
+         * @see TarantoolClientConfig#setMaxBatchDelay(long)
+         */
+        public Builder withFlushConsolidation(int maxBatchedWrites, long maxDelay) {
+            Assert.state(maxBatchedWrites > 0, "Max batched writes should be greater than 0");
+            Assert.state(maxDelay >= 0, "Max delay should be equal to or greater than 0");
+            config.setMaxBatchedWrites(maxBatchedWrites);
+            config.setMaxBatchDelay(maxDelay);
+            return this;
+        }
+
+        /**
+         * Specify the network transport type. Default is {@link TarantoolTransportType#AUTO}
+         *
+         * @param transportType transport type
+         * @return builder
+         * @see TarantoolClientConfig#setTransportType(TarantoolTransportType)
+         */
+        public Builder withTransportType(TarantoolTransportType transportType) {
+            Assert.notNull(transportType, "Transport type should not be null");
+            config.setTransportType(transportType);
+            return this;
+        }
+
+        /**
+         * Specify the resources shared by several clients. By default, each client creates its own resources
+         *
+         * @param clientResources client resources
+         * @return builder
+         * @see TarantoolClientConfig#setClientResources(TarantoolClientResources)
+         */
+        public Builder withClientResources(TarantoolClientResources clientResources) {
+            Assert.notNull(clientResources, "Client resources should not be null");
+            config.setClientResources(clientResources);
+            return this;
+        }
+
+        /**
+         * Specify the connection outbound buffer sizes, between which the connection is considered overloaded.
+         * Default is 32 KiB and 64 KiB
+         *
+         * @param low  size after which the connection is not overloaded anymore, bytes
+         * @param high size after which the connection becomes overloaded, bytes
+         * @return builder
+         * @see TarantoolClientConfig#setWriteBufferLowWaterMark(int)
+         * @see TarantoolClientConfig#setWriteBufferHighWaterMark(int)
+         */
+        public Builder withWriteBufferWaterMark(int low, int high) {
+            Assert.state(low >= 0, "Write buffer low watermark should be equal to or greater than 0");
+            Assert.state(high >= low, "Write buffer high watermark should be equal to or greater than low watermark");
+            config.setWriteBufferLowWaterMark(low);
+            config.setWriteBufferHighWaterMark(high);
+            return this;
+        }
+
+        /**
+         * Specify the maximum number of requests waiting for the responses in one connection. Default is 0
+         * (unlimited)
+         *
+         * @param maxInFlightRequests number of requests
+         * @return builder
+         * @see TarantoolClientConfig#setMaxInFlightRequests(int)
+         */
+        public Builder withMaxInFlightRequests(int maxInFlightRequests) {
+            Assert.state(maxInFlightRequests >= 0, "Max in-flight requests should be equal to or greater than 0");
+            config.setMaxInFlightRequests(maxInFlightRequests);
+            return this;
+        }
+
+        /**
+         * Specify the policy for handling the requests sent to an overloaded connection. Default is
+         * {@link TarantoolOverloadPolicy#QUEUE}
+         *
+         * @param overloadPolicy overload policy
+         * @return builder
+         * @see TarantoolClientConfig#setOverloadPolicy(TarantoolOverloadPolicy)
+         */
+        public Builder withOverloadPolicy(TarantoolOverloadPolicy overloadPolicy) {
+            Assert.notNull(overloadPolicy, "Overload policy should not be null");
+            config.setOverloadPolicy(overloadPolicy);
+            return this;
+        }
+
+        /**
+         * Specify the capacity of the per-connection queue for the requests sent to an overloaded connection.
+         * Default is 1000
+         *
+         * @param maxQueuedRequests number of requests
+         * @return builder
+         * @see TarantoolClientConfig#setMaxQueuedRequests(int)
+         */
+        public Builder withMaxQueuedRequests(int maxQueuedRequests) {
+            Assert.state(maxQueuedRequests >= 0, "Max queued requests should be equal to or greater than 0");
+            config.setMaxQueuedRequests(maxQueuedRequests);
+            return this;
+        }
+
+        /**
+         * Specify the exponential backoff for re-establishing the lost connections. The first attempt is made after
+         * the initial delay, then the delay is doubled after each failed attempt until it reaches the maximum delay.
+         * Default is 100 ms and 10 seconds
+         *
+         * @param reconnectDelay    delay before the first attempt, milliseconds
+         * @param maxReconnectDelay maximum delay between the attempts, milliseconds
+         * @return builder
+         * @see TarantoolClientConfig#setReconnectDelay(long)
+         * @see TarantoolClientConfig#setMaxReconnectDelay(long)
+         */
+        public Builder withReconnectBackoff(long reconnectDelay, long maxReconnectDelay) {
+            Assert.state(reconnectDelay > 0, "Reconnect delay should be greater than 0");
+            Assert.state(maxReconnectDelay >= reconnectDelay,
+                "Max reconnect delay should be equal to or greater than reconnect delay");
+            config.setReconnectDelay(reconnectDelay);
+            config.setMaxReconnectDelay(maxReconnectDelay);
+            return this;
+        }
+
+        /**
+         * Enable the eager warm-up: the connections are established and the spaces metadata is loaded in parallel
+         * when the client is built instead of the first request. The client becomes ready when the specified
+         * fraction of the connections is established and the metadata is loaded
+         *
+         * @param minHealthyConnectionsFraction fraction of the connections, from 0 (exclusive) to 1
+         * @return builder
+         * @see TarantoolClientConfig#setWarmUp(boolean)
+         * @see TarantoolClientConfig#setMinHealthyConnectionsFraction(double)
+         */
+        public Builder withWarmUp(double minHealthyConnectionsFraction) {
+            Assert.state(minHealthyConnectionsFraction > 0 && minHealthyConnectionsFraction <= 1,
+                "Min healthy connections fraction should be greater than 0 and not greater than 1");
+            config.setWarmUp(true);
+            config.setMinHealthyConnectionsFraction(minHealthyConnectionsFraction);
+            return this;
+        }
+
+        /**
+         * Enable the eager warm-up with the specified timeout, see {@link #withWarmUp(double)}
+         *
+         * @param minHealthyConnectionsFraction fraction of the connections, from 0 (exclusive) to 1
+         * @param warmUpTimeout                 time to wait for the connections, milliseconds
+         * @return builder
+         * @see TarantoolClientConfig#setWarmUpTimeout(long)
+         */
+        public Builder withWarmUp(double minHealthyConnectionsFraction, long warmUpTimeout) {
+            Assert.state(warmUpTimeout > 0, "Warm-up timeout should be greater than 0");
+            config.setWarmUpTimeout(warmUpTimeout);
+            return withWarmUp(minHealthyConnectionsFraction);
+        }
+
+        /**
+         * Enable the connection pool autoscaling: the number of connections per each server changes from the minimum
+         * to the maximum one according to the load. The default scale-up threshold and idle timeout are used
+         *
+         * @param minConnections minimum number of connections per server
+         * @param maxConnections maximum number of connections per server
+         * @return builder
+         * @see TarantoolClientConfig#setConnections(int)
+         * @see TarantoolClientConfig#setMaxConnections(int)
+         */
+        public Builder withConnectionPoolAutoscaling(int minConnections, int maxConnections) {
+            return withConnectionPoolAutoscaling(minConnections, maxConnections,
+                DEFAULT_CONNECTION_SCALE_UP_THRESHOLD, DEFAULT_CONNECTION_IDLE_TIMEOUT);
+        }
+
+        /**
+         * Enable the connection pool autoscaling: the number of connections per each server changes from the minimum
+         * to the maximum one according to the load. A new connection is established when the average number of
+         * outstanding requests per connection reaches the threshold, an additional connection is closed when the
+         * load stays low during the idle timeout
+         *
+         * @param minConnections   minimum number of connections per server
+         * @param maxConnections   maximum number of connections per server
+         * @param scaleUpThreshold average number of outstanding requests per connection
+         * @param idleTimeout      idle timeout, milliseconds
+         * @return builder
+         * @see TarantoolClientConfig#setConnections(int)
+         * @see TarantoolClientConfig#setMaxConnections(int)
+         * @see TarantoolClientConfig#setConnectionScaleUpThreshold(int)
+         * @see TarantoolClientConfig#setConnectionIdleTimeout(long)
+         */
+        public Builder withConnectionPoolAutoscaling(
+            int minConnections, int maxConnections, int scaleUpThreshold, long idleTimeout) {
+            Assert.state(minConnections > 0, "Min connections should be greater than 0");
+            Assert.state(maxConnections > minConnections, "Max connections should be greater than min connections");
+            Assert.state(scaleUpThreshold > 0, "Scale-up threshold should be greater than 0");
+            Assert.state(idleTimeout > 0, "Idle timeout should be greater than 0");
+            config.setConnections(minConnections);
+            config.setMaxConnections(maxConnections);
+            config.setConnectionScaleUpThreshold(scaleUpThreshold);
+            config.setConnectionIdleTimeout(idleTimeout);
+            return this;
+        }
+
+        /**
+         * Enable the connection heartbeat: a ping request is sent to the server when nothing has been received from it
+         * during the interval. The connections to the servers which do not answer the ping within the read timeout
+         * are closed and replaced
+         *
+         * @param heartbeatInterval interval, milliseconds
+         * @return builder
+         * @see TarantoolClientConfig#setHeartbeatInterval(long)
+         * @see TarantoolClientConfig#setReadTimeout(int)
+         */
+        public Builder withHeartbeat(long heartbeatInterval) {
+            Assert.state(heartbeatInterval > 0, "Heartbeat interval should be greater than 0");
+            config.setHeartbeatInterval(heartbeatInterval);
+            return this;
+        }
+
+        /**
+         * Route the read-only requests to the replicas or to the servers in the local zone, and the writes to the
+         * masters. The server roles and zones are provided by the cluster discovery
+         *
+         * @param routingMode routing mode
+         * @param localZone   zone the client is located in, may be null
+         * @return builder
+         * @see TarantoolClientConfig#setRoutingMode(TarantoolRoutingMode)
+         * @see TarantoolClientConfig#setLocalZone(String)
+         */
+        public Builder withRoutingMode(TarantoolRoutingMode routingMode, String localZone) {
+            Assert.notNull(routingMode, "Routing mode should not be null");
+            Assert.state(routingMode != TarantoolRoutingMode.PREFER_LOCAL_ZONE || localZone != null,
+                "Local zone should be specified for the PREFER_LOCAL_ZONE routing mode");
+            config.setRoutingMode(routingMode);
+            config.setLocalZone(localZone);
+            return this;
+        }
+
+        /**
+         * Specify the functions which do not modify data. Their calls are routed as the read-only requests
+         *
+         * @param functionNames function names
+         * @return builder
+         * @see TarantoolClientConfig#setReadOnlyFunctions(Set)
+         */
+        public Builder withReadOnlyFunctions(String... functionNames) {
+            Assert.notNull(functionNames, "Function names should not be null");
+            config.setReadOnlyFunctions(Collections.unmodifiableSet(new HashSet<>(Arrays.asList(functionNames))));
+            return this;
+        }
+
+        /**
+         * Enable the circuit breakers for the server endpoints
+         *
+         * @param circuitBreakerConfig circuit breaker settings
+         * @return builder
+         * @see TarantoolClientConfig#setCircuitBreakerConfig(TarantoolCircuitBreakerConfig)
+         */
+        public Builder withCircuitBreaker(TarantoolCircuitBreakerConfig circuitBreakerConfig) {
+            Assert.notNull(circuitBreakerConfig, "Circuit breaker config should not be null");
+            config.setCircuitBreakerConfig(circuitBreakerConfig);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClientConfig} instance
          *
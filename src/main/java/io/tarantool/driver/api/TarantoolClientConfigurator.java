@@ -1,6 +1,7 @@
 package io.tarantool.driver.api;
 
 import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.retry.RequestHedgingPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -177,6 +178,27 @@ public interface TarantoolClientConfigurator<SELF extends TarantoolClientConfigu
      */
     SELF withRetrying(RequestRetryPolicyFactory factory, Executor executor);
 
+    /**
+     * Configure hedging of the idempotent operations: space selects and calls of the functions specified in
+     * {@link TarantoolClientConfig.Builder#withReadOnlyFunctions(String...)}. If such an operation is not completed
+     * within the hedging delay, a duplicate request is sent to the next connection and the first response wins.
+     * When combined with a retry policy, each retry attempt is hedged.
+     *
+     * @param policy builder provider for {@link RequestHedgingPolicy}, e.g. a lambda function taking the builder
+     * @return this instance of builder {@link TarantoolClientConfigurator}
+     */
+    SELF withHedging(UnaryOperator<RequestHedgingPolicy.Builder> policy);
+
+    /**
+     * Configure hedging of the idempotent operations with the specified policy instance. The instance collects the
+     * latency statistics, so it should not be shared between the clients working with different clusters
+     *
+     * @param policy {@link RequestHedgingPolicy}
+     * @return this instance of builder {@link TarantoolClientConfigurator}
+     * @see #withHedging(UnaryOperator)
+     */
+    SELF withHedging(RequestHedgingPolicy policy);
+
     /**
      * Build the configured Tarantool client instance. Call this when you have specified all necessary settings.
      *
@@ -0,0 +1,203 @@
+package io.tarantool.driver.api;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.Timer;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.core.TarantoolTimers;
+import io.tarantool.driver.core.TarantoolTransport;
+import io.tarantool.driver.utils.Assert;
+
+/**
+ * Holds the resources used by the clients for network communication: the event loop group, the timer for tracking
+ * the request and connection timeouts and the byte buffer allocator.
+ * <p>
+ * By default, each client creates its own resources. A single instance can be shared by many clients and discovery
+ * providers via {@link TarantoolClientConfig.Builder#withClientResources(TarantoolClientResources)}, which saves the
+ * event loop threads when an application uses several clients. The instances are reference-counted: each client
+ * retains the resources when it is created and releases them when it is closed. The resources are created with the
+ * reference count 1, which belongs to the creator, so the event loop group is shut down once the creator and all the
+ * clients have released them.
+ * <p>
+ * The timer is not stopped when the resources are deallocated, since by default it is the timer shared by all
+ * clients (see {@link TarantoolTimers#defaultTimer()}).
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolClientResources extends AbstractReferenceCounted {
+
+    private final TarantoolTransport transport;
+    private final EventLoopGroup eventLoopGroup;
+    private final Timer timer;
+    private final ByteBufAllocator allocator;
+
+    private TarantoolClientResources(
+        TarantoolTransport transport,
+        int eventLoopThreadsNumber,
+        Timer timer,
+        ByteBufAllocator allocator) {
+        this.transport = transport;
+        this.eventLoopGroup = transport.newEventLoopGroup(eventLoopThreadsNumber);
+        this.timer = timer;
+        this.allocator = allocator;
+    }
+
+    /**
+     * Create the resources with default settings
+     *
+     * @return new resources instance
+     */
+    public static TarantoolClientResources create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the network transport
+     *
+     * @return transport
+     */
+    public TarantoolTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Get the event loop group for the connections
+     *
+     * @return event loop group
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return eventLoopGroup;
+    }
+
+    /**
+     * Get the timer for tracking the request and connection timeouts
+     *
+     * @return timer
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Get the allocator for the connection buffers
+     *
+     * @return byte buffer allocator
+     */
+    public ByteBufAllocator getAllocator() {
+        return allocator;
+    }
+
+    @Override
+    public TarantoolClientResources retain() {
+        super.retain();
+        return this;
+    }
+
+    @Override
+    public TarantoolClientResources retain(int increment) {
+        super.retain(increment);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientResources touch() {
+        return this;
+    }
+
+    @Override
+    public TarantoolClientResources touch(Object hint) {
+        return this;
+    }
+
+    @Override
+    protected void deallocate() {
+        eventLoopGroup.shutdownGracefully();
+    }
+
+    /**
+     * A builder for {@link TarantoolClientResources}
+     */
+    public static final class Builder {
+
+        private TarantoolTransportType transportType = TarantoolTransportType.AUTO;
+        private int eventLoopThreadsNumber;
+        private Timer timer = TarantoolTimers.defaultTimer();
+        private ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+
+        /**
+         * Basic constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specify the network transport type. Default is {@link TarantoolTransportType#AUTO}
+         *
+         * @param transportType transport type
+         * @return builder
+         */
+        public Builder withTransportType(TarantoolTransportType transportType) {
+            Assert.notNull(transportType, "Transport type should not be null");
+            this.transportType = transportType;
+            return this;
+        }
+
+        /**
+         * Specify the number of event loop threads. Default is 0, which means the Netty's default (twice the number
+         * of available processors)
+         *
+         * @param eventLoopThreadsNumber number of threads
+         * @return builder
+         */
+        public Builder withEventLoopThreadsNumber(int eventLoopThreadsNumber) {
+            Assert.state(eventLoopThreadsNumber >= 0, "Event loop threads number should be equal to or greater than 0");
+            this.eventLoopThreadsNumber = eventLoopThreadsNumber;
+            return this;
+        }
+
+        /**
+         * Specify the timer for tracking the request and connection timeouts. The timer is not stopped when the
+         * resources are deallocated
+         *
+         * @param timer timer instance
+         * @return builder
+         */
+        public Builder withTimer(Timer timer) {
+            Assert.notNull(timer, "Timer should not be null");
+            this.timer = timer;
+            return this;
+        }
+
+        /**
+         * Specify the allocator for the connection buffers. Default is {@link ByteBufAllocator#DEFAULT}
+         *
+         * @param allocator byte buffer allocator
+         * @return builder
+         */
+        public Builder withAllocator(ByteBufAllocator allocator) {
+            Assert.notNull(allocator, "Allocator should not be null");
+            this.allocator = allocator;
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolClientResources} instance. The event loop group is created at this point
+         *
+         * @return new resources instance with the reference count 1
+         */
+        public TarantoolClientResources build() {
+            return new TarantoolClientResources(
+                TarantoolTransport.forType(transportType), eventLoopThreadsNumber, timer, allocator);
+        }
+    }
+}
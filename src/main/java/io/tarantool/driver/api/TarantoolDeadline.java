@@ -0,0 +1,139 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which an operation must complete. The deadline of the current operation is bound to the calling
+ * thread while the operation requests are created, see {@link #run(Supplier)}, and it is propagated to all layers:
+ * <ul>
+ *     <li>each request created within the deadline scope carries it, see
+ *     {@link io.tarantool.driver.protocol.TarantoolRequest#getDeadline()}. The request is dropped without sending if
+ *     the deadline expires before it is written to the connection, and the client request timeout is reduced to the
+ *     remaining time;</li>
+ *     <li>the remaining time is passed as the {@code timeout} option of the {@code crud.*} calls made by the proxy
+ *     clients, so that the server stops working on the requests the client has given up on;</li>
+ *     <li>the built-in retry policies bind the operation timeout and the request timeout to each attempt, and the
+ *     retries and hedged attempts keep the deadline of the original operation.</li>
+ * </ul>
+ * The nested deadline scopes may only shorten the deadline: the earliest one is used.
+ * <p>
+ * Example:
+ * <pre>
+ * <code>
+ * CompletableFuture&lt;TarantoolResult&lt;TarantoolTuple&gt;&gt; result = TarantoolDeadline.after(500)
+ *     .run(() -&gt; client.space("test").select(conditions));
+ * </code>
+ * </pre>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolDeadline {
+
+    private static final ThreadLocal<TarantoolDeadline> CURRENT = new ThreadLocal<>();
+
+    private final long timeout; // milliseconds
+    private final long deadline; // System.nanoTime() based
+
+    private TarantoolDeadline(long timeout, long deadline) {
+        this.timeout = timeout;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Create a deadline which expires after the specified timeout from now
+     *
+     * @param timeout timeout in milliseconds
+     * @return new deadline instance
+     */
+    public static TarantoolDeadline after(long timeout) {
+        Assert.state(timeout >= 0, "Timeout should be equal to or greater than 0");
+        return new TarantoolDeadline(timeout, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout));
+    }
+
+    /**
+     * Get the deadline bound to the calling thread
+     *
+     * @return deadline or null, if the current operation has no deadline
+     */
+    public static TarantoolDeadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Get the timeout the deadline was created with
+     *
+     * @return timeout in milliseconds
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Get the time left until the deadline
+     *
+     * @return remaining time in milliseconds, 0 if the deadline has expired
+     */
+    public long remaining() {
+        return TimeUnit.NANOSECONDS.toMillis(remainingNanos());
+    }
+
+    /**
+     * Get the time left until the deadline
+     *
+     * @return remaining time in nanoseconds, 0 if the deadline has expired
+     */
+    public long remainingNanos() {
+        return Math.max(deadline - System.nanoTime(), 0);
+    }
+
+    /**
+     * Check if the deadline has passed
+     *
+     * @return true, if the deadline has expired
+     */
+    public boolean isExpired() {
+        return deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Perform the action with this deadline bound to the calling thread. If the calling thread is bound to an
+     * earlier deadline already, that deadline is kept
+     *
+     * @param action action which creates the operation requests
+     * @param <T>    action result type
+     * @return action result
+     */
+    public <T> T run(Supplier<T> action) {
+        TarantoolDeadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.deadline - deadline <= 0 ? previous : this);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Bind the deadline to the action, so that it is performed with this deadline in any thread
+     *
+     * @param action action which creates the operation requests
+     * @param <T>    action result type
+     * @return action bound to the deadline
+     * @see #run(Supplier)
+     */
+    public <T> Supplier<T> wrap(Supplier<T> action) {
+        return () -> run(action);
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolDeadline{timeout=" + timeout + ", remaining=" + remaining() + '}';
+    }
+}
@@ -1,20 +1,33 @@
 package io.tarantool.driver.api;
 
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tarantool.driver.exceptions.TarantoolSocketException;
+import io.tarantool.driver.utils.Assert;
 
 import java.io.Serializable;
 import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Objects;
 
 /**
- * Represents the location of a Tarantool server - server name and port number
+ * Represents the location of a Tarantool server - server name and port number, or a path to the Unix domain socket.
+ * <p>
+ * The address may be tagged with the server role, replica set and zone, which are used for routing the requests
+ * (see {@link io.tarantool.driver.api.connection.TarantoolRoutingMode}). The tags are not taken into account when
+ * the addresses are compared.
  *
  * @author Sergey Volgin
  * @author Oleg Kuznetsov
  */
 public class TarantoolServerAddress implements Serializable {
     private static final long serialVersionUID = 7327851568010264254L;
+    private static final String UNIX_SOCKET_PREFIX = "unix/:";
 
     private final InetSocketAddress socketAddress;
+    private final String domainSocketPath;
+    private TarantoolServerRole role = TarantoolServerRole.UNKNOWN;
+    private String replicaset;
+    private String zone;
 
     /**
      * Creates a TarantoolServerAddress with default host and port
@@ -31,16 +44,32 @@ public class TarantoolServerAddress implements Serializable {
      */
     public TarantoolServerAddress(final String host, final int port) {
         this.socketAddress = new InetSocketAddress(host, port);
+        this.domainSocketPath = null;
     }
 
     /**
      * Create a TarantoolServerAddress from connection string
-     * e.g. 127.0.0.1:3301, localhost:3301, [::1]:3301, user:password@localhost:3301, user:password@[::1]:3301
+     * e.g. 127.0.0.1:3301, localhost:3301, [::1]:3301, user:password@localhost:3301, user:password@[::1]:3301,
+     * unix/:/var/run/tarantool/router.sock, user:password@unix/:/var/run/tarantool/router.sock
      *
      * @param address address to Tarantool
      */
     public TarantoolServerAddress(final String address) {
         String hostToUse = splitHostByUser(address);
+        if (hostToUse.startsWith(UNIX_SOCKET_PREFIX)) {
+            String path = hostToUse.substring(UNIX_SOCKET_PREFIX.length()).trim();
+            if (path.isEmpty()) {
+                throw new IllegalArgumentException(String.format("Invalid address: %s", address));
+            }
+            this.socketAddress = null;
+            this.domainSocketPath = path;
+        } else {
+            this.socketAddress = parseInetAddress(address, hostToUse);
+            this.domainSocketPath = null;
+        }
+    }
+
+    private static InetSocketAddress parseInetAddress(String address, String hostToUse) {
         Integer portToUse = null;
         if (hostToUse.startsWith("[")) {
             int idx = address.indexOf("]");
@@ -75,10 +104,10 @@ public class TarantoolServerAddress implements Serializable {
             throw new IllegalArgumentException(String.format("Invalid address: %s", address));
         }
 
-        this.socketAddress = new InetSocketAddress(hostToUse.toLowerCase(), portToUse);
+        return new InetSocketAddress(hostToUse.toLowerCase(), portToUse);
     }
 
-    private String splitHostByUser(String host) {
+    private static String splitHostByUser(String host) {
         String hostToUse = host;
         if (hostToUse == null) {
             throw new IllegalArgumentException("Host is null");
@@ -111,35 +140,143 @@ public class TarantoolServerAddress implements Serializable {
      */
     public TarantoolServerAddress(InetSocketAddress socketAddress) {
         this.socketAddress = socketAddress;
+        this.domainSocketPath = null;
+    }
+
+    private TarantoolServerAddress copy() {
+        TarantoolServerAddress copy = isDomainSocket() ?
+            new TarantoolServerAddress(UNIX_SOCKET_PREFIX + this.domainSocketPath) :
+            new TarantoolServerAddress(this.socketAddress);
+        copy.role = this.role;
+        copy.replicaset = this.replicaset;
+        copy.zone = this.zone;
+        return copy;
+    }
+
+    /**
+     * Create a copy of this address tagged with the server role
+     *
+     * @param role server role
+     * @return new address instance
+     */
+    public TarantoolServerAddress withRole(TarantoolServerRole role) {
+        Assert.notNull(role, "Server role should not be null");
+        TarantoolServerAddress copy = copy();
+        copy.role = role;
+        return copy;
+    }
+
+    /**
+     * Create a copy of this address tagged with the replica set name
+     *
+     * @param replicaset replica set name or UUID
+     * @return new address instance
+     */
+    public TarantoolServerAddress withReplicaset(String replicaset) {
+        TarantoolServerAddress copy = copy();
+        copy.replicaset = replicaset;
+        return copy;
+    }
+
+    /**
+     * Create a copy of this address tagged with the zone
+     *
+     * @param zone zone name
+     * @return new address instance
+     */
+    public TarantoolServerAddress withZone(String zone) {
+        TarantoolServerAddress copy = copy();
+        copy.zone = zone;
+        return copy;
+    }
+
+    /**
+     * Get the server role
+     *
+     * @return server role, {@link TarantoolServerRole#UNKNOWN} if it is not specified
+     */
+    public TarantoolServerRole getRole() {
+        return role != null ? role : TarantoolServerRole.UNKNOWN;
     }
 
     /**
-     * Get the hostname
+     * Get the name of the replica set the server belongs to
+     *
+     * @return replica set name or null, if it is not specified
+     */
+    public String getReplicaset() {
+        return replicaset;
+    }
+
+    /**
+     * Get the zone the server is located in
+     *
+     * @return zone name or null, if it is not specified
+     */
+    public String getZone() {
+        return zone;
+    }
+
+    /**
+     * Get the hostname. For the Unix domain socket addresses the socket path is returned
      *
      * @return hostname
      */
     public String getHost() {
-        return this.socketAddress.getHostName();
+        return isDomainSocket() ? this.domainSocketPath : this.socketAddress.getHostName();
     }
 
     /**
-     * Get the port number
+     * Get the port number. For the Unix domain socket addresses 0 is returned
      *
      * @return port
      */
     public int getPort() {
-        return this.socketAddress.getPort();
+        return isDomainSocket() ? 0 : this.socketAddress.getPort();
     }
 
     /**
      * Get the socket address
      *
      * @return socket address
+     * @throws TarantoolSocketException if the address points to a Unix domain socket
      */
     public InetSocketAddress getSocketAddress() throws TarantoolSocketException {
+        if (isDomainSocket()) {
+            throw new TarantoolSocketException(
+                String.format("Unix domain socket address %s is not an inet socket address", this), this);
+        }
         return this.socketAddress;
     }
 
+    /**
+     * Check if the address points to a Unix domain socket
+     *
+     * @return true, if the address is a Unix domain socket address
+     */
+    public boolean isDomainSocket() {
+        return this.domainSocketPath != null;
+    }
+
+    /**
+     * Get the path to the Unix domain socket
+     *
+     * @return socket path or null, if the address is not a Unix domain socket address
+     */
+    public String getDomainSocketPath() {
+        return this.domainSocketPath;
+    }
+
+    /**
+     * Get the address for connecting to the server: either a {@link InetSocketAddress} or a
+     * {@link DomainSocketAddress}
+     *
+     * @return socket address
+     */
+    public SocketAddress toSocketAddress() {
+        return isDomainSocket() ? new DomainSocketAddress(this.domainSocketPath) : this.socketAddress;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -149,16 +286,17 @@ public class TarantoolServerAddress implements Serializable {
             return false;
         }
         TarantoolServerAddress that = (TarantoolServerAddress) o;
-        return this.socketAddress.equals(that.socketAddress);
+        return Objects.equals(this.socketAddress, that.socketAddress) &&
+            Objects.equals(this.domainSocketPath, that.domainSocketPath);
     }
 
     @Override
     public int hashCode() {
-        return this.socketAddress.hashCode();
+        return Objects.hash(this.socketAddress, this.domainSocketPath);
     }
 
     @Override
     public String toString() {
-        return this.socketAddress.toString();
+        return isDomainSocket() ? UNIX_SOCKET_PREFIX + this.domainSocketPath : this.socketAddress.toString();
     }
 }
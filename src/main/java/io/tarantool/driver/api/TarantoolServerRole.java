@@ -0,0 +1,41 @@
+package io.tarantool.driver.api;
+
+/**
+ * Role of a Tarantool server in its replica set, as reported by the cluster discovery
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolServerRole {
+
+    /**
+     * The server accepts writes
+     */
+    MASTER,
+
+    /**
+     * The server is a read-only replica
+     */
+    REPLICA,
+
+    /**
+     * The role is not known, e.g. the address is specified statically or the discovery does not report the roles
+     */
+    UNKNOWN;
+
+    /**
+     * Get the role by its name reported by the cluster discovery, case-insensitive
+     *
+     * @param name role name, e.g. "master" or "replica"
+     * @return server role, {@link #UNKNOWN} if the name is null or not recognized
+     */
+    public static TarantoolServerRole fromString(String name) {
+        if (name != null) {
+            for (TarantoolServerRole role : values()) {
+                if (role.name().equalsIgnoreCase(name.trim())) {
+                    return role;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+}
@@ -17,4 +17,11 @@ public interface ConnectionSelectionStrategy {
      * @throws NoAvailableConnectionsException if no connections exist or all connections are not usable
      */
     TarantoolConnection next() throws NoAvailableConnectionsException;
+
+    /**
+     * Release the resources held by the strategy, e.g. remove the listeners added to the connections. Invoked when
+     * the strategy is replaced with a new one because the set of connections has changed. By default, does nothing
+     */
+    default void close() {
+    }
 }
@@ -0,0 +1,319 @@
+package io.tarantool.driver.api.connection;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the server endpoints with the probability proportional to the inverse of their response latency. The
+ * latency is tracked per endpoint (the connections to the same server address) as an exponentially weighted moving
+ * average. The statistics are kept while the connections exist, so they are not lost when the strategy is re-created
+ * after a change of the connection pool. The connections to the selected endpoint are used in round-robin order.
+ * <p>
+ * The endpoints are ejected for some time if the rate of network errors and timeouts becomes too high or if their
+ * latency is several times higher than the latency of the fastest endpoint. The ejection time grows with each
+ * subsequent ejection. After the ejection time passes, the endpoint traffic share is increased gradually. Not more
+ * than a half of the endpoints can be ejected at the same time, and if all the available endpoints are ejected, the
+ * ejection is ignored.
+ *
+ * @author Alexey Kuzin
+ * @see TarantoolConnectionSelectionStrategies.LatencyWeightedStrategyFactory
+ */
+final class LatencyWeightedStrategy implements ConnectionSelectionStrategy {
+
+    // weight of a new latency or error sample in the moving averages
+    static final double EWMA_ALPHA = 0.2;
+    static final int MIN_SAMPLES_FOR_EJECTION = 10;
+    static final double ERROR_RATE_THRESHOLD = 0.5;
+    // relative to the latency of the fastest endpoint
+    static final double LATENCY_THRESHOLD_FACTOR = 5.0;
+    static final long BASE_EJECTION_TIME = TimeUnit.SECONDS.toNanos(1);
+    static final long MAX_EJECTION_TIME = TimeUnit.SECONDS.toNanos(30);
+    // the traffic share of a re-admitted endpoint grows from the initial fraction to the full one within this time
+    static final long SLOW_START_TIME = TimeUnit.SECONDS.toNanos(10);
+    static final double SLOW_START_INITIAL_WEIGHT = 0.1;
+    static final double MAX_EJECTED_FRACTION = 0.5;
+
+    // the statistics outlive the strategy instances, which are re-created each time the set of connections changes.
+    // They are bound to the connection slots, so the clients connected to the same server do not share them
+    private static final Map<TarantoolConnection, EndpointStats> STATS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Endpoint[] endpoints;
+    private final AtomicInteger available;
+    private final TarantoolConnectionCloseListener closeListener;
+
+    LatencyWeightedStrategy(Collection<TarantoolConnection> connections) {
+        this.available = new AtomicInteger(connections.size());
+        // the remote address of a connection being re-established differs from the one of the established connection
+        Map<TarantoolServerAddress, List<TarantoolConnection>> connectionsByAddress = connections.stream()
+            .collect(Collectors.groupingBy(TarantoolConnection::getServerAddress, LinkedHashMap::new,
+                Collectors.toList()));
+        this.endpoints = connectionsByAddress.values().stream()
+            .map(Endpoint::new)
+            .toArray(Endpoint[]::new);
+        this.closeListener = c -> available.getAndDecrement();
+        for (Endpoint endpoint : endpoints) {
+            for (TarantoolConnection connection : endpoint.connections) {
+                connection.addConnectionCloseListener(closeListener);
+                connection.addConnectionFailureListener(endpoint.failureListener);
+                connection.addRequestCompletionListener(endpoint.requestListener);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Endpoint endpoint : endpoints) {
+            for (TarantoolConnection connection : endpoint.connections) {
+                connection.removeConnectionCloseListener(closeListener);
+                connection.removeConnectionFailureListener(endpoint.failureListener);
+                connection.removeRequestCompletionListener(endpoint.requestListener);
+            }
+        }
+    }
+
+    @Override
+    public TarantoolConnection next() throws NoAvailableConnectionsException {
+        if (available.get() > 0) {
+            long now = System.nanoTime();
+            Endpoint endpoint = selectEndpoint(now, false);
+            if (endpoint == null) {
+                // all endpoints with alive connections are ejected
+                endpoint = selectEndpoint(now, true);
+            }
+            if (endpoint != null) {
+                TarantoolConnection connection = endpoint.nextConnection();
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+        throw new NoAvailableConnectionsException();
+    }
+
+    private Endpoint selectEndpoint(long now, boolean ignoreEjection) {
+        double bestLatency = bestLatency(now);
+        double totalWeight = 0;
+        for (Endpoint endpoint : endpoints) {
+            totalWeight += weight(endpoint, now, bestLatency, ignoreEjection);
+        }
+        if (totalWeight <= 0) {
+            return null;
+        }
+        double point = ThreadLocalRandom.current().nextDouble() * totalWeight;
+        Endpoint selected = null;
+        for (Endpoint endpoint : endpoints) {
+            double weight = weight(endpoint, now, bestLatency, ignoreEjection);
+            if (weight > 0) {
+                selected = endpoint;
+                point -= weight;
+                if (point < 0) {
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static double weight(Endpoint endpoint, long now, double bestLatency, boolean ignoreEjection) {
+        if (!endpoint.hasConnected()) {
+            return 0;
+        }
+        EndpointStats stats = endpoint.stats;
+        double factor = ignoreEjection ? 1 : stats.slowStartFactor(now);
+        if (factor <= 0) {
+            return 0;
+        }
+        // the endpoints without latency samples are considered as fast as the fastest one
+        double latency = stats.latency > 0 ? stats.latency : bestLatency > 0 ? bestLatency : 1;
+        return factor / latency;
+    }
+
+    private double bestLatency(long now) {
+        double best = 0;
+        for (Endpoint endpoint : endpoints) {
+            double latency = endpoint.stats.latency;
+            if (latency > 0 && !endpoint.stats.isEjected(now) && (best == 0 || latency < best)) {
+                best = latency;
+            }
+        }
+        return best;
+    }
+
+    // invoked after the sample has been recorded to the endpoint statistics
+    private void checkOutlier(Endpoint endpoint) {
+        long now = System.nanoTime();
+        EndpointStats stats = endpoint.stats;
+        if (stats.isEjected(now) || stats.samples < MIN_SAMPLES_FOR_EJECTION) {
+            return;
+        }
+        double bestLatency = bestLatency(now);
+        boolean outlier = stats.errorRate >= ERROR_RATE_THRESHOLD ||
+            bestLatency > 0 && stats.latency > LATENCY_THRESHOLD_FACTOR * bestLatency;
+        if (!outlier) {
+            stats.resetEjections(now);
+        } else if (ejectedCount(now) + 1 <= MAX_EJECTED_FRACTION * endpoints.length) {
+            stats.eject(now);
+        }
+    }
+
+    private int ejectedCount(long now) {
+        int count = 0;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.stats.isEjected(now)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean isEndpointError(Throwable e) {
+        if (e instanceof CompletionException && e.getCause() != null) {
+            e = e.getCause();
+        }
+        return e instanceof TimeoutException ||
+            e instanceof TarantoolTimeoutException ||
+            e instanceof TarantoolConnectionException ||
+            e instanceof TarantoolInternalNetworkException ||
+            e instanceof TarantoolOverloadException;
+    }
+
+    // the connections of the endpoint share the statistics, the new connections join the existing ones
+    private static EndpointStats bindStats(List<TarantoolConnection> connections) {
+        synchronized (STATS) {
+            EndpointStats stats = null;
+            for (TarantoolConnection connection : connections) {
+                stats = STATS.get(connection);
+                if (stats != null) {
+                    break;
+                }
+            }
+            if (stats == null) {
+                stats = new EndpointStats();
+            }
+            for (TarantoolConnection connection : connections) {
+                if (STATS.putIfAbsent(connection, stats) == null) {
+                    // the samples are recorded once per connection, though it may be used by several strategies
+                    connection.addConnectionFailureListener(stats);
+                    connection.addRequestCompletionListener(stats);
+                }
+            }
+            return stats;
+        }
+    }
+
+    private final class Endpoint {
+        private final TarantoolConnection[] connections;
+        private final EndpointStats stats;
+        private final TarantoolConnectionFailureListener failureListener = (c, e) -> checkOutlier(this);
+        private final TarantoolRequestCompletionListener requestListener = (c, latency, e) -> checkOutlier(this);
+        private final AtomicInteger counter = new AtomicInteger();
+
+        Endpoint(List<TarantoolConnection> connections) {
+            this.connections = connections.toArray(new TarantoolConnection[0]);
+            this.stats = bindStats(connections);
+        }
+
+        boolean hasConnected() {
+            for (TarantoolConnection connection : connections) {
+                if (connection.isConnected()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        TarantoolConnection nextConnection() {
+            for (int i = 0; i < connections.length; i++) {
+                TarantoolConnection connection =
+                    connections[Math.floorMod(counter.getAndIncrement(), connections.length)];
+                if (connection.isConnected()) {
+                    return connection;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class EndpointStats
+        implements TarantoolConnectionFailureListener, TarantoolRequestCompletionListener {
+        // moving averages, the latency is 0 until the first successful request
+        private volatile double latency;
+        private volatile double errorRate;
+        private volatile int samples;
+        private volatile int ejections;
+        // the end of the last ejection, 0 if the endpoint has not been ejected
+        private volatile long ejectedUntil;
+
+        @Override
+        public void onConnectionFailure(TarantoolConnection connection, Throwable e) {
+            record(0, true);
+        }
+
+        @Override
+        public void onRequestCompleted(TarantoolConnection connection, long latencyNanos, Throwable error) {
+            record(latencyNanos, error != null && isEndpointError(error));
+        }
+
+        synchronized void record(long sample, boolean failed) {
+            samples++;
+            errorRate += EWMA_ALPHA * ((failed ? 1 : 0) - errorRate);
+            if (!failed) {
+                latency = latency == 0 ? sample : latency + EWMA_ALPHA * (sample - latency);
+            }
+        }
+
+        boolean isEjected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        double slowStartFactor(long now) {
+            long until = ejectedUntil;
+            if (until == 0) {
+                return 1;
+            }
+            long elapsed = now - until;
+            if (elapsed < 0) {
+                return 0;
+            }
+            if (elapsed >= SLOW_START_TIME) {
+                return 1;
+            }
+            return SLOW_START_INITIAL_WEIGHT + (1 - SLOW_START_INITIAL_WEIGHT) * elapsed / SLOW_START_TIME;
+        }
+
+        synchronized void eject(long now) {
+            long ejectionTime = Math.min(BASE_EJECTION_TIME << Math.min(ejections, 30), MAX_EJECTION_TIME);
+            ejections++;
+            ejectedUntil = now + ejectionTime;
+            // the statistics are collected again after the re-admission
+            samples = 0;
+            errorRate = 0;
+            latency = 0;
+        }
+
+        void resetEjections(long now) {
+            if (ejections > 0 && slowStartFactor(now) >= 1) {
+                ejections = 0;
+            }
+        }
+    }
+}
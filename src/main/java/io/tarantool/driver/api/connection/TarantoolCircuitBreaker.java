@@ -0,0 +1,164 @@
+package io.tarantool.driver.api.connection;
+
+import io.tarantool.driver.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker for the requests to a server endpoint or to a function on it. The breaker is
+ * <ul>
+ *     <li>{@link State#CLOSED} while the requests succeed, all requests are let through. The specified number of
+ *     consecutive failures opens it;</li>
+ *     <li>{@link State#OPEN} for the open timeout, the requests are rejected, so that they fail fast or are routed
+ *     to other endpoints;</li>
+ *     <li>{@link State#HALF_OPEN} after the open timeout, only the probe requests are let through. The breaker is
+ *     closed after the specified number of successful probes, and any failure opens it again.</li>
+ * </ul>
+ * Each state change starts a new breaker generation. The outcomes are reported together with the time the request
+ * was sent, and the outcomes of the requests sent before the last state change are ignored, so that e.g. the late
+ * responses to the requests sent while the breaker was closed are not counted as probes.
+ *
+ * @author Alexey Kuzin
+ * @see TarantoolCircuitBreakerConfig
+ */
+public final class TarantoolCircuitBreaker {
+
+    /**
+     * Circuit breaker state
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openTimeout;
+    private final int halfOpenProbes;
+    private volatile State state = State.CLOSED;
+    // the fields below are guarded by this
+    private volatile int failures;
+    private long stateChangedAt = System.nanoTime();
+    private int probesInFlight;
+    private int probesSucceeded;
+
+    /**
+     * Basic constructor.
+     *
+     * @param config circuit breaker settings
+     */
+    public TarantoolCircuitBreaker(TarantoolCircuitBreakerConfig config) {
+        Assert.notNull(config, "Circuit breaker config must not be null");
+        this.failureThreshold = config.getFailureThreshold();
+        this.openTimeout = TimeUnit.MILLISECONDS.toNanos(config.getOpenTimeout());
+        this.halfOpenProbes = config.getHalfOpenProbes();
+    }
+
+    /**
+     * Get the current breaker state. The open breaker becomes half-open only with the next request attempt
+     *
+     * @return breaker state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Check if a request may be sent. The request is counted as a probe, if the breaker is half-open, so its
+     * outcome must be reported via {@link #onSuccess(long)} or {@link #onFailure(long)}, or the permission must be
+     * released via {@link #releasePermission()} if the request is not sent.
+     *
+     * @return true, if the request may be sent
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - stateChangedAt < openTimeout) {
+                    return false;
+                }
+                setState(State.HALF_OPEN);
+                probesInFlight = 0;
+                probesSucceeded = 0;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probesInFlight >= halfOpenProbes) {
+                    return false;
+                }
+                probesInFlight++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Release the permission acquired via {@link #tryAcquire()} if the request has not been sent
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    /**
+     * Record a successful request. The request is counted as a probe only if it was sent after the breaker had
+     * become half-open.
+     *
+     * @param startedAt the time the request was sent, see {@link System#nanoTime()}
+     */
+    public void onSuccess(long startedAt) {
+        if (state == State.CLOSED && failures == 0) {
+            return;
+        }
+        synchronized (this) {
+            if (isStale(startedAt)) {
+                return;
+            }
+            if (state == State.CLOSED) {
+                failures = 0;
+            } else if (state == State.HALF_OPEN && probesInFlight > 0) {
+                probesInFlight--;
+                if (++probesSucceeded >= halfOpenProbes) {
+                    setState(State.CLOSED);
+                    failures = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Record a failed request or a failure of the connection to the endpoint
+     *
+     * @param startedAt the time the request was sent or the time of the connection failure, see
+     *                  {@link System#nanoTime()}
+     */
+    public synchronized void onFailure(long startedAt) {
+        if (isStale(startedAt)) {
+            return;
+        }
+        if (state == State.CLOSED) {
+            if (++failures >= failureThreshold) {
+                setState(State.OPEN);
+            }
+        } else if (state == State.HALF_OPEN) {
+            setState(State.OPEN);
+        }
+    }
+
+    // the request has been sent in one of the previous breaker generations
+    private boolean isStale(long startedAt) {
+        return startedAt - stateChangedAt < 0;
+    }
+
+    private void setState(State state) {
+        this.state = state;
+        stateChangedAt = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        return "TarantoolCircuitBreaker{state=" + state + ", failures=" + failures + '}';
+    }
+}
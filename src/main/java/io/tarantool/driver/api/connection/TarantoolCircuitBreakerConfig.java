@@ -0,0 +1,163 @@
+package io.tarantool.driver.api.connection;
+
+import io.tarantool.driver.utils.Assert;
+
+/**
+ * Settings of the circuit breakers, which stop sending requests to the failing server endpoints for some time.
+ * See {@link TarantoolCircuitBreaker} for the breaker states.
+ * <p>
+ * The breakers are created per endpoint. If the per-function breakers are enabled, a breaker is also created for
+ * each function called on each endpoint, e.g. for each {@code crud.*} function on each router. In that case the
+ * errors reported by the server, like {@link io.tarantool.driver.exceptions.TarantoolInternalNetworkException} from a
+ * router which cannot reach a storage, open only the breaker of the called function, while the endpoint breaker is
+ * opened only by the timeouts and connection errors.
+ *
+ * @author Alexey Kuzin
+ * @see io.tarantool.driver.api.TarantoolClientConfig.Builder#withCircuitBreaker(TarantoolCircuitBreakerConfig)
+ */
+public final class TarantoolCircuitBreakerConfig {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long DEFAULT_OPEN_TIMEOUT = 5000; // milliseconds
+    public static final int DEFAULT_HALF_OPEN_PROBES = 1;
+
+    private final int failureThreshold;
+    private final long openTimeout;
+    private final int halfOpenProbes;
+    private final boolean perFunction;
+
+    private TarantoolCircuitBreakerConfig(
+        int failureThreshold, long openTimeout, int halfOpenProbes, boolean perFunction) {
+        this.failureThreshold = failureThreshold;
+        this.openTimeout = openTimeout;
+        this.halfOpenProbes = halfOpenProbes;
+        this.perFunction = perFunction;
+    }
+
+    /**
+     * Create the settings with default values
+     *
+     * @return new config instance
+     */
+    public static TarantoolCircuitBreakerConfig create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the number of consecutive failures which opens the breaker
+     *
+     * @return number of failures
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Get the time the breaker stays open before letting the probe requests through
+     *
+     * @return timeout in milliseconds
+     */
+    public long getOpenTimeout() {
+        return openTimeout;
+    }
+
+    /**
+     * Get the number of successful probe requests which closes a half-open breaker. The same number of probe
+     * requests may be in flight at the same time
+     *
+     * @return number of probes
+     */
+    public int getHalfOpenProbes() {
+        return halfOpenProbes;
+    }
+
+    /**
+     * Check if the breakers are created for each function called on each endpoint in addition to the endpoint ones
+     *
+     * @return true, if the per-function breakers are enabled
+     */
+    public boolean isPerFunction() {
+        return perFunction;
+    }
+
+    /**
+     * A builder for {@link TarantoolCircuitBreakerConfig}
+     */
+    public static final class Builder {
+
+        private int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+        private long openTimeout = DEFAULT_OPEN_TIMEOUT;
+        private int halfOpenProbes = DEFAULT_HALF_OPEN_PROBES;
+        private boolean perFunction;
+
+        /**
+         * Basic constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specify the number of consecutive failures which opens the breaker. Default is 5
+         *
+         * @param failureThreshold number of failures, greater than 0
+         * @return builder
+         */
+        public Builder withFailureThreshold(int failureThreshold) {
+            Assert.state(failureThreshold > 0, "Failure threshold should be greater than 0");
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * Specify the time the breaker stays open before letting the probe requests through. Default is 5 seconds
+         *
+         * @param openTimeout timeout in milliseconds, greater than 0
+         * @return builder
+         */
+        public Builder withOpenTimeout(long openTimeout) {
+            Assert.state(openTimeout > 0, "Open timeout should be greater than 0");
+            this.openTimeout = openTimeout;
+            return this;
+        }
+
+        /**
+         * Specify the number of successful probe requests which closes a half-open breaker. Default is 1
+         *
+         * @param halfOpenProbes number of probes, greater than 0
+         * @return builder
+         */
+        public Builder withHalfOpenProbes(int halfOpenProbes) {
+            Assert.state(halfOpenProbes > 0, "Half-open probes number should be greater than 0");
+            this.halfOpenProbes = halfOpenProbes;
+            return this;
+        }
+
+        /**
+         * Create a breaker for each function called on each endpoint in addition to the endpoint breakers
+         *
+         * @return builder
+         */
+        public Builder withPerFunctionBreakers() {
+            this.perFunction = true;
+            return this;
+        }
+
+        /**
+         * Build a {@link TarantoolCircuitBreakerConfig} instance
+         *
+         * @return new config instance
+         */
+        public TarantoolCircuitBreakerConfig build() {
+            return new TarantoolCircuitBreakerConfig(failureThreshold, openTimeout, halfOpenProbes, perFunction);
+        }
+    }
+}
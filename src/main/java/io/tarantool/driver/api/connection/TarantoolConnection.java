@@ -2,22 +2,37 @@ package io.tarantool.driver.api.connection;
 
 import io.netty.channel.Channel;
 import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
 
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
 
 public interface TarantoolConnection extends AutoCloseable {
     /**
-     * Get the Tarantool server address for this connection
+     * Get the Tarantool server address for this connection. For the Unix domain socket connections an unresolved
+     * address with the socket path as the host name and port 0 is returned
      *
      * @return server address
      * @throws TarantoolClientException if the client is not connected
      */
     InetSocketAddress getRemoteAddress() throws TarantoolClientException;
 
+    /**
+     * Get the address of the Tarantool server this connection is established to. Unlike {@link #getRemoteAddress()},
+     * the address does not change while the connection is being re-established, so it may be used as a key for the
+     * server state. By default, the remote address is used
+     *
+     * @return server address
+     * @throws TarantoolClientException if the client is not connected
+     */
+    default TarantoolServerAddress getServerAddress() throws TarantoolClientException {
+        return new TarantoolServerAddress(getRemoteAddress());
+    }
+
     /**
      * Get the Tarantool server version
      *
@@ -33,6 +48,37 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     boolean isConnected();
 
+    /**
+     * Check if the connection is overloaded: its outbound buffer is full or too many requests are waiting for the
+     * responses. The requests sent to an overloaded connection are handled according to the configured
+     * {@link TarantoolOverloadPolicy}
+     *
+     * @return true, if the connection is overloaded
+     */
+    default boolean isOverloaded() {
+        return false;
+    }
+
+    /**
+     * Get the number of requests sent to this connection which are not completed yet, including the requests queued
+     * because the connection is overloaded. Used by the load-aware connection selection strategies
+     *
+     * @return number of outstanding requests
+     */
+    default int getOutstandingRequests() {
+        return 0;
+    }
+
+    /**
+     * Get the round trip time of the last heartbeat ping sent to the server, see
+     * {@link io.tarantool.driver.api.TarantoolClientConfig#setHeartbeatInterval(long)}
+     *
+     * @return round trip time, nanoseconds, or -1 if the heartbeat is disabled or no ping has been completed yet
+     */
+    default long getRoundTripTime() {
+        return -1;
+    }
+
     /**
      * Send a prepared request to the Tarantool server and flush the buffer
      *
@@ -43,6 +89,52 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper);
 
+    /**
+     * Write a prepared request to the connection without flushing the buffer. The request is sent to the Tarantool
+     * server when {@link #flush()} is called or when the buffer is flushed by another request. May be used for
+     * sending several requests at once.
+     * <p>
+     * By default, the request is sent immediately, like in {@link #sendRequest(TarantoolRequest,
+     * MessagePackValueMapper)}
+     *
+     * @param request      the request
+     * @param resultMapper the mapper for response body
+     * @param <T>          result type
+     * @return result future
+     */
+    default <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper);
+    }
+
+    /**
+     * Send several prepared requests to the Tarantool server with a single flush. The results of the individual
+     * requests are passed to the futures contained in the batch
+     *
+     * @param batch the requests with their result mappers and futures
+     */
+    default void sendRequests(TarantoolRequestBatch batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            @SuppressWarnings("unchecked")
+            CompletableFuture<Object> future = (CompletableFuture<Object>) batch.getFutures().get(i);
+            this.<Object>writeRequest(batch.getRequests().get(i), batch.getResultMappers().get(i))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        future.completeExceptionally(ex);
+                    } else {
+                        future.complete(result);
+                    }
+                });
+        }
+        flush();
+    }
+
+    /**
+     * Flush the requests written with {@link #writeRequest(TarantoolRequest, MessagePackValueMapper)} to the
+     * Tarantool server. The flush is performed immediately even if the flush consolidation is enabled
+     */
+    default void flush() {
+    }
+
     /**
      * Get the Netty channel baking this connection
      *
@@ -58,6 +150,32 @@ public interface TarantoolConnection extends AutoCloseable {
      */
     void addConnectionFailureListener(TarantoolConnectionFailureListener listener);
 
+    /**
+     * Remove a listener added via {@link #addConnectionFailureListener(TarantoolConnectionFailureListener)}. By
+     * default, does nothing
+     *
+     * @param listener a {@link TarantoolConnectionFailureListener} instance
+     */
+    default void removeConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+    }
+
+    /**
+     * Add a listener which is invoked when a request sent to this connection is completed. By default, the listener
+     * is never invoked
+     *
+     * @param listener a {@link TarantoolRequestCompletionListener} instance
+     */
+    default void addRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+    }
+
+    /**
+     * Remove a listener added via {@link #addRequestCompletionListener(TarantoolRequestCompletionListener)}
+     *
+     * @param listener a {@link TarantoolRequestCompletionListener} instance
+     */
+    default void removeRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+    }
+
     /**
      * Add a listener which is invoked when the connection is closed. The internal channel may probably be in an invalid
      * state at this moment.
@@ -65,4 +183,13 @@ public interface TarantoolConnection extends AutoCloseable {
      * @param listener a {@link TarantoolConnectionCloseListener} instance
      */
     void addConnectionCloseListener(TarantoolConnectionCloseListener listener);
+
+    /**
+     * Remove a listener added via {@link #addConnectionCloseListener(TarantoolConnectionCloseListener)}. By default,
+     * does nothing
+     *
+     * @param listener a {@link TarantoolConnectionCloseListener} instance
+     */
+    default void removeConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+    }
 }
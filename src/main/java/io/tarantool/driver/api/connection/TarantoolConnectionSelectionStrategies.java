@@ -7,6 +7,7 @@ import io.tarantool.driver.utils.Assert;
 import io.tarantool.driver.utils.CyclingIterator;
 
 import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -30,34 +31,43 @@ public final class TarantoolConnectionSelectionStrategies {
             Collection<TarantoolConnection> connections) {
             Assert.notNull(connections, "The collection of Tarantool connections should not be null");
 
-            return new RoundRobinStrategy(connections);
+            return new RoundRobinStrategy(config, connections);
         }
     }
 
     static final class RoundRobinStrategy implements ConnectionSelectionStrategy {
 
         private final TarantoolConnectionIterator connectionIterator;
-        private final AtomicInteger available;
+        private final AvailableConnections available;
+        private final int maxAttempts;
+        private final int maxSkippedOverloaded;
 
-        RoundRobinStrategy(Collection<TarantoolConnection> connections) {
-            this.available = new AtomicInteger(connections.size());
-            this.connectionIterator = new TarantoolConnectionIterator(connections.stream()
-                .peek(conn -> conn.addConnectionCloseListener(c -> available.getAndDecrement()))
-                .collect(Collectors.toList()));
+        RoundRobinStrategy(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
+            this.available = new AvailableConnections(connections);
+            this.maxAttempts = maxAttempts(connections);
+            this.maxSkippedOverloaded = maxSkippedOverloaded(config, connections);
+            this.connectionIterator = new TarantoolConnectionIterator(connections);
         }
 
         @Override
         public TarantoolConnection next() throws NoAvailableConnectionsException {
-            if (available.get() > 0) {
-                while (connectionIterator.hasNext()) {
+            if (available.exist()) {
+                int skipped = 0;
+                for (int i = 0; i < maxAttempts && connectionIterator.hasNext(); i++) {
                     TarantoolConnection connection = connectionIterator.next();
-                    if (connection.isConnected()) {
+                    if (connection.isConnected() &&
+                        (skipped++ >= maxSkippedOverloaded || !connection.isOverloaded())) {
                         return connection;
                     }
                 }
             }
             throw new NoAvailableConnectionsException();
         }
+
+        @Override
+        public void close() {
+            available.close();
+        }
     }
 
     /**
@@ -83,11 +93,15 @@ public final class TarantoolConnectionSelectionStrategies {
 
         private final TarantoolClientConfig config;
         private final CyclingIterator<TarantoolConnectionIterator> iteratorsIterator;
-        private final AtomicInteger available;
+        private final AvailableConnections available;
+        private final int maxAttempts;
+        private final int maxSkippedOverloaded;
 
         ParallelRoundRobinStrategy(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
             this.config = config;
-            this.available = new AtomicInteger(connections.size());
+            this.available = new AvailableConnections(connections);
+            this.maxAttempts = maxAttempts(connections);
+            this.maxSkippedOverloaded = maxSkippedOverloaded(config, connections);
             this.iteratorsIterator = new CyclingIterator<>(populateIterators(connections));
         }
 
@@ -96,7 +110,6 @@ public final class TarantoolConnectionSelectionStrategies {
             int groupSize = config.getConnections();
             AtomicInteger currentSize = new AtomicInteger(0);
             return connections.stream()
-                .peek(conn -> conn.addConnectionCloseListener(c -> available.getAndDecrement()))
                 .collect(Collectors.groupingBy(
                     conn -> currentSize.getAndIncrement() / groupSize)).values().stream()
                 .map(TarantoolConnectionIterator::new)
@@ -106,15 +119,215 @@ public final class TarantoolConnectionSelectionStrategies {
 
         @Override
         public TarantoolConnection next() throws NoAvailableConnectionsException {
-            if (available.get() > 0) {
-                while (iteratorsIterator.hasNext()) {
+            if (available.exist()) {
+                int skipped = 0;
+                for (int i = 0; i < maxAttempts && iteratorsIterator.hasNext(); i++) {
                     TarantoolConnection connection = iteratorsIterator.next().next();
-                    if (connection.isConnected()) {
+                    if (connection.isConnected() &&
+                        (skipped++ >= maxSkippedOverloaded || !connection.isOverloaded())) {
                         return connection;
                     }
                 }
             }
             throw new NoAvailableConnectionsException();
         }
+
+        @Override
+        public void close() {
+            available.close();
+        }
+    }
+
+    /**
+     * Instantiates a {@link LeastOutstandingRequestsStrategy}, which selects the connection with the smallest number
+     * of requests waiting for the responses (see {@link TarantoolConnection#getOutstandingRequests()}). A slow server
+     * accumulates the outstanding requests and receives less traffic, which reduces the tail latency when the request
+     * costs are uneven. Each selection checks all connections, for large pools consider
+     * {@link PowerOfTwoChoicesStrategyFactory}
+     */
+    public enum LeastOutstandingRequestsStrategyFactory implements ConnectionSelectionStrategyFactory {
+        INSTANCE;
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            return new LeastOutstandingRequestsStrategy(config, connections);
+        }
+    }
+
+    static final class LeastOutstandingRequestsStrategy implements ConnectionSelectionStrategy {
+
+        private final TarantoolConnection[] connections;
+        private final AvailableConnections available;
+        // the scan starts from the next connection each time, so that the ties are resolved in round-robin order
+        private final AtomicInteger offset = new AtomicInteger();
+        private final boolean skipOverloaded;
+
+        LeastOutstandingRequestsStrategy(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
+            this.available = new AvailableConnections(connections);
+            this.skipOverloaded = config.getOverloadPolicy() == TarantoolOverloadPolicy.NEXT_CONNECTION;
+            this.connections = connections.toArray(new TarantoolConnection[0]);
+        }
+
+        @Override
+        public TarantoolConnection next() throws NoAvailableConnectionsException {
+            if (available.exist() && connections.length > 0) {
+                int start = Math.floorMod(offset.getAndIncrement(), connections.length);
+                TarantoolConnection connection = selectLeastOutstanding(connections, start, skipOverloaded);
+                if (connection != null) {
+                    return connection;
+                }
+            }
+            throw new NoAvailableConnectionsException();
+        }
+
+        @Override
+        public void close() {
+            available.close();
+        }
+    }
+
+    /**
+     * Instantiates a {@link PowerOfTwoChoicesStrategy}, which picks two random connections and selects the one with
+     * the smaller number of outstanding requests. Provides almost the same load distribution as
+     * {@link LeastOutstandingRequestsStrategyFactory} at a constant cost, so it is suitable for large pools
+     */
+    public enum PowerOfTwoChoicesStrategyFactory implements ConnectionSelectionStrategyFactory {
+        INSTANCE;
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            return new PowerOfTwoChoicesStrategy(config, connections);
+        }
+    }
+
+    static final class PowerOfTwoChoicesStrategy implements ConnectionSelectionStrategy {
+
+        private final TarantoolConnection[] connections;
+        private final AvailableConnections available;
+        private final boolean skipOverloaded;
+
+        PowerOfTwoChoicesStrategy(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
+            this.available = new AvailableConnections(connections);
+            this.skipOverloaded = config.getOverloadPolicy() == TarantoolOverloadPolicy.NEXT_CONNECTION;
+            this.connections = connections.toArray(new TarantoolConnection[0]);
+        }
+
+        @Override
+        public TarantoolConnection next() throws NoAvailableConnectionsException {
+            int size = connections.length;
+            if (available.exist() && size > 0) {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int first = random.nextInt(size);
+                int second = size > 1 ? (first + 1 + random.nextInt(size - 1)) % size : first;
+                TarantoolConnection connection = selectLeastOutstanding(
+                    new TarantoolConnection[]{connections[first], connections[second]}, 0, skipOverloaded);
+                if (connection == null) {
+                    // both picked connections are lost, fall back to checking all connections
+                    connection = selectLeastOutstanding(connections, first, skipOverloaded);
+                }
+                if (connection != null) {
+                    return connection;
+                }
+            }
+            throw new NoAvailableConnectionsException();
+        }
+
+        @Override
+        public void close() {
+            available.close();
+        }
+    }
+
+    /**
+     * Instantiates a {@link LatencyWeightedStrategy}, which distributes the requests between the servers in
+     * proportion to the inverse of their moving average response latency and temporarily ejects the servers with too
+     * many network errors or too high latency. Suitable for servers at different network distances
+     */
+    public enum LatencyWeightedStrategyFactory implements ConnectionSelectionStrategyFactory {
+        INSTANCE;
+
+        @Override
+        public ConnectionSelectionStrategy create(
+            TarantoolClientConfig config,
+            Collection<TarantoolConnection> connections) {
+            Assert.notNull(connections, "The collection of Tarantool connections should not be null");
+
+            return new LatencyWeightedStrategy(connections);
+        }
+    }
+
+    // returns null if there are no connected connections
+    private static TarantoolConnection selectLeastOutstanding(
+        TarantoolConnection[] connections, int start, boolean skipOverloaded) {
+        TarantoolConnection selected = null;
+        boolean selectedOverloaded = false;
+        int selectedRequests = Integer.MAX_VALUE;
+        for (int i = 0; i < connections.length; i++) {
+            TarantoolConnection connection = connections[(start + i) % connections.length];
+            if (!connection.isConnected()) {
+                continue;
+            }
+            // the overloaded connections are selected only if all connections are overloaded
+            boolean overloaded = skipOverloaded && connection.isOverloaded();
+            int requests = connection.getOutstandingRequests();
+            if (selected == null || selectedOverloaded && !overloaded ||
+                selectedOverloaded == overloaded && requests < selectedRequests) {
+                selected = connection;
+                selectedOverloaded = overloaded;
+                selectedRequests = requests;
+            }
+        }
+        return selected;
+    }
+
+    // tracks the number of connections which are not closed, the lost connections are not closed while they are being
+    // re-established in the background
+    private static final class AvailableConnections implements TarantoolConnectionCloseListener {
+
+        private final TarantoolConnection[] connections;
+        private final AtomicInteger available;
+
+        AvailableConnections(Collection<TarantoolConnection> connections) {
+            this.connections = connections.toArray(new TarantoolConnection[0]);
+            this.available = new AtomicInteger(connections.size());
+            for (TarantoolConnection connection : this.connections) {
+                connection.addConnectionCloseListener(this);
+            }
+        }
+
+        @Override
+        public void onConnectionClosed(TarantoolConnection connection) {
+            available.getAndDecrement();
+        }
+
+        boolean exist() {
+            return available.get() > 0;
+        }
+
+        // the connections outlive the strategy, so the listener must be removed when the strategy is replaced
+        void close() {
+            for (TarantoolConnection connection : connections) {
+                connection.removeConnectionCloseListener(this);
+            }
+        }
+    }
+
+    // the lost connections are not closed while they are being re-established in the background, so the number of
+    // checked connections is limited. The iterators are shared between threads, so each connection may be skipped once
+    private static int maxAttempts(Collection<TarantoolConnection> connections) {
+        return connections.size() * 2;
+    }
+
+    // if all the connections are overloaded, the last checked one is selected and the request fails there
+    private static int maxSkippedOverloaded(TarantoolClientConfig config, Collection<TarantoolConnection> connections) {
+        return config.getOverloadPolicy() == TarantoolOverloadPolicy.NEXT_CONNECTION ? connections.size() : 0;
     }
 }
@@ -1,6 +1,9 @@
 package io.tarantool.driver.api.connection;
 
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LatencyWeightedStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LeastOutstandingRequestsStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.PowerOfTwoChoicesStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
 
 /**
@@ -13,7 +16,10 @@ import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies
 public enum TarantoolConnectionSelectionStrategyType {
 
     ROUND_ROBIN(RoundRobinStrategyFactory.INSTANCE),
-    PARALLEL_ROUND_ROBIN(ParallelRoundRobinStrategyFactory.INSTANCE);
+    PARALLEL_ROUND_ROBIN(ParallelRoundRobinStrategyFactory.INSTANCE),
+    LEAST_OUTSTANDING_REQUESTS(LeastOutstandingRequestsStrategyFactory.INSTANCE),
+    POWER_OF_TWO_CHOICES(PowerOfTwoChoicesStrategyFactory.INSTANCE),
+    LATENCY_WEIGHTED(LatencyWeightedStrategyFactory.INSTANCE);
 
     private final ConnectionSelectionStrategyFactory value;
 
@@ -0,0 +1,30 @@
+package io.tarantool.driver.api.connection;
+
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+
+/**
+ * Enumeration of the policies for handling the requests sent to an overloaded connection. A connection is overloaded
+ * when its outbound buffer exceeds the write buffer high watermark, until it drains below the low watermark, or when
+ * the number of requests waiting for the responses reaches the configured limit.
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolOverloadPolicy {
+
+    /**
+     * Put the request into a bounded per-connection queue. The queued requests are sent in order once the connection
+     * is not overloaded. If the queue is full, the request fails with {@link TarantoolOverloadException}
+     */
+    QUEUE,
+
+    /**
+     * Select another connection which is not overloaded. If all the connections are overloaded, the request fails
+     * with {@link TarantoolOverloadException}
+     */
+    NEXT_CONNECTION,
+
+    /**
+     * Fail the request immediately with {@link TarantoolOverloadException}
+     */
+    FAIL_FAST
+}
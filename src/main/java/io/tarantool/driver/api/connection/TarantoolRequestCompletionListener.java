@@ -0,0 +1,19 @@
+package io.tarantool.driver.api.connection;
+
+/**
+ * Request completion listener. Used in {@link TarantoolConnection} for collecting the per-connection request
+ * statistics, e.g. by the latency-aware connection selection strategies
+ *
+ * @author Alexey Kuzin
+ */
+public interface TarantoolRequestCompletionListener {
+    /**
+     * This method is invoked when a request sent to the connection is completed. It is called in the thread which
+     * completes the request, so it must not block
+     *
+     * @param connection   connection that the request has been sent to
+     * @param latencyNanos time between sending the request and its completion, nanoseconds
+     * @param error        request error or null, if the request has been completed successfully
+     */
+    void onRequestCompleted(TarantoolConnection connection, long latencyNanos, Throwable error);
+}
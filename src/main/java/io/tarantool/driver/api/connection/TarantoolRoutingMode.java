@@ -0,0 +1,33 @@
+package io.tarantool.driver.api.connection;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+
+/**
+ * Enumeration of the modes for routing the requests to the servers according to their roles and zones (see
+ * {@link TarantoolServerAddress#getRole()} and {@link TarantoolServerAddress#getZone()}). The read-only requests are
+ * the selects and the calls of the functions configured as read-only, all other requests are considered writes.
+ * <p>
+ * In all modes except {@link #ANY} the writes are sent to the masters. The requests fall back to the next group of
+ * servers in the order of preference if there are no available connections in the current one, and finally to all
+ * the servers, so the servers with unknown roles or zones are used as well.
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolRoutingMode {
+
+    /**
+     * All servers are treated alike, the roles and zones are ignored
+     */
+    ANY,
+
+    /**
+     * The read-only requests are sent to the replicas in the local zone, then to the other replicas, then to the
+     * masters in the local zone
+     */
+    PREFER_REPLICA,
+
+    /**
+     * The read-only requests are sent to the servers in the local zone regardless of their roles
+     */
+    PREFER_LOCAL_ZONE
+}
@@ -0,0 +1,26 @@
+package io.tarantool.driver.api.connection;
+
+/**
+ * Enumeration of the network transports which can be used for the connections to Tarantool servers.
+ *
+ * @author Alexey Kuzin
+ */
+public enum TarantoolTransportType {
+
+    /**
+     * Use the native epoll transport if it is available on the classpath and is supported by the platform,
+     * otherwise fall back to NIO
+     */
+    AUTO,
+
+    /**
+     * Java NIO transport, available on all platforms. Does not support the Unix domain sockets
+     */
+    NIO,
+
+    /**
+     * Native epoll transport, available only on Linux. Requires the {@code io.netty:netty-transport-native-epoll}
+     * artifact with the classifier corresponding to the platform to be present on the classpath
+     */
+    EPOLL
+}
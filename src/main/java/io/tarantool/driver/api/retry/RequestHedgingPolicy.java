@@ -0,0 +1,266 @@
+package io.tarantool.driver.api.retry;
+
+import io.netty.util.Timeout;
+import io.tarantool.driver.api.TarantoolDeadline;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Request hedging policy for the idempotent operations, like selects and calls of the read-only functions. If the
+ * operation is not completed within the hedging delay, a duplicate of it is sent, which is routed to the next
+ * connection by the connection selection strategy. The first successful response wins, and the other attempt is
+ * cancelled: its result is dropped when it arrives. The operation fails only when both attempts have failed.
+ * <p>
+ * The hedging delay is either fixed or derived from a percentile of the recent operation latencies, e.g. the 95th
+ * percentile, so that only the slowest operations are hedged. The number of hedges is limited by a budget, which
+ * is a fraction of the operations count: each operation adds the fraction to the budget, and each hedge takes one
+ * from it. That prevents the load amplification when all servers become slow.
+ * <p>
+ * The policy instance is shared by all operations of a client, since it collects the latency statistics.
+ *
+ * @author Alexey Kuzin
+ * @see io.tarantool.driver.api.TarantoolClientConfigurator#withHedging(java.util.function.UnaryOperator)
+ */
+public final class RequestHedgingPolicy {
+
+    public static final long DEFAULT_DELAY = 100; // milliseconds
+    public static final double DEFAULT_BUDGET = 0.1;
+    // the budget is accounted in thousandths of a hedge
+    private static final long BUDGET_UNIT = 1000;
+    private static final int MAX_BURST = 10;
+    private static final int LATENCY_WINDOW_SIZE = 1024;
+    // the percentile delay is recomputed after this number of samples
+    private static final int RECOMPUTE_INTERVAL = 64;
+    private static final int MIN_SAMPLES = 100;
+
+    private final long fixedDelay;
+    private final double percentile;
+    private final long budgetPerOperation;
+    private final AtomicLong budget = new AtomicLong();
+    private final AtomicLong hedgesCount = new AtomicLong();
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_WINDOW_SIZE);
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile long percentileDelay; // microseconds, 0 until enough samples are collected
+
+    private RequestHedgingPolicy(long fixedDelay, double percentile, double budget) {
+        this.fixedDelay = fixedDelay;
+        this.percentile = percentile;
+        this.budgetPerOperation = Math.round(budget * BUDGET_UNIT);
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get the current hedging delay. It is the fixed delay, if the latency percentile is not specified or not enough
+     * latency samples have been collected yet
+     *
+     * @return delay in microseconds
+     */
+    public long getDelay() {
+        long delay = percentileDelay;
+        return percentile > 0 && delay > 0 ? delay : TimeUnit.MILLISECONDS.toMicros(fixedDelay);
+    }
+
+    /**
+     * Get the number of the hedged operations since the policy creation
+     *
+     * @return number of hedges
+     */
+    public long getHedgesCount() {
+        return hedgesCount.get();
+    }
+
+    /**
+     * Perform the operation, sending a duplicate of it if it is not completed within the hedging delay and the
+     * hedging budget allows that.
+     *
+     * @param operation supplier for the operation to perform. Must return a new operation instance
+     * @param executor  executor in which the hedging attempt will be started
+     * @param <T>       operation result type
+     * @return {@link CompletableFuture} completed with the first successful result, or with the last failure if both
+     * attempts have failed
+     */
+    public <T> CompletableFuture<T> wrapOperation(Supplier<CompletableFuture<T>> operation, Executor executor) {
+        Assert.notNull(operation, "Operation must not be null");
+        Assert.notNull(executor, "Executor must not be null");
+
+        // the hedge is started in another thread, so the deadline is bound to the operation itself
+        TarantoolDeadline deadline = TarantoolDeadline.current();
+        Supplier<CompletableFuture<T>> attempt = deadline != null ? deadline.wrap(operation) : operation;
+        depositBudget();
+        CompletableFuture<T> resultFuture = new CompletableFuture<>();
+        AtomicInteger pendingAttempts = new AtomicInteger(1);
+        AtomicReference<Throwable> lastFailure = new AtomicReference<>();
+        CompletableFuture<T> primary = startAttempt(attempt, resultFuture, pendingAttempts, lastFailure);
+        if (resultFuture.isDone()) {
+            return resultFuture;
+        }
+        Timeout hedgeTimeout = TarantoolRequestRetryPolicies.getTimer().newTimeout(timeout -> {
+            // the primary attempt must not complete the operation while the hedge is being started
+            pendingAttempts.incrementAndGet();
+            if (resultFuture.isDone() || !withdrawBudget()) {
+                // the primary attempt may have failed in the meantime, then the operation fails here
+                if (pendingAttempts.decrementAndGet() == 0) {
+                    resultFuture.completeExceptionally(lastFailure.get());
+                }
+                return;
+            }
+            hedgesCount.incrementAndGet();
+            CompletableFuture.runAsync(() -> {
+                CompletableFuture<T> hedge = startAttempt(attempt, resultFuture, pendingAttempts, lastFailure);
+                resultFuture.whenComplete((r, e) -> hedge.cancel(false));
+            }, executor).exceptionally(ex -> {
+                resultFuture.completeExceptionally(ex);
+                return null;
+            });
+        }, getDelay(), TimeUnit.MICROSECONDS);
+        resultFuture.whenComplete((r, e) -> {
+            hedgeTimeout.cancel();
+            primary.cancel(false);
+        });
+        return resultFuture;
+    }
+
+    private <T> CompletableFuture<T> startAttempt(
+        Supplier<CompletableFuture<T>> operation,
+        CompletableFuture<T> resultFuture,
+        AtomicInteger pendingAttempts,
+        AtomicReference<Throwable> lastFailure) {
+        long start = System.nanoTime();
+        CompletableFuture<T> attempt;
+        try {
+            attempt = operation.get();
+        } catch (Throwable e) {
+            attempt = new CompletableFuture<>();
+            attempt.completeExceptionally(e);
+        }
+        attempt.whenComplete((result, ex) -> {
+            if (ex == null) {
+                recordLatency(System.nanoTime() - start);
+                resultFuture.complete(result);
+            } else {
+                // recorded before the decrement, so that it is visible to whoever brings the counter to 0
+                lastFailure.set(ex);
+                if (pendingAttempts.decrementAndGet() == 0) {
+                    resultFuture.completeExceptionally(ex);
+                }
+            }
+        });
+        return attempt;
+    }
+
+    private void depositBudget() {
+        long max = MAX_BURST * BUDGET_UNIT;
+        budget.updateAndGet(current -> current < max ? Math.min(current + budgetPerOperation, max) : current);
+    }
+
+    private boolean withdrawBudget() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < BUDGET_UNIT) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - BUDGET_UNIT));
+        return true;
+    }
+
+    private void recordLatency(long latencyNanos) {
+        if (percentile <= 0) {
+            return;
+        }
+        // the counter wraps around to the window size, so that the window stays full
+        int sample = samples.getAndUpdate(n -> n == Integer.MAX_VALUE ? LATENCY_WINDOW_SIZE : n + 1);
+        latencies.set(Math.floorMod(sample, LATENCY_WINDOW_SIZE), TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        if (sample + 1 >= MIN_SAMPLES && (sample + 1) % RECOMPUTE_INTERVAL == 0) {
+            int count = Math.min(sample + 1, LATENCY_WINDOW_SIZE);
+            long[] window = new long[count];
+            for (int i = 0; i < count; i++) {
+                window[i] = latencies.get(i);
+            }
+            Arrays.sort(window);
+            percentileDelay = Math.max(window[(int) Math.ceil(percentile * count) - 1], 1);
+        }
+    }
+
+    /**
+     * A builder for {@link RequestHedgingPolicy}
+     */
+    public static final class Builder {
+
+        private long delay = DEFAULT_DELAY;
+        private double percentile;
+        private double budget = DEFAULT_BUDGET;
+
+        /**
+         * Basic constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specify the fixed hedging delay. If the latency percentile is specified, this delay is used until enough
+         * latency samples are collected. Default is 100 milliseconds
+         *
+         * @param delay delay before sending the duplicate request, in milliseconds
+         * @return builder
+         */
+        public Builder withDelay(long delay) {
+            Assert.state(delay >= 0, "Hedging delay should be equal to or greater than 0");
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Derive the hedging delay from the specified percentile of the recent operation latencies, e.g. 0.95 means
+         * that the operations lasting longer than 95% of the recent operations are hedged
+         *
+         * @param percentile latency percentile, greater than 0 and less than 1
+         * @return builder
+         */
+        public Builder withLatencyPercentile(double percentile) {
+            Assert.state(percentile > 0 && percentile < 1,
+                "Latency percentile should be greater than 0 and less than 1");
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Specify the hedging budget as a fraction of the operations count, e.g. 0.1 means that not more than 10% of
+         * the operations are hedged. Default is 0.1
+         *
+         * @param budget fraction of the operations which may be hedged, greater than 0 and not greater than 1
+         * @return builder
+         */
+        public Builder withBudget(double budget) {
+            Assert.state(budget > 0 && budget <= 1, "Hedging budget should be greater than 0 and not greater than 1");
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * Build a {@link RequestHedgingPolicy} instance
+         *
+         * @return new policy instance
+         */
+        public RequestHedgingPolicy build() {
+            return new RequestHedgingPolicy(delay, percentile, budget);
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package io.tarantool.driver.api.retry;
 
+import io.netty.util.Timeout;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
 import io.tarantool.driver.utils.Assert;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -58,9 +57,22 @@ public interface RequestRetryPolicy {
         return DEFAULT_DELAY;
     }
 
+    /**
+     * Delay that is used to wait before the next attempt. Called once before each retry, so the policies with
+     * growing delays may compute the delay here. Returns {@link #getDelay()} by default.
+     *
+     * @return delay before the next attempt, in milliseconds
+     */
+    default long nextDelay() {
+        return getDelay();
+    }
+
     /**
      * Wrap a generic operation taking an arbitrary number of arguments and returning a {@link CompletableFuture}.
      * <p>
+     * The first attempt is started in the caller thread. The subsequent attempts are started after the delay in the
+     * common pool, the built-in policies start them in the specified executor. All attempts are performed with the
+     * deadline of the caller operation, if there is one (see {@link TarantoolDeadline#current()}).
      *
      * @param operation supplier for the operation to perform. Must return a new operation instance
      * @param executor  executor in which the retry callbacks will be scheduled
@@ -71,16 +83,21 @@ public interface RequestRetryPolicy {
         Assert.notNull(operation, "Operation must not be null");
         Assert.notNull(executor, "Executor must not be null");
 
+        // the retries are started in other threads, so the deadline is bound to the operation itself
+        TarantoolDeadline deadline = TarantoolDeadline.current();
+        if (deadline != null) {
+            operation = deadline.wrap(operation);
+        }
         // because we have asynchronous logic in completion stage chain
         // we should have sharing answer state for final result
         CompletableFuture<T> resultFuture = new CompletableFuture<>();
         // to provide it if retrying has been stopped without correct result
         AtomicReference<Throwable> lastExceptionWrapper = new AtomicReference<>();
-        CompletableFuture.runAsync(() -> runAsyncOperation(operation, resultFuture, lastExceptionWrapper), executor)
-            .exceptionally(ex -> { // we should complete final exception if something went wrong
-                resultFuture.completeExceptionally(ex);
-                return null;
-            });
+        try {
+            runAsyncOperation(operation, resultFuture, lastExceptionWrapper);
+        } catch (Throwable e) { // we should complete final exception if something went wrong
+            resultFuture.completeExceptionally(e);
+        }
         return resultFuture;
     }
 
@@ -88,7 +105,9 @@ public interface RequestRetryPolicy {
      * Run operation in asynchronous way with retrying.
      * Operation can be run many times but final result will store in result future.
      * <p>
-     * Each operation attempt is limited with a timeout returned by {@link #getRequestTimeout()}.
+     * Each operation attempt is limited with a timeout returned by {@link #getRequestTimeout()}, which is also the
+     * deadline of the attempt requests. The timeout is not tracked if it is not less than
+     * {@link #DEFAULT_REQUEST_TIMEOUT}, since the requests are bounded by the client request timeout anyway.
      * See {@link TarantoolRequestRetryPolicies.InfiniteRetryPolicy} for example of implementation.
      *
      * @param operation            supplier for the operation to perform. Must return a new operation instance
@@ -99,53 +118,39 @@ public interface RequestRetryPolicy {
     default <T> void runAsyncOperation(
         Supplier<CompletableFuture<T>> operation, CompletableFuture<T> resultFuture,
         AtomicReference<Throwable> lastExceptionWrapper) {
-        // start async operation running
-        CompletableFuture<T> operationFuture = operation.get();
-        // start scheduled request timeout task
-        // it never completes correctly only exceptionally
-        CompletableFuture<T> requestTimeoutFuture = failAfterRequestTimeout(resultFuture);
-
-        operationFuture.acceptEither(requestTimeoutFuture, resultFuture::complete)
-            .exceptionally(ex -> { // if requestTimeout has been raised or operation return exception
-                // if future was completed exceptionally in wrapOperation
-                if (resultFuture.isDone()) {
-                    return null;
-                }
-
-                while (ex instanceof ExecutionException || ex instanceof CompletionException) {
-                    ex = ex.getCause();
-                }
-                // to provide it if retrying has been stopped without correct result
-                lastExceptionWrapper.set(ex);
-
-                if (this.canRetryRequest(ex)) {
-                    // retry it after delay
-                    ScheduledFuture<?> delayFuture =
-                        TarantoolRequestRetryPolicies.getTimeoutScheduler().schedule(() -> {
-                            runAsyncOperation(operation, resultFuture, lastExceptionWrapper);
-                        }, getDelay(), TimeUnit.MILLISECONDS);
-                    // optimization: stop delayed future if resultFuture has already done from outside
-                    resultFuture.whenComplete((r, e) -> delayFuture.cancel(false));
-                } else {
-                    resultFuture.completeExceptionally(ex);
-                }
-                return null;
-            }).exceptionally(ex -> { // if error has been happened in previous exceptionally section
+        TarantoolRequestRetryPolicies.runAttempt(this, operation, resultFuture, ex -> {
+            // to provide it if retrying has been stopped without correct result
+            lastExceptionWrapper.set(ex);
+
+            if (this.canRetryRequest(ex)) {
+                // retry it after delay
+                TarantoolRequestRetryPolicies.scheduleRetry(
+                    () -> runAsyncOperation(operation, resultFuture, lastExceptionWrapper),
+                    nextDelay(), resultFuture);
+            } else {
                 resultFuture.completeExceptionally(ex);
-                return null;
-            });
+            }
+        });
     }
 
+    /**
+     * Create a future which is completed exceptionally with a {@link TimeoutException} after the request timeout,
+     * unless the operation result is completed before that
+     *
+     * @param resultFuture operation result
+     * @param <T>          operation result type
+     * @return future which is never completed normally
+     */
     default <T> CompletableFuture<T> failAfterRequestTimeout(CompletableFuture<T> resultFuture) {
         long requestTimeout = getRequestTimeout();
         final CompletableFuture<T> future = new CompletableFuture<>();
 
-        ScheduledFuture<Boolean> scheduledFuture = TarantoolRequestRetryPolicies.getTimeoutScheduler().schedule(() -> {
+        Timeout requestTimeoutTask = TarantoolRequestRetryPolicies.getTimer().newTimeout(timeout -> {
             final TimeoutException ex = new TimeoutException("Request timeout after " + requestTimeout);
-            return future.completeExceptionally(ex);
+            future.completeExceptionally(ex);
         }, requestTimeout, TimeUnit.MILLISECONDS);
         // optimization: stop timeout future if resultFuture has already done from outside
-        resultFuture.whenComplete((res, ex) -> scheduledFuture.cancel(false));
+        resultFuture.whenComplete((res, ex) -> requestTimeoutTask.cancel());
 
         return future;
     }
@@ -0,0 +1,57 @@
+package io.tarantool.driver.api.retry;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Computes the delays between the attempts of one operation. The delays grow exponentially from the base delay up to
+ * the maximum delay and are randomized according to the {@link RetryJitter} type. If the maximum delay is not greater
+ * than the base delay, the delay is fixed.
+ *
+ * @author Alexey Kuzin
+ */
+final class RetryBackoff {
+
+    private final long baseDelay; //ms
+    private final long maxDelay; //ms
+    private final RetryJitter jitter;
+    private int attempt;
+    private long previousDelay; //ms
+
+    RetryBackoff(long baseDelay, long maxDelay, RetryJitter jitter) {
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.jitter = jitter;
+        this.previousDelay = baseDelay;
+    }
+
+    /**
+     * Compute the delay before the next attempt
+     *
+     * @return delay, in milliseconds
+     */
+    synchronized long nextDelay() {
+        if (maxDelay <= baseDelay) {
+            return baseDelay;
+        }
+        long delay;
+        switch (jitter) {
+            case FULL:
+                delay = ThreadLocalRandom.current().nextLong(exponentialDelay() + 1);
+                break;
+            case DECORRELATED:
+                long upperBound = Math.min(maxDelay, Math.max(previousDelay, 1) * 3);
+                delay = baseDelay + ThreadLocalRandom.current().nextLong(Math.max(upperBound - baseDelay, 0) + 1);
+                break;
+            default:
+                delay = exponentialDelay();
+        }
+        attempt++;
+        previousDelay = delay;
+        return delay;
+    }
+
+    private long exponentialDelay() {
+        long delay = Math.max(baseDelay, 1) << Math.min(attempt, 30);
+        return delay > 0 ? Math.min(delay, maxDelay) : maxDelay;
+    }
+}
@@ -0,0 +1,172 @@
+package io.tarantool.driver.api.retry;
+
+import io.tarantool.driver.utils.Assert;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Limits the retries made by all operations of a client to a fraction of the successful requests. Each successful
+ * request adds the fraction to a token bucket and each retry takes one token from it, so during an outage, when
+ * there are no successful requests, the clients do not multiply the load with retries. The bucket is initially full,
+ * so a fresh client can retry the first failed requests.
+ * <p>
+ * The budget is shared by passing the same instance to the retry policy factory builders, e.g.
+ * {@link TarantoolRequestRetryPolicies.AttemptsBoundRetryPolicyFactory.Builder#withRetryBudget(RetryBudget)}.
+ * The numbers of the allowed retries and of the retries rejected because the budget was exhausted are exposed as
+ * counters.
+ *
+ * @author Alexey Kuzin
+ */
+public final class RetryBudget {
+
+    public static final double DEFAULT_RATIO = 0.1;
+    public static final int DEFAULT_MAX_TOKENS = 10;
+    // the tokens are accounted in thousandths of a retry
+    private static final long TOKEN_UNIT = 1000;
+
+    private final long tokensPerSuccess;
+    private final long maxTokens;
+    private final AtomicLong tokens;
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rejectedRetries = new AtomicLong();
+
+    private RetryBudget(double ratio, int maxTokens) {
+        this.tokensPerSuccess = Math.round(ratio * TOKEN_UNIT);
+        this.maxTokens = maxTokens * TOKEN_UNIT;
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Create a budget allowing the retries up to the specified fraction of the successful requests
+     *
+     * @param ratio fraction of the successful requests, e.g. 0.1 for 10%
+     * @return new budget instance
+     */
+    public static RetryBudget create(double ratio) {
+        return builder().withRatio(ratio).build();
+    }
+
+    /**
+     * Create a builder instance.
+     *
+     * @return a builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Try to take a token for a retry
+     *
+     * @return true, if the retry is allowed
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN_UNIT) {
+                rejectedRetries.incrementAndGet();
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN_UNIT));
+        retries.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Record a successful request, adding the tokens to the budget
+     */
+    public void onSuccess() {
+        tokens.updateAndGet(current -> current < maxTokens ? Math.min(current + tokensPerSuccess, maxTokens) : current);
+    }
+
+    /**
+     * Get the number of the retries allowed by the budget
+     *
+     * @return number of retries
+     */
+    public long getRetriesCount() {
+        return retries.get();
+    }
+
+    /**
+     * Get the number of the retries rejected because the budget was exhausted
+     *
+     * @return number of rejected retries
+     */
+    public long getRejectedRetriesCount() {
+        return rejectedRetries.get();
+    }
+
+    /**
+     * Get the number of the retries currently available
+     *
+     * @return number of tokens
+     */
+    public double getAvailableTokens() {
+        return (double) tokens.get() / TOKEN_UNIT;
+    }
+
+    <T> Supplier<CompletableFuture<T>> recordSuccesses(Supplier<CompletableFuture<T>> operation) {
+        return () -> {
+            CompletableFuture<T> future = operation.get();
+            future.whenComplete((result, ex) -> {
+                if (ex == null) {
+                    onSuccess();
+                }
+            });
+            return future;
+        };
+    }
+
+    /**
+     * A builder for {@link RetryBudget}
+     */
+    public static final class Builder {
+
+        private double ratio = DEFAULT_RATIO;
+        private int maxTokens = DEFAULT_MAX_TOKENS;
+
+        /**
+         * Basic constructor.
+         */
+        public Builder() {
+        }
+
+        /**
+         * Specify the fraction of the successful requests which may be retried. Default is 0.1
+         *
+         * @param ratio fraction of the successful requests, greater than 0
+         * @return builder
+         */
+        public Builder withRatio(double ratio) {
+            Assert.state(ratio > 0, "Retry budget ratio should be greater than 0");
+            this.ratio = ratio;
+            return this;
+        }
+
+        /**
+         * Specify the bucket capacity, that is, the maximum number of retries which may be made in a row without
+         * successful requests in between. Default is 10
+         *
+         * @param maxTokens bucket capacity, greater than 0
+         * @return builder
+         */
+        public Builder withMaxTokens(int maxTokens) {
+            Assert.state(maxTokens > 0, "Retry budget max tokens should be greater than 0");
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * Build a {@link RetryBudget} instance
+         *
+         * @return new budget instance
+         */
+        public RetryBudget build() {
+            return new RetryBudget(ratio, maxTokens);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.tarantool.driver.api.retry;
+
+/**
+ * Randomization of the exponential backoff delays between the retry attempts. The randomization spreads the retries
+ * of the clients which have failed at the same moment, e.g. during a router failover, so they don't hit the cluster
+ * in lockstep
+ *
+ * @author Alexey Kuzin
+ */
+public enum RetryJitter {
+    /**
+     * No randomization: the delay is doubled after each attempt
+     */
+    NONE,
+    /**
+     * The delay is a random value between 0 and the exponentially growing delay
+     */
+    FULL,
+    /**
+     * The delay is a random value between the base delay and three times the previous delay
+     */
+    DECORRELATED
+}
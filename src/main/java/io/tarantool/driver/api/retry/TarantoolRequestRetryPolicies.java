@@ -1,11 +1,17 @@
 package io.tarantool.driver.api.retry;
 
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
+import io.tarantool.driver.core.TarantoolTimers;
 import io.tarantool.driver.exceptions.TarantoolAttemptsLimitException;
+import io.tarantool.driver.exceptions.TarantoolCircuitBreakerOpenException;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolConnectionException;
 import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
 import io.tarantool.driver.exceptions.TarantoolNoSuchProcedureException;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
 import io.tarantool.driver.exceptions.TarantoolTimeoutException;
 import io.tarantool.driver.utils.Assert;
 
@@ -14,11 +20,13 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -31,9 +39,6 @@ import java.util.function.Supplier;
  */
 public final class TarantoolRequestRetryPolicies {
 
-    private static final ScheduledExecutorService timeoutScheduler =
-        Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-retry-timeout"));
-
     public static final Predicate<Throwable> retryAll = t -> true;
     public static final Predicate<Throwable> retryNone = t -> false;
     public static final long DEFAULT_ONE_HOUR_TIMEOUT = TimeUnit.HOURS.toMillis(1); //ms
@@ -59,7 +64,8 @@ public final class TarantoolRequestRetryPolicies {
     private static boolean isNetworkError(Throwable e) {
         return e instanceof TimeoutException ||
             e instanceof TarantoolConnectionException ||
-            e instanceof TarantoolInternalNetworkException;
+            e instanceof TarantoolInternalNetworkException ||
+            e instanceof TarantoolOverloadException;
     }
 
     private TarantoolRequestRetryPolicies() {
@@ -68,6 +74,7 @@ public final class TarantoolRequestRetryPolicies {
     /**
      * Retry policy that performs unbounded number of attempts.
      * If the exception check passes, the policy returns {@code true}.
+     * The requests rejected by the open circuit breakers are not retried.
      *
      * @param <T> exception checking callback function type
      */
@@ -77,6 +84,12 @@ public final class TarantoolRequestRetryPolicies {
         private final long operationTimeout; //ms
         private final long delay; //ms
         private final T exceptionCheck;
+        private final RetryBackoff backoff;
+        private final RetryBudget retryBudget;
+        // the state of the wrapped operation, the policy instances are created per operation
+        private volatile Executor executor = ForkJoinPool.commonPool();
+        private volatile TarantoolDeadline deadline;
+        private volatile boolean operationTimeoutTracked;
 
         /**
          * Basic constructor
@@ -87,24 +100,53 @@ public final class TarantoolRequestRetryPolicies {
          * @param exceptionCheck   predicate checking whether the given exception may be retried
          */
         public InfiniteRetryPolicy(long requestTimeout, long operationTimeout, long delay, T exceptionCheck) {
+            this(requestTimeout, operationTimeout, delay, 0, RetryJitter.NONE, null, exceptionCheck);
+        }
+
+        /**
+         * Constructor with exponential backoff and retry budget
+         *
+         * @param requestTimeout   timeout for one retry attempt, in milliseconds
+         * @param operationTimeout timeout for the whole operation, in milliseconds
+         * @param delay            base delay between attempts, in milliseconds
+         * @param maxDelay         maximum delay between attempts, in milliseconds. The delay is fixed if it is not
+         *                         greater than the base delay
+         * @param jitter           randomization of the delays
+         * @param retryBudget      retry budget shared by the operations of a client, may be null
+         * @param exceptionCheck   predicate checking whether the given exception may be retried
+         */
+        public InfiniteRetryPolicy(
+            long requestTimeout,
+            long operationTimeout,
+            long delay,
+            long maxDelay,
+            RetryJitter jitter,
+            RetryBudget retryBudget,
+            T exceptionCheck) {
             Assert.state(requestTimeout >= 0, "Timeout must be greater or equal than 0!");
             Assert.state(operationTimeout >= requestTimeout,
                 "Operation timeout must be greater or equal than requestTimeout!");
             Assert.state(delay >= 0, "Delay must be greater or equal than 0!");
+            Assert.notNull(jitter, "Jitter type must not be null!");
             Assert.notNull(exceptionCheck, "Exception checking callback must not be null!");
 
             this.requestTimeout = requestTimeout;
             this.operationTimeout = operationTimeout;
             this.delay = delay;
             this.exceptionCheck = exceptionCheck;
+            this.backoff = new RetryBackoff(delay, maxDelay, jitter);
+            this.retryBudget = retryBudget;
         }
 
         @Override
         public boolean canRetryRequest(Throwable throwable) {
-            if (testException(exceptionCheck, throwable)) {
-                return true;
-            }
-            return false;
+            return !(throwable instanceof TarantoolCircuitBreakerOpenException) &&
+                testException(exceptionCheck, throwable) && (retryBudget == null || retryBudget.tryAcquire());
+        }
+
+        @Override
+        public long nextDelay() {
+            return backoff.nextDelay();
         }
 
         @Override
@@ -121,42 +163,65 @@ public final class TarantoolRequestRetryPolicies {
             return operationTimeout;
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The first attempt is started in the caller thread, the executor is used only for the retries. The operation
+         * timeout is tracked by a timer only after the first attempt has failed, since until then the operation is
+         * bounded by the request timeout, which is not greater than the operation timeout.
+         */
         @Override
         public <R> CompletableFuture<R> wrapOperation(Supplier<CompletableFuture<R>> operation, Executor executor) {
             Assert.notNull(operation, "Operation must not be null");
             Assert.notNull(executor, "Executor must not be null");
 
-            // because we have asynchronous logic in completion stage chain
-            // we should have sharing answer state for final result
-            CompletableFuture<R> resultFuture = new CompletableFuture<>();
-            // to provide it if retrying has been stopped without correct result
-            AtomicReference<Throwable> lastExceptionWrapper = new AtomicReference<>();
-
-            CompletableFuture.runAsync(() -> {
-                    runAsyncOperation(operation, resultFuture, lastExceptionWrapper);
-                    // set global timeout
-                    ScheduledFuture<?> operationTimeoutScheduledFuture =
-                        TarantoolRequestRetryPolicies.getTimeoutScheduler().schedule(() -> {
-                            if (!resultFuture.isDone()) {
-                                Throwable lastException = lastExceptionWrapper.get();
-                                if (lastException != null) {
-                                    resultFuture
-                                        .completeExceptionally(
-                                            new TarantoolTimeoutException(operationTimeout, lastException));
-                                } else {
-                                    resultFuture
-                                        .completeExceptionally(new TarantoolTimeoutException(operationTimeout));
-                                }
-                            }
-                        }, operationTimeout, TimeUnit.MILLISECONDS);
-                    // optimization: stop scheduled future if resultFuture has already done
-                    resultFuture.whenComplete((res, ex) -> operationTimeoutScheduledFuture.cancel(false));
-                }, executor)
-                .exceptionally(ex -> { // we should complete final exception if something went wrong
+            this.executor = executor;
+            this.deadline = TarantoolDeadline.after(operationTimeout);
+            if (operationTimeout < DEFAULT_ONE_HOUR_TIMEOUT) {
+                // the requests of all attempts are bounded by the operation deadline
+                operation = deadline.wrap(operation);
+            }
+            return RequestRetryPolicy.super.wrapOperation(
+                retryBudget != null ? retryBudget.recordSuccesses(operation) : operation, executor);
+        }
+
+        @Override
+        public <R> void runAsyncOperation(
+            Supplier<CompletableFuture<R>> operation, CompletableFuture<R> resultFuture,
+            AtomicReference<Throwable> lastExceptionWrapper) {
+            runAttempt(this, operation, resultFuture, ex -> {
+                // to provide it if retrying has been stopped without correct result
+                lastExceptionWrapper.set(ex);
+                if (!operationTimeoutTracked) {
+                    operationTimeoutTracked = true;
+                    trackOperationTimeout(resultFuture, lastExceptionWrapper);
+                }
+
+                if (this.canRetryRequest(ex)) {
+                    // retry it after delay
+                    scheduleRetry(() -> runAsyncOperation(operation, resultFuture, lastExceptionWrapper),
+                        nextDelay(), resultFuture, executor);
+                } else {
                     resultFuture.completeExceptionally(ex);
-                    return null;
-                });
-            return resultFuture;
+                }
+            });
+        }
+
+        private void trackOperationTimeout(
+            CompletableFuture<?> resultFuture, AtomicReference<Throwable> lastExceptionWrapper) {
+            Timeout operationTimeoutTask = getTimer().newTimeout(timeout -> {
+                if (!resultFuture.isDone()) {
+                    Throwable lastException = lastExceptionWrapper.get();
+                    if (lastException != null) {
+                        resultFuture
+                            .completeExceptionally(new TarantoolTimeoutException(operationTimeout, lastException));
+                    } else {
+                        resultFuture.completeExceptionally(new TarantoolTimeoutException(operationTimeout));
+                    }
+                }
+            }, deadline.remainingNanos(), TimeUnit.NANOSECONDS);
+            // optimization: stop scheduled future if resultFuture has already done
+            resultFuture.whenComplete((res, ex) -> operationTimeoutTask.cancel());
         }
     }
 
@@ -170,6 +235,9 @@ public final class TarantoolRequestRetryPolicies {
 
         private final T callback;
         private final long delay; //ms
+        private final long maxDelay; //ms
+        private final RetryJitter jitter;
+        private final RetryBudget retryBudget;
         private final long requestTimeout; //ms
         private final long operationTimeout; //ms
 
@@ -182,8 +250,33 @@ public final class TarantoolRequestRetryPolicies {
          * @param callback         predicate checking whether the given exception may be retried
          */
         public InfiniteRetryPolicyFactory(long requestTimeout, long operationTimeout, long delay, T callback) {
+            this(requestTimeout, operationTimeout, delay, 0, RetryJitter.NONE, null, callback);
+        }
+
+        /**
+         * Constructor with exponential backoff and retry budget.
+         *
+         * @param requestTimeout   timeout for one retry attempt, in milliseconds
+         * @param operationTimeout timeout for the whole operation, in milliseconds
+         * @param delay            base delay between retry attempts, in milliseconds
+         * @param maxDelay         maximum delay between retry attempts, in milliseconds
+         * @param jitter           randomization of the delays
+         * @param retryBudget      retry budget shared by all policies created by this factory, may be null
+         * @param callback         predicate checking whether the given exception may be retried
+         */
+        public InfiniteRetryPolicyFactory(
+            long requestTimeout,
+            long operationTimeout,
+            long delay,
+            long maxDelay,
+            RetryJitter jitter,
+            RetryBudget retryBudget,
+            T callback) {
             this.callback = callback;
             this.delay = delay;
+            this.maxDelay = maxDelay;
+            this.jitter = jitter;
+            this.retryBudget = retryBudget;
             this.requestTimeout = requestTimeout;
             this.operationTimeout = operationTimeout;
         }
@@ -201,7 +294,8 @@ public final class TarantoolRequestRetryPolicies {
 
         @Override
         public RequestRetryPolicy create() {
-            return new InfiniteRetryPolicy<>(requestTimeout, operationTimeout, delay, callback);
+            return new InfiniteRetryPolicy<>(
+                requestTimeout, operationTimeout, delay, maxDelay, jitter, retryBudget, callback);
         }
 
         /**
@@ -213,6 +307,9 @@ public final class TarantoolRequestRetryPolicies {
 
             private long requestTimeout = DEFAULT_ONE_HOUR_TIMEOUT; //ms
             private long delay; //ms
+            private long maxDelay; //ms
+            private RetryJitter jitter = RetryJitter.NONE;
+            private RetryBudget retryBudget;
             private final T callback;
             private long operationTimeout = DEFAULT_ONE_HOUR_TIMEOUT; //ms
 
@@ -252,13 +349,43 @@ public final class TarantoolRequestRetryPolicies {
                 return this;
             }
 
+            /**
+             * Make the delay between attempts grow exponentially from the delay specified with
+             * {@link #withDelay(long)} up to the specified maximum delay, randomizing it with the specified jitter
+             *
+             * @param maxDelay maximum delay between attempts, in milliseconds
+             * @param jitter   randomization of the delays
+             * @return this builder instance
+             */
+            public Builder<T> withExponentialBackoff(long maxDelay, RetryJitter jitter) {
+                Assert.state(maxDelay >= 0, "Max delay must be greater or equal than 0!");
+                Assert.notNull(jitter, "Jitter type must not be null!");
+                this.maxDelay = maxDelay;
+                this.jitter = jitter;
+                return this;
+            }
+
+            /**
+             * Limit the retries with a budget. Pass the same budget instance to the factories of the clients, which
+             * should share it
+             *
+             * @param retryBudget retry budget
+             * @return this builder instance
+             */
+            public Builder<T> withRetryBudget(RetryBudget retryBudget) {
+                Assert.notNull(retryBudget, "Retry budget must not be null!");
+                this.retryBudget = retryBudget;
+                return this;
+            }
+
             /**
              * Create new factory instance
              *
              * @return new factory instance
              */
             public InfiniteRetryPolicyFactory<T> build() {
-                return new InfiniteRetryPolicyFactory<>(requestTimeout, operationTimeout, delay, callback);
+                return new InfiniteRetryPolicyFactory<>(
+                    requestTimeout, operationTimeout, delay, maxDelay, jitter, retryBudget, callback);
             }
         }
 
@@ -297,21 +424,53 @@ public final class TarantoolRequestRetryPolicies {
         public long getOperationTimeout() {
             return operationTimeout;
         }
+
+        /**
+         * Getter for maximum delay
+         *
+         * @return maximum delay in milliseconds, the delay is fixed if it is not greater than the base delay
+         */
+        public long getMaxDelay() {
+            return maxDelay;
+        }
+
+        /**
+         * Getter for jitter type
+         *
+         * @return jitter type
+         */
+        public RetryJitter getJitter() {
+            return jitter;
+        }
+
+        /**
+         * Getter for retry budget
+         *
+         * @return retry budget or null, if the retries are not limited by a budget
+         */
+        public RetryBudget getRetryBudget() {
+            return retryBudget;
+        }
     }
 
     /**
      * Retry policy that accepts a maximum number of attempts and an exception checking predicate.
      * If the exception check passes and there are any attempts left, the policy returns {@code true}.
+     * The requests rejected by the open circuit breakers are not retried.
      *
      * @param <T> exception checking predicate type
      */
     public static final class AttemptsBoundRetryPolicy<T extends Predicate<Throwable>> implements RequestRetryPolicy {
 
-        private int attempts;
+        private volatile int attempts;
         private final int limit;
         private final long requestTimeout; //ms
         private final long delay; //ms
         private final T exceptionCheck;
+        private final RetryBackoff backoff;
+        private final RetryBudget retryBudget;
+        // the executor of the wrapped operation, the policy instances are created per operation
+        private volatile Executor executor = ForkJoinPool.commonPool();
 
         @Override
         public long getRequestTimeout() {
@@ -332,9 +491,33 @@ public final class TarantoolRequestRetryPolicies {
          * @param exceptionCheck predicate checking whether the given exception may be retried
          */
         public AttemptsBoundRetryPolicy(int attempts, long requestTimeout, long delay, T exceptionCheck) {
+            this(attempts, requestTimeout, delay, 0, RetryJitter.NONE, null, exceptionCheck);
+        }
+
+        /**
+         * Constructor with exponential backoff and retry budget
+         *
+         * @param attempts       maximum number of retry attempts
+         * @param requestTimeout timeout for one retry attempt, in milliseconds
+         * @param delay          base delay between attempts, in milliseconds
+         * @param maxDelay       maximum delay between attempts, in milliseconds. The delay is fixed if it is not
+         *                       greater than the base delay
+         * @param jitter         randomization of the delays
+         * @param retryBudget    retry budget shared by the operations of a client, may be null
+         * @param exceptionCheck predicate checking whether the given exception may be retried
+         */
+        public AttemptsBoundRetryPolicy(
+            int attempts,
+            long requestTimeout,
+            long delay,
+            long maxDelay,
+            RetryJitter jitter,
+            RetryBudget retryBudget,
+            T exceptionCheck) {
             Assert.state(attempts >= 0, "Attempts must be greater or equal than 0!");
             Assert.state(requestTimeout >= 0, "Timeout must be greater or equal than 0!");
             Assert.state(delay >= 0, "Timeout must be greater or equal than 0!");
+            Assert.notNull(jitter, "Jitter type must not be null!");
             Assert.notNull(exceptionCheck, "Exception checking callback must not be null!");
 
             this.attempts = attempts;
@@ -342,11 +525,15 @@ public final class TarantoolRequestRetryPolicies {
             this.requestTimeout = requestTimeout;
             this.delay = delay;
             this.exceptionCheck = exceptionCheck;
+            this.backoff = new RetryBackoff(delay, maxDelay, jitter);
+            this.retryBudget = retryBudget;
         }
 
         @Override
         public boolean canRetryRequest(Throwable throwable) {
-            if (testException(exceptionCheck, throwable) && attempts > 0) {
+            if (!(throwable instanceof TarantoolCircuitBreakerOpenException) &&
+                testException(exceptionCheck, throwable) && attempts > 0 &&
+                (retryBudget == null || retryBudget.tryAcquire())) {
                 attempts--;
                 return true;
             }
@@ -354,48 +541,46 @@ public final class TarantoolRequestRetryPolicies {
         }
 
         @Override
-        public <R> void runAsyncOperation(
-            Supplier<CompletableFuture<R>> operation, CompletableFuture<R> resultFuture,
-            AtomicReference<Throwable> lastExceptionWrapper) {
-            // start async operation running
-            CompletableFuture<R> operationFuture = operation.get();
-            // start scheduled request timeout task
-            // it never completes correctly only exceptionally
-            CompletableFuture<R> requestTimeoutFuture = failAfterRequestTimeout(resultFuture);
+        public long nextDelay() {
+            return backoff.nextDelay();
+        }
 
-            operationFuture.acceptEither(requestTimeoutFuture, resultFuture::complete)
-                .exceptionally(ex -> { // if requestTimeout has been raised or operation return exception
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The first attempt is started in the caller thread, the executor is used only for the retries.
+         */
+        @Override
+        public <R> CompletableFuture<R> wrapOperation(Supplier<CompletableFuture<R>> operation, Executor executor) {
+            Assert.notNull(operation, "Operation must not be null");
+            Assert.notNull(executor, "Executor must not be null");
 
-                    while (ex instanceof ExecutionException || ex instanceof CompletionException) {
-                        ex = ex.getCause();
-                    }
-                    // to provide it if retrying has been stopped without correct result
-                    lastExceptionWrapper.set(ex);
-
-                    if (attempts == 0) {
-                        ex = new TarantoolAttemptsLimitException(
-                            limit,
-                            ex);
-                        resultFuture.completeExceptionally(ex);
-                        return null;
-                    }
+            this.executor = executor;
+            return RequestRetryPolicy.super.wrapOperation(
+                retryBudget != null ? retryBudget.recordSuccesses(operation) : operation, executor);
+        }
 
-                    if (this.canRetryRequest(ex)) {
-                        // retry it after delay
-                        ScheduledFuture<?> delayFuture =
-                            TarantoolRequestRetryPolicies.getTimeoutScheduler().schedule(() -> {
-                                runAsyncOperation(operation, resultFuture, lastExceptionWrapper);
-                            }, getDelay(), TimeUnit.MILLISECONDS);
-                        // optimization: stop delayed future if resultFuture has already done from outside
-                        resultFuture.whenComplete((r, e) -> delayFuture.cancel(false));
-                    } else {
-                        resultFuture.completeExceptionally(ex);
-                    }
-                    return null;
-                }).exceptionally(ex -> { // if error has been happened in previous exceptionally section
+        @Override
+        public <R> void runAsyncOperation(
+            Supplier<CompletableFuture<R>> operation, CompletableFuture<R> resultFuture,
+            AtomicReference<Throwable> lastExceptionWrapper) {
+            runAttempt(this, operation, resultFuture, ex -> {
+                // to provide it if retrying has been stopped without correct result
+                lastExceptionWrapper.set(ex);
+
+                if (attempts == 0) {
+                    resultFuture.completeExceptionally(new TarantoolAttemptsLimitException(limit, ex));
+                    return;
+                }
+
+                if (this.canRetryRequest(ex)) {
+                    // retry it after delay
+                    scheduleRetry(() -> runAsyncOperation(operation, resultFuture, lastExceptionWrapper),
+                        nextDelay(), resultFuture, executor);
+                } else {
                     resultFuture.completeExceptionally(ex);
-                    return null;
-                });
+                }
+            });
         }
     }
 
@@ -410,6 +595,9 @@ public final class TarantoolRequestRetryPolicies {
         private final int numberOfAttempts;
         private final T exceptionCheck;
         private final long delay; //ms
+        private final long maxDelay; //ms
+        private final RetryJitter jitter;
+        private final RetryBudget retryBudget;
         private final long requestTimeout; //ms
 
         /**
@@ -425,9 +613,34 @@ public final class TarantoolRequestRetryPolicies {
             long requestTimeout,
             long delay,
             T exceptionCheck) {
+            this(numberOfAttempts, requestTimeout, delay, 0, RetryJitter.NONE, null, exceptionCheck);
+        }
+
+        /**
+         * Constructor with exponential backoff and retry budget
+         *
+         * @param numberOfAttempts maximum number of retry attempts
+         * @param requestTimeout   timeout for one retry attempt, in milliseconds
+         * @param delay            base delay between retry attempts, in milliseconds
+         * @param maxDelay         maximum delay between retry attempts, in milliseconds
+         * @param jitter           randomization of the delays
+         * @param retryBudget      retry budget shared by all policies created by this factory, may be null
+         * @param exceptionCheck   predicate checking whether the given exception may be retried
+         */
+        public AttemptsBoundRetryPolicyFactory(
+            int numberOfAttempts,
+            long requestTimeout,
+            long delay,
+            long maxDelay,
+            RetryJitter jitter,
+            RetryBudget retryBudget,
+            T exceptionCheck) {
             this.numberOfAttempts = numberOfAttempts;
             this.requestTimeout = requestTimeout;
             this.delay = delay;
+            this.maxDelay = maxDelay;
+            this.jitter = jitter;
+            this.retryBudget = retryBudget;
             this.exceptionCheck = exceptionCheck;
         }
 
@@ -445,7 +658,8 @@ public final class TarantoolRequestRetryPolicies {
 
         @Override
         public RequestRetryPolicy create() {
-            return new AttemptsBoundRetryPolicy<>(numberOfAttempts, requestTimeout, delay, exceptionCheck);
+            return new AttemptsBoundRetryPolicy<>(
+                numberOfAttempts, requestTimeout, delay, maxDelay, jitter, retryBudget, exceptionCheck);
         }
 
         /**
@@ -457,6 +671,9 @@ public final class TarantoolRequestRetryPolicies {
             private final int numberOfAttempts;
             private long requestTimeout = DEFAULT_ONE_HOUR_TIMEOUT; //ms
             private long delay; //ms
+            private long maxDelay; //ms
+            private RetryJitter jitter = RetryJitter.NONE;
+            private RetryBudget retryBudget;
             private final T exceptionCheck;
 
             /**
@@ -492,13 +709,43 @@ public final class TarantoolRequestRetryPolicies {
                 return this;
             }
 
+            /**
+             * Make the delay between attempts grow exponentially from the delay specified with
+             * {@link #withDelay(long)} up to the specified maximum delay, randomizing it with the specified jitter
+             *
+             * @param maxDelay maximum delay between attempts, in milliseconds
+             * @param jitter   randomization of the delays
+             * @return this builder instance
+             */
+            public Builder<T> withExponentialBackoff(long maxDelay, RetryJitter jitter) {
+                Assert.state(maxDelay >= 0, "Max delay must be greater or equal than 0!");
+                Assert.notNull(jitter, "Jitter type must not be null!");
+                this.maxDelay = maxDelay;
+                this.jitter = jitter;
+                return this;
+            }
+
+            /**
+             * Limit the retries with a budget. Pass the same budget instance to the factories of the clients, which
+             * should share it
+             *
+             * @param retryBudget retry budget
+             * @return this builder instance
+             */
+            public Builder<T> withRetryBudget(RetryBudget retryBudget) {
+                Assert.notNull(retryBudget, "Retry budget must not be null!");
+                this.retryBudget = retryBudget;
+                return this;
+            }
+
             /**
              * Create new factory instance
              *
              * @return new factory instance
              */
             public AttemptsBoundRetryPolicyFactory<T> build() {
-                return new AttemptsBoundRetryPolicyFactory<>(numberOfAttempts, requestTimeout, delay, exceptionCheck);
+                return new AttemptsBoundRetryPolicyFactory<>(
+                    numberOfAttempts, requestTimeout, delay, maxDelay, jitter, retryBudget, exceptionCheck);
             }
         }
 
@@ -537,6 +784,33 @@ public final class TarantoolRequestRetryPolicies {
         public long getRequestTimeout() {
             return requestTimeout;
         }
+
+        /**
+         * Getter for maximum delay
+         *
+         * @return maximum delay in milliseconds, the delay is fixed if it is not greater than the base delay
+         */
+        public long getMaxDelay() {
+            return maxDelay;
+        }
+
+        /**
+         * Getter for jitter type
+         *
+         * @return jitter type
+         */
+        public RetryJitter getJitter() {
+            return jitter;
+        }
+
+        /**
+         * Getter for retry budget
+         *
+         * @return retry budget or null, if the retries are not limited by a budget
+         */
+        public RetryBudget getRetryBudget() {
+            return retryBudget;
+        }
     }
 
     /**
@@ -597,12 +871,108 @@ public final class TarantoolRequestRetryPolicies {
         }
     }
 
+    /**
+     * Schedule the next attempt of an operation after the specified delay. The attempt is started in the common
+     * pool, so that the operations waiting for the connections do not hold the timer thread. The scheduled attempt is
+     * cancelled if the operation result is completed before the delay expires.
+     *
+     * @param attempt      next operation attempt
+     * @param delay        delay before the attempt, milliseconds
+     * @param resultFuture operation result
+     */
+    static void scheduleRetry(Runnable attempt, long delay, CompletableFuture<?> resultFuture) {
+        scheduleRetry(attempt, delay, resultFuture, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Schedule the next attempt of an operation after the specified delay in the specified executor. The scheduled
+     * attempt is cancelled if the operation result is completed before the delay expires.
+     *
+     * @param attempt      next operation attempt
+     * @param delay        delay before the attempt, milliseconds
+     * @param resultFuture operation result
+     * @param executor     executor in which the attempt is started
+     */
+    static void scheduleRetry(Runnable attempt, long delay, CompletableFuture<?> resultFuture, Executor executor) {
+        Timeout delayTimeout = getTimer().newTimeout(timeout -> CompletableFuture.runAsync(attempt, executor)
+            .exceptionally(ex -> {
+                resultFuture.completeExceptionally(ex);
+                return null;
+            }), delay, TimeUnit.MILLISECONDS);
+        // optimization: stop delayed task if resultFuture has already done from outside
+        resultFuture.whenComplete((r, e) -> delayTimeout.cancel());
+    }
+
+    /**
+     * Start an operation attempt. The successful result completes the operation result, the failure is passed to the
+     * failure handler unless the operation result is already completed. The request timeout is tracked by a timer
+     * only if it is less than {@link RequestRetryPolicy#DEFAULT_REQUEST_TIMEOUT}, since the requests are bounded by
+     * the client request timeout anyway. In that case, the attempt is performed with the request timeout deadline.
+     *
+     * @param policy         retry policy
+     * @param operation      supplier for the operation attempt
+     * @param resultFuture   operation result
+     * @param failureHandler handler for the attempt failure, the exception is unwrapped
+     * @param <T>            operation result type
+     */
+    static <T> void runAttempt(
+        RequestRetryPolicy policy,
+        Supplier<CompletableFuture<T>> operation,
+        CompletableFuture<T> resultFuture,
+        Consumer<Throwable> failureHandler) {
+        // start async operation running
+        CompletableFuture<T> operationFuture;
+        if (policy.getRequestTimeout() < RequestRetryPolicy.DEFAULT_REQUEST_TIMEOUT) {
+            operationFuture = TarantoolDeadline.after(policy.getRequestTimeout()).run(operation);
+            // the request timeout future never completes correctly only exceptionally
+            operationFuture = operationFuture.applyToEither(
+                policy.failAfterRequestTimeout(resultFuture), Function.identity());
+        } else {
+            operationFuture = operation.get();
+        }
+        operationFuture.whenComplete((result, ex) -> {
+            if (ex == null) {
+                resultFuture.complete(result);
+                return;
+            }
+            // if the operation result has been completed from outside
+            if (resultFuture.isDone()) {
+                return;
+            }
+            while (ex instanceof ExecutionException || ex instanceof CompletionException) {
+                ex = ex.getCause();
+            }
+            try {
+                failureHandler.accept(ex);
+            } catch (Throwable e) { // if error has been happened in the failure handler
+                resultFuture.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Get the timer used for the retry delays, request and operation timeouts. It is the same timer that is used by
+     * the clients by default, see {@link TarantoolTimers#defaultTimer()}.
+     *
+     * @return timer instance
+     */
+    public static Timer getTimer() {
+        return TarantoolTimers.defaultTimer();
+    }
+
     /**
      * Get timeout scheduler instance.
      *
      * @return scheduler instance
+     * @deprecated the built-in policies use the timer returned by {@link #getTimer()}
      */
+    @Deprecated
     public static ScheduledExecutorService getTimeoutScheduler() {
-        return timeoutScheduler;
+        return TimeoutSchedulerHolder.INSTANCE;
+    }
+
+    private static final class TimeoutSchedulerHolder {
+        private static final ScheduledExecutorService INSTANCE =
+            Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-retry-timeout"));
     }
 }
@@ -6,6 +6,9 @@ import io.tarantool.driver.core.TarantoolDaemonThreadFactory;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -40,9 +43,7 @@ public abstract class AbstractDiscoveryClusterAddressProvider implements Taranto
                 Collection<TarantoolServerAddress> addresses = discoverAddresses();
                 setAddresses(addresses);
 
-                if (currentAddresses != null
-                    && addresses.size() != currentAddresses.size()
-                    || !addresses.equals(currentAddresses)) {
+                if (isChanged(currentAddresses, addresses)) {
                     this.refreshCallback.get().run();
                 }
             } finally {
@@ -60,6 +61,26 @@ public abstract class AbstractDiscoveryClusterAddressProvider implements Taranto
         );
     }
 
+    // the role and the zone are not a part of the address identity, but the connections are routed according to them
+    private static boolean isChanged(
+        Collection<TarantoolServerAddress> currentAddresses, Collection<TarantoolServerAddress> addresses) {
+        if (currentAddresses == null || addresses.size() != currentAddresses.size() ||
+            !addresses.equals(currentAddresses)) {
+            return true;
+        }
+        Map<TarantoolServerAddress, TarantoolServerAddress> current = new HashMap<>();
+        currentAddresses.forEach(address -> current.put(address, address));
+        for (TarantoolServerAddress address : addresses) {
+            TarantoolServerAddress previous = current.get(address);
+            if (previous == null || previous.getRole() != address.getRole() ||
+                !Objects.equals(previous.getZone(), address.getZone()) ||
+                !Objects.equals(previous.getReplicaset(), address.getReplicaset())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected TarantoolClusterDiscoveryConfig getDiscoveryConfig() {
         return discoveryConfig;
     }
@@ -2,6 +2,7 @@ package io.tarantool.driver.cluster;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.core.ClusterTarantoolTupleClient;
 import io.tarantool.driver.exceptions.TarantoolClientException;
@@ -15,7 +16,8 @@ import java.util.stream.Collectors;
 
 /**
  * Service discovery client connecting to Tarantool via the binary protocol.
- * Gets list of cluster node addresses calling an exposed Lua function.
+ * Gets list of cluster node addresses calling an exposed Lua function. The optional node fields {@code role},
+ * {@code replicaset} and {@code zone} are used for tagging the addresses, see {@link TarantoolServerAddress#getRole()}.
  * <p>
  * Expected response format:
  * <pre>
@@ -27,6 +29,9 @@ import java.util.stream.Collectors;
  *     status: healthy
  *     uri: localhost:3301
  *     uuid: 9a3426db-f8f6-4e9f-ac80-e263527a59bc
+ *     role: master
+ *     replicaset: router-1
+ *     zone: dc1
  *   4141912c-34b8-4e40-a17e-7a6d80345954:
  *     priority: 1
  *     status: healthy
@@ -61,7 +66,10 @@ import java.util.stream.Collectors;
  *              status = server.healthy,
  *              uuid = server.uuid,
  *              uri = server.uri,
- *              priority = server.priority
+ *              priority = server.priority,
+ *              role = server.replicaset.master.uuid == server.uuid and 'master' or 'replica',
+ *              replicaset = server.replicaset.alias,
+ *              zone = server.zone
  *          }
  *        end
  *      end
@@ -85,7 +93,12 @@ public class BinaryDiscoveryClusterAddressProvider extends AbstractDiscoveryClus
         super(discoveryConfig);
         this.endpoint = (BinaryClusterDiscoveryEndpoint) discoveryConfig.getEndpoint();
 
-        this.client = new ClusterTarantoolTupleClient(endpoint.getClientConfig(), endpoint.getEndpointProvider());
+        TarantoolClientConfig clientConfig = endpoint.getClientConfig();
+        if (discoveryConfig.getClientResources() != null && clientConfig.getClientResources() == null) {
+            clientConfig = new TarantoolClientConfig(clientConfig);
+            clientConfig.setClientResources(discoveryConfig.getClientResources());
+        }
+        this.client = new ClusterTarantoolTupleClient(clientConfig, endpoint.getEndpointProvider());
         this.objectMapper = new ObjectMapper();
         startDiscoveryTask();
     }
@@ -107,10 +120,20 @@ public class BinaryDiscoveryClusterAddressProvider extends AbstractDiscoveryClus
 
             return responseMap.values().stream()
                 .filter(ServerNodeInfo::isAvailable)
-                .map(v -> new TarantoolServerAddress(v.getUri()))
+                .map(ServerNodeInfo::toServerAddress)
                 .collect(Collectors.toList());
         } catch (Exception e) {
             throw new TarantoolClientException("Cluster discovery task error", e);
         }
     }
+
+    @Override
+    public void close() {
+        super.close();
+        try {
+            client.close();
+        } catch (Exception e) {
+            throw new TarantoolClientException("Failed to close the discovery client", e);
+        }
+    }
 }
@@ -9,11 +9,8 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.EventLoopGroup;
 import io.netty.channel.SimpleChannelInboundHandler;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpContent;
@@ -30,6 +27,7 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.util.CharsetUtil;
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 
@@ -43,11 +41,13 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
  * Tarantool server address provider with service discovery via HTTP.
- * Gets list of nodes from API endpoint in json format.
+ * Gets list of nodes from API endpoint in json format. The optional node fields {@code role}, {@code replicaset} and
+ * {@code zone} are used for tagging the addresses, see {@link TarantoolServerAddress#getRole()}.
  * <p>
  * Expected response format example:
  * <pre>
@@ -57,7 +57,10 @@ import java.util.stream.Collectors;
  *         "uuid": "898b4d01-4261-4006-85ea-a3500163cda0",
  *         "uri": "localhost:3304",
  *         "status": "healthy",
- *         "priority": 1
+ *         "priority": 1,
+ *         "role": "master",
+ *         "replicaset": "router-1",
+ *         "zone": "dc1"
  *     },
  *     "36a1a75e-60f0-4400-8bdc-d93e2c5ca54b": {
  *         "uuid": "9a3426db-f8f6-4e9f-ac80-e263527a59bc",
@@ -94,7 +97,10 @@ import java.util.stream.Collectors;
  *              status = server.healthy,
  *              uuid = server.uuid,
  *              uri = server.uri,
- *              priority = server.priority
+ *              priority = server.priority,
+ *              role = server.replicaset.master.uuid == server.uuid and 'master' or 'replica',
+ *              replicaset = server.replicaset.alias,
+ *              zone = server.zone
  *          }
  *        end
  *      end
@@ -125,7 +131,8 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
     private String scheme;
 
     private final SslContext sslContext;
-    private final EventLoopGroup eventLoopGroup;
+    private final TarantoolClientResources resources;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private final Bootstrap bootstrap;
 
     public HTTPDiscoveryClusterAddressProvider(TarantoolClusterDiscoveryConfig config) {
@@ -145,10 +152,14 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
             throw new TarantoolClientException("Incorrect url %s, %s", endpoint.getUri(), e.getMessage());
         }
 
-        this.eventLoopGroup = new NioEventLoopGroup();
+        // a single request per discovery period does not need more than one event loop thread
+        this.resources = config.getClientResources() != null ?
+            config.getClientResources().retain() :
+            TarantoolClientResources.builder().withEventLoopThreadsNumber(1).build();
         this.bootstrap = new Bootstrap()
-            .group(this.eventLoopGroup)
-            .channel(NioSocketChannel.class)
+            .group(resources.getEventLoopGroup())
+            .channel(resources.getTransport().getSocketChannelClass())
+            .option(ChannelOption.ALLOCATOR, resources.getAllocator())
             .option(ChannelOption.SO_REUSEADDR, true)
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, endpoint.getConnectTimeout());
         startDiscoveryTask();
@@ -183,7 +194,7 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
 
             return addressMap.values().stream()
                 .filter(ServerNodeInfo::isAvailable)
-                .map(v -> new TarantoolServerAddress(v.getUri())).collect(Collectors.toList());
+                .map(ServerNodeInfo::toServerAddress).collect(Collectors.toList());
         } catch (InterruptedException | ExecutionException e) {
             throw new TarantoolClientException("Cluster discovery task error", e);
         }
@@ -220,10 +231,8 @@ public class HTTPDiscoveryClusterAddressProvider extends AbstractDiscoveryCluste
     @Override
     public void close() {
         super.close();
-        try {
-            eventLoopGroup.shutdownGracefully().sync();
-        } catch (InterruptedException e) {
-            throw new TarantoolClientException("Interrupted while shutting down the discovery service");
+        if (closed.compareAndSet(false, true)) {
+            resources.release();
         }
     }
 
@@ -1,5 +1,8 @@
 package io.tarantool.driver.cluster;
 
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolServerRole;
+
 import java.util.Objects;
 
 /**
@@ -16,6 +19,9 @@ final class ServerNodeInfo {
     private String uri;
     private String status;
     private Integer priority;
+    private String role;
+    private String replicaset;
+    private String zone;
 
     ServerNodeInfo() {
     }
@@ -52,6 +58,37 @@ final class ServerNodeInfo {
         this.priority = priority;
     }
 
+    public String getRole() {
+        return role;
+    }
+
+    public void setRole(String role) {
+        this.role = role;
+    }
+
+    public String getReplicaset() {
+        return replicaset;
+    }
+
+    public void setReplicaset(String replicaset) {
+        this.replicaset = replicaset;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public TarantoolServerAddress toServerAddress() {
+        return new TarantoolServerAddress(uri)
+            .withRole(TarantoolServerRole.fromString(role))
+            .withReplicaset(replicaset)
+            .withZone(zone);
+    }
+
     public boolean isAvailable() {
         return this.status.equals(STATUS_AVAILABLE) || this.status.equals(STATUS_HEALTHY);
     }
@@ -68,11 +105,14 @@ final class ServerNodeInfo {
         return Objects.equals(uuid, that.uuid) &&
             Objects.equals(uri, that.uri) &&
             Objects.equals(status, that.status) &&
-            Objects.equals(priority, that.priority);
+            Objects.equals(priority, that.priority) &&
+            Objects.equals(role, that.role) &&
+            Objects.equals(replicaset, that.replicaset) &&
+            Objects.equals(zone, that.zone);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(uuid, uri, status, priority);
+        return Objects.hash(uuid, uri, status, priority, role, replicaset, zone);
     }
 }
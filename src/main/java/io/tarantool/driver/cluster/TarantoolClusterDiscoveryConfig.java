@@ -1,5 +1,6 @@
 package io.tarantool.driver.cluster;
 
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.utils.Assert;
 
@@ -14,6 +15,7 @@ public final class TarantoolClusterDiscoveryConfig {
 
     private TarantoolClusterDiscoveryEndpoint endpoint;
     private int serviceDiscoveryDelay = 60_000; // milliseconds
+    private TarantoolClientResources clientResources;
 
     /**
      * Get config of service discovery endpoint
@@ -51,6 +53,26 @@ public final class TarantoolClusterDiscoveryConfig {
         this.serviceDiscoveryDelay = serviceDiscoveryDelay;
     }
 
+    /**
+     * Get the resources shared with the clients
+     *
+     * @return client resources or null, if the discovery provider creates its own resources
+     */
+    public TarantoolClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * Set the resources shared with the clients. The discovery provider retains the resources when it is created and
+     * releases them when it is closed. The resources are also used by the client of the binary discovery endpoint if
+     * its config does not specify other resources
+     *
+     * @param clientResources client resources
+     */
+    public void setClientResources(TarantoolClientResources clientResources) {
+        this.clientResources = clientResources;
+    }
+
     /**
      * Create a builder instance.
      *
@@ -102,6 +124,19 @@ public final class TarantoolClusterDiscoveryConfig {
             return this;
         }
 
+        /**
+         * Specify the resources shared with the clients. By default, the discovery provider creates its own resources
+         *
+         * @param clientResources client resources
+         * @return this builder instance
+         * @see TarantoolClusterDiscoveryConfig#setClientResources(TarantoolClientResources)
+         */
+        public Builder withClientResources(TarantoolClientResources clientResources) {
+            Assert.notNull(clientResources, "Client resources should not be null");
+            this.config.setClientResources(clientResources);
+            return this;
+        }
+
         /**
          * Build a {@link TarantoolClusterDiscoveryConfig} instance
          *
@@ -0,0 +1,83 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import org.msgpack.core.buffer.MessageBuffer;
+import org.msgpack.core.buffer.MessageBufferInput;
+
+/**
+ * {@link MessageBufferInput} implementation, which provides the readable bytes of a Netty {@link ByteBuf} to
+ * a {@link org.msgpack.core.MessageUnpacker}. Heap buffers are read in place. The contents of direct buffers are
+ * copied into an internal array which is reused between the buffers, because msgpack-core cannot access the direct
+ * memory on newer JDK versions without additional module access flags.
+ * <p>
+ * An instance of this class may be reused for several buffers one by one, see {@link #reset(ByteBuf)}, and must not
+ * be shared between threads.
+ *
+ * @author Alexey Kuzin
+ */
+public class ByteBufMessageBufferInput implements MessageBufferInput {
+
+    private static final int INITIAL_SCRATCH_SIZE = 8192;
+    private static final int MAX_RETAINED_SCRATCH_SIZE = 1024 * 1024;
+
+    private byte[] scratch = new byte[0];
+    private MessageBuffer current;
+
+    /**
+     * Basic constructor.
+     */
+    public ByteBufMessageBufferInput() {
+    }
+
+    /**
+     * Create an instance bound to the specified buffer
+     *
+     * @param buffer source buffer
+     */
+    public ByteBufMessageBufferInput(ByteBuf buffer) {
+        reset(buffer);
+    }
+
+    /**
+     * Bind this instance to the readable part of the specified buffer. The buffer reader index is not changed and
+     * the buffer contents must not be modified until the data is read
+     *
+     * @param buffer source buffer
+     */
+    public void reset(ByteBuf buffer) {
+        int length = buffer.readableBytes();
+        if (length == 0) {
+            current = null;
+        } else if (buffer.hasArray()) {
+            current = MessageBuffer.wrap(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), length);
+        } else {
+            byte[] target = getScratch(length);
+            buffer.getBytes(buffer.readerIndex(), target, 0, length);
+            current = MessageBuffer.wrap(target, 0, length);
+        }
+    }
+
+    private byte[] getScratch(int length) {
+        if (scratch.length >= length) {
+            return scratch;
+        }
+        if (length > MAX_RETAINED_SCRATCH_SIZE) {
+            return new byte[length];
+        }
+        scratch = new byte[Math.min(MAX_RETAINED_SCRATCH_SIZE,
+            Math.max(length, Math.max(INITIAL_SCRATCH_SIZE, scratch.length * 2)))];
+        return scratch;
+    }
+
+    @Override
+    public MessageBuffer next() {
+        MessageBuffer next = current;
+        current = null;
+        return next;
+    }
+
+    @Override
+    public void close() {
+        current = null;
+    }
+}
@@ -0,0 +1,77 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import org.msgpack.core.buffer.MessageBuffer;
+import org.msgpack.core.buffer.MessageBufferOutput;
+
+/**
+ * {@link MessageBufferOutput} implementation, which writes the {@link org.msgpack.core.MessagePacker} output directly
+ * into a Netty {@link ByteBuf}. The internal packer buffer is reused between the frames, so an instance of this class
+ * is meant to be bound to a single channel and used only from its event loop.
+ *
+ * @author Alexey Kuzin
+ */
+public class ByteBufMessageBufferOutput implements MessageBufferOutput {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final MessageBuffer buffer;
+    private MessageBuffer current;
+    private ByteBuf target;
+
+    /**
+     * Basic constructor.
+     */
+    public ByteBufMessageBufferOutput() {
+        this(DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Create an instance with the specified size of the intermediate packer buffer
+     *
+     * @param bufferSize intermediate buffer size, in bytes
+     */
+    public ByteBufMessageBufferOutput(int bufferSize) {
+        this.buffer = MessageBuffer.allocate(bufferSize);
+        this.current = buffer;
+    }
+
+    /**
+     * Set the buffer the next portions of data will be written into
+     *
+     * @param target outbound buffer
+     */
+    public void setTarget(ByteBuf target) {
+        this.target = target;
+    }
+
+    @Override
+    public MessageBuffer next(int minimumSize) {
+        current = minimumSize <= buffer.size() ? buffer : MessageBuffer.allocate(minimumSize);
+        return current;
+    }
+
+    @Override
+    public void writeBuffer(int length) {
+        target.writeBytes(current.array(), current.arrayOffset(), length);
+    }
+
+    @Override
+    public void write(byte[] buffer, int offset, int length) {
+        target.writeBytes(buffer, offset, length);
+    }
+
+    @Override
+    public void add(byte[] buffer, int offset, int length) {
+        target.writeBytes(buffer, offset, length);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        target = null;
+    }
+}
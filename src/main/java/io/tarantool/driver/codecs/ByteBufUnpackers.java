@@ -0,0 +1,45 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.concurrent.FastThreadLocal;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+
+/**
+ * Provides reusable {@link MessageUnpacker} instances for reading MessagePack data from Netty buffers. Each thread
+ * has its own unpacker, so the unpacker returned by {@link #unpacker(ByteBuf)} must be used only in the current thread
+ * and only until the next call of this method.
+ *
+ * @author Alexey Kuzin
+ */
+public final class ByteBufUnpackers {
+
+    private static final FastThreadLocal<ByteBufUnpackers> instances = new FastThreadLocal<ByteBufUnpackers>() {
+        @Override
+        protected ByteBufUnpackers initialValue() {
+            return new ByteBufUnpackers();
+        }
+    };
+
+    private final ByteBufMessageBufferInput input = new ByteBufMessageBufferInput();
+    private final MessageUnpacker unpacker = MessagePack.DEFAULT_UNPACKER_CONFIG.newUnpacker(input);
+
+    private ByteBufUnpackers() {
+    }
+
+    /**
+     * Get the unpacker of the current thread, bound to the readable part of the specified buffer
+     *
+     * @param buffer buffer with MessagePack data
+     * @return unpacker instance
+     * @throws IOException if the unpacker cannot be reset
+     */
+    public static MessageUnpacker unpacker(ByteBuf buffer) throws IOException {
+        ByteBufUnpackers current = instances.get();
+        current.input.reset(buffer);
+        current.unpacker.reset(current.input);
+        return current.unpacker;
+    }
+}
@@ -1,66 +1,103 @@
 package io.tarantool.driver.codecs;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufInputStream;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.ReplayingDecoder;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
 import io.tarantool.driver.protocol.TarantoolResponse;
-import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessageUnpacker;
 
 import java.util.List;
 
 /**
- * Converts Tarantool server responses from MessagePack frames to Java objects
+ * Converts Tarantool server responses from MessagePack frames to Java objects.
+ * <p>
+ * Each frame is decoded from a retained slice of the inbound buffer, without allocating a separate buffer for it.
+ * The frames are read with a reusable {@link MessageUnpacker}, see {@link ByteBufUnpackers}. Only the response header
+ * is decoded here, the response body data is left in the buffer slice until it is consumed, see
+ * {@link TarantoolResponse#fromMessagePack(ByteBuf)}. Incomplete frames are left in the inbound buffer until the rest
+ * of the frame data arrives.
  *
  * @author Alexey Kuzin
  */
-public class MessagePackFrameDecoder extends ReplayingDecoder<MessagePackFrameDecoder.DecoderState> {
+public class MessagePackFrameDecoder extends ByteToMessageDecoder {
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
-    private int size;
-
-    public MessagePackFrameDecoder() {
-        super(DecoderState.LENGTH);
-    }
 
     @Override
     protected void decode(ChannelHandlerContext channelHandlerContext, ByteBuf byteBuf, List<Object> list)
         throws Exception {
+        if (!byteBuf.isReadable()) {
+            return;
+        }
+        int readerIndex = byteBuf.readerIndex();
+        int lengthSize = getLengthSize(byteBuf.getByte(readerIndex));
+        if (byteBuf.readableBytes() < lengthSize) {
+            return;
+        }
+        long size = getLength(byteBuf, readerIndex, lengthSize);
+        if (size > Integer.MAX_VALUE - MINIMAL_HEADER_SIZE) {
+            throw new TarantoolProtocolException("Frame size %d is too big", size);
+        }
+        if (byteBuf.readableBytes() < lengthSize + size) {
+            return;
+        }
+        ByteBuf frame = byteBuf.retainedSlice(readerIndex + lengthSize, (int) size);
+        byteBuf.skipBytes(lengthSize + (int) size);
+        if (size > 0) {
+            list.add(decodeFrame(frame));
+        } else {
+            frame.release();
+        }
+    }
+
+    /**
+     * Decode the frame contents into a response. Takes the ownership of the passed buffer
+     *
+     * @param frame buffer containing a single frame without the length prefix
+     * @return decoded response
+     * @throws Exception if the frame data is invalid
+     */
+    protected Object decodeFrame(ByteBuf frame) throws Exception {
+        try {
+            return TarantoolResponse.fromMessagePack(frame);
+        } finally {
+            frame.release();
+        }
+    }
 
-        switch (state()) {
-            case LENGTH:
-                ByteBuf lenBuf = byteBuf.readBytes(MINIMAL_HEADER_SIZE);
-                try (ByteBufInputStream in = new ByteBufInputStream(lenBuf)) {
-                    MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                    size = unpacker.unpackInt();
-                    unpacker.close();
-                    checkpoint(DecoderState.BODY);
-                }
-                lenBuf.release();
-            case BODY:
-                if (size > 0) {
-                    if (byteBuf.readableBytes() < size) {
-                        return;
-                    }
-                    ByteBuf bodyBuf = byteBuf.readBytes(size);
-                    try (ByteBufInputStream in = new ByteBufInputStream(bodyBuf)) {
-                        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(in);
-                        list.add(TarantoolResponse.fromMessagePack(unpacker));
-                        unpacker.close();
-                        size = 0;
-                    }
-                    bodyBuf.release();
-                }
-                checkpoint(DecoderState.LENGTH);
-                break;
+    private static int getLengthSize(byte prefix) throws TarantoolProtocolException {
+        if ((prefix & 0x80) == 0) {
+            return 1; // positive fixint
+        }
+        switch (prefix) {
+            case (byte) 0xcc: // MP_UINT8
+                return 2;
+            case (byte) 0xcd: // MP_UINT16
+                return 3;
+            case (byte) 0xce: // MP_UINT32
+                return 5;
+            case (byte) 0xcf: // MP_UINT64
+                return 9;
             default:
-                throw new Error("Shouldn't reach here.");
+                throw new TarantoolProtocolException(
+                    "Frame length must be of MP_UINT type, received prefix 0x%02x", prefix & 0xff);
         }
     }
 
-    protected enum DecoderState {
-        LENGTH,
-        BODY
+    private static long getLength(ByteBuf byteBuf, int readerIndex, int lengthSize) {
+        switch (lengthSize) {
+            case 1:
+                return byteBuf.getByte(readerIndex);
+            case 2:
+                return byteBuf.getUnsignedByte(readerIndex + 1);
+            case 3:
+                return byteBuf.getUnsignedShort(readerIndex + 1);
+            case 5:
+                return byteBuf.getUnsignedInt(readerIndex + 1);
+            default:
+                long length = byteBuf.getLong(readerIndex + 1);
+                return length < 0 ? Long.MAX_VALUE : length;
+        }
     }
 }
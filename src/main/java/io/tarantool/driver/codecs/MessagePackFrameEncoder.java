@@ -5,37 +5,65 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
-import org.msgpack.core.MessageBufferPacker;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
 import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
 
 /**
- * Converts Tarantool requests from Java objects to MessagePack frames
+ * Converts Tarantool requests from Java objects to MessagePack frames.
+ * <p>
+ * The request header and body are packed directly into the outbound buffer. The frame length is written as
+ * a fixed-size MP_UINT32 value, which is reserved before the frame contents and filled in afterwards. The requests of
+ * a {@link TarantoolRequestBatch} are packed back-to-back into a single buffer.
  *
  * @author Alexey Kuzin
  */
-public class MessagePackFrameEncoder extends MessageToByteEncoder<TarantoolRequest> {
+public class MessagePackFrameEncoder extends MessageToByteEncoder<Object> {
 
     private static final int MINIMAL_HEADER_SIZE = 5; // MP_UINT32
+    private static final byte MP_UINT32 = (byte) 0xce;
+
     private final MessagePackObjectMapper mapper;
+    private final ByteBufMessageBufferOutput output;
+    private final MessagePacker packer;
 
     public MessagePackFrameEncoder(MessagePackObjectMapper mapper) {
         super();
         this.mapper = mapper;
+        this.output = new ByteBufMessageBufferOutput();
+        this.packer = MessagePack.DEFAULT_PACKER_CONFIG.newPacker(output);
+    }
+
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof TarantoolRequest || msg instanceof TarantoolRequestBatch;
     }
 
     @Override
-    protected void encode(
-        ChannelHandlerContext ctx, TarantoolRequest tarantoolRequest,
-        ByteBuf byteBuf) throws Exception {
-        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
-        tarantoolRequest.toMessagePack(packer, mapper);
-        long outputSize = packer.getTotalWrittenBytes();
-        byteBuf.capacity((int) (outputSize + MINIMAL_HEADER_SIZE));
-        byte[] output = packer.toByteArray();
-        packer.clear();
-        packer.packLong(outputSize);
-        byteBuf.writeBytes(packer.toByteArray());
-        packer.close();
-        byteBuf.writeBytes(output);
+    protected void encode(ChannelHandlerContext ctx, Object msg, ByteBuf byteBuf) throws Exception {
+        if (msg instanceof TarantoolRequestBatch) {
+            for (TarantoolRequest request : ((TarantoolRequestBatch) msg).getRequests()) {
+                encodeRequest(request, byteBuf);
+            }
+        } else {
+            encodeRequest((TarantoolRequest) msg, byteBuf);
+        }
+    }
+
+    private void encodeRequest(TarantoolRequest tarantoolRequest, ByteBuf byteBuf) throws Exception {
+        int sizeIndex = byteBuf.writerIndex() + 1;
+        byteBuf.writeByte(MP_UINT32).writeInt(0);
+        output.setTarget(byteBuf);
+        try {
+            tarantoolRequest.toMessagePack(packer, mapper);
+            packer.flush();
+        } catch (Throwable e) {
+            // drop the partially packed frame, the buffer will be released by the caller
+            packer.clear();
+            throw e;
+        } finally {
+            output.setTarget(null);
+        }
+        byteBuf.setInt(sizeIndex, byteBuf.writerIndex() - sizeIndex - (MINIMAL_HEADER_SIZE - 1));
     }
 }
@@ -2,14 +2,15 @@ package io.tarantool.driver.core;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.WriteBufferWaterMark;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.api.CallResult;
 import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientBatch;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnection;
@@ -23,6 +24,7 @@ import io.tarantool.driver.core.connection.TarantoolConnectionManager;
 import io.tarantool.driver.core.metadata.SpacesMetadataProvider;
 import io.tarantool.driver.core.metadata.TarantoolMetadata;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
 import io.tarantool.driver.exceptions.TarantoolSpaceNotFoundException;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackMapper;
@@ -44,9 +46,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -60,16 +62,17 @@ import java.util.function.Supplier;
 public abstract class AbstractTarantoolClient<T extends Packable, R extends Collection<T>>
     implements TarantoolClient<T, R> {
 
-    private final NioEventLoopGroup eventLoopGroup;
+    private final TarantoolClientResources resources;
+    private final AtomicBoolean closed = new AtomicBoolean();
     private final TarantoolClientConfig config;
     private final Bootstrap bootstrap;
     private final TarantoolConnectionFactory connectionFactory;
     private final TarantoolConnectionListeners listeners;
-    private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final AtomicReference<TarantoolMetadata> metadataHolder;
     private final ResultMapperFactoryFactoryImpl mapperFactoryFactory;
 
     private final SpacesMetadataProvider metadataProvider;
-    private final ScheduledExecutorService timeoutScheduler;
+    private final AtomicReference<CompletableFuture<Void>> readiness = new AtomicReference<>();
     private TarantoolConnectionManager connectionManager;
 
     /**
@@ -111,22 +114,52 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         Assert.notNull(listeners, "Tarantool connection listeners must not be null");
 
         this.config = config;
+        this.metadataHolder = new AtomicReference<>();
         this.mapperFactoryFactory = new ResultMapperFactoryFactoryImpl();
-        this.eventLoopGroup = new NioEventLoopGroup(config.getEventLoopThreadsNumber());
+        this.resources = config.getClientResources() != null ?
+            config.getClientResources().retain() :
+            TarantoolClientResources.builder()
+                .withTransportType(config.getTransportType())
+                .withEventLoopThreadsNumber(config.getEventLoopThreadsNumber())
+                .withTimer(config.getTimer())
+                .build();
         this.bootstrap = new Bootstrap()
-            .group(eventLoopGroup)
-            .channel(NioSocketChannel.class)
+            .group(resources.getEventLoopGroup())
+            .channel(resources.getTransport().getSocketChannelClass())
+            .option(ChannelOption.ALLOCATOR, resources.getAllocator())
             .option(ChannelOption.SO_REUSEADDR, true)
             .option(ChannelOption.SO_KEEPALIVE, true)
             .option(ChannelOption.TCP_NODELAY, true)
-            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout());
-        this.timeoutScheduler =
-            Executors.newSingleThreadScheduledExecutor(new TarantoolDaemonThreadFactory("tarantool-timeout"));
-        this.connectionFactory = new TarantoolConnectionFactory(config, this.bootstrap, this.timeoutScheduler);
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectTimeout())
+            .option(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(
+                config.getWriteBufferLowWaterMark(), config.getWriteBufferHighWaterMark()));
+        this.connectionFactory = new TarantoolConnectionFactory(
+            config, this.bootstrap, resources.getTimer(), resources.getTransport());
         this.listeners = listeners;
         this.metadataProvider = new SpacesMetadataProvider(this, config.getMessagePackMapper());
     }
 
+    /**
+     * Create a client view sharing the resources and metadata of the specified client, which sends the requests
+     * using the specified connection manager.
+     *
+     * @param client            the client to share the resources with
+     * @param connectionManager connection manager for sending the requests
+     */
+    private AbstractTarantoolClient(
+        AbstractTarantoolClient<T, R> client,
+        TarantoolConnectionManager connectionManager) {
+        this.config = client.config;
+        this.metadataHolder = client.metadataHolder;
+        this.mapperFactoryFactory = client.mapperFactoryFactory;
+        this.resources = client.resources;
+        this.bootstrap = client.bootstrap;
+        this.connectionFactory = client.connectionFactory;
+        this.listeners = client.listeners;
+        this.metadataProvider = client.metadataProvider;
+        this.connectionManager = connectionManager;
+    }
+
     /**
      * Provides a connection manager for Tarantool server connections
      *
@@ -156,6 +189,41 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         return connectionManager().refresh();
     }
 
+    @Override
+    public CompletableFuture<Void> ready() {
+        CompletableFuture<Void> current = readiness.get();
+        while (current == null || current.isCompletedExceptionally()) {
+            CompletableFuture<Void> next = new CompletableFuture<>();
+            if (readiness.compareAndSet(current, next)) {
+                warmUp(next);
+                return next;
+            }
+            current = readiness.get();
+        }
+        return current;
+    }
+
+    private void warmUp(CompletableFuture<Void> result) {
+        CompletableFuture<Void> connections;
+        CompletableFuture<Void> metadata;
+        try {
+            connections = connectionManager().warmUp(config.getMinHealthyConnectionsFraction());
+            // the metadata request is sent as soon as the first connection is established
+            metadata();
+            metadata = metadataHolder.get().prefetch();
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        CompletableFuture.allOf(connections, metadata).whenComplete((v, ex) -> {
+            if (ex != null) {
+                result.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+            } else {
+                result.complete(null);
+            }
+        });
+    }
+
     @Override
     public TarantoolVersion getVersion() throws TarantoolClientException {
         try {
@@ -208,6 +276,11 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
         TarantoolMetadataOperations metadata,
         TarantoolSpaceMetadata spaceMetadata);
 
+    @Override
+    public TarantoolClientBatch<T, R> batch() {
+        return new Batch(new TarantoolRequestBatchCollector(connectionManager()));
+    }
+
     @Override
     public TarantoolMetadataOperations metadata() throws TarantoolClientException {
         if (metadataHolder.get() == null) {
@@ -493,7 +566,25 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
             }
 
             TarantoolCallRequest request = builder.build(argumentsMapper);
-            return connectionManager().getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+            boolean readOnly = config.getReadOnlyFunctions().contains(functionName);
+            TarantoolConnectionManager connectionManager = connectionManager();
+            if (config.getCircuitBreakerConfig() == null || !config.getCircuitBreakerConfig().isPerFunction()) {
+                return connectionManager.getConnection(readOnly).thenCompose(c -> c.sendRequest(request, resultMapper));
+            }
+            return connectionManager.getConnection(readOnly, functionName).thenCompose(c -> {
+                CompletableFuture<S> result;
+                long startedAt = System.nanoTime();
+                try {
+                    result = c.sendRequest(request, resultMapper);
+                } catch (RuntimeException e) {
+                    // the breaker of the function must get the outcome of each permitted call, the call which cannot
+                    // be sent is a failure
+                    connectionManager.onCallCompleted(c, functionName, startedAt, new TarantoolConnectionException(e));
+                    throw e;
+                }
+                return result.whenComplete(
+                    (r, ex) -> connectionManager.onCallCompleted(c, functionName, startedAt, ex));
+            });
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -550,11 +641,13 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public void close() throws Exception {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
         try {
             connectionManager().close();
-            timeoutScheduler.shutdownNow();
         } finally {
-            eventLoopGroup.shutdownGracefully();
+            resources.release();
         }
     }
 
@@ -567,4 +660,55 @@ public abstract class AbstractTarantoolClient<T extends Packable, R extends Coll
     public ResultMapperFactoryFactory getResultMapperFactoryFactory() {
         return mapperFactoryFactory;
     }
+
+    /**
+     * Client view collecting the requests into a batch. The requests are sent to a single connection provided by the
+     * connection manager of the parent client when the batch is executed
+     */
+    private final class Batch extends AbstractTarantoolClient<T, R> implements TarantoolClientBatch<T, R> {
+
+        private final TarantoolRequestBatchCollector collector;
+
+        Batch(TarantoolRequestBatchCollector collector) {
+            super(AbstractTarantoolClient.this, collector);
+            this.collector = collector;
+        }
+
+        @Override
+        protected TarantoolConnectionManager connectionManager(
+            TarantoolClientConfig config,
+            TarantoolConnectionFactory connectionFactory,
+            TarantoolConnectionListeners listeners) {
+            return collector;
+        }
+
+        @Override
+        protected TarantoolSpaceOperations<T, R> spaceOperations(
+            TarantoolClientConfig config,
+            TarantoolConnectionManager connectionManager,
+            TarantoolMetadataOperations metadata,
+            TarantoolSpaceMetadata spaceMetadata) {
+            return AbstractTarantoolClient.this.spaceOperations(config, connectionManager, metadata, spaceMetadata);
+        }
+
+        @Override
+        public TarantoolClientBatch<T, R> batch() {
+            throw new UnsupportedOperationException("Nested batches are not supported");
+        }
+
+        @Override
+        public int size() {
+            return collector.size();
+        }
+
+        @Override
+        public CompletableFuture<Void> execute() throws TarantoolClientException {
+            return collector.execute();
+        }
+
+        @Override
+        public void close() {
+            // the resources are owned by the parent client
+        }
+    }
 }
@@ -5,6 +5,7 @@ import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolCallOperations;
 import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientBatch;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
@@ -69,7 +70,7 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
     private final TarantoolClient<T, R> client;
     private final ProxyOperationsMappingConfig mappingConfig;
     private final ProxyMetadataProvider metadataProvider;
-    private final AtomicReference<TarantoolMetadata> metadataHolder = new AtomicReference<>();
+    private final AtomicReference<TarantoolMetadata> metadataHolder;
 
     /**
      * Basic constructor
@@ -84,11 +85,27 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         this.client = decoratedClient;
         this.config = decoratedClient.getConfig();
         this.mappingConfig = mappingConfig;
+        this.metadataHolder = new AtomicReference<>();
         this.client.getConnectionListeners().clear();
         this.metadataProvider = new ProxyMetadataProvider(client, mappingConfig.getGetSchemaFunctionName(),
             DDLTarantoolSpaceMetadataConverter.getInstance(), DDLMetadataContainerResult.class);
     }
 
+    /**
+     * Create a client view sharing the configuration and metadata of the specified client, which sends the requests
+     * using the specified decorated client.
+     *
+     * @param client          the client to share the configuration and metadata with
+     * @param decoratedClient client for sending the requests
+     */
+    private ProxyTarantoolClient(ProxyTarantoolClient<T, R> client, TarantoolClient<T, R> decoratedClient) {
+        this.client = decoratedClient;
+        this.config = client.config;
+        this.mappingConfig = client.mappingConfig;
+        this.metadataHolder = client.metadataHolder;
+        this.metadataProvider = client.metadataProvider;
+    }
+
     @Override
     public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
         Assert.state(spaceId > 0, "Space ID must be greater than 0");
@@ -132,6 +149,20 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         TarantoolMetadataOperations metadata,
         TarantoolSpaceMetadata spaceMetadata);
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The proxy operations are added to a batch created by the decorated client, so it must support request batches.
+     */
+    @Override
+    public TarantoolClientBatch<T, R> batch() {
+        TarantoolClientBatch<T, R> batch = client.batch();
+        if (!(batch instanceof TarantoolClient)) {
+            throw new UnsupportedOperationException("Request batches are not supported by the decorated client");
+        }
+        return new Batch(batch);
+    }
+
     @Override
     public TarantoolMetadataOperations metadata() throws TarantoolClientException {
         if (metadataHolder.get() == null) {
@@ -429,6 +460,20 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
         return this.client.refresh();
     }
 
+    @Override
+    public CompletableFuture<Void> ready() {
+        CompletableFuture<Void> metadata;
+        try {
+            // the proxy metadata is loaded in parallel with warming up the wrapped client
+            metadata();
+            metadata = metadataHolder.get().prefetch();
+        } catch (Throwable e) {
+            metadata = new CompletableFuture<>();
+            metadata.completeExceptionally(e);
+        }
+        return CompletableFuture.allOf(client.ready(), metadata);
+    }
+
     @Override
     public void close() throws Exception {
         this.client.close();
@@ -451,4 +496,48 @@ public abstract class ProxyTarantoolClient<T extends Packable, R extends Collect
     TarantoolClient<T, R> getClient() {
         return client;
     }
+
+    /**
+     * Client view adding the proxy operations to a batch created by the decorated client
+     */
+    private final class Batch extends ProxyTarantoolClient<T, R> implements TarantoolClientBatch<T, R> {
+
+        private final TarantoolClientBatch<T, R> batch;
+
+        @SuppressWarnings("unchecked")
+        Batch(TarantoolClientBatch<T, R> batch) {
+            super(ProxyTarantoolClient.this, (TarantoolClient<T, R>) batch);
+            this.batch = batch;
+        }
+
+        @Override
+        protected TarantoolSpaceOperations<T, R> spaceOperations(
+            TarantoolClientConfig config,
+            TarantoolCallOperations client,
+            ProxyOperationsMappingConfig mappingConfig,
+            TarantoolMetadataOperations metadata,
+            TarantoolSpaceMetadata spaceMetadata) {
+            return ProxyTarantoolClient.this.spaceOperations(config, client, mappingConfig, metadata, spaceMetadata);
+        }
+
+        @Override
+        public TarantoolClientBatch<T, R> batch() {
+            throw new UnsupportedOperationException("Nested batches are not supported");
+        }
+
+        @Override
+        public int size() {
+            return batch.size();
+        }
+
+        @Override
+        public CompletableFuture<Void> execute() throws TarantoolClientException {
+            return batch.execute();
+        }
+
+        @Override
+        public void close() {
+            // the resources are owned by the parent client
+        }
+    }
 }
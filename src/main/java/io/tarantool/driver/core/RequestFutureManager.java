@@ -1,89 +1,182 @@
 package io.tarantool.driver.core;
 
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.EventExecutor;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * Keeps track of submitted requests, finishing them by timeout and allowing asynchronous request processing
+ * Keeps track of submitted requests, finishing them by timeout and allowing asynchronous request processing.
+ * <p>
+ * An instance of this class serves a single connection. The requests are registered when they are written to the
+ * connection channel, see {@link io.tarantool.driver.handlers.TarantoolRequestHandler}. The request IDs (sync IDs)
+ * are generated sequentially for each connection, and the requests in progress are kept in a table which is accessed
+ * only in the channel event loop. The request timeouts are tracked by a {@link Timer} and cancelled once the request
+ * is removed from the table. The timeout of a request with an operation deadline is limited by the time remaining
+ * until the deadline.
  *
  * @author Alexey Kuzin
  */
 public class RequestFutureManager implements AutoCloseable {
-    private final ScheduledExecutorService timeoutScheduler;
+    private final Timer timer;
     private final TarantoolClientConfig config;
-    private final Map<Long, TarantoolRequestMetadata> requestFutures = new ConcurrentHashMap<>();
+    private final RequestTable requests = new RequestTable();
+    private long lastSyncId;
+    private volatile EventExecutor executor;
 
     /**
      * Basic constructor.
      *
-     * @param config           tarantool client configuration
-     * @param timeoutScheduler scheduled executor for handling request timeouts
+     * @param config tarantool client configuration
+     * @param timer  timer for handling request timeouts
      */
-    public RequestFutureManager(TarantoolClientConfig config, ScheduledExecutorService timeoutScheduler) {
+    public RequestFutureManager(TarantoolClientConfig config, Timer timer) {
         this.config = config;
-        this.timeoutScheduler = timeoutScheduler;
+        this.timer = timer;
     }
 
     /**
-     * Submit a request ID for tracking. Provides a {@link CompletableFuture} for tracking the request completion.
-     * The request timeout is taken from the client configuration
+     * Prepare a request for tracking. The request is registered when the returned metadata is written to the
+     * connection channel. The request timeout is taken from the client configuration
      *
-     * @param request      request to Tarantool server
-     * @param resultMapper result message entity-to-object mapper
-     * @param <T>          target response body type
-     * @return {@link CompletableFuture} that completes when a response is received from Tarantool server
+     * @param request       request to Tarantool server
+     * @param requestFuture {@link CompletableFuture} that completes when a response is received from Tarantool server
+     * @param resultMapper  result message entity-to-object mapper
+     * @return request metadata to be written to the channel
      */
-    public <T> CompletableFuture<T> submitRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
-        return submitRequest(request, config.getRequestTimeout(), resultMapper);
+    public TarantoolRequestMetadata submitRequest(
+        TarantoolRequest request,
+        CompletableFuture<?> requestFuture,
+        MessagePackValueMapper resultMapper) {
+        return submitRequest(request, requestFuture, config.getRequestTimeout(), resultMapper);
     }
 
     /**
-     * Submit a request ID for tracking. Provides a {@link CompletableFuture} for tracking the request completion.
-     * The request timeout is taken from the client configuration
+     * Prepare a request for tracking. The request is registered when the returned metadata is written to the
+     * connection channel
      *
      * @param request        request to Tarantool server
+     * @param requestFuture  {@link CompletableFuture} that completes when a response is received from Tarantool
+     *                       server
      * @param requestTimeout timeout after which the request will be automatically failed, milliseconds
      * @param resultMapper   result message entity-to-object mapper
-     * @param <T>            target response body type
-     * @return {@link CompletableFuture} that completes when a response is received from Tarantool server
+     * @return request metadata to be written to the channel
      */
-    public <T> CompletableFuture<T> submitRequest(
+    public TarantoolRequestMetadata submitRequest(
         TarantoolRequest request,
+        CompletableFuture<?> requestFuture,
         int requestTimeout,
         MessagePackValueMapper resultMapper) {
-        CompletableFuture<T> requestFuture = new CompletableFuture<>();
-        long requestId = request.getHeader().getSync();
-        requestFuture.whenComplete((r, e) -> requestFutures.remove(requestId));
-        requestFutures.put(requestId, new TarantoolRequestMetadata(requestFuture, resultMapper));
-        timeoutScheduler.schedule(() -> {
+        return new TarantoolRequestMetadata(request, requestFuture, resultMapper, requestTimeout);
+    }
+
+    /**
+     * Prepare a batch of requests for tracking. The requests are registered when the returned metadata is written to
+     * the connection channel. The request timeouts are taken from the client configuration
+     *
+     * @param batch requests with their result futures and mappers
+     * @return batch metadata to be written to the channel
+     */
+    public TarantoolRequestBatchMetadata submitRequests(TarantoolRequestBatch batch) {
+        List<TarantoolRequestMetadata> requests = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            requests.add(submitRequest(
+                batch.getRequests().get(i), batch.getFutures().get(i), batch.getResultMappers().get(i)));
+        }
+        return new TarantoolRequestBatchMetadata(batch, requests);
+    }
+
+    /**
+     * Assign the next request ID to the request and start tracking it. Must be called in the channel event loop
+     *
+     * @param requestMeta request metadata
+     * @param executor    channel event loop
+     * @return the assigned request ID
+     */
+    public long registerRequest(TarantoolRequestMetadata requestMeta, EventExecutor executor) {
+        if (this.executor == null) {
+            this.executor = executor;
+        }
+        long requestId = lastSyncId = lastSyncId == Long.MAX_VALUE ? 1 : lastSyncId + 1;
+        requestMeta.getRequest().getHeader().setSync(requestId);
+        requests.put(requestId, requestMeta);
+
+        CompletableFuture<?> requestFuture = requestMeta.getFuture();
+        TarantoolDeadline deadline = requestMeta.getRequest().getDeadline();
+        // the response is useless after the operation deadline
+        long requestTimeout = deadline != null ?
+            Math.min(requestMeta.getRequestTimeout(), deadline.remaining()) : requestMeta.getRequestTimeout();
+        requestMeta.setTimeout(timer.newTimeout(timeout -> {
             if (!requestFuture.isDone()) {
                 requestFuture.completeExceptionally(new TimeoutException(String.format(
                     "Failed to get response for request id: %d within %d ms", requestId, requestTimeout)));
             }
-        }, requestTimeout, TimeUnit.MILLISECONDS);
-        return requestFuture;
+            try {
+                executor.execute(() -> removeRequest(requestId));
+            } catch (RejectedExecutionException e) {
+                // the event loop is shut down together with the table
+            }
+        }, requestTimeout, TimeUnit.MILLISECONDS));
+        return requestId;
     }
 
     /**
-     * Get a request me instance bound to the passed request ID
+     * Get a request meta instance bound to the passed request ID. Must be called in the channel event loop
      *
      * @param requestId ID of a request to Tarantool server (sync ID)
-     * @return {@link CompletableFuture} that completes when a response is received from Tarantool server
+     * @return request metadata or null, if the request is not registered
      */
-    public TarantoolRequestMetadata getRequest(Long requestId) {
-        return requestFutures.get(requestId);
+    public TarantoolRequestMetadata getRequest(long requestId) {
+        return requests.get(requestId);
+    }
+
+    /**
+     * Stop tracking the request bound to the passed request ID and cancel its timeout. Must be called in the channel
+     * event loop
+     *
+     * @param requestId ID of a request to Tarantool server (sync ID)
+     * @return request metadata or null, if the request is not registered
+     */
+    public TarantoolRequestMetadata removeRequest(long requestId) {
+        TarantoolRequestMetadata requestMeta = requests.remove(requestId);
+        if (requestMeta != null) {
+            Timeout timeout = requestMeta.getTimeout();
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+        return requestMeta;
+    }
+
+    private List<TarantoolRequestMetadata> getRequests() {
+        EventExecutor executor = this.executor;
+        if (executor == null) {
+            return Collections.emptyList();
+        }
+        if (executor.inEventLoop()) {
+            return requests.values();
+        }
+        try {
+            return executor.submit(requests::values).syncUninterruptibly().getNow();
+        } catch (RejectedExecutionException e) {
+            return Collections.emptyList();
+        }
     }
 
     @Override
     public void close() {
-        requestFutures.values().forEach(f -> f.getFuture().join());
+        getRequests().forEach(f -> f.getFuture().join());
     }
 }
@@ -0,0 +1,158 @@
+package io.tarantool.driver.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Open-addressing hash table of the requests in progress keyed by the request ID (sync ID). Uses linear probing with
+ * backward shift deletion, so the slots are reused without tombstones and no objects are allocated per entry.
+ * <p>
+ * The request IDs are generated sequentially for each connection, so they are distributed evenly over the slots
+ * without additional hashing. Not thread-safe, must be used only in the channel event loop.
+ *
+ * @author Alexey Kuzin
+ */
+final class RequestTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private TarantoolRequestMetadata[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Basic constructor.
+     */
+    RequestTable() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new TarantoolRequestMetadata[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        return (int) key & mask;
+    }
+
+    /**
+     * Get the request metadata by request ID
+     *
+     * @param key request ID
+     * @return request metadata or null, if no request with such ID is present
+     */
+    TarantoolRequestMetadata get(long key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Put the request metadata into the table, replacing the existing one with the same ID
+     *
+     * @param key   request ID
+     * @param value request metadata
+     */
+    void put(long key, TarantoolRequestMetadata value) {
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > (mask + 1) >> 1) {
+            resize((mask + 1) << 1);
+        }
+    }
+
+    /**
+     * Remove the request metadata from the table
+     *
+     * @param key request ID
+     * @return the removed request metadata or null, if no request with such ID is present
+     */
+    TarantoolRequestMetadata remove(long key) {
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                break;
+            }
+        }
+        TarantoolRequestMetadata value = values[i];
+        if (value == null) {
+            return null;
+        }
+        // shift the following entries of the same cluster back, so the lookups don't stop at the freed slot
+        for (int j = (i + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            if (((j - slot(keys[j])) & mask) >= ((j - i) & mask)) {
+                keys[i] = keys[j];
+                values[i] = values[j];
+                i = j;
+            }
+        }
+        values[i] = null;
+        size--;
+        if (mask + 1 > MIN_CAPACITY && size < (mask + 1) >> 3) {
+            resize((mask + 1) >> 1);
+        }
+        return value;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        TarantoolRequestMetadata[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int j = slot(oldKeys[i]);
+                while (values[j] != null) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Get the number of requests in the table
+     *
+     * @return number of requests
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Get the snapshot of the requests in the table
+     *
+     * @return list of request metadata
+     */
+    List<TarantoolRequestMetadata> values() {
+        List<TarantoolRequestMetadata> result = new ArrayList<>(size);
+        for (TarantoolRequestMetadata value : values) {
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the current number of slots in the table
+     *
+     * @return number of slots
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
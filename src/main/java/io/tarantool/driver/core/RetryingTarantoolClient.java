@@ -4,11 +4,13 @@ import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.api.MultiValueCallResult;
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolClient;
+import io.tarantool.driver.api.TarantoolClientBatch;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.api.metadata.TarantoolMetadataOperations;
 import io.tarantool.driver.api.metadata.TarantoolMetadataProvider;
+import io.tarantool.driver.api.retry.RequestHedgingPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
@@ -29,7 +31,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 /**
@@ -38,6 +40,9 @@ import java.util.function.Supplier;
  * <p>
  * Retry policy is applied before the possible exception is propagated to the user in the wrapping CompletableFuture.
  * Since that, the timeout specified for waiting the future result, bounds externally the overall operation time.
+ * <p>
+ * If a {@link RequestHedgingPolicy} is specified, each attempt of the idempotent operations (space selects and calls
+ * of the functions listed in {@link TarantoolClientConfig#getReadOnlyFunctions()}) is hedged.
  *
  * @param <T> target tuple type
  * @param <R> target tuple collection type
@@ -48,10 +53,12 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
 
     private final TarantoolClient<T, R> client;
     private final RequestRetryPolicyFactory retryPolicyFactory;
+    private final RequestHedgingPolicy hedgingPolicy;
     private final Executor executor;
 
     /**
-     * Basic constructor. {@link Executors#newWorkStealingPool()} is used for executor by default.
+     * Basic constructor. {@link ForkJoinPool#commonPool()} is used for executor by default. The executor is used only
+     * for the retries and hedges, the first attempt of each operation is started in the caller thread.
      *
      * @param decoratedClient    configured Tarantool client
      * @param retryPolicyFactory request retrying policy settings
@@ -59,7 +66,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
     public RetryingTarantoolClient(
         TarantoolClient<T, R> decoratedClient,
         RequestRetryPolicyFactory retryPolicyFactory) {
-        this(decoratedClient, retryPolicyFactory, Executors.newWorkStealingPool());
+        this(decoratedClient, retryPolicyFactory, ForkJoinPool.commonPool());
     }
 
     /**
@@ -73,8 +80,25 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         TarantoolClient<T, R> decoratedClient,
         RequestRetryPolicyFactory retryPolicyFactory,
         Executor executor) {
+        this(decoratedClient, retryPolicyFactory, null, executor);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param decoratedClient    configured Tarantool client
+     * @param retryPolicyFactory request retrying policy settings
+     * @param hedgingPolicy      request hedging policy for the idempotent operations, may be null
+     * @param executor           executor service for retry and hedging callbacks
+     */
+    public RetryingTarantoolClient(
+        TarantoolClient<T, R> decoratedClient,
+        RequestRetryPolicyFactory retryPolicyFactory,
+        RequestHedgingPolicy hedgingPolicy,
+        Executor executor) {
         this.client = decoratedClient;
         this.retryPolicyFactory = retryPolicyFactory;
+        this.hedgingPolicy = hedgingPolicy;
         this.executor = executor;
     }
 
@@ -97,14 +121,14 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
     public TarantoolSpaceOperations<T, R> space(String spaceName) throws TarantoolClientException {
         TarantoolSpaceOperations<T, R> wrappedSpace = getTarantoolSpaceOperationsRetrying(
             () -> client.space(spaceName));
-        return spaceOperations(wrappedSpace, retryPolicyFactory, executor);
+        return spaceOperations(wrappedSpace, retryPolicyFactory, hedgingPolicy, executor);
     }
 
     @Override
     public TarantoolSpaceOperations<T, R> space(int spaceId) throws TarantoolClientException {
         TarantoolSpaceOperations<T, R> wrappedSpace = getTarantoolSpaceOperationsRetrying(
             () -> client.space(spaceId));
-        return spaceOperations(wrappedSpace, retryPolicyFactory, executor);
+        return spaceOperations(wrappedSpace, retryPolicyFactory, hedgingPolicy, executor);
     }
 
     /**
@@ -120,6 +144,24 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         RequestRetryPolicyFactory retryPolicyFactory,
         Executor executor);
 
+    /**
+     * Creates a space API implementation instance for the specified space, with hedging of the select operations.
+     * The default implementation ignores the hedging policy, override it to support hedging.
+     *
+     * @param decoratedSpaceOperations space API implementation form the decorated Tarantool client instance
+     * @param retryPolicyFactory       request retrying policy factory
+     * @param hedgingPolicy            request hedging policy, may be null
+     * @param executor                 executor service for retry and hedging callbacks
+     * @return space API implementation instance
+     */
+    protected RetryingTarantoolSpace<T, R> spaceOperations(
+        TarantoolSpaceOperations<T, R> decoratedSpaceOperations,
+        RequestRetryPolicyFactory retryPolicyFactory,
+        RequestHedgingPolicy hedgingPolicy,
+        Executor executor) {
+        return spaceOperations(decoratedSpaceOperations, retryPolicyFactory, executor);
+    }
+
     @Override
     public TarantoolMetadataOperations metadata() throws TarantoolClientException {
         return client.metadata();
@@ -132,17 +174,17 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
 
     @Override
     public CompletableFuture<List<?>> call(String functionName) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName));
+        return wrapCall(functionName, () -> client.call(functionName));
     }
 
     @Override
     public CompletableFuture<List<?>> call(String functionName, Object... arguments) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments));
+        return wrapCall(functionName, () -> client.call(functionName, arguments));
     }
 
     @Override
     public CompletableFuture<List<?>> call(String functionName, List<?> arguments) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments));
+        return wrapCall(functionName, () -> client.call(functionName, arguments));
     }
 
     @Override
@@ -150,14 +192,14 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         List<?> arguments,
         MessagePackMapper mapper) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments, mapper));
+        return wrapCall(functionName, () -> client.call(functionName, arguments, mapper));
     }
 
     @Override
     public <T> CompletableFuture<TarantoolResult<T>> call(
         String functionName,
         Class<T> entityClass) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, entityClass));
+        return wrapCall(functionName, () -> client.call(functionName, entityClass));
     }
 
     @Override
@@ -165,7 +207,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, resultMapper));
+        return wrapCall(functionName, () -> client.call(functionName, resultMapper));
     }
 
     @Override
@@ -173,7 +215,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         List<?> arguments,
         Class<T> entityClass) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments, entityClass));
+        return wrapCall(functionName, () -> client.call(functionName, arguments, entityClass));
     }
 
     @Override
@@ -182,7 +224,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments, resultMapper));
+        return wrapCall(functionName, () -> client.call(functionName, arguments, resultMapper));
     }
 
     @Override
@@ -191,7 +233,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         MessagePackObjectMapper argumentsMapper,
         Class<T> entityClass) throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments, argumentsMapper, entityClass));
+        return wrapCall(functionName, () -> client.call(functionName, arguments, argumentsMapper, entityClass));
     }
 
     @Override
@@ -201,7 +243,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<TarantoolResult<T>, SingleValueCallResult<TarantoolResult<T>>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.call(functionName, arguments, argumentsMapper, resultMapper));
+        return wrapCall(functionName, () -> client.call(functionName, arguments, argumentsMapper, resultMapper));
     }
 
     @Override
@@ -210,7 +252,8 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         MessagePackObjectMapper argumentsMapper,
         Class<T> resultClass) throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, arguments, argumentsMapper, resultClass));
+        return wrapCall(functionName, () ->
+            client.callForSingleResult(functionName, arguments, argumentsMapper, resultClass));
     }
 
     @Override
@@ -220,7 +263,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() ->
+        return wrapCall(functionName, () ->
             client.callForSingleResult(functionName, arguments, argumentsMapper, valueConverter));
     }
 
@@ -231,13 +274,14 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, arguments, argumentsMapper, resultMapper));
+        return wrapCall(functionName, () ->
+            client.callForSingleResult(functionName, arguments, argumentsMapper, resultMapper));
     }
 
     @Override
     public <T> CompletableFuture<T> callForSingleResult(String functionName, List<?> arguments, Class<T> resultClass)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, arguments, resultClass));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, arguments, resultClass));
     }
 
     @Override
@@ -246,7 +290,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, arguments, valueConverter));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, arguments, valueConverter));
     }
 
     @Override
@@ -255,19 +299,19 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         List<?> arguments,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, arguments, resultMapper));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, arguments, resultMapper));
     }
 
     @Override
     public <T> CompletableFuture<T> callForSingleResult(String functionName, Class<T> resultClass)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, resultClass));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, resultClass));
     }
 
     @Override
     public <T> CompletableFuture<T> callForSingleResult(String functionName, ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, valueConverter));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, valueConverter));
     }
 
     @Override
@@ -275,7 +319,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         CallResultMapper<T, SingleValueCallResult<T>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForSingleResult(functionName, resultMapper));
+        return wrapCall(functionName, () -> client.callForSingleResult(functionName, resultMapper));
     }
 
     @Override
@@ -286,7 +330,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(
+        return wrapCall(functionName, () -> client.callForMultiResult(
             functionName, arguments, argumentsMapper, resultContainerSupplier, resultClass));
     }
 
@@ -298,7 +342,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(
+        return wrapCall(functionName, () -> client.callForMultiResult(
             functionName, arguments, argumentsMapper, resultContainerSupplier, valueConverter));
     }
 
@@ -309,7 +353,8 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         MessagePackObjectMapper argumentsMapper,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(functionName, arguments, argumentsMapper, resultMapper));
+        return wrapCall(functionName, () ->
+            client.callForMultiResult(functionName, arguments, argumentsMapper, resultMapper));
     }
 
     @Override
@@ -319,7 +364,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(
+        return wrapCall(functionName, () -> client.callForMultiResult(
             functionName, arguments, resultContainerSupplier, resultClass));
     }
 
@@ -330,7 +375,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(
+        return wrapCall(functionName, () -> client.callForMultiResult(
             functionName, arguments, resultContainerSupplier, valueConverter));
     }
 
@@ -339,7 +384,7 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         String functionName,
         List<?> arguments,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(functionName, arguments, resultMapper));
+        return wrapCall(functionName, () -> client.callForMultiResult(functionName, arguments, resultMapper));
     }
 
     @Override
@@ -348,7 +393,8 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         Class<T> resultClass)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(functionName, resultContainerSupplier, resultClass));
+        return wrapCall(functionName, () ->
+            client.callForMultiResult(functionName, resultContainerSupplier, resultClass));
     }
 
     @Override
@@ -357,14 +403,15 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         Supplier<R> resultContainerSupplier,
         ValueConverter<Value, T> valueConverter)
         throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(functionName, resultContainerSupplier, valueConverter));
+        return wrapCall(functionName, () ->
+            client.callForMultiResult(functionName, resultContainerSupplier, valueConverter));
     }
 
     @Override
     public <T, R extends List<T>> CompletableFuture<R> callForMultiResult(
         String functionName,
         CallResultMapper<R, MultiValueCallResult<T, R>> resultMapper) throws TarantoolClientException {
-        return wrapOperation(() -> client.callForMultiResult(functionName, resultMapper));
+        return wrapCall(functionName, () -> client.callForMultiResult(functionName, resultMapper));
     }
 
     @Override
@@ -410,11 +457,26 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return this.client.refresh();
     }
 
+    @Override
+    public CompletableFuture<Void> ready() {
+        return this.client.ready();
+    }
+
     @Override
     public void close() throws Exception {
         client.close();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The batch is created by the decorated client. The requests in the batch are not retried.
+     */
+    @Override
+    public TarantoolClientBatch<T, R> batch() {
+        return client.batch();
+    }
+
     /**
      * Getter for {@link RequestRetryPolicyFactory}
      *
@@ -433,15 +495,39 @@ public abstract class RetryingTarantoolClient<T extends Packable, R extends Coll
         return client;
     }
 
+    /**
+     * Getter for {@link RequestHedgingPolicy}
+     *
+     * @return {@link RequestHedgingPolicy} or null, if the operations are not hedged
+     */
+    protected RequestHedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
     private <S> CompletableFuture<S> wrapOperation(Supplier<CompletableFuture<S>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
     }
 
+    private <S> CompletableFuture<S> wrapCall(String functionName, Supplier<CompletableFuture<S>> operation) {
+        if (hedgingPolicy != null && client.getConfig().getReadOnlyFunctions().contains(functionName)) {
+            return wrapOperation(() -> hedgingPolicy.wrapOperation(operation, executor));
+        }
+        return wrapOperation(operation);
+    }
+
     private TarantoolSpaceOperations<T, R> getTarantoolSpaceOperationsRetrying(
         Supplier<TarantoolSpaceOperations<T, R>> spaceSupplier) {
         try {
-            return wrapOperation(() -> CompletableFuture.supplyAsync(spaceSupplier, executor)).get();
+            return wrapOperation(() -> {
+                CompletableFuture<TarantoolSpaceOperations<T, R>> spaceFuture = new CompletableFuture<>();
+                try {
+                    spaceFuture.complete(spaceSupplier.get());
+                } catch (Throwable e) {
+                    spaceFuture.completeExceptionally(e);
+                }
+                return spaceFuture;
+            }).get();
         } catch (InterruptedException e) {
             throw new CompletionException(e);
         } catch (ExecutionException e) {
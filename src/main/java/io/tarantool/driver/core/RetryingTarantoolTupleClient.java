@@ -2,6 +2,7 @@ package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolResult;
+import io.tarantool.driver.api.retry.RequestHedgingPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
@@ -42,6 +43,22 @@ public class RetryingTarantoolTupleClient
         super(decoratedClient, retryPolicyFactory, executor);
     }
 
+    /**
+     * Basic constructor
+     *
+     * @param decoratedClient    configured Tarantool client
+     * @param retryPolicyFactory request retrying policy settings
+     * @param hedgingPolicy      request hedging policy for the idempotent operations, may be null
+     * @param executor           executor service for retry and hedging callbacks
+     */
+    public RetryingTarantoolTupleClient(
+        TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> decoratedClient,
+        RequestRetryPolicyFactory retryPolicyFactory,
+        RequestHedgingPolicy hedgingPolicy,
+        Executor executor) {
+        super(decoratedClient, retryPolicyFactory, hedgingPolicy, executor);
+    }
+
     @Override
     protected RetryingTarantoolSpace<TarantoolTuple, TarantoolResult<TarantoolTuple>>
     spaceOperations(
@@ -49,4 +66,12 @@ public class RetryingTarantoolTupleClient
         RequestRetryPolicyFactory retryPolicyFactory, Executor executor) {
         return new RetryingTarantoolSpace<>(decoratedSpaceOperations, retryPolicyFactory, executor);
     }
+
+    @Override
+    protected RetryingTarantoolSpace<TarantoolTuple, TarantoolResult<TarantoolTuple>>
+    spaceOperations(
+        TarantoolSpaceOperations<TarantoolTuple, TarantoolResult<TarantoolTuple>> decoratedSpaceOperations,
+        RequestRetryPolicyFactory retryPolicyFactory, RequestHedgingPolicy hedgingPolicy, Executor executor) {
+        return new RetryingTarantoolSpace<>(decoratedSpaceOperations, retryPolicyFactory, hedgingPolicy, executor);
+    }
 }
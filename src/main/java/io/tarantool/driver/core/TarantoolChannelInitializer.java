@@ -3,7 +3,6 @@ package io.tarantool.driver.core;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.ssl.SslContext;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.api.TarantoolClientConfig;
@@ -14,6 +13,8 @@ import io.tarantool.driver.codecs.MessagePackFrameEncoder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.handlers.TarantoolAuthenticationHandler;
 import io.tarantool.driver.handlers.TarantoolAuthenticationResponseHandler;
+import io.tarantool.driver.handlers.TarantoolFlushConsolidationHandler;
+import io.tarantool.driver.handlers.TarantoolHeartbeatHandler;
 import io.tarantool.driver.handlers.TarantoolRequestHandler;
 import io.tarantool.driver.handlers.TarantoolResponseHandler;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
@@ -25,11 +26,23 @@ import java.util.concurrent.CompletableFuture;
  * <p>
  * - Adds authentication handler which accepts the Tarantool server greeting and sets up the pipeline when channel
  * is connect to the server;
- * - Sets up the necessary handlers and codecs.
+ * - Sets up the necessary handlers and codecs;
+ * - Adds the flush consolidation handler if it is enabled in the client config;
+ * - Adds the heartbeat handler if it is enabled in the client config.
  *
  * @author Alexey Kuzin
  */
-public class TarantoolChannelInitializer extends ChannelInitializer<SocketChannel> {
+public class TarantoolChannelInitializer extends ChannelInitializer<Channel> {
+
+    /**
+     * Name of the flush consolidation handler in the channel pipeline
+     */
+    public static final String FLUSH_CONSOLIDATION_HANDLER = "TarantoolFlushConsolidationHandler";
+
+    /**
+     * Name of the heartbeat handler in the channel pipeline
+     */
+    public static final String HEARTBEAT_HANDLER = "TarantoolHeartbeatHandler";
 
     private final TarantoolClientConfig config;
     private final TarantoolVersionHolder versionHolder;
@@ -48,11 +61,21 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
     }
 
     @Override
-    protected void initChannel(SocketChannel socketChannel) {
-        final ChannelPipeline pipeline = socketChannel.pipeline();
+    protected void initChannel(Channel channel) {
+        final ChannelPipeline pipeline = channel.pipeline();
 
         if (config.isSecure()) {
-            wrapForSecure(socketChannel, pipeline);
+            wrapForSecure(channel, pipeline);
+        }
+
+        if (config.getMaxBatchedWrites() > 0) {
+            pipeline.addLast(FLUSH_CONSOLIDATION_HANDLER, new TarantoolFlushConsolidationHandler(
+                config.getMaxBatchedWrites(), config.getMaxBatchDelay()));
+        }
+
+        if (config.getHeartbeatInterval() > 0) {
+            pipeline.addLast(HEARTBEAT_HANDLER, new TarantoolHeartbeatHandler(
+                futureManager, connectionFuture, config.getHeartbeatInterval(), config.getReadTimeout()));
         }
 
         // greeting and authentication (will be removed after successful authentication)
@@ -75,13 +98,13 @@ public class TarantoolChannelInitializer extends ChannelInitializer<SocketChanne
             .addLast("TarantoolResponseHandler", new TarantoolResponseHandler(futureManager));
     }
 
-    private void wrapForSecure(SocketChannel socketChannel, ChannelPipeline pipeline) {
+    private void wrapForSecure(Channel channel, ChannelPipeline pipeline) {
         final SslContext sslContext = config.getSslContext();
 
         if (sslContext == null) {
             throw new TarantoolClientException("Ssl context must not be null!");
         }
 
-        pipeline.addLast(sslContext.newHandler(socketChannel.alloc()));
+        pipeline.addLast(sslContext.newHandler(channel.alloc()));
     }
 }
@@ -1,15 +1,21 @@
 package io.tarantool.driver.core;
 
 import io.netty.handler.ssl.SslContext;
+import io.netty.util.Timer;
 import io.tarantool.driver.api.MessagePackMapperBuilder;
 import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientBuilder;
 import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolClientResources;
 import io.tarantool.driver.api.TarantoolClusterAddressProvider;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.api.connection.TarantoolRoutingMode;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.auth.SimpleTarantoolCredentials;
 import io.tarantool.driver.auth.TarantoolCredentials;
@@ -155,10 +161,112 @@ public class TarantoolClientBuilderImpl extends TarantoolClientConfiguratorImpl<
         return this;
     }
 
+    @Override
+    public TarantoolClientBuilder withTimer(Timer timer) {
+        this.configBuilder.withTimer(timer);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withFlushConsolidation(int maxBatchedWrites, long maxDelay) {
+        this.configBuilder.withFlushConsolidation(maxBatchedWrites, maxDelay);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withTransportType(TarantoolTransportType transportType) {
+        this.configBuilder.withTransportType(transportType);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withClientResources(TarantoolClientResources clientResources) {
+        this.configBuilder.withClientResources(clientResources);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withWriteBufferWaterMark(int low, int high) {
+        this.configBuilder.withWriteBufferWaterMark(low, high);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withMaxInFlightRequests(int maxInFlightRequests) {
+        this.configBuilder.withMaxInFlightRequests(maxInFlightRequests);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withOverloadPolicy(TarantoolOverloadPolicy overloadPolicy, int maxQueuedRequests) {
+        this.configBuilder.withOverloadPolicy(overloadPolicy).withMaxQueuedRequests(maxQueuedRequests);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withReconnectBackoff(long reconnectDelay, long maxReconnectDelay) {
+        this.configBuilder.withReconnectBackoff(reconnectDelay, maxReconnectDelay);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withWarmUp(double minHealthyConnectionsFraction) {
+        this.configBuilder.withWarmUp(minHealthyConnectionsFraction);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withWarmUp(double minHealthyConnectionsFraction, long warmUpTimeout) {
+        this.configBuilder.withWarmUp(minHealthyConnectionsFraction, warmUpTimeout);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withConnectionPoolAutoscaling(int minConnections, int maxConnections) {
+        this.configBuilder.withConnectionPoolAutoscaling(minConnections, maxConnections);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withConnectionPoolAutoscaling(
+        int minConnections, int maxConnections, int scaleUpThreshold, long idleTimeout) {
+        this.configBuilder.withConnectionPoolAutoscaling(minConnections, maxConnections, scaleUpThreshold, idleTimeout);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withHeartbeat(long heartbeatInterval) {
+        this.configBuilder.withHeartbeat(heartbeatInterval);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withRoutingMode(TarantoolRoutingMode routingMode, String localZone) {
+        this.configBuilder.withRoutingMode(routingMode, localZone);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withReadOnlyFunctions(String... functionNames) {
+        this.configBuilder.withReadOnlyFunctions(functionNames);
+        return this;
+    }
+
+    @Override
+    public TarantoolClientBuilder withCircuitBreaker(TarantoolCircuitBreakerConfig circuitBreakerConfig) {
+        this.configBuilder.withCircuitBreaker(circuitBreakerConfig);
+        return this;
+    }
+
     @Override
     public TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> build() {
         TarantoolClientConfig config = this.config != null ? this.config : this.configBuilder.build();
 
-        return super.decorate(new ClusterTarantoolTupleClient(config, this.addressProvider));
+        TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client =
+            super.decorate(new ClusterTarantoolTupleClient(config, this.addressProvider));
+        if (config.isWarmUp()) {
+            client.ready();
+        }
+        return client;
     }
 }
@@ -4,12 +4,14 @@ import io.tarantool.driver.api.TarantoolClient;
 import io.tarantool.driver.api.TarantoolClientConfigurator;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.proxy.ProxyOperationsMappingConfig;
+import io.tarantool.driver.api.retry.RequestHedgingPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.utils.Assert;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
@@ -24,9 +26,13 @@ import static io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies.retryN
 public class TarantoolClientConfiguratorImpl<SELF extends TarantoolClientConfigurator<SELF>>
     implements TarantoolClientConfigurator<SELF> {
 
+    // used when only the hedging is configured
+    private static final RequestRetryPolicyFactory NO_RETRY_POLICY_FACTORY = () -> throwable -> false;
+
     private final TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client;
 
     protected RequestRetryPolicyFactory retryPolicyFactory;
+    protected RequestHedgingPolicy hedgingPolicy;
     protected ProxyOperationsMappingConfig mappingConfig;
     protected Executor executor;
 
@@ -128,6 +134,18 @@ public class TarantoolClientConfiguratorImpl<SELF extends TarantoolClientConfigu
         return getSelf();
     }
 
+    @Override
+    public SELF withHedging(UnaryOperator<RequestHedgingPolicy.Builder> policy) {
+        return withHedging(policy.apply(RequestHedgingPolicy.builder()).build());
+    }
+
+    @Override
+    public SELF withHedging(RequestHedgingPolicy policy) {
+        Assert.notNull(policy, "Hedging policy should not be null");
+        this.hedgingPolicy = policy;
+        return getSelf();
+    }
+
     @Override
     public TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> build() {
         return decorate(this.client);
@@ -147,12 +165,11 @@ public class TarantoolClientConfiguratorImpl<SELF extends TarantoolClientConfigu
         if (this.mappingConfig != null) {
             client = new ProxyTarantoolTupleClient(client, this.mappingConfig);
         }
-        if (this.retryPolicyFactory != null) {
-            if (this.executor != null) {
-                client = new RetryingTarantoolTupleClient(client, this.retryPolicyFactory, executor);
-            } else {
-                client = new RetryingTarantoolTupleClient(client, this.retryPolicyFactory);
-            }
+        if (this.retryPolicyFactory != null || this.hedgingPolicy != null) {
+            RequestRetryPolicyFactory policyFactory =
+                this.retryPolicyFactory != null ? this.retryPolicyFactory : NO_RETRY_POLICY_FACTORY;
+            Executor retryExecutor = this.executor != null ? this.executor : ForkJoinPool.commonPool();
+            client = new RetryingTarantoolTupleClient(client, policyFactory, this.hedgingPolicy, retryExecutor);
         }
 
         return client;
@@ -0,0 +1,128 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Connection manager which collects the requests into a {@link TarantoolRequestBatch} instead of sending them.
+ * The provided connection only accepts the requests, they are sent to a real connection when the batch is executed.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolRequestBatchCollector implements TarantoolConnectionManager {
+
+    private final TarantoolConnectionManager connectionManager;
+    private final TarantoolRequestBatch batch = new TarantoolRequestBatch();
+    private final AtomicBoolean executed = new AtomicBoolean();
+    private final CompletableFuture<TarantoolConnection> collectingConnection =
+        CompletableFuture.completedFuture(new CollectingConnection());
+
+    /**
+     * Basic constructor.
+     *
+     * @param connectionManager connection manager providing the connection for sending the collected requests
+     */
+    TarantoolRequestBatchCollector(TarantoolConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public CompletableFuture<TarantoolConnection> getConnection() {
+        return collectingConnection;
+    }
+
+    @Override
+    public boolean refresh() {
+        return connectionManager.refresh();
+    }
+
+    /**
+     * Get the number of collected requests
+     *
+     * @return number of requests
+     */
+    int size() {
+        return batch.size();
+    }
+
+    /**
+     * Send the collected requests to a connection provided by the underlying connection manager
+     *
+     * @return future which completes when all the request futures complete
+     */
+    CompletableFuture<Void> execute() {
+        if (!executed.compareAndSet(false, true)) {
+            throw new TarantoolClientException("The batch has been already executed");
+        }
+        CompletableFuture<Void> result = CompletableFuture.allOf(
+            batch.getFutures().toArray(new CompletableFuture<?>[0]));
+        if (batch.isEmpty()) {
+            return result;
+        }
+        connectionManager.getConnection().thenAccept(c -> c.sendRequests(batch)).whenComplete((v, ex) -> {
+            if (ex != null) {
+                batch.getFutures().forEach(f -> f.completeExceptionally(ex));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private final class CollectingConnection implements TarantoolConnection {
+
+        @Override
+        public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+            throw new TarantoolClientException("The batch is not bound to a connection until it is executed");
+        }
+
+        @Override
+        public TarantoolVersion getVersion() throws TarantoolClientException {
+            throw new TarantoolClientException("The batch is not bound to a connection until it is executed");
+        }
+
+        @Override
+        public boolean isConnected() {
+            return !executed.get();
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            if (executed.get()) {
+                throw new TarantoolClientException("The batch has been already executed");
+            }
+            return batch.add(request, resultMapper);
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+
+import java.util.List;
+
+/**
+ * Intermediate request batch metadata holder
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestBatchMetadata {
+    private final TarantoolRequestBatch batch;
+    private final List<TarantoolRequestMetadata> requests;
+
+    protected TarantoolRequestBatchMetadata(TarantoolRequestBatch batch, List<TarantoolRequestMetadata> requests) {
+        this.batch = batch;
+        this.requests = requests;
+    }
+
+    public TarantoolRequestBatch getBatch() {
+        return batch;
+    }
+
+    public List<TarantoolRequestMetadata> getRequests() {
+        return requests;
+    }
+}
@@ -1,6 +1,8 @@
 package io.tarantool.driver.core;
 
+import io.netty.util.Timeout;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -10,12 +12,29 @@ import java.util.concurrent.CompletableFuture;
  * @author Alexey Kuzin
  */
 public class TarantoolRequestMetadata {
+    private final TarantoolRequest request;
     private final CompletableFuture<?> feature;
     private final MessagePackValueMapper mapper;
+    private final int requestTimeout;
+    private Timeout timeout;
 
     protected TarantoolRequestMetadata(CompletableFuture<?> feature, MessagePackValueMapper mapper) {
+        this(null, feature, mapper, 0);
+    }
+
+    protected TarantoolRequestMetadata(
+        TarantoolRequest request,
+        CompletableFuture<?> feature,
+        MessagePackValueMapper mapper,
+        int requestTimeout) {
+        this.request = request;
         this.feature = feature;
         this.mapper = mapper;
+        this.requestTimeout = requestTimeout;
+    }
+
+    public TarantoolRequest getRequest() {
+        return request;
     }
 
     public CompletableFuture<?> getFuture() {
@@ -25,4 +44,16 @@ public class TarantoolRequestMetadata {
     public MessagePackValueMapper getMapper() {
         return mapper;
     }
+
+    public int getRequestTimeout() {
+        return requestTimeout;
+    }
+
+    Timeout getTimeout() {
+        return timeout;
+    }
+
+    void setTimeout(Timeout timeout) {
+        this.timeout = timeout;
+    }
 }
@@ -2,10 +2,16 @@ package io.tarantool.driver.core;
 
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -32,6 +38,34 @@ public class TarantoolResultImpl<T> implements TarantoolResult<T> {
         setItems(value, valueConverter);
     }
 
+    /**
+     * Construct the result reading the items directly from the MessagePack stream
+     *
+     * @param unpacker       unpacker positioned at the items array start
+     * @param valueConverter converter for the result items
+     * @throws IOException if the items cannot be read
+     */
+    public TarantoolResultImpl(MessageUnpacker unpacker, MessageUnpackerConverter<T> valueConverter)
+        throws IOException {
+        // [[[],...]]
+        setItems(unpacker, valueConverter);
+    }
+
+    protected void setItems(MessageUnpacker unpacker, MessageUnpackerConverter<T> valueConverter)
+        throws IOException {
+        int size = unpacker.unpackArrayHeader();
+        List<T> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (unpacker.getNextFormat().getValueType() != ValueType.ARRAY) {
+                Value item = unpacker.unpackValue();
+                throw new TarantoolTupleConversionException(item, new MessageTypeCastException(
+                    String.format("Expected array value, but got %s", item.getValueType())));
+            }
+            items.add(valueConverter.fromUnpacker(unpacker));
+        }
+        this.tuples = items;
+    }
+
     protected void setItems(ArrayValue itemsArray, ValueConverter<ArrayValue, T> valueConverter) {
         this.tuples = itemsArray.list().stream()
             .map(v -> {
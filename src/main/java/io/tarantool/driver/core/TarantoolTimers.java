@@ -0,0 +1,52 @@
+package io.tarantool.driver.core;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Provides the timers for tracking the request and connection timeouts, retry delays and operation deadlines.
+ * <p>
+ * The timers are {@link HashedWheelTimer}s with a single daemon worker thread. Adding and cancelling a timeout are
+ * constant-time operations, and the cancelled timeouts are dropped from the wheel on the next tick, so the timeouts
+ * of the requests which have been completed in time do not pile up in the timer. The precision of the timeouts is
+ * limited by the tick duration (10 ms).
+ *
+ * <p>This class is not part of the public API.</p>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolTimers {
+
+    private static final long TICK_DURATION = 10; // milliseconds
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private TarantoolTimers() {
+    }
+
+    private static final class DefaultTimerHolder {
+        private static final Timer INSTANCE = newTimer("tarantool-timer");
+    }
+
+    /**
+     * Get the timer shared by all clients which don't have a custom timer configured and by the built-in request retry
+     * policies. The timer is never stopped, its worker thread is a daemon thread
+     *
+     * @return timer instance
+     */
+    public static Timer defaultTimer() {
+        return DefaultTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Create a new timer. The caller is responsible for stopping the timer when it is not needed anymore
+     *
+     * @param threadNamePrefix prefix for the timer worker thread name
+     * @return new timer instance
+     */
+    public static Timer newTimer(String threadNamePrefix) {
+        return new HashedWheelTimer(
+            new TarantoolDaemonThreadFactory(threadNamePrefix), TICK_DURATION, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+    }
+}
@@ -0,0 +1,173 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.utils.Assert;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.IntFunction;
+
+/**
+ * Provides the event loop groups and channel types for the specified network transport.
+ * <p>
+ * The native epoll transport classes are loaded reflectively, so the {@code netty-transport-native-epoll} artifact
+ * is an optional dependency. If it is not present on the classpath or the native library cannot be loaded on the
+ * current platform, the {@link TarantoolTransportType#AUTO} transport type falls back to NIO.
+ *
+ * <p>This class is not part of the public API.</p>
+ *
+ * @author Alexey Kuzin
+ */
+public final class TarantoolTransport {
+
+    private static final TarantoolTransport NIO_TRANSPORT = new TarantoolTransport(
+        TarantoolTransportType.NIO, NioEventLoopGroup::new, NioSocketChannel.class, null);
+
+    private final TarantoolTransportType type;
+    private final IntFunction<EventLoopGroup> eventLoopGroupFactory;
+    private final Class<? extends Channel> socketChannelClass;
+    private final Class<? extends Channel> domainSocketChannelClass;
+
+    private TarantoolTransport(
+        TarantoolTransportType type,
+        IntFunction<EventLoopGroup> eventLoopGroupFactory,
+        Class<? extends Channel> socketChannelClass,
+        Class<? extends Channel> domainSocketChannelClass) {
+        this.type = type;
+        this.eventLoopGroupFactory = eventLoopGroupFactory;
+        this.socketChannelClass = socketChannelClass;
+        this.domainSocketChannelClass = domainSocketChannelClass;
+    }
+
+    /**
+     * Get the transport for the specified transport type
+     *
+     * @param type transport type
+     * @return transport instance
+     * @throws TarantoolClientException if the epoll transport is requested explicitly, but it is not available
+     */
+    public static TarantoolTransport forType(TarantoolTransportType type) throws TarantoolClientException {
+        Assert.notNull(type, "Transport type must not be null");
+
+        switch (type) {
+            case EPOLL:
+                if (EpollHolder.INSTANCE == null) {
+                    throw new TarantoolClientException(
+                        "The epoll transport is not available", EpollHolder.UNAVAILABILITY_CAUSE);
+                }
+                return EpollHolder.INSTANCE;
+            case NIO:
+                return NIO_TRANSPORT;
+            default:
+                return EpollHolder.INSTANCE != null ? EpollHolder.INSTANCE : NIO_TRANSPORT;
+        }
+    }
+
+    /**
+     * Check if the native epoll transport can be used on the current platform
+     *
+     * @return true, if the epoll transport is available
+     */
+    public static boolean isEpollAvailable() {
+        return EpollHolder.INSTANCE != null;
+    }
+
+    /**
+     * Get the transport type
+     *
+     * @return transport type, either {@link TarantoolTransportType#NIO} or {@link TarantoolTransportType#EPOLL}
+     */
+    public TarantoolTransportType getType() {
+        return type;
+    }
+
+    /**
+     * Create a new event loop group for the transport
+     *
+     * @param threads number of event loop threads, 0 means the Netty's default
+     * @return new event loop group
+     */
+    public EventLoopGroup newEventLoopGroup(int threads) {
+        return eventLoopGroupFactory.apply(threads);
+    }
+
+    /**
+     * Get the channel type for TCP connections
+     *
+     * @return channel class
+     */
+    public Class<? extends Channel> getSocketChannelClass() {
+        return socketChannelClass;
+    }
+
+    /**
+     * Check if the transport supports the Unix domain sockets
+     *
+     * @return true, if the Unix domain socket connections can be established
+     */
+    public boolean isDomainSocketSupported() {
+        return domainSocketChannelClass != null;
+    }
+
+    /**
+     * Get the channel type for Unix domain socket connections
+     *
+     * @return channel class
+     * @throws TarantoolClientException if the transport does not support the Unix domain sockets
+     */
+    public Class<? extends Channel> getDomainSocketChannelClass() throws TarantoolClientException {
+        if (domainSocketChannelClass == null) {
+            throw new TarantoolClientException(
+                "Unix domain sockets are not supported by the %s transport, the epoll transport is required", type);
+        }
+        return domainSocketChannelClass;
+    }
+
+    private static final class EpollHolder {
+        private static final String EPOLL_PACKAGE = "io.netty.channel.epoll.";
+
+        private static final TarantoolTransport INSTANCE;
+        private static final Throwable UNAVAILABILITY_CAUSE;
+
+        static {
+            TarantoolTransport instance = null;
+            Throwable unavailabilityCause;
+            try {
+                Class<?> epoll = loadClass("Epoll");
+                unavailabilityCause = (Throwable) epoll.getMethod("unavailabilityCause").invoke(null);
+                if (unavailabilityCause == null) {
+                    instance = loadEpollTransport();
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                unavailabilityCause = e;
+            }
+            INSTANCE = instance;
+            UNAVAILABILITY_CAUSE = unavailabilityCause;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static TarantoolTransport loadEpollTransport() throws ReflectiveOperationException {
+            Constructor<? extends EventLoopGroup> groupConstructor =
+                ((Class<? extends EventLoopGroup>) loadClass("EpollEventLoopGroup")).getConstructor(int.class);
+            IntFunction<EventLoopGroup> groupFactory = threads -> {
+                try {
+                    return groupConstructor.newInstance(threads);
+                } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                    throw new TarantoolClientException("Failed to create the epoll event loop group", e);
+                }
+            };
+            return new TarantoolTransport(TarantoolTransportType.EPOLL, groupFactory,
+                (Class<? extends Channel>) loadClass("EpollSocketChannel"),
+                (Class<? extends Channel>) loadClass("EpollDomainSocketChannel"));
+        }
+
+        private static Class<?> loadClass(String name) throws ClassNotFoundException {
+            return Class.forName(EPOLL_PACKAGE + name, true, TarantoolTransport.class.getClassLoader());
+        }
+    }
+}
@@ -5,9 +5,11 @@ import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.exceptions.TarantoolTupleConversionException;
 import io.tarantool.driver.mappers.converters.value.ArrayValueToTarantoolTupleConverter;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.Value;
 
+import java.io.IOException;
 import java.util.stream.Collectors;
 
 /**
@@ -27,6 +29,18 @@ public class TarantoolTupleResultImpl extends TarantoolResultImpl<TarantoolTuple
         setItems(value.asArrayValue(), tupleConverter);
     }
 
+    /**
+     * Construct the result reading the tuples directly from the MessagePack stream
+     *
+     * @param unpacker       unpacker positioned at the tuples array start
+     * @param tupleConverter converter for the tuples
+     * @throws IOException if the tuples cannot be read
+     */
+    public TarantoolTupleResultImpl(MessageUnpacker unpacker, ArrayValueToTarantoolTupleConverter tupleConverter)
+        throws IOException {
+        setItems(unpacker, tupleConverter);
+    }
+
     private void setItems(
         ArrayValue tupleArray, TarantoolSpaceMetadata responseMetadata,
         ArrayValueToTarantoolTupleConverter tupleConverter) {
@@ -4,9 +4,11 @@ import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreaker;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import io.tarantool.driver.exceptions.TarantoolCircuitBreakerOpenException;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolConnectionException;
 import org.slf4j.Logger;
@@ -19,16 +21,27 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.Phaser;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * Contains basic connection establishing and selection strategy invocation algorithms. Subclasses must implement
  * the retrieving of Tarantool server addresses.
+ * <p>
+ * If the connection pool autoscaling is enabled (see {@link TarantoolClientConfig#isConnectionPoolAutoscaling()}),
+ * the load of each server is checked periodically. When the average number of outstanding requests per connection
+ * reaches the threshold, one more connection to the server is established, and when the load stays low during the
+ * idle timeout, one of the additional connections is closed.
+ * <p>
+ * If the circuit breakers are enabled (see {@link TarantoolClientConfig#getCircuitBreakerConfig()}), the connections
+ * to the endpoints with open breakers are skipped: the selection strategy is asked for another connection, and if
+ * all connections are rejected, the request fails fast with {@link TarantoolCircuitBreakerOpenException}.
  *
  * @author Alexey Kuzin
  */
@@ -38,13 +51,24 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
     private final TarantoolConnectionFactory connectionFactory;
     private final ConnectionSelectionStrategyFactory selectStrategyFactory;
     private final TarantoolConnectionListeners connectionListeners;
-    private Map<TarantoolServerAddress, List<TarantoolConnection>> connectionRegistry;
+    private volatile Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> connectionRegistry;
     private final AtomicReference<ConnectionSelectionStrategy> connectionSelectStrategy = new AtomicReference<>();
     // connection init sequence state
     private final AtomicReference<ConnectionMode> connectionMode = new AtomicReference<>(ConnectionMode.FULL);
-    // resettable barrier for preventing multiple threads from running into the connection init sequence
-    private final Phaser initPhaser = new Phaser(0);
+    // completes when the connection init sequence in progress finishes, null if there is no init sequence running
+    private final AtomicReference<CompletableFuture<Void>> initFuture = new AtomicReference<>();
+    private volatile boolean closed;
+    // guards the registry updates made by the connection pool autoscaling
+    private final Object registryLock = new Object();
+    private final AtomicBoolean autoscalingStarted = new AtomicBoolean();
+    // true while the connection pool of one of the servers is being resized
+    private final AtomicBoolean scaling = new AtomicBoolean();
+    // the last time when the load of a server was high enough for keeping all its connections
+    private final Map<TarantoolServerAddress, Long> lastBusyTimes = new ConcurrentHashMap<>();
+    // null if the circuit breakers are disabled
+    private final TarantoolCircuitBreakerRegistry circuitBreakers;
 
+    private static final long AUTOSCALING_INTERVAL = 100; // milliseconds
     private static final Logger logger = LoggerFactory.getLogger(AbstractTarantoolConnectionManager.class);
 
     /**
@@ -64,6 +88,8 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
         this.connectionSelectStrategy.set(selectStrategyFactory.create(config, Collections.emptyList()));
         this.connectionListeners = connectionListeners;
         this.connectionRegistry = new HashMap<>();
+        this.circuitBreakers = config.getCircuitBreakerConfig() != null ?
+            new TarantoolCircuitBreakerRegistry(config.getCircuitBreakerConfig()) : null;
     }
 
     /**
@@ -74,97 +100,305 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
      */
     protected abstract Collection<TarantoolServerAddress> getAddresses();
 
+    /**
+     * Get a connection for sending a request. The calling thread is never blocked: if the connection init sequence
+     * is in progress and there are no alive connections, the returned future completes once the sequence finishes.
+     * If the connections are established already, an already completed future is returned.
+     *
+     * @return connection future
+     */
     @Override
     public CompletableFuture<TarantoolConnection> getConnection() {
-        return getConnectionInternal().handle((connection, ex) -> {
+        return getConnection(false);
+    }
+
+    /**
+     * Get a connection for sending a request, taking into account the server roles and zones if they are used for
+     * routing (see {@link TarantoolClientConfig#getRoutingMode()}). The calling thread is never blocked.
+     *
+     * @param readOnly true, if the request does not modify data
+     * @return connection future
+     */
+    @Override
+    public CompletableFuture<TarantoolConnection> getConnection(boolean readOnly) {
+        return getConnection(readOnly, null);
+    }
+
+    /**
+     * Get a connection for calling a function. If the per-function circuit breakers are enabled, the connections to
+     * the endpoints with open breakers for this function are skipped.
+     *
+     * @param readOnly     true, if the function does not modify data
+     * @param functionName function name
+     * @return connection future
+     */
+    @Override
+    public CompletableFuture<TarantoolConnection> getConnection(boolean readOnly, String functionName) {
+        if (connectionMode.get() == ConnectionMode.OFF) {
+            try {
+                return CompletableFuture.completedFuture(selectNext(readOnly, functionName));
+            } catch (NoAvailableConnectionsException e) {
+                // all connections are lost, establish them again
+                connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.FULL);
+            } catch (TarantoolCircuitBreakerOpenException e) {
+                return failedFuture(e);
+            } catch (Throwable e) {
+                return failedFuture(new TarantoolConnectionException(e));
+            }
+        }
+        return getConnectionInternal(readOnly, functionName);
+    }
+
+    @Override
+    public void onCallCompleted(TarantoolConnection connection, String functionName, long startedAt,
+        Throwable error) {
+        if (circuitBreakers != null) {
+            circuitBreakers.onCallCompleted(connection, functionName, startedAt, error);
+        }
+    }
+
+    /**
+     * Get the circuit breaker of the server endpoint
+     *
+     * @param serverAddress Tarantool server address
+     * @return breaker or null, if the circuit breakers are disabled or there are no connections to the endpoint
+     */
+    public TarantoolCircuitBreaker getCircuitBreaker(TarantoolServerAddress serverAddress) {
+        return circuitBreakers != null ? circuitBreakers.getBreaker(serverAddress) : null;
+    }
+
+    /**
+     * Get the circuit breaker of the function called on the server endpoint
+     *
+     * @param serverAddress Tarantool server address
+     * @param functionName  function name
+     * @return breaker or null, if the per-function circuit breakers are disabled or the function has not been called
+     * on the endpoint
+     */
+    public TarantoolCircuitBreaker getCircuitBreaker(TarantoolServerAddress serverAddress, String functionName) {
+        return circuitBreakers != null ? circuitBreakers.getBreaker(serverAddress, functionName) : null;
+    }
+
+    private TarantoolConnection selectNext(boolean readOnly, String functionName)
+        throws NoAvailableConnectionsException {
+        ConnectionSelectionStrategy strategy = connectionSelectStrategy.get();
+        TarantoolCircuitBreakerRegistry breakers = circuitBreakers;
+        if (breakers == null) {
+            return selectNext(strategy, readOnly);
+        }
+        // each strategy visits all connections within this number of selections, except the random ones
+        int attempts = Math.max(breakers.size(), 1);
+        for (int i = 0; i < attempts; i++) {
+            TarantoolConnection connection = selectNext(strategy, readOnly);
+            if (breakers.tryAcquire(connection, functionName)) {
+                return connection;
+            }
+        }
+        throw new TarantoolCircuitBreakerOpenException(functionName);
+    }
+
+    private static TarantoolConnection selectNext(ConnectionSelectionStrategy strategy, boolean readOnly)
+        throws NoAvailableConnectionsException {
+        return strategy instanceof TarantoolRoutingStrategy ?
+            ((TarantoolRoutingStrategy) strategy).next(readOnly) : strategy.next();
+    }
+
+    @Override
+    public boolean refresh() {
+        boolean started = connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.PARTIAL);
+        if (started && config.isWarmUp()) {
+            // connect to the new servers right away instead of the next request
+            startInitSequence();
+        }
+        return started;
+    }
+
+    /**
+     * Establish the connections to all servers without waiting for a request. The lost connections are
+     * re-established in the background, so the returned future completes once the required fraction of them is
+     * connected again. If the connections are not established within the warm-up timeout, the returned future
+     * completes exceptionally.
+     *
+     * @param minHealthyFraction fraction of the connections which must be established for the returned future to
+     *                           complete, at least one connection is always required
+     * @return a future which completes when the required number of connections is established
+     */
+    @Override
+    public CompletableFuture<Void> warmUp(double minHealthyFraction) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getWarmUpTimeout());
+        CompletableFuture<Void> init = initFuture.get();
+        if (init == null) {
+            init = startInitSequence();
+        }
+        if (init == null) {
+            init = CompletableFuture.completedFuture(null);
+        }
+        init.whenComplete((v, ex) -> {
             if (ex != null) {
                 if (ex instanceof CompletionException) {
                     ex = ex.getCause();
                 }
-                if (ex instanceof NoAvailableConnectionsException) {
-                    connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.FULL);
-                }
-                throw new TarantoolConnectionException(ex);
+                result.completeExceptionally(new TarantoolConnectionException(ex));
+            } else {
+                awaitHealthyConnections(result, minHealthyFraction, deadline);
             }
-            return connection;
         });
+        return result;
     }
 
-    @Override
-    public boolean refresh() {
-        return connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.PARTIAL);
+    private void awaitHealthyConnections(CompletableFuture<Void> result, double minHealthyFraction, long deadline) {
+        if (closed) {
+            result.completeExceptionally(new TarantoolClientException("The connection manager is closed"));
+            return;
+        }
+        List<TarantoolReconnectingConnection> connections = connectionRegistry.values().stream()
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+        if (connections.isEmpty()) {
+            result.completeExceptionally(
+                new TarantoolConnectionException(new TarantoolClientException("No server addresses to connect to")));
+            return;
+        }
+        long connected = connections.stream().filter(TarantoolConnection::isConnected).count();
+        if (connected > 0 && connected >= Math.ceil(minHealthyFraction * connections.size())) {
+            logger.info("Connections are warmed up, {} of {} connections are established",
+                connected, connections.size());
+            result.complete(null);
+        } else if (deadline - System.nanoTime() <= 0) {
+            result.completeExceptionally(new TarantoolConnectionException(new TarantoolClientException(
+                "Failed to warm up the connections within %d ms, %d of %d connections are established",
+                config.getWarmUpTimeout(), connected, connections.size())));
+        } else {
+            // the lost connections are being re-established in the background
+            connectionFactory.timer.newTimeout(
+                timeout -> awaitHealthyConnections(result, minHealthyFraction, deadline),
+                config.getReconnectDelay(), TimeUnit.MILLISECONDS);
+        }
     }
 
-    private CompletableFuture<TarantoolConnection> getConnectionInternal() {
-        CompletableFuture<TarantoolConnection> result;
-        ConnectionMode currentMode = connectionMode.get();
-        if (initPhaser.getRegisteredParties() == 0 &&
-            (connectionMode.compareAndSet(ConnectionMode.FULL, ConnectionMode.IN_PROGRESS) ||
-                connectionMode.compareAndSet(ConnectionMode.PARTIAL, ConnectionMode.IN_PROGRESS))) {
-            AtomicReference<Map<TarantoolServerAddress, List<TarantoolConnection>>> currentRegistry =
-                new AtomicReference<>();
-            logger.debug("Current connection mode: {}", currentMode);
-            // Only one thread can reach to this line because of CAS. Rise up the barrier for 1 thread
-            if (currentMode == ConnectionMode.FULL) {
-                // We block the incoming requests until the connections are established and the registry is updated
-                initPhaser.register();
+    private CompletableFuture<TarantoolConnection> getConnectionInternal(boolean readOnly, String functionName) {
+        CompletableFuture<Void> init = initFuture.get();
+        if (init == null) {
+            init = startInitSequence();
+        }
+        if (init == null || init.isDone()) {
+            return selectConnection(readOnly, functionName);
+        }
+        // the alive connections may be used while the init sequence is in progress
+        try {
+            return CompletableFuture.completedFuture(selectNext(readOnly, functionName));
+        } catch (Throwable e) {
+            // no connections yet, wait for the init sequence to finish
+        }
+        CompletableFuture<TarantoolConnection> result = new CompletableFuture<>();
+        init.whenComplete((v, ex) -> {
+            if (ex != null) {
+                if (ex instanceof CompletionException) {
+                    ex = ex.getCause();
+                }
+                result.completeExceptionally(new TarantoolConnectionException(ex));
+            } else {
+                try {
+                    result.complete(nextConnection(readOnly, functionName));
+                } catch (TarantoolClientException e) {
+                    result.completeExceptionally(e);
+                }
             }
+        });
+        return result;
+    }
 
-            result = establishConnections()
-                .thenAccept(registry -> {
-                    if (currentMode == ConnectionMode.PARTIAL) {
-                        // We block the incoming requests just before updating the registry
-                        initPhaser.register();
-                    }
+    private CompletableFuture<TarantoolConnection> selectConnection(boolean readOnly, String functionName) {
+        try {
+            return CompletableFuture.completedFuture(nextConnection(readOnly, functionName));
+        } catch (TarantoolClientException e) {
+            return failedFuture(e);
+        }
+    }
 
-                    currentRegistry.set(connectionRegistry);
-                    // Add all alive connections
-                    connectionRegistry = registry;
-                    ConnectionSelectionStrategy strategy =
-                        selectStrategyFactory.create(config, registry.values().stream()
-                            .flatMap(Collection::stream)
-                            .collect(Collectors.toList()));
-                    connectionSelectStrategy.set(strategy);
-                })
-                .thenApply(v -> connectionSelectStrategy.get().next())
-                .whenComplete((v, ex) -> {
-                    if (ex != null) {
-                        // Connection attempt failed, signal the next thread coming for connection
-                        // to start the init sequence
-                        connectionMode.set(currentMode);
-                    } else {
-                        closeOldConnections(currentRegistry.get());
-                    }
-                    // Connection init sequence completed, release all waiting threads and lower the barrier
-                    initPhaser.arriveAndDeregister();
-                    connectionMode.compareAndSet(ConnectionMode.IN_PROGRESS, ConnectionMode.OFF);
-                });
-        } else {
-            // Wait until a thread finishes the init sequence and lowers the barrier. Once the barrier is lowered, the
-            // phaser advances to the next phase.
-            // As soon as all parties have arrived (register() is called once, so a single thread), all threads blocked
-            // on awaitAdvance() continue running. getPhase() in this case returns the last phase value before
-            // the termination.
-            initPhaser.awaitAdvance(initPhaser.getPhase());
-            // This call may produce NoAvailableConnectionsException if the connection attempt failed in all threads
-            // that waited for the init sequence completion on the line above.
-            // In this case the calling code may perform the request again.
-            result = new CompletableFuture<>();
-            try {
-                result.complete(connectionSelectStrategy.get().next());
-            } catch (Throwable t) {
-                result.completeExceptionally(t);
+    private TarantoolConnection nextConnection(boolean readOnly, String functionName)
+        throws TarantoolConnectionException, TarantoolCircuitBreakerOpenException {
+        try {
+            return selectNext(readOnly, functionName);
+        } catch (TarantoolCircuitBreakerOpenException e) {
+            throw e;
+        } catch (Throwable e) {
+            if (e instanceof NoAvailableConnectionsException) {
+                // let the next request start the init sequence
+                connectionMode.compareAndSet(ConnectionMode.OFF, ConnectionMode.FULL);
             }
+            throw new TarantoolConnectionException(e);
+        }
+    }
+
+    /**
+     * Start the connection init sequence if it is required and is not started by another thread yet
+     *
+     * @return init sequence future or null, if the init sequence is not required
+     */
+    private CompletableFuture<Void> startInitSequence() {
+        ConnectionMode currentMode = connectionMode.get();
+        if (currentMode != ConnectionMode.FULL && currentMode != ConnectionMode.PARTIAL) {
+            return initFuture.get();
         }
+        CompletableFuture<Void> init = new CompletableFuture<>();
+        if (!initFuture.compareAndSet(null, init)) {
+            // another thread has just started the init sequence
+            return initFuture.get();
+        }
+        if (!connectionMode.compareAndSet(currentMode, ConnectionMode.IN_PROGRESS)) {
+            // another thread has just finished the init sequence
+            initFuture.set(null);
+            init.complete(null);
+            return null;
+        }
+        logger.debug("Current connection mode: {}", currentMode);
+
+        Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> currentRegistry;
+        synchronized (registryLock) {
+            // the connections added by the autoscaling before this point are taken into account
+            currentRegistry = connectionRegistry;
+        }
+        establishConnections().whenComplete((registry, ex) -> {
+            if (ex != null) {
+                // Connection attempt failed, signal the next thread coming for connection
+                // to start the init sequence
+                connectionMode.set(currentMode);
+            } else {
+                // Add all alive connections
+                connectionRegistry = registry;
+                replaceSelectStrategy(registry);
+                closeOldConnections(currentRegistry);
+                connectionMode.compareAndSet(ConnectionMode.IN_PROGRESS, ConnectionMode.OFF);
+                if (config.isConnectionPoolAutoscaling() && autoscalingStarted.compareAndSet(false, true)) {
+                    scheduleAutoscaling();
+                }
+            }
+            // Connection init sequence completed, release all waiting requests
+            initFuture.set(null);
+            if (ex != null) {
+                init.completeExceptionally(ex);
+            } else {
+                init.complete(null);
+            }
+        });
+        return init;
+    }
+
+    private static <T> CompletableFuture<T> failedFuture(Throwable e) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        result.completeExceptionally(e);
         return result;
     }
 
-    private CompletableFuture<Map<TarantoolServerAddress, List<TarantoolConnection>>> establishConnections()
+    private CompletableFuture<Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>>> establishConnections()
         throws TarantoolClientException {
-        CompletableFuture<Map<TarantoolServerAddress, List<TarantoolConnection>>> result = new CompletableFuture<>();
+        CompletableFuture<Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>>> result =
+            new CompletableFuture<>();
         try {
-            List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> endpointConnections =
-                getConnections();
+            List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolReconnectingConnection>>>>
+                endpointConnections = getConnections();
             result = CompletableFuture
                 .allOf(endpointConnections.toArray(new CompletableFuture[0]))
                 .thenApply(v -> endpointConnections.parallelStream()
@@ -176,75 +410,78 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
         return result;
     }
 
-    private List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> getConnections() {
+    private List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolReconnectingConnection>>>>
+        getConnections() {
         Collection<TarantoolServerAddress> addresses = getAddresses();
         if (addresses == null) {
             addresses = Collections.emptyList();
             logger.debug("The list of server addresses is not defined");
         }
 
-        List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>>> endpointConnections =
-            new ArrayList<>(addresses.size());
+        List<CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolReconnectingConnection>>>>
+            endpointConnections = new ArrayList<>(addresses.size());
+        // the connection pools grown by the autoscaling are kept as is
+        int maxConnections = Math.max(config.getConnections(), config.getMaxConnections());
         for (TarantoolServerAddress serverAddress : addresses) {
-            List<TarantoolConnection> aliveConnections = getAliveConnections(serverAddress);
+            List<TarantoolReconnectingConnection> aliveConnections = getAliveConnections(serverAddress);
             if (aliveConnections.size() < config.getConnections()) {
-                CompletableFuture<Map.Entry<TarantoolServerAddress, List<TarantoolConnection>>> connectionFuture =
+                endpointConnections.add(
                     establishConnectionsToEndpoint(serverAddress,
                         config.getConnections() - aliveConnections.size())
                         .thenApply(connections -> {
                             connections.addAll(aliveConnections);
                             return new AbstractMap.SimpleEntry<>(serverAddress, connections);
-                        });
-                endpointConnections.add(connectionFuture);
-            } else if (aliveConnections.size() > config.getConnections()) {
-                int count = config.getConnections() - aliveConnections.size();
-                for (TarantoolConnection aliveConnection : aliveConnections) {
+                        }));
+            } else {
+                int count = aliveConnections.size() - maxConnections;
+                List<TarantoolReconnectingConnection> keptConnections = new ArrayList<>(aliveConnections.size());
+                for (TarantoolReconnectingConnection aliveConnection : aliveConnections) {
                     if (count-- > 0) {
                         try {
                             logger.info("Closing connection to {}, connections size is greater than {}",
-                                aliveConnection.getRemoteAddress(), config.getConnections());
+                                aliveConnection.getRemoteAddress(), maxConnections);
                             aliveConnection.close();
                         } catch (Exception e) {
                             logger.info("Failed to close the connection: {}", e.getMessage());
                         }
                     } else {
-                        break;
+                        keptConnections.add(aliveConnection);
                     }
                 }
-            } else {
                 endpointConnections.add(CompletableFuture.completedFuture(
-                    new AbstractMap.SimpleEntry<>(serverAddress, aliveConnections)));
+                    new AbstractMap.SimpleEntry<>(serverAddress, keptConnections)));
             }
         }
         return endpointConnections;
     }
 
-    private List<TarantoolConnection> getAliveConnections(TarantoolServerAddress serverAddress) {
-        List<TarantoolConnection> connections = connectionRegistry.getOrDefault(serverAddress, Collections.emptyList());
-        return connections.stream().filter(TarantoolConnection::isConnected).collect(Collectors.toList());
+    private List<TarantoolReconnectingConnection> getAliveConnections(TarantoolServerAddress serverAddress) {
+        List<TarantoolReconnectingConnection> connections =
+            connectionRegistry.getOrDefault(serverAddress, Collections.emptyList());
+        // the lost connections are re-established in the background, so all slots which are not closed are alive
+        return connections.stream()
+            .filter(c -> !c.isClosed())
+            .collect(Collectors.toList());
     }
 
-    private CompletableFuture<List<TarantoolConnection>> establishConnectionsToEndpoint(
+    private CompletableFuture<List<TarantoolReconnectingConnection>> establishConnectionsToEndpoint(
         TarantoolServerAddress serverAddress, int connectionCount) {
-        List<CompletableFuture<TarantoolConnection>> connections = connectionFactory
-            .multiConnection(serverAddress.getSocketAddress(), connectionCount, connectionListeners).stream()
-            .peek(cf -> cf.thenApply(conn -> {
-                    if (conn.isConnected()) {
+        List<CompletableFuture<TarantoolReconnectingConnection>> connections = connectionFactory
+            .multiConnection(serverAddress.toSocketAddress(), connectionCount, connectionListeners).stream()
+            .map(cf -> cf.thenApply(conn -> {
+                    if (conn != null && conn.isConnected()) {
                         logger.info("Connected to Tarantool server at {}", conn.getRemoteAddress());
                     }
-                    conn.addConnectionFailureListener((c, ex) -> {
-                        // Connection lost, signal the next thread coming
-                        // for connection to start the init sequence
-                        connectionMode.set(ConnectionMode.PARTIAL);
-                        try {
-                            c.close();
-                        } catch (Exception e) {
-                            logger.info("Failed to close the connection: {}", e.getMessage());
-                        }
-                    });
-                    conn.addConnectionCloseListener(
+                    // The lost connection is replaced in the background without affecting the other connections,
+                    // a failed connection attempt is repeated in the same way
+                    TarantoolReconnectingConnection slot = new TarantoolReconnectingConnection(
+                        config, serverAddress, connectionFactory, connectionListeners, connectionFactory.timer, conn);
+                    slot.addConnectionCloseListener(
                         c -> logger.info("Disconnected from {}", c.getRemoteAddress()));
-                    return conn;
+                    if (circuitBreakers != null) {
+                        circuitBreakers.register(serverAddress, slot);
+                    }
+                    return slot;
                 })
             )
             .collect(Collectors.toList());
@@ -252,11 +489,153 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
             .allOf(connections.toArray(new CompletableFuture[0]))
             .thenApply(v -> connections.parallelStream()
                 .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
                 .collect(Collectors.toList()));
     }
 
-    private void closeOldConnections(Map<TarantoolServerAddress, List<TarantoolConnection>> registry) {
+    private void scheduleAutoscaling() {
+        if (closed) {
+            return;
+        }
+        connectionFactory.timer.newTimeout(timeout -> {
+            try {
+                autoscale();
+            } catch (Throwable e) {
+                logger.warn("Failed to resize the connection pool: {}", e.getMessage());
+            } finally {
+                scheduleAutoscaling();
+            }
+        }, AUTOSCALING_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check the load of the servers and resize the connection pool of at most one server. The pools are resized
+     * only when the connection init sequence is not running
+     */
+    private void autoscale() {
+        if (closed || connectionMode.get() != ConnectionMode.OFF || !scaling.compareAndSet(false, true)) {
+            return;
+        }
+        boolean resizing = false;
+        try {
+            Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> registry = connectionRegistry;
+            lastBusyTimes.keySet().retainAll(registry.keySet());
+            long now = System.nanoTime();
+            long idleTimeout = TimeUnit.MILLISECONDS.toNanos(config.getConnectionIdleTimeout());
+            int threshold = config.getConnectionScaleUpThreshold();
+            for (Map.Entry<TarantoolServerAddress, List<TarantoolReconnectingConnection>> entry : registry.entrySet()) {
+                TarantoolServerAddress serverAddress = entry.getKey();
+                List<TarantoolReconnectingConnection> connections = entry.getValue();
+                int connected = 0;
+                long outstanding = 0;
+                for (TarantoolConnection connection : connections) {
+                    if (connection.isConnected()) {
+                        connected++;
+                        outstanding += connection.getOutstandingRequests();
+                    }
+                }
+                if (connected > 0 && connections.size() < config.getMaxConnections() &&
+                    outstanding >= (long) threshold * connected) {
+                    lastBusyTimes.put(serverAddress, now);
+                    resizing = true;
+                    addConnection(serverAddress, outstanding, connected);
+                    return;
+                }
+                // the outstanding requests fit into one connection less with a half of the threshold per connection
+                boolean idle = connections.size() > config.getConnections() &&
+                    outstanding * 2 < (long) threshold * (connections.size() - 1);
+                Long lastBusyTime = lastBusyTimes.putIfAbsent(serverAddress, now);
+                if (!idle) {
+                    lastBusyTimes.put(serverAddress, now);
+                } else if (lastBusyTime != null && now - lastBusyTime >= idleTimeout) {
+                    lastBusyTimes.put(serverAddress, now);
+                    removeConnection(serverAddress, connections);
+                    return;
+                }
+            }
+        } finally {
+            if (!resizing) {
+                scaling.set(false);
+            }
+        }
+    }
+
+    private void addConnection(TarantoolServerAddress serverAddress, long outstanding, int connected) {
+        logger.debug("{} outstanding requests in {} connections to {}, establishing a new connection",
+            outstanding, connected, serverAddress);
+        establishConnectionsToEndpoint(serverAddress, 1).whenComplete((connections, ex) -> {
+            try {
+                if (ex != null) {
+                    logger.warn("Failed to establish a new connection to {}: {}", serverAddress, ex.getMessage());
+                    return;
+                }
+                // a connection which has failed to connect is not worth keeping for the load peak
+                boolean connectedAll = connections.stream().allMatch(TarantoolConnection::isConnected);
+                if (!connectedAll || !updateRegistry(serverAddress, list -> list.addAll(connections))) {
+                    connections.forEach(AbstractTarantoolConnectionManager::closeConnection);
+                } else {
+                    logger.info("Added a connection to {} due to the high load", serverAddress);
+                }
+            } finally {
+                scaling.set(false);
+            }
+        });
+    }
+
+    private void removeConnection(
+        TarantoolServerAddress serverAddress, List<TarantoolReconnectingConnection> connections) {
+        // prefer the connection being re-established, then the least loaded one
+        TarantoolConnection victim = null;
+        for (TarantoolConnection connection : connections) {
+            if (!connection.isConnected()) {
+                victim = connection;
+                break;
+            }
+            if (victim == null || connection.getOutstandingRequests() < victim.getOutstandingRequests()) {
+                victim = connection;
+            }
+        }
+        TarantoolConnection removed = victim;
+        if (removed != null && updateRegistry(serverAddress, list -> list.remove(removed))) {
+            logger.info("Removing a connection to {} due to the low load", serverAddress);
+            // the requests which have been sent already are given the time to complete
+            connectionFactory.timer.newTimeout(timeout -> closeConnection(removed),
+                config.getRequestTimeout(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Change the connections to the server and replace the connection selection strategy. The registry is not
+     * changed if the connection init sequence is running or the manager is closed
+     *
+     * @param serverAddress server address
+     * @param update        function changing a copy of the server connections list
+     * @return true, if the registry has been changed
+     */
+    private boolean updateRegistry(
+        TarantoolServerAddress serverAddress, Consumer<List<TarantoolReconnectingConnection>> update) {
+        synchronized (registryLock) {
+            if (closed || connectionMode.get() != ConnectionMode.OFF ||
+                !connectionRegistry.containsKey(serverAddress)) {
+                return false;
+            }
+            Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> registry =
+                new HashMap<>(connectionRegistry);
+            List<TarantoolReconnectingConnection> connections = new ArrayList<>(registry.get(serverAddress));
+            update.accept(connections);
+            registry.put(serverAddress, connections);
+            connectionRegistry = registry;
+            replaceSelectStrategy(registry);
+            return true;
+        }
+    }
+
+    private void replaceSelectStrategy(Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> registry) {
+        ConnectionSelectionStrategy strategy = TarantoolRoutingStrategy.create(config, selectStrategyFactory, registry);
+        // the old strategy may still be used by the requests in progress, it only stops tracking the connections
+        connectionSelectStrategy.getAndSet(strategy).close();
+    }
+
+    private void closeOldConnections(Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> registry) {
         registry.forEach((key, value) -> {
             if (!connectionRegistry.containsKey(key)) {
                 value.forEach(AbstractTarantoolConnectionManager::closeConnection);
@@ -266,10 +645,21 @@ public abstract class AbstractTarantoolConnectionManager implements TarantoolCon
 
     @Override
     public void close() {
-        if (initPhaser.getRegisteredParties() > 0) {
-            initPhaser.awaitAdvance(initPhaser.getPhase());
+        closed = true;
+        CompletableFuture<Void> init = initFuture.get();
+        if (init != null) {
+            try {
+                init.join();
+            } catch (CompletionException e) {
+                // the connections are not established, nothing to close
+            }
+        }
+        Map<TarantoolServerAddress, List<TarantoolReconnectingConnection>> registry;
+        synchronized (registryLock) {
+            // no connections are added by the autoscaling after this point
+            registry = connectionRegistry;
         }
-        connectionRegistry.values().stream()
+        registry.values().stream()
             .flatMap(Collection::stream)
             .forEach(AbstractTarantoolConnectionManager::closeConnection);
     }
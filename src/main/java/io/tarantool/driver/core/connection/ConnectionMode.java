@@ -7,16 +7,17 @@ package io.tarantool.driver.core.connection;
  */
 public enum ConnectionMode {
     /**
-     * Block all requests before starting the init sequence. Enabled on start and when no connections
+     * Requests wait asynchronously for the init sequence to complete. Enabled on start and when no connections
      * are available
      */
     FULL,
     /**
-     * Do not block requests until the init sequence completes. Enabled when some connections are still alive
+     * Requests use the alive connections until the init sequence completes. Enabled when some connections are
+     * still alive
      */
     PARTIAL,
     /**
-     * Init sequence completed, requests will not block
+     * Init sequence completed, requests use the established connections
      */
     OFF,
 
@@ -0,0 +1,165 @@
+package io.tarantool.driver.core.connection;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreaker;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Holds the circuit breakers of the server endpoints and, optionally, of the functions called on them. The
+ * connection slots are bound to the breaker of their endpoint when they are created, so the breaker state survives
+ * the reconnects and the connection pool refreshes. The endpoint breakers are fed by the request completion and
+ * connection failure events of the slots, the function breakers are fed by the client with the function call
+ * outcomes.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolCircuitBreakerRegistry {
+
+    private final TarantoolCircuitBreakerConfig config;
+    private final Map<TarantoolServerAddress, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final Map<TarantoolConnection, Endpoint> slots = new ConcurrentHashMap<>();
+
+    TarantoolCircuitBreakerRegistry(TarantoolCircuitBreakerConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Bind a connection slot to the breaker of its endpoint
+     *
+     * @param serverAddress Tarantool server address
+     * @param slot          connection slot
+     */
+    void register(TarantoolServerAddress serverAddress, TarantoolConnection slot) {
+        Endpoint endpoint = endpoints.computeIfAbsent(serverAddress, address -> new Endpoint());
+        slots.put(slot, endpoint);
+        slot.addConnectionCloseListener(slots::remove);
+        slot.addConnectionFailureListener((c, e) -> endpoint.breaker.onFailure(System.nanoTime()));
+        slot.addRequestCompletionListener((c, latency, e) -> {
+            long startedAt = System.nanoTime() - latency;
+            if (e != null && isEndpointError(e)) {
+                endpoint.breaker.onFailure(startedAt);
+            } else {
+                // the server has responded, the errors of the called functions are accounted below
+                endpoint.breaker.onSuccess(startedAt);
+            }
+        });
+    }
+
+    /**
+     * Get the number of registered connection slots
+     *
+     * @return number of slots
+     */
+    int size() {
+        return slots.size();
+    }
+
+    /**
+     * Check if a request may be sent via the connection
+     *
+     * @param connection   connection slot
+     * @param functionName name of the called function or null, if the request is not a function call
+     * @return true, if the breakers of the connection endpoint and of the function let the request through
+     */
+    boolean tryAcquire(TarantoolConnection connection, String functionName) {
+        Endpoint endpoint = slots.get(connection);
+        if (endpoint == null) {
+            return true;
+        }
+        if (!endpoint.breaker.tryAcquire()) {
+            return false;
+        }
+        if (functionName == null || !config.isPerFunction()) {
+            return true;
+        }
+        if (!endpoint.getFunctionBreaker(functionName).tryAcquire()) {
+            endpoint.breaker.releasePermission();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record the outcome of a function call for the per-function breakers
+     *
+     * @param connection   connection slot the call was sent to
+     * @param functionName name of the called function
+     * @param startedAt    the time the call was sent, see {@link System#nanoTime()}
+     * @param error        call error or null, if the call has succeeded
+     */
+    void onCallCompleted(TarantoolConnection connection, String functionName, long startedAt, Throwable error) {
+        Endpoint endpoint = slots.get(connection);
+        if (endpoint == null || !config.isPerFunction()) {
+            return;
+        }
+        TarantoolCircuitBreaker breaker = endpoint.getFunctionBreaker(functionName);
+        if (error != null && (isEndpointError(error) || isServerError(error))) {
+            breaker.onFailure(startedAt);
+        } else {
+            breaker.onSuccess(startedAt);
+        }
+    }
+
+    /**
+     * Get the breaker of the endpoint
+     *
+     * @param serverAddress Tarantool server address
+     * @return breaker or null, if there are no connections to the endpoint
+     */
+    TarantoolCircuitBreaker getBreaker(TarantoolServerAddress serverAddress) {
+        Endpoint endpoint = endpoints.get(serverAddress);
+        return endpoint != null ? endpoint.breaker : null;
+    }
+
+    /**
+     * Get the breaker of the function called on the endpoint
+     *
+     * @param serverAddress Tarantool server address
+     * @param functionName  function name
+     * @return breaker or null, if the function has not been called on the endpoint
+     */
+    TarantoolCircuitBreaker getBreaker(TarantoolServerAddress serverAddress, String functionName) {
+        Endpoint endpoint = endpoints.get(serverAddress);
+        return endpoint != null ? endpoint.functions.get(functionName) : null;
+    }
+
+    private boolean isEndpointError(Throwable e) {
+        e = unwrap(e);
+        return e instanceof TimeoutException ||
+            e instanceof TarantoolTimeoutException ||
+            e instanceof TarantoolConnectionException ||
+            // without the per-function breakers, the errors of the servers behind the endpoint open its breaker
+            !config.isPerFunction() && isServerError(e);
+    }
+
+    private static boolean isServerError(Throwable e) {
+        e = unwrap(e);
+        return e instanceof TarantoolInternalNetworkException ||
+            e instanceof TarantoolOverloadException;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    private final class Endpoint {
+        private final TarantoolCircuitBreaker breaker = new TarantoolCircuitBreaker(config);
+        private final Map<String, TarantoolCircuitBreaker> functions = new ConcurrentHashMap<>();
+
+        TarantoolCircuitBreaker getFunctionBreaker(String functionName) {
+            TarantoolCircuitBreaker functionBreaker = functions.get(functionName);
+            return functionBreaker != null ? functionBreaker :
+                functions.computeIfAbsent(functionName, name -> new TarantoolCircuitBreaker(config));
+        }
+    }
+}
@@ -4,6 +4,10 @@ import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import io.tarantool.driver.TarantoolVersionHolder;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.connection.TarantoolConnection;
@@ -11,14 +15,14 @@ import io.tarantool.driver.api.connection.TarantoolConnectionListener;
 import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
 import io.tarantool.driver.core.RequestFutureManager;
 import io.tarantool.driver.core.TarantoolChannelInitializer;
+import io.tarantool.driver.core.TarantoolTransport;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -33,42 +37,66 @@ public class TarantoolConnectionFactory {
 
     protected final TarantoolClientConfig config;
     protected final Bootstrap bootstrap;
-    protected final ScheduledExecutorService timeoutScheduler;
+    protected final Timer timer;
+    private final TarantoolTransport transport;
     private final Logger logger = LoggerFactory.getLogger(getClass().getName());
 
     /**
      * Basic constructor.
      *
-     * @param config           Tarantool client config
-     * @param bootstrap        prepared Netty's bootstrap
-     * @param timeoutScheduler scheduled executor for limiting the connection tasks by timeout
+     * @param config    Tarantool client config
+     * @param bootstrap prepared Netty's bootstrap
+     * @param timer     timer for limiting the connection tasks and requests by timeout
+     */
+    public TarantoolConnectionFactory(TarantoolClientConfig config, Bootstrap bootstrap, Timer timer) {
+        this(config, bootstrap, timer, null);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param config    Tarantool client config
+     * @param bootstrap prepared Netty's bootstrap
+     * @param timer     timer for limiting the connection tasks and requests by timeout
+     * @param transport transport of the bootstrap event loop group. If null, it is determined by the client config
      */
     public TarantoolConnectionFactory(
-        TarantoolClientConfig config,
-        Bootstrap bootstrap,
-        ScheduledExecutorService timeoutScheduler) {
+        TarantoolClientConfig config, Bootstrap bootstrap, Timer timer, TarantoolTransport transport) {
         this.config = config;
         this.bootstrap = bootstrap;
-        this.timeoutScheduler = timeoutScheduler;
+        this.timer = timer;
+        this.transport = transport;
     }
 
     /**
-     * Create single connection and return connection future
+     * Create single connection and return connection future. If the server address is a {@link DomainSocketAddress},
+     * the connection is established over the Unix domain socket, which requires the epoll transport
      *
      * @param serverAddress       Tarantool server address to connect
      * @param connectionListeners listeners for the event of establishing the connection
      * @return connection future
      */
     public CompletableFuture<TarantoolConnection> singleConnection(
-        InetSocketAddress serverAddress,
+        SocketAddress serverAddress,
         TarantoolConnectionListeners connectionListeners) {
         CompletableFuture<Channel> connectionFuture = new CompletableFuture<>();
-        RequestFutureManager requestManager = new RequestFutureManager(config, timeoutScheduler);
+        RequestFutureManager requestManager = new RequestFutureManager(config, timer);
         TarantoolVersionHolder versionHolder = new TarantoolVersionHolder();
         TarantoolChannelInitializer handler = new TarantoolChannelInitializer(
             config, requestManager, versionHolder, connectionFuture);
 
-        ChannelFuture future = bootstrap.clone()
+        Bootstrap connectionBootstrap = bootstrap.clone();
+        if (serverAddress instanceof DomainSocketAddress) {
+            try {
+                connectionBootstrap = domainSocketBootstrap(connectionBootstrap);
+            } catch (TarantoolClientException e) {
+                CompletableFuture<TarantoolConnection> result = new CompletableFuture<>();
+                result.completeExceptionally(e);
+                return result;
+            }
+        }
+
+        ChannelFuture future = connectionBootstrap
             .handler(handler)
             .remoteAddress(serverAddress)
             .connect();
@@ -80,16 +108,17 @@ public class TarantoolConnectionFactory {
             }
         });
 
-        timeoutScheduler.schedule(() -> {
+        Timeout connectTimeout = timer.newTimeout(timeout -> {
             if (!connectionFuture.isDone()) {
                 connectionFuture.completeExceptionally(new TimeoutException(
                     String.format("Failed to connect to the Tarantool server at %s within %d ms",
                         serverAddress, config.getConnectTimeout())));
             }
         }, config.getConnectTimeout(), TimeUnit.MILLISECONDS);
+        connectionFuture.whenComplete((ch, ex) -> connectTimeout.cancel());
 
         CompletableFuture<TarantoolConnection> result = connectionFuture
-            .thenApply(ch -> new TarantoolConnectionImpl(requestManager, versionHolder, ch));
+            .thenApply(ch -> new TarantoolConnectionImpl(config, requestManager, versionHolder, ch));
 
         for (TarantoolConnectionListener listener : connectionListeners.all()) {
             result = result.thenCompose(listener::onConnection);
@@ -103,6 +132,16 @@ public class TarantoolConnectionFactory {
         });
     }
 
+    private Bootstrap domainSocketBootstrap(Bootstrap bootstrap) {
+        return bootstrap
+            .channel((transport != null ? transport : TarantoolTransport.forType(config.getTransportType()))
+                .getDomainSocketChannelClass())
+            // TCP options are not applicable to the Unix domain sockets
+            .option(ChannelOption.SO_KEEPALIVE, null)
+            .option(ChannelOption.TCP_NODELAY, null)
+            .option(ChannelOption.SO_REUSEADDR, null);
+    }
+
     /**
      * Create several connections and return their futures
      *
@@ -112,7 +151,7 @@ public class TarantoolConnectionFactory {
      * @return a collection with specified number of connection futures
      */
     public Collection<CompletableFuture<TarantoolConnection>> multiConnection(
-        InetSocketAddress serverAddress,
+        SocketAddress serverAddress,
         int connections,
         TarantoolConnectionListeners connectionListeners) {
         return Stream.generate(() -> serverAddress)
@@ -1,54 +1,116 @@
 package io.tarantool.driver.core.connection;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.unix.DomainSocketAddress;
 import io.tarantool.driver.TarantoolVersion;
 import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
 import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.api.connection.TarantoolRequestCompletionListener;
 import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolChannelInitializer;
 import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+import io.tarantool.driver.handlers.TarantoolHeartbeatHandler;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
+import java.net.SocketAddress;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TarantoolConnectionImpl implements TarantoolConnection {
 
+    /**
+     * Name of the handler which sends the queued requests when the connection becomes writable again
+     */
+    public static final String WRITABILITY_HANDLER = "TarantoolWritabilityHandler";
+
     protected final TarantoolVersionHolder versionHolder;
     protected final RequestFutureManager requestManager;
     protected final Channel channel;
+    private final TarantoolClientConfig config;
     private final AtomicBoolean connected = new AtomicBoolean(true);
-    private final List<TarantoolConnectionFailureListener> failureListeners = new ArrayList<>();
-    private final List<TarantoolConnectionCloseListener> closeListeners = new ArrayList<>();
+    private final List<TarantoolConnectionFailureListener> failureListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolConnectionCloseListener> closeListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolRequestCompletionListener> requestListeners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final Queue<PendingRequest<?>> pendingRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingRequestsCount = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
 
     private static final Logger logger = LoggerFactory.getLogger(TarantoolConnection.class);
 
+    /**
+     * Basic constructor. The connection uses the default overload settings
+     *
+     * @param requestManager request manager serving the connection
+     * @param versionHolder  Tarantool server version holder
+     * @param channel        connected channel
+     */
+    public TarantoolConnectionImpl(
+        RequestFutureManager requestManager,
+        TarantoolVersionHolder versionHolder,
+        Channel channel) {
+        this(new TarantoolClientConfig(), requestManager, versionHolder, channel);
+    }
+
+    /**
+     * Basic constructor.
+     *
+     * @param config         client config with the overload settings
+     * @param requestManager request manager serving the connection
+     * @param versionHolder  Tarantool server version holder
+     * @param channel        connected channel
+     */
     public TarantoolConnectionImpl(
+        TarantoolClientConfig config,
         RequestFutureManager requestManager,
         TarantoolVersionHolder versionHolder,
         Channel channel) {
+        this.config = config;
         this.requestManager = requestManager;
         this.versionHolder = versionHolder;
         this.channel = channel;
+        if (config.getOverloadPolicy() == TarantoolOverloadPolicy.QUEUE) {
+            channel.pipeline().addLast(WRITABILITY_HANDLER, new WritabilityHandler());
+        }
         channel.closeFuture().addListener(f -> {
             if (connected.compareAndSet(true, false)) {
                 for (TarantoolConnectionFailureListener listener : failureListeners) {
                     listener.onConnectionFailure(this, f.cause());
                 }
             }
+            failPendingRequests();
         });
     }
 
     @Override
     public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
-        return (InetSocketAddress) channel.remoteAddress();
+        SocketAddress remoteAddress = channel.remoteAddress();
+        if (remoteAddress instanceof DomainSocketAddress) {
+            return InetSocketAddress.createUnresolved(((DomainSocketAddress) remoteAddress).path(), 0);
+        }
+        return (InetSocketAddress) remoteAddress;
     }
 
     @Override
@@ -64,14 +126,87 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         return connected.get();
     }
 
+    @Override
+    public boolean isOverloaded() {
+        int maxInFlightRequests = config.getMaxInFlightRequests();
+        return !channel.isWritable() || maxInFlightRequests > 0 && inFlightRequests.get() >= maxInFlightRequests;
+    }
+
+    @Override
+    public int getOutstandingRequests() {
+        return inFlightRequests.get() + pendingRequestsCount.get();
+    }
+
+    @Override
+    public long getRoundTripTime() {
+        ChannelHandlerContext ctx = channel.pipeline().context(TarantoolChannelInitializer.HEARTBEAT_HANDLER);
+        return ctx != null ? ((TarantoolHeartbeatHandler) ctx.handler()).getRoundTripTime() : -1;
+    }
+
     @Override
     public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper, true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        return sendRequest(request, resultMapper, false);
+    }
+
+    @Override
+    public void sendRequests(TarantoolRequestBatch batch) {
         if (!isConnected()) {
             throw new TarantoolClientException("Not connected to Tarantool server");
         }
 
-        CompletableFuture<T> requestFuture = requestManager.submitRequest(request, resultMapper);
-        channel.writeAndFlush(request).addListener(f -> {
+        batch.getFutures().forEach(this::trackInFlight);
+        channel.write(requestManager.submitRequests(batch)).addListener(f -> {
+            if (!f.isSuccess()) {
+                for (CompletableFuture<?> requestFuture : batch.getFutures()) {
+                    requestFuture.completeExceptionally(
+                        new RuntimeException("Failed to send the request to Tarantool server", f.cause()));
+                }
+            } else {
+                logger.debug("Batch of {} requests sent, status Success", batch.size());
+            }
+        });
+        flush();
+    }
+
+    @Override
+    public void flush() {
+        // the explicit flush is not delayed by the flush consolidation
+        ChannelHandlerContext ctx = channel.pipeline().context(TarantoolChannelInitializer.FLUSH_CONSOLIDATION_HANDLER);
+        if (ctx != null) {
+            ctx.flush();
+        } else {
+            channel.flush();
+        }
+    }
+
+    private <T> CompletableFuture<T> sendRequest(
+        TarantoolRequest request, MessagePackValueMapper resultMapper, boolean flush) {
+        if (!isConnected()) {
+            throw new TarantoolClientException("Not connected to Tarantool server");
+        }
+
+        CompletableFuture<T> requestFuture = new CompletableFuture<>();
+        // the queued requests go first, so that the requests are sent in order
+        if (isOverloaded() || pendingRequestsCount.get() > 0) {
+            enqueue(new PendingRequest<>(request, resultMapper, requestFuture, flush));
+        } else {
+            write(request, resultMapper, requestFuture, config.getRequestTimeout(), flush);
+        }
+        return requestFuture;
+    }
+
+    private void write(
+        TarantoolRequest request, MessagePackValueMapper resultMapper, CompletableFuture<?> requestFuture,
+        int requestTimeout, boolean flush) {
+        trackInFlight(requestFuture);
+        Object requestMeta = requestManager.submitRequest(request, requestFuture, requestTimeout, resultMapper);
+        ChannelFuture writeFuture = flush ? channel.writeAndFlush(requestMeta) : channel.write(requestMeta);
+        writeFuture.addListener(f -> {
             if (!f.isSuccess()) {
                 requestFuture.completeExceptionally(
                     new RuntimeException("Failed to send the request to Tarantool server", f.cause()));
@@ -79,8 +214,114 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
                 logger.debug("Request {} sent, status Success", request.getHeader().getSync());
             }
         });
+    }
 
-        return requestFuture;
+    private void trackInFlight(CompletableFuture<?> requestFuture) {
+        int maxInFlightRequests = config.getMaxInFlightRequests();
+        long startTime = System.nanoTime();
+        inFlightRequests.incrementAndGet();
+        requestFuture.whenComplete((r, e) -> {
+            if (inFlightRequests.decrementAndGet() < maxInFlightRequests && pendingRequestsCount.get() > 0) {
+                scheduleDrain();
+            }
+            if (!requestListeners.isEmpty()) {
+                long latency = System.nanoTime() - startTime;
+                for (TarantoolRequestCompletionListener listener : requestListeners) {
+                    listener.onRequestCompleted(this, latency, e);
+                }
+            }
+        });
+    }
+
+    private void enqueue(PendingRequest<?> pendingRequest) {
+        if (config.getOverloadPolicy() != TarantoolOverloadPolicy.QUEUE) {
+            reject(pendingRequest, new TarantoolOverloadException(
+                "Connection to Tarantool server %s is overloaded", channel.remoteAddress()));
+            return;
+        }
+        if (pendingRequestsCount.incrementAndGet() > config.getMaxQueuedRequests()) {
+            pendingRequestsCount.decrementAndGet();
+            reject(pendingRequest, new TarantoolOverloadException(
+                "Connection to Tarantool server %s is overloaded, the queue of %d requests is full",
+                channel.remoteAddress(), config.getMaxQueuedRequests()));
+            return;
+        }
+        // the request timeout includes the time spent in the queue. The timeout is handled in the event loop, so that
+        // it does not race with the queue draining
+        pendingRequest.timeout = channel.eventLoop().schedule(
+            () -> expire(pendingRequest), config.getRequestTimeout(), TimeUnit.MILLISECONDS);
+        pendingRequests.add(pendingRequest);
+        // the connection may have become writable before the request was added to the queue
+        if (!isOverloaded() || !isConnected()) {
+            scheduleDrain();
+        }
+    }
+
+    // the listeners are notified about the requests which have not been sent as well, e.g. for releasing the probe
+    // permissions of the circuit breakers
+    private void reject(PendingRequest<?> pendingRequest, Throwable error) {
+        pendingRequest.future.completeExceptionally(error);
+        long latency = System.nanoTime() - pendingRequest.enqueuedAt;
+        for (TarantoolRequestCompletionListener listener : requestListeners) {
+            listener.onRequestCompleted(this, latency, error);
+        }
+    }
+
+    private void expire(PendingRequest<?> pendingRequest) {
+        if (pendingRequests.remove(pendingRequest)) {
+            pendingRequestsCount.decrementAndGet();
+            reject(pendingRequest, queueTimeoutException());
+        }
+    }
+
+    private TimeoutException queueTimeoutException() {
+        return new TimeoutException(String.format(
+            "Failed to send request within %d ms, the connection to Tarantool server %s is overloaded",
+            config.getRequestTimeout(), channel.remoteAddress()));
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            channel.eventLoop().execute(this::drainPendingRequests);
+        }
+    }
+
+    private void drainPendingRequests() {
+        drainScheduled.set(false);
+        if (!isConnected()) {
+            failPendingRequests();
+            return;
+        }
+        boolean flush = false;
+        while (!isOverloaded()) {
+            PendingRequest<?> pendingRequest = pendingRequests.poll();
+            if (pendingRequest == null) {
+                break;
+            }
+            pendingRequestsCount.decrementAndGet();
+            pendingRequest.timeout.cancel(false);
+            long queuedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pendingRequest.enqueuedAt);
+            int requestTimeout = (int) (config.getRequestTimeout() - queuedTime);
+            if (requestTimeout <= 0) {
+                reject(pendingRequest, queueTimeoutException());
+                continue;
+            }
+            write(pendingRequest.request, pendingRequest.resultMapper, pendingRequest.future, requestTimeout, false);
+            flush |= pendingRequest.flush;
+        }
+        if (flush) {
+            flush();
+        }
+    }
+
+    private void failPendingRequests() {
+        PendingRequest<?> pendingRequest;
+        while ((pendingRequest = pendingRequests.poll()) != null) {
+            pendingRequestsCount.decrementAndGet();
+            pendingRequest.timeout.cancel(false);
+            reject(pendingRequest, new TarantoolConnectionException(
+                new TarantoolClientException("Connection to Tarantool server is closed")));
+        }
     }
 
     @Override
@@ -93,11 +334,31 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         failureListeners.add(listener);
     }
 
+    @Override
+    public void removeConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.remove(listener);
+    }
+
+    @Override
+    public void addRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.add(listener);
+    }
+
+    @Override
+    public void removeRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.remove(listener);
+    }
+
     @Override
     public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
         closeListeners.add(listener);
     }
 
+    @Override
+    public void removeConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.remove(listener);
+    }
+
     @Override
     public void close() {
         connected.set(false);
@@ -108,4 +369,35 @@ public class TarantoolConnectionImpl implements TarantoolConnection {
         channel.pipeline().close();
         channel.closeFuture().syncUninterruptibly();
     }
+
+    private final class WritabilityHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel().isWritable() && pendingRequestsCount.get() > 0) {
+                drainPendingRequests();
+            }
+            ctx.fireChannelWritabilityChanged();
+        }
+    }
+
+    private static final class PendingRequest<T> {
+        private final TarantoolRequest request;
+        private final MessagePackValueMapper resultMapper;
+        private final CompletableFuture<T> future;
+        private final boolean flush;
+        private final long enqueuedAt = System.nanoTime();
+        // assigned before the request is added to the queue
+        private ScheduledFuture<?> timeout;
+
+        PendingRequest(
+            TarantoolRequest request,
+            MessagePackValueMapper resultMapper,
+            CompletableFuture<T> future,
+            boolean flush) {
+            this.request = request;
+            this.resultMapper = resultMapper;
+            this.future = future;
+            this.flush = flush;
+        }
+    }
 }
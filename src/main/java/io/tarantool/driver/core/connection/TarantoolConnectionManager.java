@@ -19,10 +19,58 @@ public interface TarantoolConnectionManager extends AutoCloseable {
      */
     CompletableFuture<TarantoolConnection> getConnection();
 
+    /**
+     * Get an established connection for a request. The read-only requests may be routed to other servers than the
+     * writes, see {@link io.tarantool.driver.api.connection.TarantoolRoutingMode}
+     *
+     * @param readOnly true, if the request does not modify data
+     * @return a future with next connection in order
+     */
+    default CompletableFuture<TarantoolConnection> getConnection(boolean readOnly) {
+        return getConnection();
+    }
+
+    /**
+     * Get an established connection for a function call. The connections may be selected taking into account the
+     * circuit breakers of the function, see {@link io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig}
+     *
+     * @param readOnly     true, if the function does not modify data
+     * @param functionName function name
+     * @return a future with next connection in order
+     */
+    default CompletableFuture<TarantoolConnection> getConnection(boolean readOnly, String functionName) {
+        return getConnection(readOnly);
+    }
+
+    /**
+     * Record the outcome of a function call made via a connection returned by
+     * {@link #getConnection(boolean, String)}
+     *
+     * @param connection   connection the call was sent to
+     * @param functionName function name
+     * @param startedAt    the time the call was sent, see {@link System#nanoTime()}
+     * @param error        call error or null, if the call has succeeded
+     */
+    default void onCallCompleted(TarantoolConnection connection, String functionName, long startedAt,
+        Throwable error) {
+    }
+
     /**
      * Starts the process of establishing lacking connections to each host
      *
      * @return returns true if the establishing process has been started, else false
      */
     boolean refresh();
+
+    /**
+     * Establish the connections to all hosts without waiting for a request. If the connection procedure is in
+     * progress already, waits for it.
+     *
+     * @param minHealthyFraction fraction of the connections which must be established for the returned future to
+     *                           complete, at least one connection is always required
+     * @return a future which completes when the required number of connections is established
+     */
+    default CompletableFuture<Void> warmUp(double minHealthyFraction) {
+        return getConnection().thenApply(connection -> null);
+    }
 }
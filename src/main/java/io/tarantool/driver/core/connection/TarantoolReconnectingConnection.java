@@ -0,0 +1,328 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.Channel;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.api.connection.TarantoolRequestCompletionListener;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Connection slot occupied by one connection to a Tarantool server. When the underlying connection is lost, it is
+ * replaced in the background: the attempts to establish a new connection are made with exponential backoff, and the
+ * new connection is swapped in atomically once it is established. Until then the slot is reported as not connected,
+ * so the selection strategies skip it, while the strategies and the other connections stay untouched.
+ * <p>
+ * The close listeners are notified only when the slot itself is closed, the failure listeners are notified each
+ * time the underlying connection is lost.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolReconnectingConnection implements TarantoolConnection {
+
+    private static final Logger logger = LoggerFactory.getLogger(TarantoolReconnectingConnection.class);
+
+    private final TarantoolServerAddress serverAddress;
+    private final TarantoolConnectionFactory connectionFactory;
+    private final TarantoolConnectionListeners connectionListeners;
+    private final Timer timer;
+    private final long reconnectDelay;
+    private final long maxReconnectDelay;
+    private final AtomicReference<TarantoolConnection> connection = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final List<TarantoolConnectionFailureListener> failureListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolConnectionCloseListener> closeListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolRequestCompletionListener> requestListeners = new CopyOnWriteArrayList<>();
+    private volatile long nextReconnectDelay;
+    private volatile Timeout reconnectTimeout;
+
+    /**
+     * Basic constructor.
+     *
+     * @param config              Tarantool client config
+     * @param serverAddress       Tarantool server address
+     * @param connectionFactory   factory for the new connections
+     * @param connectionListeners listeners for the event of establishing the connection
+     * @param timer               timer for scheduling the reconnect attempts
+     * @param connection          established connection or null, if the connection attempt has failed
+     */
+    TarantoolReconnectingConnection(
+        TarantoolClientConfig config,
+        TarantoolServerAddress serverAddress,
+        TarantoolConnectionFactory connectionFactory,
+        TarantoolConnectionListeners connectionListeners,
+        Timer timer,
+        TarantoolConnection connection) {
+        this.serverAddress = serverAddress;
+        this.connectionFactory = connectionFactory;
+        this.connectionListeners = connectionListeners;
+        this.timer = timer;
+        this.reconnectDelay = config.getReconnectDelay();
+        this.maxReconnectDelay = Math.max(config.getMaxReconnectDelay(), reconnectDelay);
+        this.nextReconnectDelay = reconnectDelay;
+        if (connection != null) {
+            swapIn(connection);
+        } else {
+            scheduleReconnect();
+        }
+    }
+
+    /**
+     * Check if the slot is closed. A closed slot does not try to re-establish the connection anymore
+     *
+     * @return true, if the slot is closed
+     */
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    private void swapIn(TarantoolConnection newConnection) {
+        connection.set(newConnection);
+        newConnection.addConnectionFailureListener(this::onConnectionFailure);
+        newConnection.addRequestCompletionListener(this::onRequestCompleted);
+        if (!newConnection.isConnected()) {
+            // the connection has been lost before the listener was added
+            onConnectionFailure(newConnection, null);
+        } else if (closed.get() && connection.compareAndSet(newConnection, null)) {
+            // the slot has been closed concurrently
+            closeConnection(newConnection);
+        }
+    }
+
+    private void onConnectionFailure(TarantoolConnection failedConnection, Throwable e) {
+        if (!connection.compareAndSet(failedConnection, null)) {
+            return;
+        }
+        logger.info("Connection to {} is lost, reconnecting", serverAddress);
+        for (TarantoolConnectionFailureListener listener : failureListeners) {
+            listener.onConnectionFailure(this, e);
+        }
+        closeConnection(failedConnection);
+        nextReconnectDelay = reconnectDelay;
+        scheduleReconnect();
+    }
+
+    private void onRequestCompleted(TarantoolConnection completedConnection, long latencyNanos, Throwable error) {
+        for (TarantoolRequestCompletionListener listener : requestListeners) {
+            listener.onRequestCompleted(this, latencyNanos, error);
+        }
+    }
+
+    private void scheduleReconnect() {
+        if (closed.get()) {
+            return;
+        }
+        long delay = nextReconnectDelay;
+        nextReconnectDelay = Math.min(delay * 2, maxReconnectDelay);
+        reconnectTimeout = timer.newTimeout(timeout -> reconnect(), delay, TimeUnit.MILLISECONDS);
+        if (closed.get()) {
+            reconnectTimeout.cancel();
+        }
+    }
+
+    private void reconnect() {
+        if (closed.get()) {
+            return;
+        }
+        CompletableFuture<TarantoolConnection> connectionFuture;
+        try {
+            connectionFuture = connectionFactory.singleConnection(serverAddress.toSocketAddress(), connectionListeners);
+        } catch (Throwable e) {
+            logger.warn("Failed to reconnect to {}: {}", serverAddress, e.getMessage());
+            scheduleReconnect();
+            return;
+        }
+        connectionFuture.whenComplete((newConnection, ex) -> {
+            if (newConnection == null || !newConnection.isConnected()) {
+                if (newConnection != null) {
+                    closeConnection(newConnection);
+                }
+                scheduleReconnect();
+            } else if (closed.get()) {
+                closeConnection(newConnection);
+            } else {
+                logger.info("Reconnected to Tarantool server at {}", serverAddress);
+                swapIn(newConnection);
+            }
+        });
+    }
+
+    private TarantoolConnection getConnection() throws TarantoolConnectionException {
+        TarantoolConnection current = connection.get();
+        if (current == null) {
+            throw new TarantoolConnectionException(
+                new TarantoolClientException("Connection to %s is lost, reconnecting", serverAddress));
+        }
+        return current;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() throws TarantoolClientException {
+        TarantoolConnection current = connection.get();
+        return current != null ? current.getRemoteAddress() :
+            InetSocketAddress.createUnresolved(serverAddress.getHost(), serverAddress.getPort());
+    }
+
+    @Override
+    public TarantoolServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    @Override
+    public TarantoolVersion getVersion() throws TarantoolClientException {
+        return getConnection().getVersion();
+    }
+
+    @Override
+    public boolean isConnected() {
+        TarantoolConnection current = connection.get();
+        return !closed.get() && current != null && current.isConnected();
+    }
+
+    @Override
+    public boolean isOverloaded() {
+        TarantoolConnection current = connection.get();
+        return current != null && current.isOverloaded();
+    }
+
+    @Override
+    public int getOutstandingRequests() {
+        TarantoolConnection current = connection.get();
+        return current != null ? current.getOutstandingRequests() : 0;
+    }
+
+    @Override
+    public long getRoundTripTime() {
+        TarantoolConnection current = connection.get();
+        return current != null ? current.getRoundTripTime() : -1;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        try {
+            return getConnection().sendRequest(request, resultMapper);
+        } catch (RuntimeException e) {
+            onRequestRejected(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> writeRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        try {
+            return getConnection().writeRequest(request, resultMapper);
+        } catch (RuntimeException e) {
+            onRequestRejected(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void sendRequests(TarantoolRequestBatch batch) {
+        try {
+            getConnection().sendRequests(batch);
+        } catch (RuntimeException e) {
+            onRequestRejected(e);
+            throw e;
+        }
+    }
+
+    // the listeners are notified about the requests which have not been sent as well, e.g. for releasing the probe
+    // permissions of the circuit breakers. The connection has been lost, if it does not accept the requests
+    private void onRequestRejected(RuntimeException e) {
+        Throwable error = e instanceof TarantoolConnectionException ? e : new TarantoolConnectionException(e);
+        for (TarantoolRequestCompletionListener listener : requestListeners) {
+            listener.onRequestCompleted(this, 0, error);
+        }
+    }
+
+    @Override
+    public void flush() {
+        TarantoolConnection current = connection.get();
+        if (current != null) {
+            current.flush();
+        }
+    }
+
+    @Override
+    public Channel getChannel() {
+        TarantoolConnection current = connection.get();
+        return current != null ? current.getChannel() : null;
+    }
+
+    @Override
+    public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.remove(listener);
+    }
+
+    @Override
+    public void addRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.add(listener);
+    }
+
+    @Override
+    public void removeRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.remove(listener);
+    }
+
+    @Override
+    public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.remove(listener);
+    }
+
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        Timeout timeout = reconnectTimeout;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        for (TarantoolConnectionCloseListener listener : closeListeners) {
+            listener.onConnectionClosed(this);
+        }
+        TarantoolConnection current = connection.getAndSet(null);
+        if (current != null) {
+            closeConnection(current);
+        }
+    }
+
+    private static void closeConnection(TarantoolConnection connection) {
+        try {
+            connection.close();
+        } catch (Exception e) {
+            logger.info("Failed to close the connection: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package io.tarantool.driver.core.connection;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolServerRole;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolRoutingMode;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Routes the read-only requests and the writes to different groups of servers according to their roles and zones,
+ * see {@link TarantoolRoutingMode}. Each group has its own selection strategy created by the configured factory.
+ * If there are no available connections in a group, the next group in the order of preference is used, and the last
+ * group always contains all the connections.
+ *
+ * @author Alexey Kuzin
+ */
+final class TarantoolRoutingStrategy implements ConnectionSelectionStrategy {
+
+    private final List<ConnectionSelectionStrategy> readStrategies;
+    private final List<ConnectionSelectionStrategy> writeStrategies;
+
+    private TarantoolRoutingStrategy(
+        List<ConnectionSelectionStrategy> readStrategies,
+        List<ConnectionSelectionStrategy> writeStrategies) {
+        this.readStrategies = readStrategies;
+        this.writeStrategies = writeStrategies;
+    }
+
+    /**
+     * Create the connection selection strategy for the server connections according to the configured routing mode
+     *
+     * @param config          client config
+     * @param strategyFactory factory of the strategies for the server groups
+     * @param registry        server connections
+     * @return the strategy created by the factory for all the connections, if the roles and zones are not used for
+     * routing, or a routing strategy
+     */
+    static ConnectionSelectionStrategy create(
+        TarantoolClientConfig config,
+        ConnectionSelectionStrategyFactory strategyFactory,
+        Map<TarantoolServerAddress, ? extends List<? extends TarantoolConnection>> registry) {
+        ConnectionSelectionStrategy all = strategyFactory.create(config, select(registry, address -> true));
+        if (config.getRoutingMode() == TarantoolRoutingMode.ANY) {
+            return all;
+        }
+        String localZone = config.getLocalZone();
+        Predicate<TarantoolServerAddress> local = address -> localZone != null && localZone.equals(address.getZone());
+        Predicate<TarantoolServerAddress> replica = address -> address.getRole() == TarantoolServerRole.REPLICA;
+        List<Predicate<TarantoolServerAddress>> readGroups = config.getRoutingMode() ==
+            TarantoolRoutingMode.PREFER_REPLICA ?
+            Arrays.asList(replica.and(local), replica, local) :
+            Collections.singletonList(local);
+        List<Predicate<TarantoolServerAddress>> writeGroups =
+            Collections.singletonList(address -> address.getRole() == TarantoolServerRole.MASTER);
+        return new TarantoolRoutingStrategy(
+            createStrategies(config, strategyFactory, registry, readGroups, all),
+            createStrategies(config, strategyFactory, registry, writeGroups, all));
+    }
+
+    private static List<ConnectionSelectionStrategy> createStrategies(
+        TarantoolClientConfig config,
+        ConnectionSelectionStrategyFactory strategyFactory,
+        Map<TarantoolServerAddress, ? extends List<? extends TarantoolConnection>> registry,
+        List<Predicate<TarantoolServerAddress>> groups,
+        ConnectionSelectionStrategy all) {
+        int total = registry.values().stream().mapToInt(List::size).sum();
+        List<ConnectionSelectionStrategy> strategies = new ArrayList<>(groups.size() + 1);
+        List<TarantoolConnection> previous = Collections.emptyList();
+        for (Predicate<TarantoolServerAddress> group : groups) {
+            List<TarantoolConnection> connections = select(registry, group);
+            // the empty groups and the groups equal to the previous or the last one are useless
+            if (!connections.isEmpty() && connections.size() < total && !connections.equals(previous)) {
+                strategies.add(strategyFactory.create(config, connections));
+                previous = connections;
+            }
+        }
+        strategies.add(all);
+        return strategies;
+    }
+
+    private static List<TarantoolConnection> select(
+        Map<TarantoolServerAddress, ? extends List<? extends TarantoolConnection>> registry,
+        Predicate<TarantoolServerAddress> group) {
+        return registry.entrySet().stream()
+            .filter(entry -> group.test(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the next connection for a write request
+     *
+     * @return connection
+     * @throws NoAvailableConnectionsException if there are no available connections
+     */
+    @Override
+    public TarantoolConnection next() throws NoAvailableConnectionsException {
+        return next(false);
+    }
+
+    /**
+     * Get the next connection for a request
+     *
+     * @param readOnly true, if the request does not modify data
+     * @return connection
+     * @throws NoAvailableConnectionsException if there are no available connections
+     */
+    TarantoolConnection next(boolean readOnly) throws NoAvailableConnectionsException {
+        List<ConnectionSelectionStrategy> strategies = readOnly ? readStrategies : writeStrategies;
+        for (int i = 0; i < strategies.size() - 1; i++) {
+            try {
+                return strategies.get(i).next();
+            } catch (NoAvailableConnectionsException e) {
+                // try the next group
+            }
+        }
+        return strategies.get(strategies.size() - 1).next();
+    }
+
+    @Override
+    public void close() {
+        // the strategy for all connections is the last one in both lists
+        readStrategies.forEach(ConnectionSelectionStrategy::close);
+        writeStrategies.subList(0, writeStrategies.size() - 1).forEach(ConnectionSelectionStrategy::close);
+    }
+}
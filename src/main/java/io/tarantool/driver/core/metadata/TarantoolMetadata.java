@@ -32,6 +32,8 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
     private final Phaser initPhaser = new Phaser(0);
     private final AtomicBoolean needRefresh = new AtomicBoolean(true);
     private final TarantoolMetadataProvider metadataProvider;
+    // the last metadata loading started on demand or by prefetch
+    private volatile CompletableFuture<Void> loadFuture;
 
     public TarantoolMetadata(TarantoolMetadataProvider metadataProvider) {
         this.metadataProvider = metadataProvider;
@@ -72,11 +74,27 @@ public class TarantoolMetadata implements TarantoolMetadataOperations {
         });
     }
 
+    /**
+     * Start loading the metadata in background, if it is not loaded yet. The threads requesting the metadata wait
+     * for the loading to complete.
+     *
+     * @return a future which completes when the metadata is loaded
+     */
+    public CompletableFuture<Void> prefetch() {
+        if (initPhaser.getRegisteredParties() == 0 && needRefresh.compareAndSet(true, false)) {
+            initPhaser.register();
+            loadFuture = refresh();
+        }
+        CompletableFuture<Void> current = loadFuture;
+        return current != null ? current : CompletableFuture.completedFuture(null);
+    }
+
     private void awaitInitLatch() {
         if (initPhaser.getRegisteredParties() == 0 && needRefresh.compareAndSet(true, false)) {
             initPhaser.register();
             try {
-                refresh().get();
+                loadFuture = refresh();
+                loadFuture.get();
             } catch (InterruptedException e) {
                 throw new TarantoolClientException("Failed to refresh spaces and indexes metadata", e);
             } catch (ExecutionException e) {
@@ -2,11 +2,13 @@ package io.tarantool.driver.core.proxy;
 
 import io.tarantool.driver.api.SingleValueCallResult;
 import io.tarantool.driver.api.TarantoolCallOperations;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.api.space.options.Options;
 import io.tarantool.driver.mappers.CallResultMapper;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -127,6 +129,24 @@ abstract class AbstractProxyOperation<T> implements ProxyOperation<T> {
             return self();
         }
 
+        /**
+         * Get the value of the {@code timeout} option of the operation. If the operation has a deadline (see
+         * {@link TarantoolDeadline#current()}), the time remaining until the deadline is used, unless the timeout
+         * specified in the options is shorter
+         *
+         * @param timeout timeout specified in the operation options, in milliseconds
+         * @return timeout option value
+         */
+        protected Optional<Integer> timeoutWithinDeadline(Optional<Integer> timeout) {
+            TarantoolDeadline deadline = TarantoolDeadline.current();
+            if (deadline == null) {
+                return timeout;
+            }
+            // the expired requests are dropped before sending, so the option is never 0
+            int remaining = (int) Math.min(Math.max(deadline.remaining(), 1), Integer.MAX_VALUE);
+            return timeout.isPresent() && timeout.get() <= remaining ? timeout : Optional.of(remaining);
+        }
+
         /**
          * Specify custom options
          *
@@ -50,7 +50,7 @@ public final class DeleteProxyOperation<T> extends AbstractProxyOperation<T> {
 
         public DeleteProxyOperation<T> build() {
             CRUDBucketIdOptions requestOptions = new CRUDDeleteOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withBucketId(options.getBucketId())
                 .withFields(options.getFields())
                 .build();
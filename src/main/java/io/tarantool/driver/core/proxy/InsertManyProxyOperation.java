@@ -56,7 +56,7 @@ public final class InsertManyProxyOperation<T extends Packable, R extends Collec
             }
 
             CRUDBatchOptions requestOptions = new CRUDBatchOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withStopOnError(options.getStopOnError())
                 .withRollbackOnError(options.getRollbackOnError())
                 .withFields(options.getFields())
@@ -52,7 +52,7 @@ public final class InsertProxyOperation<T extends Packable, R extends Collection
 
         public InsertProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDInsertOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withBucketId(options.getBucketId())
                 .withFields(options.getFields())
                 .build();
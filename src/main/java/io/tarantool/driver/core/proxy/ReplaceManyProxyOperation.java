@@ -56,7 +56,7 @@ public final class ReplaceManyProxyOperation<T extends Packable, R extends Colle
             }
 
             CRUDBatchOptions requestOptions = new CRUDBatchOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withStopOnError(options.getStopOnError())
                 .withRollbackOnError(options.getRollbackOnError())
                 .withFields(options.getFields())
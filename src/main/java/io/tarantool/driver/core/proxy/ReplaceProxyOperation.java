@@ -53,7 +53,7 @@ public final class ReplaceProxyOperation<T extends Packable, R extends Collectio
 
         public ReplaceProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDReplaceOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withBucketId(options.getBucketId())
                 .withFields(options.getFields())
                 .build();
@@ -57,7 +57,7 @@ public final class SelectProxyOperation<T> extends AbstractProxyOperation<T> {
 
         public SelectProxyOperation<T> build() {
             CRUDSelectOptions.Builder requestOptions = new CRUDSelectOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withSelectBatchSize(options.getBatchSize())
                 .withSelectLimit(Optional.of(conditions.getLimit()))
                 .withSelectAfter(Optional.ofNullable(conditions.getStartTuple()))
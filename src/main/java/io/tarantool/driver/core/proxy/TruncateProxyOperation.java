@@ -74,7 +74,7 @@ public final class TruncateProxyOperation implements ProxyOperation<Void> {
          */
         public TruncateProxyOperation build() {
             CRUDBaseOptions requestOptions = new CRUDBaseOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .build();
 
             List<?> arguments = Arrays.asList(spaceName, requestOptions.asMap());
@@ -57,7 +57,7 @@ public final class UpdateProxyOperation<T> extends AbstractProxyOperation<T> {
 
         public UpdateProxyOperation<T> build() {
             CRUDBucketIdOptions requestOptions = new CRUDUpdateOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withBucketId(options.getBucketId())
                 .withFields(options.getFields())
                 .build();
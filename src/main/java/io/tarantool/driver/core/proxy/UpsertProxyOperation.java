@@ -59,7 +59,7 @@ public final class UpsertProxyOperation<T extends Packable, R extends Collection
 
         public UpsertProxyOperation<T, R> build() {
             CRUDBucketIdOptions requestOptions = new CRUDUpsertOptions.Builder()
-                .withTimeout(options.getTimeout())
+                .withTimeout(timeoutWithinDeadline(options.getTimeout()))
                 .withBucketId(options.getBucketId())
                 .withFields(options.getFields())
                 .build();
@@ -3,6 +3,7 @@ package io.tarantool.driver.core.space;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.cursor.TarantoolCursor;
 import io.tarantool.driver.api.metadata.TarantoolSpaceMetadata;
+import io.tarantool.driver.api.retry.RequestHedgingPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicy;
 import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
 import io.tarantool.driver.api.space.TarantoolSpaceOperations;
@@ -24,7 +25,8 @@ import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 /**
- * Wrapper for {@link TarantoolSpaceOperations} instances which adds request retry policy to each operation
+ * Wrapper for {@link TarantoolSpaceOperations} instances which adds request retry policy to each operation. The
+ * select operations may also be hedged, if a {@link RequestHedgingPolicy} is specified.
  *
  * @param <T> target tuple type
  * @param <R> target tuple collection type
@@ -35,6 +37,7 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
 
     private final TarantoolSpaceOperations<T, R> spaceOperations;
     private final RequestRetryPolicyFactory retryPolicyFactory;
+    private final RequestHedgingPolicy hedgingPolicy;
     private final Executor executor;
 
     /**
@@ -48,8 +51,25 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         TarantoolSpaceOperations<T, R> spaceOperations,
         RequestRetryPolicyFactory retryPolicyFactory,
         Executor executor) {
+        this(spaceOperations, retryPolicyFactory, null, executor);
+    }
+
+    /**
+     * Basic constructor
+     *
+     * @param spaceOperations    {@link TarantoolSpaceOperations} instance which operations will be wrapped
+     * @param retryPolicyFactory request retrying policy factory
+     * @param hedgingPolicy      request hedging policy for the select operations, may be null
+     * @param executor           executor service for retry and hedging callbacks
+     */
+    public RetryingTarantoolSpace(
+        TarantoolSpaceOperations<T, R> spaceOperations,
+        RequestRetryPolicyFactory retryPolicyFactory,
+        RequestHedgingPolicy hedgingPolicy,
+        Executor executor) {
         this.spaceOperations = spaceOperations;
         this.retryPolicyFactory = retryPolicyFactory;
+        this.hedgingPolicy = hedgingPolicy;
         this.executor = executor;
     }
 
@@ -113,13 +133,13 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
     @Override
     public CompletableFuture<R> select(Conditions conditions)
         throws TarantoolClientException {
-        return wrapOperation(() -> spaceOperations.select(conditions));
+        return wrapReadOperation(() -> spaceOperations.select(conditions));
     }
 
     @Override
     public CompletableFuture<R> select(Conditions conditions, SelectOptions options)
         throws TarantoolClientException {
-        return wrapOperation(() -> spaceOperations.select(conditions, options));
+        return wrapReadOperation(() -> spaceOperations.select(conditions, options));
     }
 
     @Override
@@ -179,6 +199,13 @@ public class RetryingTarantoolSpace<T extends Packable, R extends Collection<T>>
         return retryPolicy.wrapOperation(operation, executor);
     }
 
+    private CompletableFuture<R> wrapReadOperation(Supplier<CompletableFuture<R>> operation) {
+        if (hedgingPolicy != null) {
+            return wrapOperation(() -> hedgingPolicy.wrapOperation(operation, executor));
+        }
+        return wrapOperation(operation);
+    }
+
     private CompletableFuture<Void> wrapVoidOperation(Supplier<CompletableFuture<Void>> operation) {
         RequestRetryPolicy retryPolicy = retryPolicyFactory.create();
         return retryPolicy.wrapOperation(operation, executor);
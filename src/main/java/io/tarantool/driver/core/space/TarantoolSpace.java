@@ -153,7 +153,7 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
                 .withOffset(conditions.getOffset())
                 .build(config.getMessagePackMapper());
 
-            return sendRequest(request, resultMapper);
+            return sendRequest(request, resultMapper, true);
         } catch (TarantoolProtocolException e) {
             throw new TarantoolClientException(e);
         }
@@ -260,7 +260,12 @@ public abstract class TarantoolSpace<T extends Packable, R extends Collection<T>
     protected abstract MessagePackValueMapper arrayTupleResultMapper();
 
     private CompletableFuture<R> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
-        return connectionManager.getConnection().thenCompose(c -> c.sendRequest(request, resultMapper));
+        return sendRequest(request, resultMapper, false);
+    }
+
+    private CompletableFuture<R> sendRequest(
+        TarantoolRequest request, MessagePackValueMapper resultMapper, boolean readOnly) {
+        return connectionManager.getConnection(readOnly).thenCompose(c -> c.sendRequest(request, resultMapper));
     }
 
     @Override
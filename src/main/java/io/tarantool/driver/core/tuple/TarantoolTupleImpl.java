@@ -136,6 +136,34 @@ public class TarantoolTupleImpl implements TarantoolTuple {
         }
     }
 
+    /**
+     * Construct an instance of {@link TarantoolTuple } reading the serialized tuple directly from the MessagePack
+     * stream, without building the intermediate array value.
+     *
+     * @param unpacker      unpacker positioned at the tuple start
+     * @param mapper        provides conversion between MessagePack values and Java objects
+     * @param spaceMetadata provides field names and other metadata
+     * @throws IOException if the tuple cannot be read
+     */
+    public TarantoolTupleImpl(MessageUnpacker unpacker, MessagePackMapper mapper, TarantoolSpaceMetadata spaceMetadata)
+        throws IOException {
+        Assert.notNull(mapper, "MessagePack mapper should not be null");
+
+        this.mapper = mapper;
+        this.spaceMetadata = spaceMetadata;
+
+        int size = unpacker.unpackArrayHeader();
+        this.fields.ensureCapacity(size);
+        for (int i = 0; i < size; i++) {
+            Value fieldValue = unpacker.unpackValue();
+            if (fieldValue.isNilValue()) {
+                fields.add(TarantoolNullField.INSTANCE);
+            } else {
+                fields.add(new TarantoolFieldImpl(fieldValue));
+            }
+        }
+    }
+
     @Override
     public Optional<TarantoolField> getField(int fieldPosition) {
         Assert.state(fieldPosition >= 0, "Field position starts with 0");
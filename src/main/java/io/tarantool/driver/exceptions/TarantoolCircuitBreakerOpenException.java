@@ -0,0 +1,27 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents an error where a request is rejected without sending it, since the circuit breakers of all available
+ * connections are open (see {@link io.tarantool.driver.api.connection.TarantoolCircuitBreaker}). The built-in retry
+ * policies do not retry the requests failed with this exception.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolCircuitBreakerOpenException extends TarantoolClientException {
+
+    /**
+     * Basic constructor.
+     *
+     * @param functionName name of the called function or null, if the endpoint breakers are open
+     */
+    public TarantoolCircuitBreakerOpenException(String functionName) {
+        super(functionName == null ?
+            "Circuit breakers of all available connections are open" :
+            String.format("Circuit breakers of all available connections are open for function %s", functionName));
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
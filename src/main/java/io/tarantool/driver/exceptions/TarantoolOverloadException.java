@@ -0,0 +1,26 @@
+package io.tarantool.driver.exceptions;
+
+/**
+ * Represents an error where a request cannot be sent, because the connection is overloaded: its outbound buffer is
+ * full or too many requests are waiting for the responses
+ *
+ * @author Alexey Kuzin
+ * @see io.tarantool.driver.api.connection.TarantoolOverloadPolicy
+ */
+public class TarantoolOverloadException extends TarantoolClientException {
+
+    /**
+     * Basic constructor.
+     *
+     * @param format message format
+     * @param args   message arguments
+     */
+    public TarantoolOverloadException(String format, Object... args) {
+        super(format, args);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
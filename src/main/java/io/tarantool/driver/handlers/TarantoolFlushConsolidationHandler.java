@@ -0,0 +1,110 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.util.concurrent.Future;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consolidates the flush operations, so that the requests written to the channel one by one are sent to the socket
+ * in batches. The flush is delayed until either the specified number of writes is accumulated or the specified delay
+ * expires. With zero delay the pending writes are flushed once the channel event loop has processed the tasks which
+ * are already queued, e.g. all the requests submitted from other threads in the meantime.
+ * <p>
+ * The pending writes are flushed immediately when the channel becomes not writable, is closed or disconnected.
+ * A flush requested by the handlers placed before this one in the pipeline is not delayed.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolFlushConsolidationHandler extends ChannelDuplexHandler {
+
+    private final int maxBatchedWrites;
+    private final long maxDelay;
+    private final Runnable flushTask;
+    private ChannelHandlerContext ctx;
+    private Future<?> nextFlush;
+    private int pendingWrites;
+
+    /**
+     * Basic constructor.
+     *
+     * @param maxBatchedWrites number of writes after which a requested flush is performed immediately
+     * @param maxDelay         maximum delay of a requested flush, microseconds
+     */
+    public TarantoolFlushConsolidationHandler(int maxBatchedWrites, long maxDelay) {
+        Assert.state(maxBatchedWrites > 0, "Max batched writes must be greater than 0");
+        Assert.state(maxDelay >= 0, "Max delay must be greater than or equal to 0");
+        this.maxBatchedWrites = maxBatchedWrites;
+        this.maxDelay = maxDelay;
+        this.flushTask = () -> {
+            nextFlush = null;
+            flushNow(ctx);
+        };
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        flushIfNeeded(ctx);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        pendingWrites++;
+        ctx.write(msg, promise);
+    }
+
+    @Override
+    public void flush(ChannelHandlerContext ctx) {
+        if (pendingWrites >= maxBatchedWrites) {
+            flushNow(ctx);
+        } else if (nextFlush == null) {
+            nextFlush = maxDelay > 0 ?
+                ctx.executor().schedule(flushTask, maxDelay, TimeUnit.MICROSECONDS) :
+                ctx.executor().submit(flushTask);
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!ctx.channel().isWritable()) {
+            // let the channel drain the outbound buffer
+            flushIfNeeded(ctx);
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void disconnect(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded(ctx);
+        ctx.disconnect(promise);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        flushIfNeeded(ctx);
+        ctx.close(promise);
+    }
+
+    private void flushIfNeeded(ChannelHandlerContext ctx) {
+        if (nextFlush != null || pendingWrites > 0) {
+            flushNow(ctx);
+        }
+    }
+
+    private void flushNow(ChannelHandlerContext ctx) {
+        if (nextFlush != null) {
+            nextFlush.cancel(false);
+            nextFlush = null;
+        }
+        pendingWrites = 0;
+        ctx.flush();
+    }
+}
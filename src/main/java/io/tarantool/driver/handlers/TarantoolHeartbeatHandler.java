@@ -0,0 +1,96 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends a ping request to the Tarantool server when nothing has been read from the channel for the specified
+ * interval. If the server does not answer the ping within the timeout, the channel is closed, so that a half-open
+ * connection is replaced before the user requests sent to it time out one by one. The round trip time of the last
+ * successful ping is kept as the connection metric.
+ * <p>
+ * The pings are sent only after the connection is authenticated, and only one ping is in progress at a time.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolHeartbeatHandler extends IdleStateHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(TarantoolHeartbeatHandler.class);
+
+    private final RequestFutureManager futureManager;
+    private final CompletableFuture<Channel> connectionFuture;
+    private final int pingTimeout;
+    private volatile boolean pingInProgress;
+    private volatile long roundTripTime = -1;
+
+    /**
+     * Basic constructor.
+     *
+     * @param futureManager    request tracker of the connection
+     * @param connectionFuture future which completes when the connection is authenticated
+     * @param interval         read idle interval after which a ping is sent, milliseconds
+     * @param pingTimeout      timeout for receiving the ping response, milliseconds
+     */
+    public TarantoolHeartbeatHandler(
+        RequestFutureManager futureManager,
+        CompletableFuture<Channel> connectionFuture,
+        long interval,
+        int pingTimeout) {
+        super(interval, 0, 0, TimeUnit.MILLISECONDS);
+        this.futureManager = futureManager;
+        this.connectionFuture = connectionFuture;
+        this.pingTimeout = pingTimeout;
+    }
+
+    /**
+     * Get the round trip time of the last successful ping
+     *
+     * @return round trip time, nanoseconds, or -1 if no ping has been completed yet
+     */
+    public long getRoundTripTime() {
+        return roundTripTime;
+    }
+
+    @Override
+    protected void channelIdle(ChannelHandlerContext ctx, IdleStateEvent evt) throws Exception {
+        if (evt.state() == IdleState.READER_IDLE && !pingInProgress &&
+            connectionFuture.isDone() && !connectionFuture.isCompletedExceptionally()) {
+            ping(ctx.channel());
+        }
+        super.channelIdle(ctx, evt);
+    }
+
+    private void ping(Channel channel) {
+        pingInProgress = true;
+        CompletableFuture<Object> pingFuture = new CompletableFuture<>();
+        long start = System.nanoTime();
+        channel.writeAndFlush(futureManager.submitRequest(new TarantoolPingRequest(), pingFuture, pingTimeout, null));
+        pingFuture.whenComplete((result, ex) -> {
+            pingInProgress = false;
+            if (ex == null) {
+                roundTripTime = System.nanoTime() - start;
+                return;
+            }
+            if (ex instanceof CompletionException && ex.getCause() != null) {
+                ex = ex.getCause();
+            }
+            if (ex instanceof TimeoutException && channel.isActive()) {
+                log.warn("Tarantool server at {} has not answered the ping within {} ms, closing the connection",
+                    channel.remoteAddress(), pingTimeout);
+                channel.close();
+            }
+        });
+    }
+}
@@ -4,12 +4,17 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolRequestBatchMetadata;
+import io.tarantool.driver.core.TarantoolRequestMetadata;
 import io.tarantool.driver.exceptions.TarantoolClientException;
-import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
 
 /**
- * Performs registration of requests and pushes them forward. Should stay first in the channel pipeline
+ * Performs registration of requests and pushes them forward. Should stay first in the channel pipeline.
+ * The requests are registered in the channel event loop right before encoding, see {@link RequestFutureManager}.
+ * The requests with expired operation deadlines are dropped here, see {@link TarantoolDeadline}
  *
  * @author Alexey Kuzin
  */
@@ -22,11 +27,47 @@ public class TarantoolRequestHandler extends ChannelOutboundHandlerAdapter {
 
     @Override
     public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
-        TarantoolRequest request = (TarantoolRequest) msg;
-        ctx.write(request).addListener((ChannelFutureListener) channelFuture -> {
+        if (msg instanceof TarantoolRequestBatchMetadata) {
+            writeBatch(ctx, (TarantoolRequestBatchMetadata) msg, promise);
+            return;
+        }
+        if (!(msg instanceof TarantoolRequestMetadata)) {
+            // untracked requests, like the authentication request
+            ctx.write(msg, promise);
+            return;
+        }
+        TarantoolRequestMetadata requestMeta = (TarantoolRequestMetadata) msg;
+        TarantoolDeadline deadline = requestMeta.getRequest().getDeadline();
+        if (deadline != null && deadline.isExpired()) {
+            // the caller has given up on the request already, so it is not sent to the server
+            TarantoolTimeoutException e = new TarantoolTimeoutException(deadline.getTimeout());
+            requestMeta.getFuture().completeExceptionally(e);
+            promise.setFailure(e);
+            return;
+        }
+        long requestId = futureManager.registerRequest(requestMeta, ctx.executor());
+        ctx.write(requestMeta.getRequest(), promise).addListener((ChannelFutureListener) channelFuture -> {
             if (!channelFuture.isSuccess()) {
-                futureManager.getRequest(request.getHeader().getSync()).getFuture()
-                    .completeExceptionally(new TarantoolClientException(channelFuture.cause()));
+                futureManager.removeRequest(requestId);
+                requestMeta.getFuture().completeExceptionally(new TarantoolClientException(channelFuture.cause()));
+            }
+        });
+    }
+
+    private void writeBatch(
+        ChannelHandlerContext ctx, TarantoolRequestBatchMetadata batchMeta, ChannelPromise promise) {
+        long[] requestIds = new long[batchMeta.getRequests().size()];
+        for (int i = 0; i < requestIds.length; i++) {
+            requestIds[i] = futureManager.registerRequest(batchMeta.getRequests().get(i), ctx.executor());
+        }
+        // the requests are packed into a single buffer
+        ctx.write(batchMeta.getBatch(), promise).addListener((ChannelFutureListener) channelFuture -> {
+            if (!channelFuture.isSuccess()) {
+                for (int i = 0; i < requestIds.length; i++) {
+                    futureManager.removeRequest(requestIds[i]);
+                    batchMeta.getRequests().get(i).getFuture()
+                        .completeExceptionally(new TarantoolClientException(channelFuture.cause()));
+                }
             }
         });
     }
@@ -8,8 +8,8 @@ import io.tarantool.driver.core.TarantoolRequestMetadata;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.exceptions.errors.TarantoolErrors;
 import io.tarantool.driver.protocol.TarantoolErrorResult;
-import io.tarantool.driver.protocol.TarantoolOkResult;
 import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBodyType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +34,7 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, TarantoolResponse tarantoolResponse) throws Exception {
-        TarantoolRequestMetadata requestMeta = futureManager.getRequest(tarantoolResponse.getSyncId());
+        TarantoolRequestMetadata requestMeta = futureManager.removeRequest(tarantoolResponse.getSyncId());
         if (requestMeta != null) {
             CompletableFuture<?> requestFuture = requestMeta.getFuture();
             if (!requestFuture.isDone()) {
@@ -45,10 +45,13 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
                         requestFuture.completeExceptionally(boxErrorFactory.create(errorResult));
                         break;
                     case IPROTO_OK:
+                        if (tarantoolResponse.getBody().getResponseBodyType() == TarantoolResponseBodyType.EMPTY) {
+                            // responses to the special requests like ping have no data
+                            requestFuture.complete(null);
+                            break;
+                        }
                         try {
-                            TarantoolOkResult okResult = new TarantoolOkResult(tarantoolResponse.getSyncId(),
-                                tarantoolResponse.getBody().getData());
-                            requestFuture.complete(requestMeta.getMapper().fromValue(okResult.getData()));
+                            requestFuture.complete(tarantoolResponse.getBody().getData(requestMeta.getMapper()));
                         } catch (Throwable e) {
                             requestFuture.completeExceptionally(e);
                         }
@@ -63,7 +66,7 @@ public class TarantoolResponseHandler extends SimpleChannelInboundHandler<Tarant
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
         if (cause instanceof DecoderException && cause.getCause() instanceof TarantoolDecoderException) {
             TarantoolDecoderException ex = (TarantoolDecoderException) cause.getCause();
-            TarantoolRequestMetadata requestMeta = futureManager.getRequest(ex.getHeader().getSync());
+            TarantoolRequestMetadata requestMeta = futureManager.removeRequest(ex.getHeader().getSync());
             if (requestMeta != null) {
                 CompletableFuture<?> requestFuture = requestMeta.getFuture();
                 if (!requestFuture.isDone()) {
@@ -1,5 +1,6 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.ValueConverterWithInputTypeWrapper;
 import org.msgpack.value.Value;
@@ -114,4 +115,9 @@ public abstract class AbstractResultMapper<T> implements MessagePackValueMapper
         Class<O> objectClass) {
         return valueMapper.getValueConverter(valueType, objectClass);
     }
+
+    @Override
+    public <O> Optional<MessageUnpackerConverter<O>> getUnpackerConverter(ValueType valueType) {
+        return valueMapper.getUnpackerConverter(valueType);
+    }
 }
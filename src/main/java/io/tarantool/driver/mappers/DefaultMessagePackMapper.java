@@ -3,6 +3,7 @@ package io.tarantool.driver.mappers;
 import io.tarantool.driver.api.MessagePackMapperBuilder;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.converters.ConverterWrapper;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ObjectConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
 import io.tarantool.driver.mappers.converters.object.DefaultListToArrayValueConverter;
@@ -197,6 +198,20 @@ public class DefaultMessagePackMapper implements MessagePackMapper {
         return findValueConverter(valueType, getter);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <O> Optional<MessageUnpackerConverter<O>> getUnpackerConverter(ValueType valueType) {
+        List<ConverterWrapper<ValueConverter<? extends Value, ?>>> converters = valueConverters.get(valueType);
+        if (converters == null || converters.isEmpty()) {
+            return Optional.empty();
+        }
+        ValueConverter<? extends Value, ?> converter = converters.get(0).getConverter();
+        if (!MessageUnpackerConverter.isSupportedBy(converter)) {
+            return Optional.empty();
+        }
+        return Optional.of((MessageUnpackerConverter<O>) converter);
+    }
+
     /**
      * Perform {@link ObjectConverter} converter registration. The source object class and target entity class for
      * registration are determined automatically
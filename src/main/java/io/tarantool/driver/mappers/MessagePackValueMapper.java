@@ -1,9 +1,12 @@
 package io.tarantool.driver.mappers;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.Optional;
 
 /**
@@ -65,4 +68,36 @@ public interface MessagePackValueMapper {
      * @return a nullable converter instance wrapped in {@code Optional}
      */
     <V extends Value, O> Optional<ValueConverter<V, O>> getValueConverter(ValueType valueType, Class<O> objectClass);
+
+    /**
+     * Create Java object reading its MessagePack representation directly from the unpacker. The intermediate
+     * MessagePack entities are not created for the parts of the data which have a converter supporting such
+     * conversion, see {@link #getUnpackerConverter(ValueType)}.
+     *
+     * @param unpacker unpacker positioned at the entity start
+     * @param <O>      target object type
+     * @return Java object
+     * @throws IOException                     if the entity cannot be read
+     * @throws MessagePackValueMapperException if the corresponding conversion cannot be performed
+     */
+    default <O> O fromUnpacker(MessageUnpacker unpacker) throws IOException, MessagePackValueMapperException {
+        Optional<MessageUnpackerConverter<O>> converter =
+            getUnpackerConverter(unpacker.getNextFormat().getValueType());
+        if (converter.isPresent()) {
+            return converter.get().fromUnpacker(unpacker);
+        }
+        return fromValue(unpacker.unpackValue());
+    }
+
+    /**
+     * Get a converter which reads the entities of the specified type directly from the MessagePack stream. Only the
+     * converter which is used for the entities of the specified type by default is considered.
+     *
+     * @param valueType MessagePack source type
+     * @param <O>       java object's type that the converter returns
+     * @return a nullable converter instance wrapped in {@code Optional}
+     */
+    default <O> Optional<MessageUnpackerConverter<O>> getUnpackerConverter(ValueType valueType) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,47 @@
+package io.tarantool.driver.mappers.converters;
+
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+
+/**
+ * Basic interface for converters reading Java objects directly from the MessagePack stream, without building the
+ * intermediate {@link org.msgpack.value.Value} entities. Usually implemented by {@link ValueConverter}s in addition
+ * to the value conversion, so the converter must produce the same result in both cases and must accept any entity of
+ * the MessagePack type it is registered for.
+ *
+ * @param <O> the target object type
+ * @author Alexey Kuzin
+ */
+public interface MessageUnpackerConverter<O> extends Converter {
+    /**
+     * Read exactly one MessagePack entity from the unpacker and convert it to a Java object
+     *
+     * @param unpacker unpacker positioned at the entity start
+     * @return object
+     * @throws IOException if the entity cannot be read
+     */
+    O fromUnpacker(MessageUnpacker unpacker) throws IOException;
+
+    /**
+     * Optional method for determining if this converter is able to read the objects from the MessagePack stream.
+     * Converters which delegate to other converters must return false if some of the nested converters don't support
+     * this kind of conversion.
+     *
+     * @return true, if the entities can be converted directly from the MessagePack stream
+     */
+    default boolean canConvertFromUnpacker() {
+        return true;
+    }
+
+    /**
+     * Check if the specified converter supports conversion directly from the MessagePack stream
+     *
+     * @param converter converter instance
+     * @return true, if the converter is a {@link MessageUnpackerConverter} and supports the conversion
+     */
+    static boolean isSupportedBy(Converter converter) {
+        return converter instanceof MessageUnpackerConverter &&
+            ((MessageUnpackerConverter<?>) converter).canConvertFromUnpacker();
+    }
+}
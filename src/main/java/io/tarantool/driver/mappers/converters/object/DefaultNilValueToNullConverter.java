@@ -1,15 +1,20 @@
 package io.tarantool.driver.mappers.converters.object;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.NilValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link NilValue} to {@code null} converter
  *
  * @author Sergey Volgin
  * @author Artyom Dubinin
  */
-public class DefaultNilValueToNullConverter implements ValueConverter<NilValue, Object> {
+public class DefaultNilValueToNullConverter
+    implements ValueConverter<NilValue, Object>, MessageUnpackerConverter<Object> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -18,6 +23,12 @@ public class DefaultNilValueToNullConverter implements ValueConverter<NilValue,
         return null;
     }
 
+    @Override
+    public Object fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        unpacker.unpackNil();
+        return null;
+    }
+
     @Override
     public boolean canConvertValue(NilValue value) {
         return value.isNilValue();
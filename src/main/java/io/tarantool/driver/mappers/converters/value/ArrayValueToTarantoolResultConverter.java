@@ -2,14 +2,18 @@ package io.tarantool.driver.mappers.converters.value;
 
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.core.TarantoolResultImpl;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+
 /**
  * @author Artyom Dubinin
  */
 public class ArrayValueToTarantoolResultConverter<T>
-    implements ValueConverter<ArrayValue, TarantoolResult<T>> {
+    implements ValueConverter<ArrayValue, TarantoolResult<T>>, MessageUnpackerConverter<TarantoolResult<T>> {
 
     private static final long serialVersionUID = -1348387430063097175L;
 
@@ -26,4 +30,15 @@ public class ArrayValueToTarantoolResultConverter<T>
     public TarantoolResult<T> fromValue(ArrayValue value) {
         return new TarantoolResultImpl<>(value, valueConverter);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public TarantoolResult<T> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return new TarantoolResultImpl<>(unpacker, (MessageUnpackerConverter<T>) valueConverter);
+    }
+
+    @Override
+    public boolean canConvertFromUnpacker() {
+        return MessageUnpackerConverter.isSupportedBy(valueConverter);
+    }
 }
@@ -3,14 +3,19 @@ package io.tarantool.driver.mappers.converters.value;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.core.TarantoolTupleResultImpl;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+
 /**
  * @author Artyom Dubinin
  */
 public class ArrayValueToTarantoolTupleResultConverter
-    implements ValueConverter<ArrayValue, TarantoolResult<TarantoolTuple>> {
+    implements ValueConverter<ArrayValue, TarantoolResult<TarantoolTuple>>,
+    MessageUnpackerConverter<TarantoolResult<TarantoolTuple>> {
 
     private static final long serialVersionUID = -1348387430063097175L;
 
@@ -26,4 +31,9 @@ public class ArrayValueToTarantoolTupleResultConverter
     public TarantoolResult<TarantoolTuple> fromValue(ArrayValue value) {
         return new TarantoolTupleResultImpl(value, tupleConverter);
     }
+
+    @Override
+    public TarantoolResult<TarantoolTuple> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return new TarantoolTupleResultImpl(unpacker, tupleConverter);
+    }
 }
@@ -1,9 +1,13 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,7 +16,8 @@ import java.util.stream.Collectors;
  *
  * @author Alexey Kuzin
  */
-public class DefaultArrayValueToListConverter implements ValueConverter<ArrayValue, List<?>> {
+public class DefaultArrayValueToListConverter
+    implements ValueConverter<ArrayValue, List<?>>, MessageUnpackerConverter<List<?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -26,4 +31,14 @@ public class DefaultArrayValueToListConverter implements ValueConverter<ArrayVal
     public List<?> fromValue(ArrayValue value) {
         return value.list().stream().map(mapper::fromValue).collect(Collectors.toList());
     }
+
+    @Override
+    public List<?> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        int size = unpacker.unpackArrayHeader();
+        List<Object> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(mapper.fromUnpacker(unpacker));
+        }
+        return result;
+    }
 }
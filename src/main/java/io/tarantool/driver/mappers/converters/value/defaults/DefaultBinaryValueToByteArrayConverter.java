@@ -1,15 +1,20 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.BinaryValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link BinaryValue} to {@code byte[]} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultBinaryValueToByteArrayConverter implements ValueConverter<BinaryValue, byte[]> {
+public class DefaultBinaryValueToByteArrayConverter
+    implements ValueConverter<BinaryValue, byte[]>, MessageUnpackerConverter<byte[]> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -17,4 +22,9 @@ public class DefaultBinaryValueToByteArrayConverter implements ValueConverter<Bi
     public byte[] fromValue(BinaryValue value) {
         return value.asByteArray();
     }
+
+    @Override
+    public byte[] fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return unpacker.readPayload(unpacker.unpackBinaryHeader());
+    }
 }
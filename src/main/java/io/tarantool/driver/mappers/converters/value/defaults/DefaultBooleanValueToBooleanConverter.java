@@ -1,15 +1,20 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.BooleanValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link BooleanValue} to {@link Boolean} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultBooleanValueToBooleanConverter implements ValueConverter<BooleanValue, Boolean> {
+public class DefaultBooleanValueToBooleanConverter
+    implements ValueConverter<BooleanValue, Boolean>, MessageUnpackerConverter<Boolean> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -17,4 +22,9 @@ public class DefaultBooleanValueToBooleanConverter implements ValueConverter<Boo
     public Boolean fromValue(BooleanValue value) {
         return value.getBoolean();
     }
+
+    @Override
+    public Boolean fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return unpacker.unpackBoolean();
+    }
 }
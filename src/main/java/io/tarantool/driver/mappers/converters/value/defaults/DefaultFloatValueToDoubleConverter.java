@@ -1,15 +1,20 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.FloatValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link FloatValue} to {@link Double} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultFloatValueToDoubleConverter implements ValueConverter<FloatValue, Double> {
+public class DefaultFloatValueToDoubleConverter
+    implements ValueConverter<FloatValue, Double>, MessageUnpackerConverter<Double> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -17,4 +22,9 @@ public class DefaultFloatValueToDoubleConverter implements ValueConverter<FloatV
     public Double fromValue(FloatValue value) {
         return value.toDouble();
     }
+
+    @Override
+    public Double fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return unpacker.unpackDouble();
+    }
 }
@@ -1,15 +1,24 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.IntegerValue;
 
+import java.io.IOException;
+import java.math.BigInteger;
+
 /**
- * Default {@link IntegerValue} to {@link Integer} converter
+ * Default {@link IntegerValue} to {@link Integer} converter. When reading from the MessagePack stream, the numbers
+ * which are out of the {@link Integer} range are returned as {@link Long}, like the values are converted by
+ * {@link DefaultIntegerValueToLongConverter} after this converter declines them.
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultIntegerValueToIntegerConverter implements ValueConverter<IntegerValue, Integer> {
+public class DefaultIntegerValueToIntegerConverter
+    implements ValueConverter<IntegerValue, Integer>, MessageUnpackerConverter<Number> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -22,4 +31,15 @@ public class DefaultIntegerValueToIntegerConverter implements ValueConverter<Int
     public boolean canConvertValue(IntegerValue value) {
         return value.isInIntRange();
     }
+
+    @Override
+    public Number fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        if (unpacker.getNextFormat() == MessageFormat.UINT64) {
+            BigInteger value = unpacker.unpackBigInteger();
+            // the same overflow behavior as for the values
+            return value.bitLength() < Integer.SIZE ? (Number) value.intValue() : (Number) value.longValue();
+        }
+        long value = unpacker.unpackLong();
+        return value == (int) value ? (Number) (int) value : (Number) value;
+    }
 }
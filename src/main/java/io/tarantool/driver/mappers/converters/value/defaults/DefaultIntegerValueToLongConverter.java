@@ -1,15 +1,21 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.IntegerValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link IntegerValue} to {@link Long} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultIntegerValueToLongConverter implements ValueConverter<IntegerValue, Long> {
+public class DefaultIntegerValueToLongConverter
+    implements ValueConverter<IntegerValue, Long>, MessageUnpackerConverter<Long> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -17,4 +23,13 @@ public class DefaultIntegerValueToLongConverter implements ValueConverter<Intege
     public Long fromValue(IntegerValue value) {
         return value.toLong();
     }
+
+    @Override
+    public Long fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        if (unpacker.getNextFormat() == MessageFormat.UINT64) {
+            // the same overflow behavior as for the values
+            return unpacker.unpackBigInteger().longValue();
+        }
+        return unpacker.unpackLong();
+    }
 }
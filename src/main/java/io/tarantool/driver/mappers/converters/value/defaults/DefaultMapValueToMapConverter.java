@@ -1,9 +1,14 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
 import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
 
+import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -12,7 +17,8 @@ import java.util.stream.Collectors;
  *
  * @author Alexey Kuzin
  */
-public class DefaultMapValueToMapConverter implements ValueConverter<MapValue, Map<?, ?>> {
+public class DefaultMapValueToMapConverter
+    implements ValueConverter<MapValue, Map<?, ?>>, MessageUnpackerConverter<Map<?, ?>> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -28,4 +34,21 @@ public class DefaultMapValueToMapConverter implements ValueConverter<MapValue, M
             .filter(e -> !e.getValue().isNilValue())
             .collect(Collectors.toMap(e -> mapper.fromValue(e.getKey()), e -> mapper.fromValue(e.getValue())));
     }
+
+    @Override
+    public Map<?, ?> fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        int size = unpacker.unpackMapHeader();
+        Map<Object, Object> result = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Object key = mapper.fromUnpacker(unpacker);
+            if (unpacker.getNextFormat() == MessageFormat.NIL) {
+                unpacker.unpackNil();
+                continue;
+            }
+            if (result.put(key, mapper.fromUnpacker(unpacker)) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", key));
+            }
+        }
+        return result;
+    }
 }
@@ -1,15 +1,20 @@
 package io.tarantool.driver.mappers.converters.value.defaults;
 
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.StringValue;
 
+import java.io.IOException;
+
 /**
  * Default {@link StringValue} to {@link String} converter
  *
  * @author Alexey Kuzin
  * @author Artyom Dubinin
  */
-public class DefaultStringValueToStringConverter implements ValueConverter<StringValue, String> {
+public class DefaultStringValueToStringConverter
+    implements ValueConverter<StringValue, String>, MessageUnpackerConverter<String> {
 
     private static final long serialVersionUID = 20220418L;
 
@@ -17,4 +22,9 @@ public class DefaultStringValueToStringConverter implements ValueConverter<Strin
     public String fromValue(StringValue value) {
         return value.asString();
     }
+
+    @Override
+    public String fromUnpacker(MessageUnpacker unpacker) throws IOException {
+        return unpacker.unpackString();
+    }
 }
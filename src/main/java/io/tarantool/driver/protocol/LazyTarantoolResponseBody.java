@@ -0,0 +1,99 @@
+package io.tarantool.driver.protocol;
+
+import io.netty.buffer.ByteBuf;
+import io.tarantool.driver.codecs.ByteBufUnpackers;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Represents non-empty body, which data is kept in the serialized form until it is requested for the first time.
+ * The data is decoded at most once, after that the underlying buffer is released. The instances are not thread-safe
+ * and are expected to be consumed in the channel event loop.
+ * <p>
+ * If the mapper used for the data conversion has a {@link MessageUnpackerConverter} for the data, the data is
+ * converted directly from the buffer, without creating the intermediate {@link Value}.
+ *
+ * @author Alexey Kuzin
+ */
+public class LazyTarantoolResponseBody implements TarantoolResponseBody {
+    private final TarantoolResponseBodyType responseBodyType;
+    private ByteBuf buffer;
+    private Value data;
+
+    /**
+     * Basic constructor.
+     *
+     * @param code   first key in the body MP_MAP value
+     * @param buffer buffer containing the serialized data (of type MP_OBJECT), the ownership is taken
+     * @throws TarantoolProtocolException if the specified code doesn't correspond to a valid
+     *                                    {@link TarantoolResponseBodyType}
+     */
+    public LazyTarantoolResponseBody(int code, ByteBuf buffer) throws TarantoolProtocolException {
+        try {
+            this.responseBodyType = TarantoolResponseBodyType.fromCode(code);
+        } catch (TarantoolProtocolException e) {
+            buffer.release();
+            throw e;
+        }
+        this.buffer = buffer;
+    }
+
+    @Override
+    public TarantoolResponseBodyType getResponseBodyType() {
+        return responseBodyType;
+    }
+
+    @Override
+    public Value getData() {
+        if (data == null) {
+            if (buffer == null) {
+                throw new TarantoolClientException("Response body has been already released");
+            }
+            try {
+                data = ByteBufUnpackers.unpacker(buffer).unpackValue();
+            } catch (IOException | MessagePackException e) {
+                throw new TarantoolClientException("Failed to decode the response body", e);
+            } finally {
+                release();
+            }
+        }
+        return data;
+    }
+
+    @Override
+    public <T> T getData(MessagePackValueMapper mapper) {
+        if (data != null || buffer == null) {
+            return mapper.fromValue(getData());
+        }
+        try {
+            MessageUnpacker unpacker = ByteBufUnpackers.unpacker(buffer);
+            Optional<MessageUnpackerConverter<T>> converter =
+                mapper.getUnpackerConverter(unpacker.getNextFormat().getValueType());
+            if (!converter.isPresent()) {
+                return mapper.fromValue(getData());
+            }
+            try {
+                return converter.get().fromUnpacker(unpacker);
+            } finally {
+                release();
+            }
+        } catch (IOException | MessagePackException e) {
+            throw new TarantoolClientException("Failed to decode the response body", e);
+        }
+    }
+
+    @Override
+    public void release() {
+        if (buffer != null) {
+            buffer.release();
+            buffer = null;
+        }
+    }
+}
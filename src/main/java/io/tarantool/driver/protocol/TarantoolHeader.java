@@ -1,11 +1,16 @@
 package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
+import org.msgpack.core.MessagePackException;
+import org.msgpack.core.MessagePacker;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -109,6 +114,16 @@ public final class TarantoolHeader implements Packable {
         return ValueFactory.newMap(values);
     }
 
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packMapHeader(schemaVersion != null ? 3 : 2);
+        packer.packInt(IPROTO_REQUEST_TYPE).packLong(code);
+        packer.packInt(IPROTO_SYNC).packLong(sync);
+        if (schemaVersion != null) {
+            packer.packInt(IPROTO_SCHEMA_VERSION).packLong(schemaVersion);
+        }
+    }
+
     /**
      * Creates an instance of {@link TarantoolHeader} from MessagePack {@link Value}
      *
@@ -161,4 +176,61 @@ public final class TarantoolHeader implements Packable {
         }
         return header;
     }
+
+    /**
+     * Creates an instance of {@link TarantoolHeader} reading the header fields from a {@link MessageUnpacker} one by
+     * one, without unpacking the whole header into a MessagePack {@link Value}. Unknown header fields are skipped
+     *
+     * @param unpacker configured {@link MessageUnpacker} positioned at the start of the header
+     * @return a {@link TarantoolHeader} instance
+     * @throws TarantoolProtocolException if the next value is not a MP_MAP, mandatory fields are absent
+     *                                    or have wrong type
+     * @throws IOException                if reading from the unpacker input failed
+     */
+    public static TarantoolHeader fromMessagePack(MessageUnpacker unpacker)
+        throws TarantoolProtocolException, IOException {
+        if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+            throw new TarantoolProtocolException("TarantoolHeader can be unpacked only from MP_MAP, received "
+                + unpacker.getNextFormat().getValueType());
+        }
+        TarantoolHeader header = new TarantoolHeader();
+        try {
+            for (int size = unpacker.unpackMapHeader(); size > 0; size--) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.INTEGER) {
+                    throw new TarantoolProtocolException("TarantoolHeader keys must be of MP_INT type");
+                }
+                switch (unpacker.unpackInt()) {
+                    case IPROTO_REQUEST_TYPE:
+                        header.setCode(unpacker.unpackLong());
+                        break;
+                    case IPROTO_SYNC:
+                        header.setSync(unpacker.unpackLong());
+                        break;
+                    case IPROTO_SCHEMA_VERSION:
+                        header.setSchemaVersion(unpacker.unpackLong());
+                        break;
+                    case IPROTO_LSN:
+                        header.setLsn(unpacker.unpackLong());
+                        break;
+                    case IPROTO_REPLICA_ID:
+                        header.setReplicaId(unpacker.unpackLong());
+                        break;
+                    case IPROTO_TIMESTAMP:
+                        header.setTimestamp(unpacker.unpackDouble());
+                        break;
+                    default:
+                        unpacker.skipValue();
+                }
+            }
+        } catch (MessagePackException e) {
+            throw new TarantoolProtocolException("TarantoolHeader values must be of MP_INT type");
+        }
+        if (header.getCode() == null) {
+            throw new TarantoolProtocolException("No request or response code found");
+        }
+        if (header.getSync() == null) {
+            throw new TarantoolProtocolException("No sync ID found");
+        }
+        return header;
+    }
 }
@@ -1,13 +1,12 @@
 package io.tarantool.driver.protocol;
 
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessagePacker;
 
 import java.io.IOException;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.function.Supplier;
 
 /**
  * Base class for all kinds of requests to Tarantool server.
@@ -18,23 +17,23 @@ import java.util.function.Supplier;
  */
 public class TarantoolRequest {
 
-    private static final AtomicLong syncId = new AtomicLong(0);
-    private static final Supplier<Long> syncIdSupplier =
-        () -> syncId.updateAndGet(n -> (n >= Long.MAX_VALUE) ? 1 : n + 1);
-
     private final TarantoolHeader header;
     private final TarantoolRequestBody body;
+    private final TarantoolDeadline deadline;
 
     /**
-     * Basic constructor. Sets an auto-incremented request ID into the Tarantool packet header.
+     * Basic constructor. The request ID in the Tarantool packet header is assigned by the connection when the request
+     * is sent, see {@link io.tarantool.driver.core.RequestFutureManager}. The request gets the deadline of the current
+     * operation, if there is one (see {@link TarantoolDeadline#current()}).
      *
      * @param type request type code supported by Tarantool
      * @param body request body, may be empty
      * @see TarantoolRequestType
      */
     public TarantoolRequest(TarantoolRequestType type, TarantoolRequestBody body) {
-        this.header = new TarantoolHeader(syncIdSupplier.get(), type.getCode());
+        this.header = new TarantoolHeader(0L, type.getCode());
         this.body = body;
+        this.deadline = TarantoolDeadline.current();
     }
 
     /**
@@ -55,6 +54,15 @@ public class TarantoolRequest {
         return body;
     }
 
+    /**
+     * Get the deadline of the operation the request belongs to
+     *
+     * @return deadline or null, if the request is not bounded by an operation deadline
+     */
+    public TarantoolDeadline getDeadline() {
+        return deadline;
+    }
+
     /**
      * Encode incapsulated data using {@link MessagePacker}
      *
@@ -65,8 +73,8 @@ public class TarantoolRequest {
     public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper)
         throws TarantoolDecoderException {
         try {
-            packer.packValue(header.toMessagePackValue(mapper));
-            packer.packValue(body.toMessagePackValue(mapper));
+            header.toMessagePack(packer, mapper);
+            body.toMessagePack(packer, mapper);
         } catch (IOException | MessagePackException e) {
             throw new TarantoolDecoderException(header, e);
         }
@@ -0,0 +1,88 @@
+package io.tarantool.driver.protocol;
+
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ordered list of requests which are sent to the same connection at once. The requests are packed back-to-back into
+ * a single buffer and flushed together. Each request has its own result future, which is completed when the
+ * corresponding response is received.
+ * <p>
+ * The instances are not thread-safe.
+ *
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestBatch {
+
+    private final List<TarantoolRequest> requests = new ArrayList<>();
+    private final List<MessagePackValueMapper> resultMappers = new ArrayList<>();
+    private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+    /**
+     * Add a request to the end of the batch
+     *
+     * @param request      the request
+     * @param resultMapper the mapper for response body
+     * @param <T>          result type
+     * @return result future
+     */
+    public <T> CompletableFuture<T> add(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+        Assert.notNull(request, "Request must not be null");
+        Assert.notNull(resultMapper, "Result mapper must not be null");
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        requests.add(request);
+        resultMappers.add(resultMapper);
+        futures.add(future);
+        return future;
+    }
+
+    /**
+     * Get the requests in the order they were added
+     *
+     * @return list of requests
+     */
+    public List<TarantoolRequest> getRequests() {
+        return requests;
+    }
+
+    /**
+     * Get the response body mappers in the order the requests were added
+     *
+     * @return list of mappers
+     */
+    public List<MessagePackValueMapper> getResultMappers() {
+        return resultMappers;
+    }
+
+    /**
+     * Get the result futures in the order the requests were added
+     *
+     * @return list of futures
+     */
+    public List<CompletableFuture<?>> getFutures() {
+        return futures;
+    }
+
+    /**
+     * Get the number of requests in the batch
+     *
+     * @return number of requests
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * Check if the batch contains no requests
+     *
+     * @return true, if the batch is empty
+     */
+    public boolean isEmpty() {
+        return requests.isEmpty();
+    }
+}
@@ -2,10 +2,12 @@ package io.tarantool.driver.protocol;
 
 import io.tarantool.driver.mappers.MessagePackObjectMapper;
 import io.tarantool.driver.mappers.MessagePackValueMapperException;
+import org.msgpack.core.MessagePacker;
 import org.msgpack.value.IntegerValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,7 +19,7 @@ import java.util.Map;
  */
 public class TarantoolRequestBody implements Packable {
 
-    private final Map<IntegerValue, Value> values;
+    private final Map<Integer, Value> values;
 
     /**
      * In rare cases, the body may be empty. Creates a request with empty body
@@ -41,7 +43,7 @@ public class TarantoolRequestBody implements Packable {
         try {
             this.values = new HashMap<>(body.size(), 1);
             for (Integer key : body.keySet()) {
-                values.put(ValueFactory.newInteger(key), mapper.toValue(body.get(key)));
+                values.put(key, mapper.toValue(body.get(key)));
             }
         } catch (MessagePackValueMapperException e) {
             throw new TarantoolProtocolException(e);
@@ -50,6 +52,19 @@ public class TarantoolRequestBody implements Packable {
 
     @Override
     public Value toMessagePackValue(MessagePackObjectMapper mapper) {
-        return ValueFactory.newMap(values);
+        Map<IntegerValue, Value> mapValues = new HashMap<>(values.size(), 1);
+        for (Map.Entry<Integer, Value> entry : values.entrySet()) {
+            mapValues.put(ValueFactory.newInteger(entry.getKey()), entry.getValue());
+        }
+        return ValueFactory.newMap(mapValues);
+    }
+
+    @Override
+    public void toMessagePack(MessagePacker packer, MessagePackObjectMapper mapper) throws IOException {
+        packer.packMapHeader(values.size());
+        for (Map.Entry<Integer, Value> entry : values.entrySet()) {
+            packer.packInt(entry.getKey());
+            packer.packValue(entry.getValue());
+        }
     }
 }
@@ -17,6 +17,7 @@ public enum TarantoolRequestType {
     IPROTO_EVAL(0x08),
     IPROTO_UPSERT(0x09),
     IPROTO_CALL(0x0a),
+    IPROTO_PING(0x40),
     IPROTO_SUBSCRIBE(0x42),
     IPROTO_JOIN(0x41),
     IPROTO_FETCH_SNAP(0x45);
@@ -1,10 +1,15 @@
 package io.tarantool.driver.protocol;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.util.AbstractReferenceCounted;
+import io.netty.util.ReferenceCounted;
+import io.tarantool.driver.codecs.ByteBufUnpackers;
 import io.tarantool.driver.exceptions.TarantoolDecoderException;
 import org.msgpack.core.MessagePackException;
 import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
+import org.msgpack.value.ValueType;
 
 import java.io.IOException;
 import java.util.Iterator;
@@ -16,10 +21,14 @@ import java.util.Iterator;
  * <a href="https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-if-no-error-and-no-sql">
  * https://www.tarantool.io/en/doc/latest/dev_guide/internals/box_protocol/#binary-protocol-responses-if-no-error-and
  * -no-sql</a>
+ * <p>
+ * The responses decoded from Netty buffers hold the serialized body data until it is consumed, so they are
+ * reference-counted and must be released after processing. Releasing a response that doesn't hold any buffers is
+ * no-op.
  *
  * @author Alexey Kuzin
  */
-public final class TarantoolResponse {
+public final class TarantoolResponse extends AbstractReferenceCounted {
     private final Long syncId;
     private final Long code;
     private final TarantoolResponseBody body;
@@ -98,6 +107,16 @@ public final class TarantoolResponse {
         return code;
     }
 
+    @Override
+    protected void deallocate() {
+        body.release();
+    }
+
+    @Override
+    public ReferenceCounted touch(Object hint) {
+        return this;
+    }
+
     /**
      * Create Tarantool response from the decoded binary data using {@link MessageUnpacker}
      *
@@ -137,4 +156,50 @@ public final class TarantoolResponse {
             throw new TarantoolProtocolException(e);
         }
     }
+
+    /**
+     * Create Tarantool response from a buffer containing a single frame without the length prefix. Only the header
+     * and the first key of the body are decoded, the body data is kept in a retained slice of the passed buffer until
+     * it is requested. The buffer itself is not released.
+     *
+     * @param frame buffer with the frame data
+     * @return Tarantool response with the lazily decoded body
+     * @throws TarantoolProtocolException if the unpacked data is invalid
+     * @see LazyTarantoolResponseBody
+     */
+    public static TarantoolResponse fromMessagePack(ByteBuf frame) throws TarantoolProtocolException {
+        TarantoolHeader header = null;
+        try {
+            MessageUnpacker unpacker = ByteBufUnpackers.unpacker(frame);
+            header = TarantoolHeader.fromMessagePack(unpacker);
+            TarantoolResponseBody responseBody = new EmptyTarantoolResponseBody();
+
+            if (unpacker.hasNext()) {
+                if (unpacker.getNextFormat().getValueType() != ValueType.MAP) {
+                    throw new TarantoolProtocolException("Response body must be of MP_MAP type");
+                }
+                if (unpacker.unpackMapHeader() > 0) {
+                    if (unpacker.getNextFormat().getValueType() != ValueType.INTEGER) {
+                        throw new TarantoolProtocolException("Response body first key must be of MP_INT type");
+                    }
+                    int key = unpacker.unpackInt();
+                    int offset = (int) unpacker.getTotalReadBytes();
+                    responseBody = new LazyTarantoolResponseBody(
+                        key, frame.retainedSlice(frame.readerIndex() + offset, frame.readableBytes() - offset));
+                }
+            }
+
+            try {
+                return new TarantoolResponse(header.getSync(), header.getCode(), responseBody);
+            } catch (TarantoolProtocolException | RuntimeException e) {
+                responseBody.release();
+                throw e;
+            }
+        } catch (IOException | MessagePackException e) {
+            if (header != null) {
+                throw new TarantoolDecoderException(header, e);
+            }
+            throw new TarantoolProtocolException(e);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package io.tarantool.driver.protocol;
 
+import io.tarantool.driver.mappers.MessagePackValueMapper;
 import org.msgpack.value.Value;
 
 /**
@@ -21,4 +22,21 @@ public interface TarantoolResponseBody {
      * @return a MessagePack entity
      */
     Value getData();
+
+    /**
+     * Convert the response body data into a Java object
+     *
+     * @param mapper value mapper for the conversion
+     * @param <T>    target object type
+     * @return converted data
+     */
+    default <T> T getData(MessagePackValueMapper mapper) {
+        return mapper.fromValue(getData());
+    }
+
+    /**
+     * Release the resources held by the response body data, if any. The data cannot be read after this call
+     */
+    default void release() {
+    }
 }
@@ -1,22 +1,23 @@
 package io.tarantool.driver.utils;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This iterator is lock-free and loops infinitely over a collection.
+ * <p>
+ * The items are copied into an immutable array, and the position is advanced with a single atomic increment, so the
+ * concurrent calls of {@link #next()} never block or retry and the items are still returned in strict round-robin
+ * order.
  *
  * @author Alexey Kuzin
  * @author Sergey Volgin
  */
 public class CyclingIterator<T> implements Iterator<T> {
 
-    private final List<T> items;
-    private final int size;
+    private final Object[] items;
     private final AtomicInteger position = new AtomicInteger(0);
 
     /**
@@ -25,17 +26,21 @@ public class CyclingIterator<T> implements Iterator<T> {
      * @param items collection to iterate over
      */
     public CyclingIterator(Collection<T> items) {
-        this.items = Collections.synchronizedList(new ArrayList<>(items));
-        this.size = items.size();
+        this.items = items.toArray();
     }
 
     @Override
     public boolean hasNext() {
-        return size > 0;
+        return items.length > 0;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T next() {
-        return items.get(position.getAndUpdate(p -> (p + 1) % size));
+        if (items.length == 0) {
+            throw new NoSuchElementException();
+        }
+        // the position may overflow, floorMod keeps the index non-negative
+        return (T) items[Math.floorMod(position.getAndIncrement(), items.length)];
     }
 }
@@ -0,0 +1,67 @@
+package io.tarantool.driver.api;
+
+import io.tarantool.driver.api.tuple.TarantoolTuple;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolClientResourcesTest {
+
+    @Test
+    public void test_release_shouldShutDownEventLoopGroup_ifLastReferenceIsReleased() {
+        //given
+        TarantoolClientResources resources = TarantoolClientResources.builder()
+            .withEventLoopThreadsNumber(1)
+            .build();
+        resources.retain();
+
+        //when
+        boolean deallocated = resources.release();
+
+        //then
+        assertFalse(deallocated);
+        assertFalse(resources.getEventLoopGroup().isShuttingDown());
+
+        //when
+        deallocated = resources.release();
+
+        //then
+        assertTrue(deallocated);
+        assertTrue(resources.getEventLoopGroup().isShuttingDown());
+    }
+
+    @Test
+    public void test_clients_shouldShareResources_andReleaseThemOnClose() throws Exception {
+        //given
+        TarantoolClientResources resources = TarantoolClientResources.builder()
+            .withEventLoopThreadsNumber(1)
+            .build();
+        TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> first = TarantoolClientFactory.createClient()
+            .withClientResources(resources)
+            .build();
+        TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> second = TarantoolClientFactory.createClient()
+            .withClientResources(resources)
+            .build();
+
+        //then
+        assertSame(resources, first.getConfig().getClientResources());
+        assertEquals(3, resources.refCnt());
+
+        //when
+        first.close();
+        first.close();
+        second.close();
+
+        //then
+        assertEquals(1, resources.refCnt());
+        assertFalse(resources.getEventLoopGroup().isShuttingDown());
+        resources.release();
+        assertTrue(resources.getEventLoopGroup().isShuttingDown());
+    }
+}
@@ -0,0 +1,66 @@
+package io.tarantool.driver.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolDeadlineTest {
+
+    @Test
+    public void test_run_shouldBindDeadline_andKeepEarliestOne() {
+        //given
+        TarantoolDeadline outer = TarantoolDeadline.after(100);
+        TarantoolDeadline later = TarantoolDeadline.after(1000);
+        TarantoolDeadline earlier = TarantoolDeadline.after(10);
+
+        //when
+        outer.run(() -> {
+            //then
+            assertSame(outer, TarantoolDeadline.current());
+            assertSame(outer, later.run(TarantoolDeadline::current));
+            assertSame(earlier, earlier.run(TarantoolDeadline::current));
+            assertSame(outer, TarantoolDeadline.current());
+            return null;
+        });
+        assertNull(TarantoolDeadline.current());
+    }
+
+    @Test
+    public void test_wrap_shouldBindDeadline_inAnotherThread() throws Exception {
+        //given
+        TarantoolDeadline deadline = TarantoolDeadline.after(1000);
+        Supplier<TarantoolDeadline> action = deadline.wrap(TarantoolDeadline::current);
+
+        //when
+        TarantoolDeadline result = CompletableFuture.supplyAsync(action).get();
+
+        //then
+        assertSame(deadline, result);
+    }
+
+    @Test
+    public void test_remaining_shouldDecrease_untilDeadlineExpires() throws Exception {
+        //given
+        TarantoolDeadline deadline = TarantoolDeadline.after(50);
+
+        //then
+        assertFalse(deadline.isExpired());
+        assertTrue(deadline.remaining() <= 50 && deadline.remaining() > 0);
+
+        //when
+        Thread.sleep(60);
+
+        //then
+        assertTrue(deadline.isExpired());
+        assertTrue(deadline.remaining() == 0);
+    }
+}
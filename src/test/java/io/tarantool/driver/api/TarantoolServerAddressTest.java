@@ -1,11 +1,15 @@
 package io.tarantool.driver.api;
 
+import io.netty.channel.unix.DomainSocketAddress;
+import io.tarantool.driver.exceptions.TarantoolSocketException;
 import org.junit.jupiter.api.Test;
 
 import java.net.InetSocketAddress;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 /**
@@ -161,4 +165,49 @@ public class TarantoolServerAddressTest {
     public void test_should_throwExceptionIfPortIsNegative() {
         assertThrows(IllegalArgumentException.class, () -> new TarantoolServerAddress("localhost:-3301"));
     }
+
+    @Test
+    public void test_should_parseUnixDomainSocketAddress() {
+        //given
+        final String address = "test:test@unix/:/var/run/tarantool/router.sock";
+
+        //when
+        final TarantoolServerAddress tarantoolServerAddress = new TarantoolServerAddress(address);
+
+        //then
+        assertTrue(tarantoolServerAddress.isDomainSocket());
+        assertEquals("/var/run/tarantool/router.sock", tarantoolServerAddress.getDomainSocketPath());
+        assertEquals(new DomainSocketAddress("/var/run/tarantool/router.sock"),
+            tarantoolServerAddress.toSocketAddress());
+        assertEquals("unix/:/var/run/tarantool/router.sock", tarantoolServerAddress.toString());
+        assertEquals(new TarantoolServerAddress("unix/:/var/run/tarantool/router.sock"), tarantoolServerAddress);
+        assertThrows(TarantoolSocketException.class, tarantoolServerAddress::getSocketAddress);
+    }
+
+    @Test
+    public void test_should_throwException_ifUnixDomainSocketPathIsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> new TarantoolServerAddress("unix/:"));
+    }
+
+    @Test
+    public void test_withRole_shouldTagCopy_andKeepEquality() {
+        //given
+        TarantoolServerAddress address = new TarantoolServerAddress("localhost", 3301);
+
+        //when
+        TarantoolServerAddress tagged = address
+            .withRole(TarantoolServerRole.fromString("Replica"))
+            .withReplicaset("storage-1")
+            .withZone("dc1");
+
+        //then
+        assertEquals(TarantoolServerRole.UNKNOWN, address.getRole());
+        assertNull(address.getZone());
+        assertEquals(TarantoolServerRole.REPLICA, tagged.getRole());
+        assertEquals("storage-1", tagged.getReplicaset());
+        assertEquals("dc1", tagged.getZone());
+        assertEquals(address, tagged);
+        assertEquals(address.hashCode(), tagged.hashCode());
+        assertEquals(TarantoolServerRole.UNKNOWN, TarantoolServerRole.fromString("leader"));
+    }
 }
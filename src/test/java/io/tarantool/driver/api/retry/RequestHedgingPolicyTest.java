@@ -0,0 +1,165 @@
+package io.tarantool.driver.api.retry;
+
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+class RequestHedgingPolicyTest {
+
+    private final Executor executor = Executors.newWorkStealingPool();
+
+    @Test
+    void test_wrapOperation_shouldReturnHedgeResult_ifPrimaryIsSlow() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder().withDelay(10).withBudget(1).build();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<String> result = policy.wrapOperation(
+            () -> attempts.getAndIncrement() == 0 ? primary : CompletableFuture.completedFuture("hedge"), executor);
+
+        //then
+        assertEquals("hedge", result.get(1, TimeUnit.SECONDS));
+        assertEquals(2, attempts.get());
+        assertEquals(1, policy.getHedgesCount());
+        assertTrue(primary.isCancelled());
+    }
+
+    @Test
+    void test_wrapOperation_shouldNotHedge_ifPrimaryIsFast() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder().withDelay(10).withBudget(1).build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<String> result = policy.wrapOperation(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("primary");
+        }, executor);
+        Thread.sleep(50);
+
+        //then
+        assertEquals("primary", result.get());
+        assertEquals(1, attempts.get());
+        assertEquals(0, policy.getHedgesCount());
+    }
+
+    @Test
+    void test_wrapOperation_shouldLimitHedges_byBudget() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder().withDelay(10).withBudget(0.5).build();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 4; i++) {
+            policy.wrapOperation(() -> {
+                attempts.incrementAndGet();
+                return new CompletableFuture<String>();
+            }, executor);
+        }
+        Thread.sleep(200);
+
+        //then
+        assertEquals(2, policy.getHedgesCount());
+        assertEquals(6, attempts.get());
+    }
+
+    @Test
+    void test_wrapOperation_shouldFail_ifBothAttemptsFailed() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder().withDelay(10).withBudget(1).build();
+        CompletableFuture<String> primary = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        CompletableFuture<String> result = policy.wrapOperation(() -> {
+            if (attempts.getAndIncrement() == 0) {
+                return primary;
+            }
+            CompletableFuture<String> hedge = new CompletableFuture<>();
+            hedge.completeExceptionally(new TarantoolClientException("Hedge failed"));
+            return hedge;
+        }, executor);
+
+        //then
+        Thread.sleep(50);
+        assertFalse(result.isDone());
+
+        //when
+        primary.completeExceptionally(new TarantoolClientException("Primary failed"));
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, result::get);
+        assertEquals("Primary failed", e.getCause().getMessage());
+    }
+
+    @Test
+    void test_wrapOperation_shouldFail_ifPrimaryFailsWhileHedgeIsRejectedByBudget() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder().withDelay(1).withBudget(0.001).build();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+
+        //when
+        try {
+            for (int i = 0; i < 500; i++) {
+                // the primary attempts fail at about the time the hedge timer fires, and the budget is empty
+                results.add(policy.wrapOperation(() -> {
+                    CompletableFuture<String> primary = new CompletableFuture<>();
+                    scheduler.schedule(
+                        () -> primary.completeExceptionally(new TarantoolClientException("Primary failed")),
+                        ThreadLocalRandom.current().nextInt(500, 1500), TimeUnit.MICROSECONDS);
+                    return primary;
+                }, executor));
+            }
+
+            //then
+            for (CompletableFuture<String> result : results) {
+                ExecutionException e = assertThrows(ExecutionException.class, () -> result.get(1, TimeUnit.SECONDS));
+                assertEquals("Primary failed", e.getCause().getMessage());
+            }
+            assertEquals(0, policy.getHedgesCount());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void test_getDelay_shouldFollowLatencyPercentile_afterEnoughSamples() throws Exception {
+        //given
+        RequestHedgingPolicy policy = RequestHedgingPolicy.builder()
+            .withDelay(100)
+            .withLatencyPercentile(0.95)
+            .build();
+
+        //then
+        assertEquals(TimeUnit.MILLISECONDS.toMicros(100), policy.getDelay());
+
+        //when
+        for (int i = 0; i < 128; i++) {
+            policy.wrapOperation(() -> CompletableFuture.completedFuture(true), executor).get();
+        }
+
+        //then
+        assertTrue(policy.getDelay() < TimeUnit.MILLISECONDS.toMicros(100));
+    }
+}
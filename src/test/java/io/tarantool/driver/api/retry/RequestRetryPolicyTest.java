@@ -1,17 +1,22 @@
 package io.tarantool.driver.api.retry;
 
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.exceptions.TarantoolAttemptsLimitException;
+import io.tarantool.driver.exceptions.TarantoolCircuitBreakerOpenException;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.exceptions.TarantoolConnectionException;
 import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -97,6 +102,191 @@ class RequestRetryPolicyTest {
         assertTrue(diff >= 30);
     }
 
+    @Test
+    void testAttemptsBoundRetryPolicy_exponentialBackoff() throws ExecutionException, InterruptedException {
+        AtomicReference<Integer> retries = new AtomicReference<>(3);
+        RequestRetryPolicy policy = TarantoolRequestRetryPolicies.byNumberOfAttempts(3)
+            .withDelay(10)
+            .withExponentialBackoff(1000, RetryJitter.NONE)
+            .build().create();
+        Instant now = Instant.now();
+        CompletableFuture<Boolean> wrappedFuture = policy.wrapOperation(
+            () -> failingWithNetworkIfAvailableRetriesFuture(retries.getAndUpdate(r -> r - 1)), executor);
+        assertTrue(wrappedFuture.get());
+        long diff = Instant.now().toEpochMilli() - now.toEpochMilli();
+        // 10 + 20 + 40 ms
+        assertTrue(diff >= 70);
+    }
+
+    @Test
+    void testAttemptsBoundRetryPolicy_retryBudgetExhausted() throws InterruptedException {
+        RetryBudget budget = RetryBudget.builder().withRatio(0.5).withMaxTokens(1).build();
+        TarantoolRequestRetryPolicies.AttemptsBoundRetryPolicyFactory<?> factory =
+            TarantoolRequestRetryPolicies.byNumberOfAttempts(3).withRetryBudget(budget).build();
+
+        AtomicReference<Integer> retries = new AtomicReference<>(3);
+        CompletableFuture<Boolean> wrappedFuture = factory.create().wrapOperation(
+            () -> failingWithNetworkIfAvailableRetriesFuture(retries.getAndUpdate(r -> r - 1)), executor);
+        ExecutionException thrown = null;
+        try {
+            wrappedFuture.get();
+        } catch (ExecutionException e) {
+            thrown = e;
+            assertEquals(TarantoolInternalNetworkException.class, e.getCause().getClass());
+            assertEquals("Should fail 2 times", e.getCause().getMessage());
+        }
+        assertNotNull(thrown, "No exception has been thrown");
+        assertEquals(1, budget.getRetriesCount());
+        assertEquals(1, budget.getRejectedRetriesCount());
+    }
+
+    @Test
+    void testInfiniteRetryPolicy_retryBudgetRefilledBySuccesses() throws ExecutionException, InterruptedException {
+        RetryBudget budget = RetryBudget.builder().withRatio(0.5).withMaxTokens(1).build();
+        RequestRetryPolicyFactory factory = TarantoolRequestRetryPolicies.unbound().withRetryBudget(budget).build();
+
+        AtomicReference<Integer> retries = new AtomicReference<>(1);
+        assertTrue(factory.create().wrapOperation(
+            () -> failingWithNetworkIfAvailableRetriesFuture(retries.getAndUpdate(r -> r - 1)), executor).get());
+        assertEquals(0.5, budget.getAvailableTokens());
+        assertTrue(factory.create().wrapOperation(this::simpleSuccessFuture, executor).get());
+        assertEquals(1.0, budget.getAvailableTokens());
+        assertEquals(1, budget.getRetriesCount());
+        assertEquals(0, budget.getRejectedRetriesCount());
+    }
+
+    @Test
+    void testRetryPolicies_firstAttemptInCallerThread_retriesInExecutor()
+        throws ExecutionException, InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        Executor countingExecutor = command -> {
+            executions.incrementAndGet();
+            executor.execute(command);
+        };
+        for (RequestRetryPolicyFactory factory : Arrays.<RequestRetryPolicyFactory>asList(
+            TarantoolRequestRetryPolicies.byNumberOfAttempts(3).build(),
+            TarantoolRequestRetryPolicies.unbound().withRequestTimeout(1000).withOperationTimeout(1000).build())) {
+            executions.set(0);
+            AtomicReference<Thread> attemptThread = new AtomicReference<>();
+            assertTrue(factory.create().wrapOperation(() -> {
+                attemptThread.set(Thread.currentThread());
+                return simpleSuccessFuture();
+            }, countingExecutor).get());
+            assertEquals(Thread.currentThread(), attemptThread.get());
+            assertEquals(0, executions.get());
+
+            AtomicReference<Integer> retries = new AtomicReference<>(1);
+            assertTrue(factory.create().wrapOperation(
+                () -> failingWithNetworkIfAvailableRetriesFuture(retries.getAndUpdate(r -> r - 1)),
+                countingExecutor).get());
+            assertEquals(1, executions.get());
+        }
+    }
+
+    @Test
+    void testInfiniteRetryPolicy_operationTimeoutAfterFailedAttempts() throws InterruptedException {
+        RequestRetryPolicy policy = TarantoolRequestRetryPolicies.unbound()
+            .withRequestTimeout(100)
+            .withOperationTimeout(100)
+            .withDelay(10)
+            .build().create();
+        Instant now = Instant.now();
+        CompletableFuture<Boolean> wrappedFuture = policy.wrapOperation(
+            this::tarantoolServerInternalNetworkExceptionFailingFuture, executor);
+        ExecutionException thrown = null;
+        try {
+            wrappedFuture.get();
+        } catch (ExecutionException e) {
+            thrown = e;
+            assertEquals(TarantoolTimeoutException.class, e.getCause().getClass());
+            assertEquals(TarantoolInternalNetworkException.class, e.getCause().getCause().getClass());
+        }
+        assertNotNull(thrown, "No exception has been thrown");
+        long diff = Instant.now().toEpochMilli() - now.toEpochMilli();
+        assertTrue(diff >= 90);
+    }
+
+    @Test
+    void testRetryPolicies_circuitBreakerOpenNotRetried() throws InterruptedException {
+        RequestRetryPolicy[] policies = {
+            TarantoolRequestRetryPolicies.byNumberOfAttempts(4, throwable -> true).build().create(),
+            TarantoolRequestRetryPolicies.unbound(throwable -> true)
+                .withRequestTimeout(100)
+                .withOperationTimeout(100)
+                .build().create()
+        };
+        for (RequestRetryPolicy policy : policies) {
+            AtomicInteger attempts = new AtomicInteger();
+            CompletableFuture<Boolean> wrappedFuture = policy.wrapOperation(() -> {
+                attempts.incrementAndGet();
+                CompletableFuture<Boolean> result = new CompletableFuture<>();
+                result.completeExceptionally(new TarantoolCircuitBreakerOpenException(null));
+                return result;
+            }, executor);
+            try {
+                wrappedFuture.get();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof TarantoolCircuitBreakerOpenException);
+            }
+            assertEquals(1, attempts.get());
+        }
+    }
+
+    @Test
+    void testRetryPolicies_deadlinePropagatedToAttempts() throws ExecutionException, InterruptedException {
+        RequestRetryPolicy policy = TarantoolRequestRetryPolicies.unbound()
+            .withRequestTimeout(100)
+            .withOperationTimeout(1000)
+            .withDelay(10)
+            .build().create();
+        TarantoolDeadline outer = TarantoolDeadline.after(50);
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<Long> wrappedFuture = outer.run(() -> policy.wrapOperation(() -> {
+            TarantoolDeadline deadline = TarantoolDeadline.current();
+            CompletableFuture<Long> result = new CompletableFuture<>();
+            if (attempts.incrementAndGet() < 3) {
+                result.completeExceptionally(new TarantoolConnectionException(new RuntimeException("Fail")));
+            } else {
+                result.complete(deadline != null ? deadline.getTimeout() : -1);
+            }
+            return result;
+        }, executor));
+        // the retries keep the earliest deadline of the caller operation
+        assertEquals(50L, wrappedFuture.get());
+        assertEquals(3, attempts.get());
+
+        wrappedFuture = policy.wrapOperation(() -> CompletableFuture.completedFuture(
+            TarantoolDeadline.current().getTimeout()), executor);
+        assertEquals(100L, wrappedFuture.get());
+    }
+
+    @Test
+    void testRetryBackoff_delays() {
+        RetryBackoff fixed = new RetryBackoff(100, 0, RetryJitter.FULL);
+        assertEquals(100, fixed.nextDelay());
+        assertEquals(100, fixed.nextDelay());
+
+        RetryBackoff exponential = new RetryBackoff(100, 500, RetryJitter.NONE);
+        assertEquals(100, exponential.nextDelay());
+        assertEquals(200, exponential.nextDelay());
+        assertEquals(400, exponential.nextDelay());
+        assertEquals(500, exponential.nextDelay());
+
+        RetryBackoff full = new RetryBackoff(100, 500, RetryJitter.FULL);
+        for (long bound : new long[]{100, 200, 400, 500, 500}) {
+            long delay = full.nextDelay();
+            assertTrue(delay >= 0 && delay <= bound);
+        }
+
+        RetryBackoff decorrelated = new RetryBackoff(100, 500, RetryJitter.DECORRELATED);
+        long previous = 100;
+        for (int i = 0; i < 10; i++) {
+            long delay = decorrelated.nextDelay();
+            assertTrue(delay >= 100 && delay <= Math.min(500, previous * 3));
+            previous = delay;
+        }
+    }
+
     @Test
     void testAttemptsBoundRetryPolicy_runOutOfAttempts() throws InterruptedException {
         AtomicReference<Integer> retries = new AtomicReference<>(4);
@@ -0,0 +1,149 @@
+package io.tarantool.driver.benchmark;
+
+import io.netty.channel.Channel;
+import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies;
+import io.tarantool.driver.mappers.MessagePackValueMapper;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.utils.CyclingIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of selecting a connection for a request under contention. Run it with
+ * {@code mvn test-compile exec:exec -Pbenchmark -Dexec.args="ConnectionSelectionBenchmark"} for a single thread count
+ * (JMH option {@code -t}), or via {@link #main(String[])} for 1 to 64 threads.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConnectionSelectionBenchmark {
+
+    private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"1", "10"})
+    public int servers;
+
+    @Param({"4"})
+    public int connectionsPerServer;
+
+    private CyclingIterator<TarantoolConnection> iterator;
+    private ConnectionSelectionStrategy roundRobin;
+    private ConnectionSelectionStrategy parallelRoundRobin;
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            Options options = new OptionsBuilder()
+                .include(ConnectionSelectionBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build();
+            new Runner(options).run();
+        }
+    }
+
+    @Setup
+    public void setup() {
+        List<TarantoolConnection> connections = new ArrayList<>();
+        for (int i = 0; i < servers; i++) {
+            for (int j = 0; j < connectionsPerServer; j++) {
+                connections.add(new StubConnection(new InetSocketAddress("127.0.0.1", 3301 + i)));
+            }
+        }
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnections(connectionsPerServer)
+            .build();
+        iterator = new CyclingIterator<>(connections);
+        roundRobin = TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory.INSTANCE
+            .create(config, connections);
+        parallelRoundRobin = TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory.INSTANCE
+            .create(config, connections);
+    }
+
+    @Benchmark
+    public TarantoolConnection cyclingIterator() {
+        return iterator.next();
+    }
+
+    @Benchmark
+    public TarantoolConnection roundRobinStrategy() {
+        return roundRobin.next();
+    }
+
+    @Benchmark
+    public TarantoolConnection parallelRoundRobinStrategy() {
+        return parallelRoundRobin.next();
+    }
+
+    private static final class StubConnection implements TarantoolConnection {
+        private final InetSocketAddress address;
+
+        StubConnection(InetSocketAddress address) {
+            this.address = address;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return address;
+        }
+
+        @Override
+        public TarantoolVersion getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Channel getChannel() {
+            return null;
+        }
+
+        @Override
+        public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        }
+
+        @Override
+        public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
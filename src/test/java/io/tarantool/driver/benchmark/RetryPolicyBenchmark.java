@@ -0,0 +1,56 @@
+package io.tarantool.driver.benchmark;
+
+import io.tarantool.driver.api.retry.RequestRetryPolicyFactory;
+import io.tarantool.driver.api.retry.TarantoolRequestRetryPolicies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the built-in retry policies for the operations which succeed at the first attempt. Run it
+ * with {@code mvn test-compile exec:exec -Pbenchmark -Dexec.args="RetryPolicyBenchmark"}.
+ *
+ * @author Alexey Kuzin
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RetryPolicyBenchmark {
+
+    private final Executor executor = ForkJoinPool.commonPool();
+    private final RequestRetryPolicyFactory attemptsBound =
+        TarantoolRequestRetryPolicies.byNumberOfAttempts(3).withRequestTimeout(1000).build();
+    private final RequestRetryPolicyFactory unbound =
+        TarantoolRequestRetryPolicies.unbound().withOperationTimeout(5000).withRequestTimeout(1000).build();
+    private final RequestRetryPolicyFactory unboundWithoutTimeouts = TarantoolRequestRetryPolicies.unbound().build();
+
+    @Benchmark
+    public Object attemptsBoundPolicy() {
+        return attemptsBound.create().wrapOperation(() -> CompletableFuture.completedFuture(1), executor).join();
+    }
+
+    @Benchmark
+    public Object unboundPolicy() {
+        return unbound.create().wrapOperation(() -> CompletableFuture.completedFuture(1), executor).join();
+    }
+
+    @Benchmark
+    public Object unboundPolicyWithoutTimeouts() {
+        return unboundWithoutTimeouts.create()
+            .wrapOperation(() -> CompletableFuture.completedFuture(1), executor).join();
+    }
+}
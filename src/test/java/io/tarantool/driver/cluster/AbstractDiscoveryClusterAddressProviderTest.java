@@ -0,0 +1,81 @@
+package io.tarantool.driver.cluster;
+
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolServerRole;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class AbstractDiscoveryClusterAddressProviderTest {
+
+    @Test
+    public void test_discovery_shouldRefresh_ifOnlyRolesAreChanged() throws InterruptedException {
+        //given
+        TarantoolServerAddress first = new TarantoolServerAddress("localhost", 3301);
+        TarantoolServerAddress second = new TarantoolServerAddress("localhost", 3302);
+        BlockingQueue<Collection<TarantoolServerAddress>> discovered = new LinkedBlockingQueue<>();
+        discovered.add(Arrays.asList(
+            first.withRole(TarantoolServerRole.MASTER), second.withRole(TarantoolServerRole.REPLICA)));
+        discovered.add(Arrays.asList(
+            first.withRole(TarantoolServerRole.MASTER), second.withRole(TarantoolServerRole.REPLICA)));
+        discovered.add(Arrays.asList(
+            first.withRole(TarantoolServerRole.REPLICA), second.withRole(TarantoolServerRole.MASTER)));
+        BlockingQueue<Integer> refreshes = new LinkedBlockingQueue<>();
+        AtomicInteger discoveries = new AtomicInteger();
+
+        //when
+        try (TestDiscoveryClusterAddressProvider provider = new TestDiscoveryClusterAddressProvider(discovered)) {
+            provider.setRefreshCallback(() -> refreshes.add(discoveries.get()));
+            provider.start(discoveries);
+
+            //then
+            assertEquals(1, refreshes.poll(1, TimeUnit.SECONDS));
+            assertEquals(3, refreshes.poll(1, TimeUnit.SECONDS));
+            assertNull(refreshes.poll(100, TimeUnit.MILLISECONDS));
+            assertNotNull(provider.getAddresses());
+        }
+    }
+
+    private static final class TestDiscoveryClusterAddressProvider extends AbstractDiscoveryClusterAddressProvider {
+
+        private final BlockingQueue<Collection<TarantoolServerAddress>> discovered;
+        private Collection<TarantoolServerAddress> last;
+        private AtomicInteger discoveries;
+
+        TestDiscoveryClusterAddressProvider(BlockingQueue<Collection<TarantoolServerAddress>> discovered) {
+            super(TarantoolClusterDiscoveryConfig.builder()
+                .withEndpoint(new TarantoolClusterDiscoveryEndpoint() {
+                })
+                .withDelay(10)
+                .build());
+            this.discovered = discovered;
+        }
+
+        void start(AtomicInteger discoveries) {
+            this.discoveries = discoveries;
+            startDiscoveryTask();
+        }
+
+        @Override
+        protected Collection<TarantoolServerAddress> discoverAddresses() {
+            Collection<TarantoolServerAddress> next = discovered.poll();
+            if (next != null) {
+                last = next;
+                discoveries.incrementAndGet();
+            }
+            return last;
+        }
+    }
+}
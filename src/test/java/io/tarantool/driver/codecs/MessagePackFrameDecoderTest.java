@@ -0,0 +1,114 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.protocol.TarantoolResponse;
+import io.tarantool.driver.protocol.TarantoolResponseBodyType;
+import io.tarantool.driver.protocol.TarantoolResponseType;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class MessagePackFrameDecoderTest {
+
+    @Test
+    public void test_decode_shouldWaitForTheWholeFrame_ifFrameIsIncomplete() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        byte[] frame = responseFrame(42L, 3);
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame, 0, 3));
+        channel.writeInbound(Unpooled.wrappedBuffer(frame, 3, frame.length - 4));
+
+        //then
+        assertNull(channel.readInbound());
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(frame, frame.length - 1, 1));
+
+        //then
+        TarantoolResponse response = channel.readInbound();
+        assertEquals(42L, response.getSyncId());
+        assertEquals(TarantoolResponseType.IPROTO_OK, response.getResponseType());
+        assertEquals(3, response.getBody().getData().asArrayValue().size());
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_decode_shouldDecodeAllFrames_ifSeveralFramesInDirectBuffer() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        ByteBuf buffer = Unpooled.directBuffer();
+        for (long i = 1; i <= 100; i++) {
+            buffer.writeBytes(responseFrame(i, (int) i));
+        }
+
+        //when
+        channel.writeInbound(buffer);
+
+        //then
+        for (long i = 1; i <= 100; i++) {
+            TarantoolResponse response = channel.readInbound();
+            assertEquals(i, response.getSyncId());
+            assertEquals(i, response.getBody().getData().asArrayValue().size());
+        }
+        assertNull(channel.readInbound());
+        assertEquals(0, buffer.refCnt());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_decode_shouldKeepBodyData_untilResponseIsReleased() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameDecoder());
+        ByteBuf buffer = Unpooled.directBuffer();
+        buffer.writeBytes(responseFrame(1L, 2));
+        buffer.writeBytes(responseFrame(2L, 2));
+
+        //when
+        channel.writeInbound(buffer);
+        TarantoolResponse unread = channel.readInbound();
+        TarantoolResponse read = channel.readInbound();
+
+        //then
+        assertEquals(2, buffer.refCnt());
+        assertEquals(2, read.getBody().getData().asArrayValue().size());
+        assertEquals(1, buffer.refCnt());
+        assertTrue(unread.release());
+        assertEquals(0, buffer.refCnt());
+        assertTrue(read.release());
+        assertEquals(TarantoolResponseBodyType.IPROTO_DATA, unread.getBody().getResponseBodyType());
+        assertThrows(TarantoolClientException.class, () -> unread.getBody().getData());
+        channel.finishAndReleaseAll();
+    }
+
+    private static byte[] responseFrame(long sync, int dataSize) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(sync);
+        packer.packMapHeader(1).packInt(0x30).packArrayHeader(dataSize);
+        for (int i = 0; i < dataSize; i++) {
+            packer.packString("value" + i);
+        }
+        byte[] body = packer.toByteArray();
+        packer.clear();
+        packer.packLong(body.length);
+        packer.writePayload(body);
+        return packer.toByteArray();
+    }
+}
@@ -0,0 +1,127 @@
+package io.tarantool.driver.codecs;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolHeader;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+import io.tarantool.driver.protocol.TarantoolRequestType;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageFormat;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+import org.msgpack.value.Value;
+import org.msgpack.value.ValueFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class MessagePackFrameEncoderTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    public void test_encode_shouldWriteFrameWithFixedSizeLength() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        TarantoolCallRequest request = new TarantoolCallRequest.Builder()
+            .withFunctionName("test_function")
+            .withArguments(Arrays.asList(1, "two", Collections.singletonMap("three", 3.0)))
+            .build(mapper);
+
+        //when
+        channel.writeOutbound(request);
+        ByteBuf frame = channel.readOutbound();
+
+        //then
+        try {
+            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame));
+            assertEquals(MessageFormat.UINT32, unpacker.getNextFormat());
+            assertEquals(frame.readableBytes() - 5, unpacker.unpackInt());
+
+            TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+            assertEquals(TarantoolRequestType.IPROTO_CALL.getCode(), header.getCode());
+            assertEquals(request.getHeader().getSync(), header.getSync());
+
+            Map<Value, Value> body = unpacker.unpackValue().asMapValue().map();
+            assertEquals("test_function", body.get(ValueFactory.newInteger(0x22)).asStringValue().asString());
+            assertEquals(3, body.get(ValueFactory.newInteger(0x21)).asArrayValue().size());
+            assertFalse(unpacker.hasNext());
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Test
+    public void test_encode_shouldWriteSeveralFramesInOrder() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        char[] longName = new char[20000];
+        Arrays.fill(longName, 'a');
+        TarantoolCallRequest first = new TarantoolCallRequest.Builder()
+            .withFunctionName(new String(longName))
+            .build(mapper);
+        TarantoolCallRequest second = new TarantoolCallRequest.Builder()
+            .withFunctionName("second")
+            .build(mapper);
+
+        //when
+        channel.writeOutbound(first, second);
+
+        //then
+        for (TarantoolCallRequest request : Arrays.asList(first, second)) {
+            ByteBuf frame = channel.readOutbound();
+            try {
+                MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame));
+                assertEquals(frame.readableBytes() - 5, unpacker.unpackInt());
+                TarantoolHeader header = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
+                assertEquals(request.getHeader().getSync(), header.getSync());
+                unpacker.skipValue();
+                assertFalse(unpacker.hasNext());
+            } finally {
+                frame.release();
+            }
+        }
+    }
+
+    @Test
+    public void test_encode_shouldWriteBatchFramesIntoSingleBuffer() throws Exception {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new MessagePackFrameEncoder(mapper));
+        TarantoolRequestBatch batch = new TarantoolRequestBatch();
+        for (String name : Arrays.asList("first", "second", "third")) {
+            batch.add(new TarantoolCallRequest.Builder().withFunctionName(name).build(mapper), mapper);
+        }
+
+        //when
+        channel.writeOutbound(batch);
+        ByteBuf buffer = channel.readOutbound();
+
+        //then
+        assertNull(channel.readOutbound());
+        try {
+            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(buffer));
+            for (String name : Arrays.asList("first", "second", "third")) {
+                assertEquals(MessageFormat.UINT32, unpacker.getNextFormat());
+                unpacker.unpackInt();
+                unpacker.skipValue();
+                Map<Value, Value> body = unpacker.unpackValue().asMapValue().map();
+                assertEquals(name, body.get(ValueFactory.newInteger(0x22)).asStringValue().asString());
+            }
+            assertFalse(unpacker.hasNext());
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,594 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolServerAddress;
+import io.tarantool.driver.api.TarantoolServerRole;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreaker;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionListeners;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.api.connection.TarantoolRoutingMode;
+import io.tarantool.driver.core.connection.AbstractTarantoolConnectionManager;
+import io.tarantool.driver.core.connection.TarantoolConnectionFactory;
+import io.tarantool.driver.core.connection.TarantoolConnectionImpl;
+import io.tarantool.driver.exceptions.TarantoolCircuitBreakerOpenException;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.exceptions.TarantoolConnectionException;
+import io.tarantool.driver.exceptions.TarantoolInternalNetworkException;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolProtocolException;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class AbstractTarantoolConnectionManagerTest {
+
+    private final TarantoolClientConfig config = new TarantoolClientConfig();
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    public void test_getConnection_shouldNotBlock_andShareInitSequence() throws Exception {
+        //given
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+
+        //when
+        CompletableFuture<TarantoolConnection> first = connectionManager.getConnection();
+        CompletableFuture<TarantoolConnection> second = connectionManager.getConnection();
+
+        //then
+        assertFalse(first.isDone());
+        assertFalse(second.isDone());
+        assertEquals(1, connectionFactory.connections.size());
+
+        //when
+        CustomConnection connection = new CustomConnection("localhost", 3301);
+        connectionFactory.connections.get(0).complete(connection);
+
+        //then
+        assertEquals(connection.getRemoteAddress(), first.get().getRemoteAddress());
+        assertSame(first.get(), second.get());
+    }
+
+    @Test
+    public void test_getConnection_shouldReturnCompletedFuture_ifConnected() {
+        //given
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        connectionManager.getConnection();
+        connectionFactory.connections.get(0).complete(new CustomConnection("localhost", 3301));
+
+        //when
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+
+        //then
+        assertTrue(result.isDone());
+        assertFalse(result.isCompletedExceptionally());
+        assertEquals(1, connectionFactory.connections.size());
+    }
+
+    @Test
+    public void test_getConnection_shouldFailWaitingRequests_andRetryInit_ifInitFailed() {
+        //given
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        connectionManager.failure = new TarantoolClientException("Discovery failed");
+        CompletableFuture<TarantoolConnection> first = connectionManager.getConnection();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(TarantoolConnectionException.class, e.getCause());
+
+        //when
+        connectionManager.failure = null;
+        CompletableFuture<TarantoolConnection> second = connectionManager.getConnection();
+
+        //then
+        assertFalse(second.isDone());
+        assertEquals(1, connectionFactory.connections.size());
+    }
+
+    @Test
+    public void test_getConnection_shouldReplaceLostConnection_inBackground() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder().withReconnectBackoff(10, 100).build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        CustomConnection lost = new CustomConnection("localhost", 3301);
+        connectionFactory.connections.get(0).complete(lost);
+        TarantoolConnection connection = result.get();
+
+        //when
+        lost.fail(new IOException("Connection reset by peer"));
+
+        //then
+        assertFalse(connection.isConnected());
+
+        //when
+        CompletableFuture<TarantoolConnection> reconnect = connectionFactory.reconnects.poll(1, TimeUnit.SECONDS);
+        assertNotNull(reconnect);
+        reconnect.complete(new CustomConnection("localhost", 3301));
+        awaitConnected(connection);
+
+        //then
+        assertTrue(connection.isConnected());
+        assertSame(connection, connectionManager.getConnection().get());
+        assertEquals(1, connectionFactory.connections.size());
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_close_shouldStopReconnecting() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder().withReconnectBackoff(10, 100).build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        connectionManager.getConnection();
+        connectionFactory.connections.get(0).complete(null);
+
+        //when
+        CompletableFuture<TarantoolConnection> firstAttempt = connectionFactory.reconnects.poll(1, TimeUnit.SECONDS);
+        assertNotNull(firstAttempt);
+        firstAttempt.complete(null);
+
+        //then
+        CompletableFuture<TarantoolConnection> secondAttempt = connectionFactory.reconnects.poll(1, TimeUnit.SECONDS);
+        assertNotNull(secondAttempt);
+
+        //when
+        connectionManager.close();
+        secondAttempt.complete(null);
+
+        //then
+        assertNull(connectionFactory.reconnects.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void test_warmUp_shouldComplete_whenAllConnectionsAreEstablished() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnections(2)
+            .withReconnectBackoff(10, 100)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+
+        //when
+        CompletableFuture<Void> ready = connectionManager.warmUp(1.0);
+        connectionFactory.connections.get(0).complete(new CustomConnection("localhost", 3301));
+        connectionFactory.connections.get(1).complete(null);
+
+        //then
+        assertEquals(2, connectionFactory.connections.size());
+        assertFalse(ready.isDone());
+
+        //when
+        CompletableFuture<TarantoolConnection> reconnect = connectionFactory.reconnects.poll(1, TimeUnit.SECONDS);
+        assertNotNull(reconnect);
+        reconnect.complete(new CustomConnection("localhost", 3301));
+
+        //then
+        assertDoesNotThrow(() -> ready.get(1, TimeUnit.SECONDS));
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_warmUp_shouldComplete_ifMinHealthyFractionIsReached() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnections(2)
+            .withReconnectBackoff(1000, 1000)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+
+        //when
+        CompletableFuture<Void> ready = connectionManager.warmUp(0.5);
+        connectionFactory.connections.get(0).complete(new CustomConnection("localhost", 3301));
+        connectionFactory.connections.get(1).complete(null);
+
+        //then
+        assertTrue(ready.isDone());
+        assertFalse(ready.isCompletedExceptionally());
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_warmUp_shouldFail_ifConnectionsAreNotEstablishedWithinTimeout() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnections(2)
+            .withReconnectBackoff(10, 10)
+            .withWarmUp(1.0, 200)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+
+        //when
+        CompletableFuture<Void> ready = connectionManager.warmUp(1.0);
+        connectionFactory.connections.get(0).complete(new CustomConnection("localhost", 3301));
+        connectionFactory.connections.get(1).complete(null);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> ready.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TarantoolConnectionException.class, e.getCause());
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_autoscaling_shouldAddConnection_underLoad_andRemoveIt_whenIdle() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnectionPoolAutoscaling(1, 2, 10, 200)
+            .withRequestTimeout(100)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        CustomConnection first = new CustomConnection("localhost", 3301);
+        connectionFactory.connections.get(0).complete(first);
+        result.get(1, TimeUnit.SECONDS);
+
+        //when
+        first.setOutstandingRequests(10);
+
+        //then
+        awaitCondition(() -> connectionFactory.connections.size() == 2);
+        assertEquals(2, connectionFactory.connections.size());
+
+        //when
+        CustomConnection second = new CustomConnection("localhost", 3302);
+        connectionFactory.connections.get(1).complete(second);
+
+        //then
+        awaitCondition(() -> usedPorts(connectionManager).size() == 2);
+        assertEquals(2, usedPorts(connectionManager).size());
+
+        //when
+        first.setOutstandingRequests(0);
+
+        //then
+        awaitCondition(() -> usedPorts(connectionManager).size() == 1);
+        assertEquals(1, usedPorts(connectionManager).size());
+        awaitCondition(() -> !first.isConnected() || !second.isConnected());
+        assertTrue(first.isConnected() ^ second.isConnected());
+        assertEquals(2, connectionFactory.connections.size());
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_autoscaling_shouldNotAddConnections_overMaximum() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withConnectionPoolAutoscaling(1, 2, 10, 60000)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        CustomConnection first = new CustomConnection("localhost", 3301);
+        connectionFactory.connections.get(0).complete(first);
+        result.get(1, TimeUnit.SECONDS);
+
+        //when
+        first.setOutstandingRequests(100);
+        awaitCondition(() -> connectionFactory.connections.size() == 2);
+        CustomConnection second = new CustomConnection("localhost", 3302);
+        second.setOutstandingRequests(100);
+        connectionFactory.connections.get(1).complete(second);
+        Thread.sleep(300);
+
+        //then
+        assertEquals(2, connectionFactory.connections.size());
+        assertEquals(2, usedPorts(connectionManager).size());
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_getConnection_shouldRouteReadsToReplicas_andWritesToMasters() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withRoutingMode(TarantoolRoutingMode.PREFER_REPLICA, "dc1")
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory, Arrays.asList(
+            new TarantoolServerAddress("localhost", 3301).withRole(TarantoolServerRole.MASTER).withZone("dc1"),
+            new TarantoolServerAddress("localhost", 3302).withRole(TarantoolServerRole.REPLICA).withZone("dc1"),
+            new TarantoolServerAddress("localhost", 3303).withRole(TarantoolServerRole.REPLICA).withZone("dc2")));
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        List<CustomConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            connections.add(new CustomConnection("localhost", 3301 + i));
+            connectionFactory.connections.get(i).complete(connections.get(i));
+        }
+        result.get(1, TimeUnit.SECONDS);
+
+        //then
+        assertEquals(Collections.singleton(3302), usedPorts(connectionManager, true));
+        assertEquals(Collections.singleton(3301), usedPorts(connectionManager, false));
+
+        //when
+        connections.get(1).setConnected(false);
+
+        //then
+        assertEquals(Collections.singleton(3303), usedPorts(connectionManager, true));
+
+        //when
+        connections.get(0).setConnected(false);
+
+        //then
+        assertEquals(Collections.singleton(3303), usedPorts(connectionManager, false));
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_getConnection_shouldNotLeakProbePermission_ifOverloadedConnectionRejectsProbe()
+        throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCircuitBreaker(TarantoolCircuitBreakerConfig.builder()
+                .withFailureThreshold(1)
+                .withOpenTimeout(50)
+                .build())
+            .withMaxInFlightRequests(1)
+            .withOverloadPolicy(TarantoolOverloadPolicy.FAIL_FAST)
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory);
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        EmbeddedChannel channel = new EmbeddedChannel() {
+            @Override
+            protected SocketAddress remoteAddress0() {
+                return new InetSocketAddress("localhost", 3301);
+            }
+        };
+        connectionFactory.connections.get(0).complete(new TarantoolConnectionImpl(
+            config, new RequestFutureManager(config, TarantoolTimers.defaultTimer()), new TarantoolVersionHolder(),
+            channel));
+        TarantoolConnection connection = result.get(1, TimeUnit.SECONDS);
+        CompletableFuture<Object> inFlight = connection.sendRequest(newRequest(), mapper);
+        TarantoolCircuitBreaker breaker =
+            connectionManager.getCircuitBreaker(new TarantoolServerAddress("localhost", 3301));
+        breaker.onFailure(System.nanoTime());
+        Thread.sleep(100);
+
+        //when
+        CompletableFuture<Object> probe =
+            connectionManager.getConnection().get(1, TimeUnit.SECONDS).sendRequest(newRequest(), mapper);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> probe.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(TarantoolOverloadException.class, e.getCause());
+        assertEquals(TarantoolCircuitBreaker.State.OPEN, breaker.getState());
+
+        //when
+        inFlight.complete("ok");
+        Thread.sleep(100);
+
+        //then
+        assertDoesNotThrow(() -> connectionManager.getConnection().get(1, TimeUnit.SECONDS));
+        connectionManager.close();
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_getConnection_shouldSkipEndpoint_ifCircuitBreakerIsOpen_andFailFast_ifAllAreOpen()
+        throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCircuitBreaker(TarantoolCircuitBreakerConfig.builder()
+                .withFailureThreshold(2)
+                .withOpenTimeout(100)
+                .build())
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory, Arrays.asList(
+            new TarantoolServerAddress("localhost", 3301), new TarantoolServerAddress("localhost", 3302)));
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        List<CustomConnection> connections = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            connections.add(new CustomConnection("localhost", 3301 + i));
+            connectionFactory.connections.get(i).complete(connections.get(i));
+        }
+        result.get(1, TimeUnit.SECONDS);
+
+        //when
+        connections.get(0).completeRequest(0, new TimeoutException());
+        connections.get(0).completeRequest(0, new TarantoolInternalNetworkException("Storage is unavailable"));
+
+        //then
+        TarantoolServerAddress failedAddress = new TarantoolServerAddress("localhost", 3301);
+        assertEquals(TarantoolCircuitBreaker.State.OPEN, connectionManager.getCircuitBreaker(failedAddress).getState());
+        assertEquals(Collections.singleton(3302), usedPorts(connectionManager));
+
+        //when
+        connections.get(1).completeRequest(0, new TimeoutException());
+        connections.get(1).completeRequest(0, new TimeoutException());
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> connectionManager.getConnection().get());
+        assertInstanceOf(TarantoolCircuitBreakerOpenException.class, e.getCause());
+
+        //when
+        Thread.sleep(150);
+        TarantoolConnection probe = connectionManager.getConnection().get();
+        connections.get(probe.getRemoteAddress().getPort() - 3301).completeRequest(0, null);
+
+        //then
+        TarantoolServerAddress probeAddress =
+            new TarantoolServerAddress("localhost", probe.getRemoteAddress().getPort());
+        assertEquals(TarantoolCircuitBreaker.State.CLOSED,
+            connectionManager.getCircuitBreaker(probeAddress).getState());
+        assertTrue(usedPorts(connectionManager).contains(probeAddress.getPort()));
+        connectionManager.close();
+    }
+
+    @Test
+    public void test_getConnection_shouldSkipEndpoint_ifFunctionCircuitBreakerIsOpen() throws Exception {
+        //given
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withCircuitBreaker(TarantoolCircuitBreakerConfig.builder()
+                .withFailureThreshold(1)
+                .withPerFunctionBreakers()
+                .build())
+            .build();
+        StubConnectionFactory connectionFactory = new StubConnectionFactory(config);
+        TestConnectionManager connectionManager = new TestConnectionManager(config, connectionFactory, Arrays.asList(
+            new TarantoolServerAddress("localhost", 3301), new TarantoolServerAddress("localhost", 3302)));
+        CompletableFuture<TarantoolConnection> result = connectionManager.getConnection();
+        for (int i = 0; i < 2; i++) {
+            connectionFactory.connections.get(i).complete(new CustomConnection("localhost", 3301 + i));
+        }
+        result.get(1, TimeUnit.SECONDS);
+
+        //when
+        TarantoolConnection connection = connectionManager.getConnection(false, "crud.select").get();
+        connectionManager.onCallCompleted(connection, "crud.select", System.nanoTime(),
+            new TarantoolInternalNetworkException("Storage is unavailable"));
+
+        //then
+        int failedPort = connection.getRemoteAddress().getPort();
+        TarantoolServerAddress failedAddress = new TarantoolServerAddress("localhost", failedPort);
+        assertEquals(TarantoolCircuitBreaker.State.CLOSED,
+            connectionManager.getCircuitBreaker(failedAddress).getState());
+        assertEquals(TarantoolCircuitBreaker.State.OPEN,
+            connectionManager.getCircuitBreaker(failedAddress, "crud.select").getState());
+        for (int i = 0; i < 4; i++) {
+            assertNotEquals(failedPort,
+                connectionManager.getConnection(false, "crud.select").get().getRemoteAddress().getPort());
+        }
+        assertEquals(new HashSet<>(Arrays.asList(3301, 3302)), usedPorts(connectionManager));
+        connectionManager.close();
+    }
+
+    private static Set<Integer> usedPorts(TestConnectionManager connectionManager, boolean readOnly) {
+        Set<Integer> ports = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            ports.add(connectionManager.getConnection(readOnly).join().getRemoteAddress().getPort());
+        }
+        return ports;
+    }
+
+    private static Set<Integer> usedPorts(TestConnectionManager connectionManager) {
+        Set<Integer> ports = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            ports.add(connectionManager.getConnection().join().getRemoteAddress().getPort());
+        }
+        return ports;
+    }
+
+    private TarantoolRequest newRequest() throws TarantoolProtocolException {
+        return new TarantoolCallRequest.Builder()
+            .withFunctionName("test_function")
+            .withArguments(Collections.emptyList())
+            .build(mapper);
+    }
+
+    // the connection pool is resized by the timer thread
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // the reconnect result is handled by the timer thread
+    private static void awaitConnected(TarantoolConnection connection) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!connection.isConnected() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static final class TestConnectionManager extends AbstractTarantoolConnectionManager {
+        private volatile RuntimeException failure;
+
+        private final Collection<TarantoolServerAddress> addresses;
+
+        TestConnectionManager(TarantoolClientConfig config, TarantoolConnectionFactory connectionFactory) {
+            this(config, connectionFactory, Collections.singletonList(new TarantoolServerAddress("localhost", 3301)));
+        }
+
+        TestConnectionManager(
+            TarantoolClientConfig config,
+            TarantoolConnectionFactory connectionFactory,
+            Collection<TarantoolServerAddress> addresses) {
+            super(config, connectionFactory, new TarantoolConnectionListeners());
+            this.addresses = addresses;
+        }
+
+        @Override
+        protected Collection<TarantoolServerAddress> getAddresses() {
+            if (failure != null) {
+                throw failure;
+            }
+            return addresses;
+        }
+    }
+
+    private static final class StubConnectionFactory extends TarantoolConnectionFactory {
+        private final List<CompletableFuture<TarantoolConnection>> connections = new CopyOnWriteArrayList<>();
+        private final BlockingQueue<CompletableFuture<TarantoolConnection>> reconnects = new LinkedBlockingQueue<>();
+
+        StubConnectionFactory(TarantoolClientConfig config) {
+            super(config, null, TarantoolTimers.defaultTimer());
+        }
+
+        @Override
+        public CompletableFuture<TarantoolConnection> singleConnection(
+            SocketAddress serverAddress, TarantoolConnectionListeners connectionListeners) {
+            CompletableFuture<TarantoolConnection> connection = new CompletableFuture<>();
+            reconnects.add(connection);
+            return connection;
+        }
+
+        @Override
+        public Collection<CompletableFuture<TarantoolConnection>> multiConnection(
+            SocketAddress serverAddress, int connections, TarantoolConnectionListeners connectionListeners) {
+            List<CompletableFuture<TarantoolConnection>> result = new ArrayList<>(connections);
+            for (int i = 0; i < connections; i++) {
+                result.add(new CompletableFuture<>());
+            }
+            this.connections.addAll(result);
+            return result;
+        }
+    }
+}
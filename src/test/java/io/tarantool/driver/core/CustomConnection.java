@@ -2,27 +2,36 @@ package io.tarantool.driver.core;
 
 import io.netty.channel.Channel;
 import io.tarantool.driver.TarantoolVersion;
+import io.tarantool.driver.api.TarantoolServerAddress;
 import io.tarantool.driver.api.connection.TarantoolConnection;
 import io.tarantool.driver.api.connection.TarantoolConnectionCloseListener;
 import io.tarantool.driver.api.connection.TarantoolConnectionFailureListener;
+import io.tarantool.driver.api.connection.TarantoolRequestCompletionListener;
 import io.tarantool.driver.exceptions.TarantoolClientException;
 import io.tarantool.driver.mappers.MessagePackValueMapper;
 import io.tarantool.driver.protocol.TarantoolRequest;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Alexey Kuzin
  */
-final class CustomConnection implements TarantoolConnection {
+class CustomConnection implements TarantoolConnection {
 
     private final String host;
     private final int port;
     private final AtomicInteger count = new AtomicInteger(0);
     private final AtomicBoolean connected = new AtomicBoolean(true);
+    private final AtomicBoolean overloaded = new AtomicBoolean(false);
+    private final AtomicInteger outstandingRequests = new AtomicInteger(0);
+    private final List<TarantoolConnectionFailureListener> failureListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolRequestCompletionListener> requestListeners = new CopyOnWriteArrayList<>();
+    private final List<TarantoolConnectionCloseListener> closeListeners = new CopyOnWriteArrayList<>();
 
     CustomConnection(String host, int port) {
         this.host = host;
@@ -50,6 +59,11 @@ final class CustomConnection implements TarantoolConnection {
         return new InetSocketAddress(host, port);
     }
 
+    @Override
+    public TarantoolServerAddress getServerAddress() {
+        return new TarantoolServerAddress(host, port);
+    }
+
     @Override
     public TarantoolVersion getVersion() throws TarantoolClientException {
         return null;
@@ -64,6 +78,24 @@ final class CustomConnection implements TarantoolConnection {
         return connected.get();
     }
 
+    public void setOverloaded(boolean overloaded) {
+        this.overloaded.set(overloaded);
+    }
+
+    @Override
+    public boolean isOverloaded() {
+        return overloaded.get();
+    }
+
+    public void setOutstandingRequests(int outstandingRequests) {
+        this.outstandingRequests.set(outstandingRequests);
+    }
+
+    @Override
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
     @Override
     public <T> CompletableFuture<T> sendRequest(TarantoolRequest request, MessagePackValueMapper resultMapper) {
         return null;
@@ -76,14 +108,50 @@ final class CustomConnection implements TarantoolConnection {
 
     @Override
     public void addConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionFailureListener(TarantoolConnectionFailureListener listener) {
+        failureListeners.remove(listener);
+    }
+
+    @Override
+    public void addRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.add(listener);
+    }
+
+    @Override
+    public void removeRequestCompletionListener(TarantoolRequestCompletionListener listener) {
+        requestListeners.remove(listener);
+    }
+
+    public int getListenersCount() {
+        return failureListeners.size() + requestListeners.size() + closeListeners.size();
+    }
+
+    public void completeRequest(long latencyNanos, Throwable error) {
+        requestListeners.forEach(listener -> listener.onRequestCompleted(this, latencyNanos, error));
+    }
+
+    public void fail(Throwable e) {
+        connected.set(false);
+        failureListeners.forEach(listener -> listener.onConnectionFailure(this, e));
     }
 
     @Override
     public void addConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.add(listener);
+    }
+
+    @Override
+    public void removeConnectionCloseListener(TarantoolConnectionCloseListener listener) {
+        closeListeners.remove(listener);
     }
 
     @Override
     public void close() throws Exception {
+        connected.set(false);
     }
 
     @Override
@@ -0,0 +1,182 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LatencyWeightedStrategyFactory;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class LatencyWeightedStrategyTest {
+
+    private final TarantoolClientConfig config = new TarantoolClientConfig();
+
+    @Test
+    public void test_next_shouldPreferEndpointWithLowerLatency() {
+        //given
+        CustomConnection fast = new CustomConnection("127.0.0.1", 3301);
+        CustomConnection slow = new CustomConnection("127.0.0.2", 3301);
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(
+            config, Arrays.asList(fast, slow));
+        for (int i = 0; i < 5; i++) {
+            fast.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), null);
+            slow.completeRequest(TimeUnit.MILLISECONDS.toNanos(4), null);
+        }
+
+        //when
+        int fastSelected = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (strategy.next() == fast) {
+                fastSelected++;
+            }
+        }
+
+        //then
+        assertTrue(fastSelected > 700, "The fast endpoint must get about 80% of requests, got " + fastSelected);
+        assertTrue(fastSelected < 1000, "The slow endpoint must get some requests");
+    }
+
+    @Test
+    public void test_next_shouldEjectEndpoint_ifErrorRateIsTooHigh() {
+        //given
+        CustomConnection healthy = new CustomConnection("127.0.0.1", 3301);
+        CustomConnection failing = new CustomConnection("127.0.0.2", 3301);
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(
+            config, Arrays.asList(healthy, failing));
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            healthy.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), null);
+            failing.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), new TimeoutException());
+        }
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, strategy.next());
+        }
+    }
+
+    @Test
+    public void test_next_shouldKeepEndpointStatistics_ifStrategyIsRecreated() {
+        //given
+        CustomConnection healthy = new CustomConnection("127.0.0.1", 3301);
+        AtomicBoolean reconnecting = new AtomicBoolean();
+        CustomConnection failing = new CustomConnection("127.0.0.2", 3301) {
+            @Override
+            public InetSocketAddress getRemoteAddress() {
+                // like a connection slot which is being re-established
+                return reconnecting.get() ? InetSocketAddress.createUnresolved(getHost(), getPort()) :
+                    super.getRemoteAddress();
+            }
+        };
+        List<TarantoolConnection> connections = Arrays.asList(healthy, failing);
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(config, connections);
+        for (int i = 0; i < 10; i++) {
+            healthy.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), null);
+            failing.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), new TimeoutException());
+        }
+
+        //when
+        reconnecting.set(true);
+        strategy.close();
+        strategy = LatencyWeightedStrategyFactory.INSTANCE.create(config, connections);
+
+        //then
+        for (int i = 0; i < 100; i++) {
+            assertSame(healthy, strategy.next());
+        }
+    }
+
+    @Test
+    public void test_next_shouldIgnoreApplicationErrors() {
+        //given
+        CustomConnection first = new CustomConnection("127.0.0.1", 3301);
+        CustomConnection second = new CustomConnection("127.0.0.2", 3301);
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(
+            config, Arrays.asList(first, second));
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            first.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), null);
+            second.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), new IllegalStateException("Duplicate key"));
+        }
+
+        //then
+        boolean secondSelected = false;
+        for (int i = 0; i < 100 && !secondSelected; i++) {
+            secondSelected = strategy.next() == second;
+        }
+        assertTrue(secondSelected);
+    }
+
+    @Test
+    public void test_next_shouldNotEjectLastEndpoint() {
+        //given
+        CustomConnection connection = new CustomConnection("127.0.0.1", 3301);
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(
+            config, Collections.singletonList(connection));
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            connection.completeRequest(TimeUnit.MILLISECONDS.toNanos(1), new TimeoutException());
+        }
+
+        //then
+        assertSame(connection, strategy.next());
+    }
+
+    @Test
+    public void test_next_shouldUseConnectionsOfEndpointInRoundRobinOrder() {
+        //given
+        List<TarantoolConnection> connections = Arrays.asList(
+            new CustomConnection("127.0.0.1", 3301), new CustomConnection("127.0.0.1", 3301));
+        ConnectionSelectionStrategy strategy = LatencyWeightedStrategyFactory.INSTANCE.create(config, connections);
+
+        //then
+        assertSame(connections.get(0), strategy.next());
+        assertSame(connections.get(1), strategy.next());
+
+        //when
+        connections.forEach(c -> ((CustomConnection) c).setConnected(false));
+
+        //then
+        assertThrows(NoAvailableConnectionsException.class, strategy::next);
+        assertThrows(NoAvailableConnectionsException.class,
+            () -> LatencyWeightedStrategyFactory.INSTANCE.create(config, Collections.emptyList()).next());
+    }
+
+    @Test
+    public void test_close_shouldRemoveConnectionListeners() {
+        //given
+        CustomConnection first = new CustomConnection("127.0.0.1", 3301);
+        CustomConnection second = new CustomConnection("127.0.0.2", 3301);
+        List<TarantoolConnection> connections = Arrays.asList(first, second);
+        LatencyWeightedStrategyFactory.INSTANCE.create(config, connections).close();
+        int listenersCount = first.getListenersCount();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            LatencyWeightedStrategyFactory.INSTANCE.create(config, connections).close();
+        }
+
+        //then
+        assertEquals(listenersCount, first.getListenersCount());
+        assertEquals(listenersCount, second.getListenersCount());
+    }
+}
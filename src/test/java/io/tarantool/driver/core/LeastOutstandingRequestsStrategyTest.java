@@ -0,0 +1,126 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.LeastOutstandingRequestsStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.PowerOfTwoChoicesStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class LeastOutstandingRequestsStrategyTest {
+
+    private final TarantoolClientConfig config = new TarantoolClientConfig();
+
+    @Test
+    public void test_next_shouldSelectConnectionWithLeastOutstandingRequests() {
+        //given
+        List<TarantoolConnection> connections = newConnections(3);
+        ((CustomConnection) connections.get(0)).setOutstandingRequests(10);
+        ((CustomConnection) connections.get(1)).setOutstandingRequests(2);
+        ((CustomConnection) connections.get(2)).setOutstandingRequests(5);
+        ConnectionSelectionStrategy strategy = LeastOutstandingRequestsStrategyFactory.INSTANCE.create(
+            config, connections);
+
+        //then
+        for (int i = 0; i < 3; i++) {
+            assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+        }
+
+        //when
+        ((CustomConnection) connections.get(1)).setConnected(false);
+
+        //then
+        assertEquals("127.0.0.3", ((CustomConnection) strategy.next()).getHost());
+    }
+
+    @Test
+    public void test_next_shouldDistributeEvenly_ifLoadIsEqual() {
+        //given
+        List<TarantoolConnection> connections = newConnections(3);
+        ConnectionSelectionStrategy strategy = LeastOutstandingRequestsStrategyFactory.INSTANCE.create(
+            config, connections);
+
+        //when
+        Set<String> hosts = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            hosts.add(((CustomConnection) strategy.next()).getHost());
+        }
+
+        //then
+        assertEquals(3, hosts.size());
+    }
+
+    @Test
+    public void test_next_shouldSkipOverloadedConnections_ifPolicyIsNextConnection() {
+        //given
+        List<TarantoolConnection> connections = newConnections(2);
+        ((CustomConnection) connections.get(0)).setOverloaded(true);
+        ((CustomConnection) connections.get(1)).setOutstandingRequests(100);
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withOverloadPolicy(TarantoolOverloadPolicy.NEXT_CONNECTION)
+            .build();
+        ConnectionSelectionStrategy strategy = LeastOutstandingRequestsStrategyFactory.INSTANCE.create(
+            config, connections);
+
+        //then
+        assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+    }
+
+    @Test
+    public void test_powerOfTwoChoices_shouldNotSelectMostLoadedConnection() {
+        //given
+        List<TarantoolConnection> connections = newConnections(2);
+        ((CustomConnection) connections.get(0)).setOutstandingRequests(10);
+        ConnectionSelectionStrategy strategy = PowerOfTwoChoicesStrategyFactory.INSTANCE.create(config, connections);
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertNotEquals("127.0.0.1", ((CustomConnection) strategy.next()).getHost());
+        }
+    }
+
+    @Test
+    public void test_powerOfTwoChoices_shouldFallBackToConnectedOne_ifPickedConnectionsAreLost() {
+        //given
+        List<TarantoolConnection> connections = newConnections(10);
+        connections.stream().limit(9).forEach(c -> ((CustomConnection) c).setConnected(false));
+        ConnectionSelectionStrategy strategy = PowerOfTwoChoicesStrategyFactory.INSTANCE.create(config, connections);
+
+        //then
+        for (int i = 0; i < 10; i++) {
+            assertEquals("127.0.0.10", ((CustomConnection) strategy.next()).getHost());
+        }
+
+        //when
+        ((CustomConnection) connections.get(9)).setConnected(false);
+
+        //then
+        assertThrows(NoAvailableConnectionsException.class, strategy::next);
+        assertThrows(NoAvailableConnectionsException.class,
+            () -> LeastOutstandingRequestsStrategyFactory.INSTANCE.create(config, connections).next());
+        assertThrows(NoAvailableConnectionsException.class,
+            () -> PowerOfTwoChoicesStrategyFactory.INSTANCE.create(config, Collections.emptyList()).next());
+    }
+
+    private static List<TarantoolConnection> newConnections(int count) {
+        return IntStream.rangeClosed(1, count)
+            .mapToObj(i -> new CustomConnection(String.format("127.0.0.%d", i), 3000 + i))
+            .collect(Collectors.toList());
+    }
+}
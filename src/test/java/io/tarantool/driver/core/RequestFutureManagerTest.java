@@ -0,0 +1,231 @@
+package io.tarantool.driver.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.Timer;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.TarantoolDeadline;
+import io.tarantool.driver.codecs.MessagePackFrameDecoder;
+import io.tarantool.driver.codecs.MessagePackFrameEncoder;
+import io.tarantool.driver.exceptions.TarantoolTimeoutException;
+import io.tarantool.driver.handlers.TarantoolRequestHandler;
+import io.tarantool.driver.handlers.TarantoolResponseHandler;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolHeader;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class RequestFutureManagerTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private Timer timer;
+    private RequestFutureManager futureManager;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setUp() {
+        timer = TarantoolTimers.newTimer("test-timer");
+        futureManager = new RequestFutureManager(TarantoolClientConfig.builder().build(), timer);
+        channel = new EmbeddedChannel(
+            new MessagePackFrameDecoder(),
+            new MessagePackFrameEncoder(mapper),
+            new TarantoolRequestHandler(futureManager),
+            new TarantoolResponseHandler(futureManager));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        timer.stop();
+    }
+
+    @Test
+    public void test_registerRequest_shouldAssignSequentialSyncIds_andCompleteByResponse() throws Exception {
+        //given
+        CompletableFuture<List<?>> first = new CompletableFuture<>();
+        CompletableFuture<List<?>> second = new CompletableFuture<>();
+
+        //when
+        channel.writeOutbound(futureManager.submitRequest(newRequest(), first, mapper));
+        channel.writeOutbound(futureManager.submitRequest(newRequest(), second, mapper));
+
+        //then
+        assertEquals(1L, readSync(channel.readOutbound()));
+        assertEquals(2L, readSync(channel.readOutbound()));
+        assertNotNull(futureManager.getRequest(1L));
+        assertNotNull(futureManager.getRequest(2L));
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(2L)));
+
+        //then
+        assertFalse(first.isDone());
+        assertEquals(Collections.singletonList("result"), second.get());
+        assertNull(futureManager.getRequest(2L));
+        assertNotNull(futureManager.getRequest(1L));
+    }
+
+    @Test
+    public void test_registerRequest_shouldRemoveRequest_ifTimedOut() throws Exception {
+        //given
+        CompletableFuture<List<?>> future = new CompletableFuture<>();
+
+        //when
+        channel.writeOutbound(futureManager.submitRequest(newRequest(), future, 10, mapper));
+        ((ByteBuf) channel.readOutbound()).release();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TimeoutException);
+        for (int i = 0; i < 100 && futureManager.getRequest(1L) != null; i++) {
+            Thread.sleep(10);
+            channel.runPendingTasks();
+        }
+        assertNull(futureManager.getRequest(1L));
+    }
+
+    @Test
+    public void test_registerRequest_shouldLimitTimeout_byRequestDeadline() throws Exception {
+        //given
+        CompletableFuture<List<?>> future = new CompletableFuture<>();
+        TarantoolRequest request = TarantoolDeadline.after(200).run(this::newRequestUnchecked);
+
+        //when
+        channel.writeOutbound(futureManager.submitRequest(request, future, 60000, mapper));
+        ((ByteBuf) channel.readOutbound()).release();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TimeoutException);
+    }
+
+    @Test
+    public void test_write_shouldDropRequest_ifDeadlineExpired() throws Exception {
+        //given
+        CompletableFuture<List<?>> future = new CompletableFuture<>();
+        TarantoolRequest request = TarantoolDeadline.after(0).run(this::newRequestUnchecked);
+
+        //when
+        ChannelFuture writeFuture = channel.writeOneOutbound(futureManager.submitRequest(request, future, mapper));
+        channel.flushOutbound();
+
+        //then
+        assertFalse(writeFuture.isSuccess());
+        assertNull(channel.readOutbound());
+        assertNull(futureManager.getRequest(1L));
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TarantoolTimeoutException);
+    }
+
+    @Test
+    public void test_removeRequest_shouldCancelTimeout_ifResponseReceived() throws Exception {
+        //given
+        CompletableFuture<List<?>> future = new CompletableFuture<>();
+        TarantoolRequestMetadata requestMeta = futureManager.submitRequest(newRequest(), future, 60000, mapper);
+        channel.writeOutbound(requestMeta);
+        ((ByteBuf) channel.readOutbound()).release();
+        assertFalse(requestMeta.getTimeout().isCancelled());
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(1L)));
+
+        //then
+        assertEquals(Collections.singletonList("result"), future.get());
+        assertTrue(requestMeta.getTimeout().isCancelled());
+        assertNull(futureManager.getRequest(1L));
+    }
+
+    @Test
+    public void test_submitRequests_shouldRegisterBatchRequests_andWriteThemAtOnce() throws Exception {
+        //given
+        TarantoolRequestBatch batch = new TarantoolRequestBatch();
+        CompletableFuture<List<?>> first = batch.add(newRequest(), mapper);
+        CompletableFuture<List<?>> second = batch.add(newRequest(), mapper);
+
+        //when
+        channel.writeOutbound(futureManager.submitRequests(batch));
+        ByteBuf buffer = channel.readOutbound();
+
+        //then
+        assertNull(channel.readOutbound());
+        buffer.release();
+        assertEquals(1L, batch.getRequests().get(0).getHeader().getSync());
+        assertEquals(2L, batch.getRequests().get(1).getHeader().getSync());
+
+        //when
+        channel.writeInbound(Unpooled.wrappedBuffer(responseFrame(2L)), Unpooled.wrappedBuffer(responseFrame(1L)));
+
+        //then
+        assertEquals(Collections.singletonList("result"), first.get());
+        assertEquals(Collections.singletonList("result"), second.get());
+        assertNull(futureManager.getRequest(1L));
+        assertNull(futureManager.getRequest(2L));
+    }
+
+    private TarantoolRequest newRequestUnchecked() {
+        try {
+            return newRequest();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private TarantoolRequest newRequest() throws Exception {
+        return new TarantoolCallRequest.Builder()
+            .withFunctionName("test_function")
+            .withArguments(Collections.emptyList())
+            .build(mapper);
+    }
+
+    private static long readSync(ByteBuf frame) throws Exception {
+        try {
+            MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(ByteBufUtil.getBytes(frame));
+            unpacker.unpackInt();
+            return TarantoolHeader.fromMessagePackValue(unpacker.unpackValue()).getSync();
+        } finally {
+            frame.release();
+        }
+    }
+
+    private static byte[] responseFrame(long sync) throws IOException {
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packMapHeader(2)
+            .packInt(0x00).packInt(0)
+            .packInt(0x01).packLong(sync);
+        packer.packMapHeader(1).packInt(0x30).packArrayHeader(1).packString("result");
+        byte[] body = packer.toByteArray();
+        packer.clear();
+        packer.packLong(body.length);
+        packer.writePayload(body);
+        return packer.toByteArray();
+    }
+}
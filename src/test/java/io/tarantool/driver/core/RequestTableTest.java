@@ -0,0 +1,76 @@
+package io.tarantool.driver.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class RequestTableTest {
+
+    @Test
+    public void test_remove_shouldKeepOtherEntriesReachable_ifSlotsCollide() {
+        //given
+        RequestTable table = new RequestTable();
+        int capacity = table.capacity();
+        TarantoolRequestMetadata first = newMetadata();
+        TarantoolRequestMetadata second = newMetadata();
+        TarantoolRequestMetadata third = newMetadata();
+        table.put(1, first);
+        table.put(1 + capacity, second);
+        table.put(2, third);
+
+        //when
+        assertSame(first, table.remove(1));
+
+        //then
+        assertSame(second, table.get(1 + capacity));
+        assertSame(third, table.get(2));
+        assertNull(table.get(1));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void test_putAndRemove_shouldWorkAsMap_ifManyRequestsAreInProgress() {
+        //given
+        RequestTable table = new RequestTable();
+        Map<Long, TarantoolRequestMetadata> expected = new HashMap<>();
+        Random random = new Random(42);
+        long nextId = 1;
+
+        //when
+        for (int i = 0; i < 100_000; i++) {
+            if (random.nextInt(3) > 0 || expected.isEmpty()) {
+                TarantoolRequestMetadata value = newMetadata();
+                table.put(nextId, value);
+                expected.put(nextId++, value);
+            } else {
+                long id = nextId - 1 - random.nextInt((int) Math.min(nextId - 1, 1000));
+                assertSame(expected.remove(id), table.remove(id));
+            }
+        }
+
+        //then
+        assertEquals(expected.size(), table.size());
+        for (Map.Entry<Long, TarantoolRequestMetadata> entry : expected.entrySet()) {
+            assertSame(entry.getValue(), table.get(entry.getKey()));
+        }
+        for (Long id : expected.keySet()) {
+            table.remove(id);
+        }
+        assertEquals(0, table.size());
+        assertEquals(16, table.capacity());
+    }
+
+    private static TarantoolRequestMetadata newMetadata() {
+        return new TarantoolRequestMetadata(new CompletableFuture<>(), null);
+    }
+}
@@ -16,11 +16,14 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Field;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import static io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType.PARALLEL_ROUND_ROBIN;
 import static io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategyType.ROUND_ROBIN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RetryTarantoolClientBuilderTest {
@@ -117,6 +120,22 @@ public class RetryTarantoolClientBuilderTest {
         assertEquals(expectedNumberOfAttempts, actualNumberOfAttempts);
     }
 
+    @Test
+    void test_should_createHedgingClient_withoutRetrying() {
+        //when
+        TarantoolClient<TarantoolTuple, TarantoolResult<TarantoolTuple>> client = TarantoolClientFactory.createClient()
+            .withAddresses(SAMPLE_ADDRESS)
+            .withReadOnlyFunctions("crud.select", "crud.get")
+            .withHedging(policy -> policy.withDelay(20).withBudget(0.05))
+            .build();
+
+        //then
+        assertEquals(RetryingTarantoolTupleClient.class, client.getClass());
+        RetryingTarantoolTupleClient retryingClient = (RetryingTarantoolTupleClient) client;
+        assertEquals(TimeUnit.MILLISECONDS.toMicros(20), retryingClient.getHedgingPolicy().getDelay());
+        assertFalse(retryingClient.getRetryPolicyFactory().create().canRetryRequest(new TimeoutException()));
+    }
+
     @Test
     void test_should_createRetryingWithMoreSettingsClient() {
         int expectedDelayMs = 500;
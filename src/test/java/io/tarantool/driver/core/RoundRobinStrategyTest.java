@@ -3,7 +3,9 @@ package io.tarantool.driver.core;
 import io.tarantool.driver.api.TarantoolClientConfig;
 import io.tarantool.driver.api.connection.ConnectionSelectionStrategy;
 import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.ParallelRoundRobinStrategyFactory;
 import io.tarantool.driver.api.connection.TarantoolConnectionSelectionStrategies.RoundRobinStrategyFactory;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
 import io.tarantool.driver.exceptions.NoAvailableConnectionsException;
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +42,28 @@ public class RoundRobinStrategyTest {
         assertEquals("127.0.0.1", ((CustomConnection) strategy.next()).getHost());
     }
 
+    @Test
+    public void test_next_shouldSkipOverloadedConnections_ifPolicyIsNextConnection() {
+        //given
+        CustomConnection overloaded = new CustomConnection("127.0.0.1", 3001);
+        overloaded.setOverloaded(true);
+        List<TarantoolConnection> connections = Arrays.asList(overloaded, new CustomConnection("127.0.0.2", 3002));
+        TarantoolClientConfig config = TarantoolClientConfig.builder()
+            .withOverloadPolicy(TarantoolOverloadPolicy.NEXT_CONNECTION)
+            .build();
+        ConnectionSelectionStrategy strategy = RoundRobinStrategyFactory.INSTANCE.create(config, connections);
+
+        //then
+        assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+        assertEquals("127.0.0.2", ((CustomConnection) strategy.next()).getHost());
+
+        //when
+        ((CustomConnection) connections.get(1)).setOverloaded(true);
+
+        //then
+        assertDoesNotThrow(strategy::next);
+    }
+
     @Test
     public void testBoundaryCases() {
         List<TarantoolConnection> connections = new ArrayList<>();
@@ -95,6 +119,22 @@ public class RoundRobinStrategyTest {
         assertThrows(NoAvailableConnectionsException.class, strategy::next, "Exception must be thrown");
     }
 
+    @Test
+    public void test_next_shouldThrow_ifAllConnectionsAreLost() {
+        //given
+        List<TarantoolConnection> connections = IntStream.range(1, 4)
+            .mapToObj(i -> new CustomConnection(String.format("127.0.0.%d", i), 3000 + i))
+            .peek(c -> c.setConnected(false))
+            .collect(Collectors.toList());
+        TarantoolClientConfig config = new TarantoolClientConfig();
+
+        //then
+        assertThrows(NoAvailableConnectionsException.class,
+            () -> RoundRobinStrategyFactory.INSTANCE.create(config, connections).next());
+        assertThrows(NoAvailableConnectionsException.class,
+            () -> ParallelRoundRobinStrategyFactory.INSTANCE.create(config, connections).next());
+    }
+
     @Test
     public void testSkipConnections() {
         List<TarantoolConnection> connections = IntStream.range(1, 11)
@@ -128,4 +168,23 @@ public class RoundRobinStrategyTest {
             }
         }
     }
+
+    @Test
+    public void test_close_shouldRemoveConnectionListeners() {
+        //given
+        CustomConnection first = new CustomConnection("127.0.0.1", 3001);
+        CustomConnection second = new CustomConnection("127.0.0.2", 3002);
+        List<TarantoolConnection> connections = Arrays.asList(first, second);
+        TarantoolClientConfig config = new TarantoolClientConfig();
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            RoundRobinStrategyFactory.INSTANCE.create(config, connections).close();
+            ParallelRoundRobinStrategyFactory.INSTANCE.create(config, connections).close();
+        }
+
+        //then
+        assertEquals(0, first.getListenersCount());
+        assertEquals(0, second.getListenersCount());
+    }
 }
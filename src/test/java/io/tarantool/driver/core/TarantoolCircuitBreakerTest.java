@@ -0,0 +1,158 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.connection.TarantoolCircuitBreaker;
+import io.tarantool.driver.api.connection.TarantoolCircuitBreakerConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolCircuitBreakerTest {
+
+    private final TarantoolCircuitBreakerConfig config = TarantoolCircuitBreakerConfig.builder()
+        .withFailureThreshold(3)
+        .withOpenTimeout(50)
+        .withHalfOpenProbes(2)
+        .build();
+
+    @Test
+    public void test_onFailure_shouldOpenBreaker_afterConsecutiveFailures() {
+        //given
+        TarantoolCircuitBreaker breaker = new TarantoolCircuitBreaker(config);
+
+        //when
+        breaker.onFailure(System.nanoTime());
+        breaker.onFailure(System.nanoTime());
+        breaker.onSuccess(System.nanoTime());
+        breaker.onFailure(System.nanoTime());
+        breaker.onFailure(System.nanoTime());
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        //when
+        breaker.onFailure(System.nanoTime());
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void test_tryAcquire_shouldLetProbesThrough_andCloseBreaker_afterOpenTimeout() throws Exception {
+        //given
+        TarantoolCircuitBreaker breaker = openBreaker();
+
+        //when
+        Thread.sleep(60);
+
+        //then
+        assertTrue(breaker.tryAcquire());
+        assertEquals(TarantoolCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        //when
+        breaker.onSuccess(System.nanoTime());
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        //when
+        breaker.onSuccess(System.nanoTime());
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void test_onFailure_shouldReopenBreaker_ifProbeFailed() throws Exception {
+        //given
+        TarantoolCircuitBreaker breaker = openBreaker();
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+
+        //when
+        breaker.onFailure(System.nanoTime());
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    public void test_releasePermission_shouldFreeProbeSlot() throws Exception {
+        //given
+        TarantoolCircuitBreaker breaker = openBreaker();
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        //when
+        breaker.releasePermission();
+
+        //then
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    public void test_onSuccess_shouldNotCountAsProbe_ifRequestWasSentBeforeBreakerBecameHalfOpen() throws Exception {
+        //given
+        TarantoolCircuitBreaker breaker = new TarantoolCircuitBreaker(config);
+        assertTrue(breaker.tryAcquire());
+        long sentWhileClosed = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(System.nanoTime());
+        }
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+
+        //when
+        breaker.onSuccess(sentWhileClosed);
+        breaker.onSuccess(sentWhileClosed);
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        //when
+        breaker.onFailure(sentWhileClosed);
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    public void test_onSuccess_shouldNotCountAsProbe_ifNoProbesAreInFlight() throws Exception {
+        //given
+        TarantoolCircuitBreaker breaker = openBreaker();
+        Thread.sleep(60);
+        assertTrue(breaker.tryAcquire());
+        long probeSentAt = System.nanoTime();
+        breaker.releasePermission();
+
+        //when
+        breaker.onSuccess(probeSentAt);
+        breaker.onSuccess(probeSentAt);
+
+        //then
+        assertEquals(TarantoolCircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    private TarantoolCircuitBreaker openBreaker() {
+        TarantoolCircuitBreaker breaker = new TarantoolCircuitBreaker(config);
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(System.nanoTime());
+        }
+        return breaker;
+    }
+}
@@ -0,0 +1,137 @@
+package io.tarantool.driver.core;
+
+import io.tarantool.driver.api.connection.TarantoolConnection;
+import io.tarantool.driver.core.connection.TarantoolConnectionManager;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.TarantoolRequestBatch;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolRequestBatchCollectorTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_execute_shouldSendCollectedRequests_toSingleConnection() throws Exception {
+        //given
+        List<TarantoolRequestBatch> sentBatches = new ArrayList<>();
+        StubConnectionManager connectionManager = new StubConnectionManager(
+            CompletableFuture.completedFuture(new CustomConnection("localhost", 3301) {
+                @Override
+                public void sendRequests(TarantoolRequestBatch batch) {
+                    sentBatches.add(batch);
+                    batch.getFutures().forEach(f -> ((CompletableFuture<Object>) f).complete("ok"));
+                }
+            }));
+        TarantoolRequestBatchCollector collector = new TarantoolRequestBatchCollector(connectionManager);
+        TarantoolRequest first = newRequest();
+        TarantoolRequest second = newRequest();
+
+        //when
+        CompletableFuture<String> firstResult =
+            collector.getConnection().thenCompose(c -> c.sendRequest(first, mapper));
+        CompletableFuture<String> secondResult =
+            collector.getConnection().thenCompose(c -> c.sendRequest(second, mapper));
+
+        //then
+        assertEquals(2, collector.size());
+        assertFalse(firstResult.isDone());
+        assertEquals(0, connectionManager.connectionRequests.get());
+
+        //when
+        collector.execute().get();
+
+        //then
+        assertEquals(1, connectionManager.connectionRequests.get());
+        assertEquals(1, sentBatches.size());
+        assertSame(first, sentBatches.get(0).getRequests().get(0));
+        assertSame(second, sentBatches.get(0).getRequests().get(1));
+        assertEquals("ok", firstResult.get());
+        assertEquals("ok", secondResult.get());
+    }
+
+    @Test
+    public void test_execute_shouldFailAllRequests_ifConnectionIsNotAvailable() throws Exception {
+        //given
+        CompletableFuture<TarantoolConnection> connection = new CompletableFuture<>();
+        connection.completeExceptionally(new TarantoolClientException("No connection"));
+        TarantoolRequestBatchCollector collector =
+            new TarantoolRequestBatchCollector(new StubConnectionManager(connection));
+        TarantoolRequest request = newRequest();
+        CompletableFuture<Object> result = collector.getConnection().thenCompose(c -> c.sendRequest(request, mapper));
+
+        //when
+        CompletableFuture<Void> batchResult = collector.execute();
+
+        //then
+        assertThrows(ExecutionException.class, batchResult::get);
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void test_sendRequest_shouldThrow_ifBatchIsExecuted() throws Exception {
+        //given
+        TarantoolRequestBatchCollector collector = new TarantoolRequestBatchCollector(
+            new StubConnectionManager(new CompletableFuture<>()));
+        TarantoolRequest request = newRequest();
+        collector.execute();
+
+        //when
+        CompletableFuture<Object> result = collector.getConnection().thenCompose(c -> c.sendRequest(request, mapper));
+
+        //then
+        assertTrue(result.isCompletedExceptionally());
+        assertThrows(TarantoolClientException.class, collector::execute);
+    }
+
+    private TarantoolRequest newRequest() throws Exception {
+        return new TarantoolCallRequest.Builder()
+            .withFunctionName("test_function")
+            .withArguments(Collections.emptyList())
+            .build(mapper);
+    }
+
+    private static final class StubConnectionManager implements TarantoolConnectionManager {
+        private final CompletableFuture<TarantoolConnection> connection;
+        private final AtomicInteger connectionRequests = new AtomicInteger();
+
+        StubConnectionManager(CompletableFuture<TarantoolConnection> connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public CompletableFuture<TarantoolConnection> getConnection() {
+            connectionRequests.incrementAndGet();
+            return connection;
+        }
+
+        @Override
+        public boolean refresh() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.tarantool.driver.core;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.tarantool.driver.api.connection.TarantoolTransportType;
+import io.tarantool.driver.exceptions.TarantoolClientException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolTransportTest {
+
+    @Test
+    public void test_forType_shouldFallBackToNio_ifEpollIsNotAvailable() {
+        //when
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.AUTO);
+
+        //then
+        assertEquals(TarantoolTransport.isEpollAvailable() ? TarantoolTransportType.EPOLL : TarantoolTransportType.NIO,
+            transport.getType());
+    }
+
+    @Test
+    public void test_forType_shouldThrow_ifEpollIsRequestedButNotAvailable() {
+        assumeFalse(TarantoolTransport.isEpollAvailable());
+
+        assertThrows(TarantoolClientException.class, () -> TarantoolTransport.forType(TarantoolTransportType.EPOLL));
+    }
+
+    @Test
+    public void test_nioTransport_shouldCreateEventLoopGroup_andNotSupportDomainSockets() {
+        //given
+        TarantoolTransport transport = TarantoolTransport.forType(TarantoolTransportType.NIO);
+
+        //when
+        EventLoopGroup group = transport.newEventLoopGroup(1);
+
+        //then
+        try {
+            assertEquals(NioSocketChannel.class, transport.getSocketChannelClass());
+            assertFalse(transport.isDomainSocketSupported());
+            assertThrows(TarantoolClientException.class, transport::getDomainSocketChannelClass);
+            assertFalse(group.isShutdown());
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package io.tarantool.driver.core.connection;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.Timer;
+import io.tarantool.driver.TarantoolVersionHolder;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.api.connection.TarantoolOverloadPolicy;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolRequestMetadata;
+import io.tarantool.driver.core.TarantoolTimers;
+import io.tarantool.driver.exceptions.TarantoolOverloadException;
+import io.tarantool.driver.mappers.MessagePackMapper;
+import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolCallRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolConnectionImplTest {
+
+    private final MessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+    private final Timer timer = TarantoolTimers.newTimer("test-timer");
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+
+    @AfterEach
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+        timer.stop();
+    }
+
+    @Test
+    public void test_sendRequest_shouldQueueRequest_ifTooManyRequestsInFlight() throws Exception {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .build());
+        CompletableFuture<Object> first = connection.sendRequest(newRequest(), mapper);
+        TarantoolRequestMetadata firstWritten = channel.readOutbound();
+
+        //when
+        CompletableFuture<Object> second = connection.sendRequest(newRequest(), mapper);
+
+        //then
+        assertNotNull(firstWritten);
+        assertTrue(connection.isOverloaded());
+        assertNull(channel.readOutbound());
+        assertFalse(second.isDone());
+
+        //when
+        first.complete("ok");
+        channel.runPendingTasks();
+
+        //then
+        TarantoolRequestMetadata secondWritten = channel.readOutbound();
+        assertNotNull(secondWritten);
+        assertFalse(second.isDone());
+    }
+
+    @Test
+    public void test_sendRequest_shouldFailQueuedRequest_ifRequestTimeoutExpires() throws Exception {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .withRequestTimeout(50)
+            .build());
+        connection.sendRequest(newRequest(), mapper);
+        CompletableFuture<Object> queued = connection.sendRequest(newRequest(), mapper);
+
+        //when
+        Thread.sleep(100);
+        channel.runScheduledPendingTasks();
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, queued::get);
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertEquals(1, connection.getOutstandingRequests());
+    }
+
+    @Test
+    public void test_sendRequest_shouldSubtractQueuedTimeFromRequestTimeout() throws Exception {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .withRequestTimeout(1000)
+            .build());
+        CompletableFuture<Object> first = connection.sendRequest(newRequest(), mapper);
+        channel.readOutbound();
+        CompletableFuture<Object> second = connection.sendRequest(newRequest(), mapper);
+        Thread.sleep(100);
+
+        //when
+        first.complete("ok");
+        channel.runPendingTasks();
+
+        //then
+        TarantoolRequestMetadata secondWritten = channel.readOutbound();
+        assertNotNull(secondWritten);
+        assertTrue(secondWritten.getRequestTimeout() <= 900);
+        assertFalse(second.isDone());
+    }
+
+    @Test
+    public void test_getOutstandingRequests_shouldCountRequestsWaitingForResponse() {
+        //given
+        TarantoolConnectionImpl connection = newConnection(new TarantoolClientConfig());
+
+        //when
+        CompletableFuture<Object> first = connection.sendRequest(newRequest(), mapper);
+        connection.sendRequest(newRequest(), mapper);
+
+        //then
+        assertEquals(2, connection.getOutstandingRequests());
+
+        //when
+        first.complete("ok");
+
+        //then
+        assertEquals(1, connection.getOutstandingRequests());
+    }
+
+    @Test
+    public void test_sendRequest_shouldFail_ifQueueIsFull() {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .withMaxQueuedRequests(1)
+            .build());
+        connection.sendRequest(newRequest(), mapper);
+        CompletableFuture<Object> queued = connection.sendRequest(newRequest(), mapper);
+
+        //when
+        CompletableFuture<Object> rejected = connection.sendRequest(newRequest(), mapper);
+
+        //then
+        assertFalse(queued.isDone());
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(TarantoolOverloadException.class, e.getCause());
+    }
+
+    @Test
+    public void test_sendRequest_shouldFailFast_ifConnectionIsOverloaded() {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .withOverloadPolicy(TarantoolOverloadPolicy.FAIL_FAST)
+            .build());
+        connection.sendRequest(newRequest(), mapper);
+
+        //when
+        CompletableFuture<Object> rejected = connection.sendRequest(newRequest(), mapper);
+
+        //then
+        ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(TarantoolOverloadException.class, e.getCause());
+        assertEquals(1, channel.outboundMessages().size());
+    }
+
+    @Test
+    public void test_close_shouldFailQueuedRequests() {
+        //given
+        TarantoolConnectionImpl connection = newConnection(TarantoolClientConfig.builder()
+            .withMaxInFlightRequests(1)
+            .build());
+        connection.sendRequest(newRequest(), mapper);
+        CompletableFuture<Object> queued = connection.sendRequest(newRequest(), mapper);
+
+        //when
+        channel.close();
+
+        //then
+        assertTrue(queued.isCompletedExceptionally());
+    }
+
+    private TarantoolConnectionImpl newConnection(TarantoolClientConfig config) {
+        return new TarantoolConnectionImpl(
+            config, new RequestFutureManager(config, timer), new TarantoolVersionHolder(), channel);
+    }
+
+    private TarantoolRequest newRequest() {
+        try {
+            return new TarantoolCallRequest.Builder()
+                .withFunctionName("test_function")
+                .withArguments(Collections.emptyList())
+                .build(mapper);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
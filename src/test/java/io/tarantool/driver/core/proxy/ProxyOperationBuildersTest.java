@@ -1,6 +1,7 @@
 package io.tarantool.driver.core.proxy;
 
 import io.tarantool.driver.api.SingleValueCallResult;
+import io.tarantool.driver.api.TarantoolDeadline;
 import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.conditions.Conditions;
 import io.tarantool.driver.api.space.options.proxy.ProxyDeleteOptions;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 public class ProxyOperationBuildersTest {
@@ -239,6 +241,33 @@ public class ProxyOperationBuildersTest {
         assertEquals(defaultResultMapper, op.getResultMapper());
     }
 
+    @Test
+    public void selectOperationBuilder_withDeadlineTest() {
+        TarantoolMetadata testOperations = new TarantoolMetadata(new TestMetadataProvider());
+        Conditions conditions = Conditions.equals("second", 55).withLimit(100);
+        SelectProxyOperation.Builder<TarantoolResult<TarantoolTuple>> builder =
+            new SelectProxyOperation.Builder<TarantoolResult<TarantoolTuple>>(
+                testOperations, testOperations.getSpaceByName("test").get())
+                .withClient(client)
+                .withSpaceName("space1")
+                .withFunctionName("function1")
+                .withConditions(conditions)
+                .withResultMapper(defaultResultMapper)
+                .withArgumentsMapper(defaultMapper)
+                .withOptions(ProxySelectOptions.create().withTimeout(1000));
+
+        SelectProxyOperation<TarantoolResult<TarantoolTuple>> op =
+            TarantoolDeadline.after(300).run(builder::build);
+        int timeout = (Integer) ((Map<?, ?>) op.getArguments().get(2)).get(CRUDBaseOptions.TIMEOUT);
+        assertTrue(timeout > 0 && timeout <= 300);
+
+        op = TarantoolDeadline.after(5000).run(builder::build);
+        assertEquals(1000, ((Map<?, ?>) op.getArguments().get(2)).get(CRUDBaseOptions.TIMEOUT));
+
+        op = builder.build();
+        assertEquals(1000, ((Map<?, ?>) op.getArguments().get(2)).get(CRUDBaseOptions.TIMEOUT));
+    }
+
     @Test
     public void updateOperationBuilderTest() {
         TarantoolIndexQuery indexQuery = new TarantoolIndexQuery();
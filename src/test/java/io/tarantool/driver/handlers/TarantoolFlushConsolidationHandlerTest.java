@@ -0,0 +1,119 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolFlushConsolidationHandlerTest {
+
+    @Test
+    public void test_flush_shouldFlushPendingWrites_inNextEventLoopIteration_ifDelayIsZero() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolFlushConsolidationHandler(100, 0));
+
+        //when
+        channel.pipeline().write("first");
+        channel.pipeline().write("second");
+        channel.pipeline().flush();
+
+        //then
+        assertNull(channel.readOutbound());
+
+        //when
+        channel.runPendingTasks();
+
+        //then
+        assertEquals("first", channel.readOutbound());
+        assertEquals("second", channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_flush_shouldFlushImmediately_ifMaxBatchedWritesReached() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolFlushConsolidationHandler(3, 1000));
+        channel.freezeTime();
+
+        //when
+        channel.writeAndFlush("first");
+        channel.writeAndFlush("second");
+
+        //then
+        assertNull(channel.readOutbound());
+
+        //when
+        channel.writeAndFlush("third");
+
+        //then
+        assertEquals("first", channel.readOutbound());
+        assertEquals("second", channel.readOutbound());
+        assertEquals("third", channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_flush_shouldFlushPendingWrites_afterMaxDelay() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolFlushConsolidationHandler(100, 1000));
+        channel.freezeTime();
+
+        //when
+        channel.writeAndFlush("first");
+        channel.runPendingTasks();
+
+        //then
+        assertNull(channel.readOutbound());
+
+        //when
+        channel.advanceTimeBy(1, TimeUnit.MILLISECONDS);
+        channel.runPendingTasks();
+
+        //then
+        assertEquals("first", channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_close_shouldFlushPendingWrites() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolFlushConsolidationHandler(100, 1000));
+        channel.freezeTime();
+
+        //when
+        channel.writeAndFlush("first");
+        channel.close();
+
+        //then
+        assertEquals("first", channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_write_shouldNotFlush_ifFlushIsNotRequested() {
+        //given
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolFlushConsolidationHandler(1, 0));
+
+        //when
+        channel.write("first");
+        channel.write("second");
+        channel.runPendingTasks();
+
+        //then
+        assertNull(channel.readOutbound());
+
+        //when
+        channel.flush();
+
+        //then
+        assertEquals("first", channel.readOutbound());
+        assertEquals("second", channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+}
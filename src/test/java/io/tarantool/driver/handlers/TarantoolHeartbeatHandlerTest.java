@@ -0,0 +1,99 @@
+package io.tarantool.driver.handlers;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.tarantool.driver.api.TarantoolClientConfig;
+import io.tarantool.driver.core.RequestFutureManager;
+import io.tarantool.driver.core.TarantoolTimers;
+import io.tarantool.driver.protocol.TarantoolRequest;
+import io.tarantool.driver.protocol.requests.TarantoolPingRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * @author Alexey Kuzin
+ */
+public class TarantoolHeartbeatHandlerTest {
+
+    private final RequestFutureManager futureManager =
+        new RequestFutureManager(new TarantoolClientConfig(), TarantoolTimers.defaultTimer());
+
+    @Test
+    public void test_channelIdle_shouldSendPing_andMeasureRoundTripTime() throws Exception {
+        //given
+        TarantoolHeartbeatHandler handler = new TarantoolHeartbeatHandler(
+            futureManager, CompletableFuture.completedFuture(null), 50, 1000);
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolRequestHandler(futureManager), handler);
+
+        //when
+        Object request = awaitOutbound(channel);
+
+        //then
+        assertInstanceOf(TarantoolPingRequest.class, request);
+        assertEquals(-1, handler.getRoundTripTime());
+
+        //when
+        long syncId = ((TarantoolRequest) request).getHeader().getSync();
+        futureManager.removeRequest(syncId).getFuture().complete(null);
+
+        //then
+        assertTrue(handler.getRoundTripTime() >= 0);
+        assertTrue(channel.isActive());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_channelIdle_shouldCloseChannel_ifPingIsNotAnswered() throws Exception {
+        //given
+        TarantoolHeartbeatHandler handler = new TarantoolHeartbeatHandler(
+            futureManager, CompletableFuture.completedFuture(null), 50, 100);
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolRequestHandler(futureManager), handler);
+
+        //when
+        assertInstanceOf(TarantoolPingRequest.class, awaitOutbound(channel));
+        long deadline = System.currentTimeMillis() + 2000;
+        while (channel.isActive() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            channel.runPendingTasks();
+        }
+
+        //then
+        assertFalse(channel.isActive());
+        assertEquals(-1, handler.getRoundTripTime());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void test_channelIdle_shouldNotSendPing_beforeAuthentication() throws Exception {
+        //given
+        TarantoolHeartbeatHandler handler = new TarantoolHeartbeatHandler(
+            futureManager, new CompletableFuture<Channel>(), 50, 1000);
+        EmbeddedChannel channel = new EmbeddedChannel(new TarantoolRequestHandler(futureManager), handler);
+
+        //when
+        Thread.sleep(200);
+        channel.runPendingTasks();
+
+        //then
+        assertNull(channel.readOutbound());
+        channel.finishAndReleaseAll();
+    }
+
+    private static Object awaitOutbound(EmbeddedChannel channel) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        Object message = null;
+        while (message == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            channel.runPendingTasks();
+            message = channel.readOutbound();
+        }
+        return message;
+    }
+}
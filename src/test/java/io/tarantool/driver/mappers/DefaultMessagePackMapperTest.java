@@ -5,9 +5,14 @@ import io.tarantool.driver.api.tuple.DefaultTarantoolTupleFactory;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleFactory;
 import io.tarantool.driver.mappers.converters.ValueConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultArrayValueToListConverter;
+import io.tarantool.driver.mappers.converters.value.defaults.DefaultStringValueToStringConverter;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
 import org.msgpack.core.MessageTypeCastException;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.Value;
@@ -16,7 +21,9 @@ import org.msgpack.value.ValueType;
 import org.msgpack.value.impl.ImmutableLongValueImpl;
 import org.msgpack.value.impl.ImmutableStringValueImpl;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -25,7 +32,9 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultMessagePackMapperTest {
 
@@ -150,6 +159,70 @@ class DefaultMessagePackMapperTest {
         assertEquals(notNilMap, mapper.fromValue(nilMap));
     }
 
+    @Test
+    void testFromUnpacker_shouldReturnTheSameObjects_asFromValue() throws IOException {
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+        Map<String, Object> nested = new HashMap<>();
+        nested.put("key", Arrays.asList(1, 2L, Long.MAX_VALUE, "value", null));
+        nested.put("nil", null);
+        nested.put("binary", new byte[]{1, 2, 3});
+        Value value = mapper.toValue(Arrays.asList("abc", 1234, 1.5, true, null, nested));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+        List<Object> expected = mapper.fromValue(value);
+        List<Object> actual = mapper.fromUnpacker(unpacker);
+
+        assertFalse(unpacker.hasNext());
+        assertEquals(expected.subList(0, 5), actual.subList(0, 5));
+        Map<String, Object> expectedMap = (Map<String, Object>) expected.get(5);
+        Map<String, Object> actualMap = (Map<String, Object>) actual.get(5);
+        assertEquals(expectedMap.keySet(), actualMap.keySet());
+        assertEquals(expectedMap.get("key"), actualMap.get("key"));
+        assertArrayEquals((byte[]) expectedMap.get("binary"), (byte[]) actualMap.get("binary"));
+    }
+
+    @Test
+    void testFromUnpacker_shouldReadIntegers_withoutIntermediateValues() throws IOException {
+        DefaultMessagePackMapper defaultMapper = mapperFactory.defaultComplexTypesMapper();
+        // fails on any fallback to the conversion via the intermediate values
+        MessagePackValueMapper mapper = new DefaultMessagePackMapper(defaultMapper) {
+            @Override
+            public <V extends Value, O> O fromValue(V v) {
+                throw new MessagePackValueMapperException("Unexpected conversion of value %s", v);
+            }
+        };
+        Value value = ValueFactory.newArray(ValueFactory.newInteger(1), ValueFactory.newInteger(-1234567),
+            ValueFactory.newInteger(Integer.MAX_VALUE + 1L), ValueFactory.newInteger(Long.MIN_VALUE),
+            ValueFactory.newInteger(new BigInteger("18446744073709551615")));
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(value);
+
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+        List<?> actual = new DefaultArrayValueToListConverter(mapper).fromUnpacker(unpacker);
+
+        assertFalse(unpacker.hasNext());
+        assertEquals(Arrays.asList(1, -1234567, Integer.MAX_VALUE + 1L, Long.MIN_VALUE, -1L), actual);
+        List<Object> expected = defaultMapper.fromValue(value);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void testGetUnpackerConverter_shouldReturnEmpty_ifDefaultConverterDoesNotSupportIt() {
+        DefaultMessagePackMapper mapper = mapperFactory.defaultComplexTypesMapper();
+        assertTrue(mapper.getUnpackerConverter(ValueType.ARRAY).isPresent());
+        assertTrue(mapper.getUnpackerConverter(ValueType.STRING).isPresent());
+        assertFalse(mapper.getUnpackerConverter(ValueType.EXTENSION).isPresent());
+
+        mapper = new DefaultMessagePackMapper.Builder()
+            .withValueConverter(ValueType.STRING, String.class, new DefaultStringValueToStringConverter())
+            .withValueConverter(ValueType.STRING, String.class, (ValueConverter<Value, String>) Value::toJson)
+            .build();
+
+        assertFalse(mapper.getUnpackerConverter(ValueType.STRING).isPresent());
+    }
+
     @Test
     void registerValueConverter() throws MessagePackValueMapperException {
         DefaultMessagePackMapper mapper = DefaultMessagePackMapperFactory.getInstance().defaultSimpleTypeMapper();
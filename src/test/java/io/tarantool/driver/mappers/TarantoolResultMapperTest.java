@@ -6,22 +6,31 @@ import io.tarantool.driver.api.TarantoolResult;
 import io.tarantool.driver.api.tuple.TarantoolTuple;
 import io.tarantool.driver.api.tuple.TarantoolTupleResult;
 import io.tarantool.driver.core.tuple.TarantoolTupleImpl;
+import io.tarantool.driver.mappers.converters.MessageUnpackerConverter;
 import io.tarantool.driver.mappers.factories.ArrayValueToTarantoolResultMapperFactory;
 import io.tarantool.driver.mappers.factories.DefaultMessagePackMapperFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactory;
 import io.tarantool.driver.mappers.factories.ResultMapperFactoryFactoryImpl;
 import org.junit.jupiter.api.Test;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessageUnpacker;
 import org.msgpack.value.ArrayValue;
 import org.msgpack.value.MapValue;
 import org.msgpack.value.StringValue;
 import org.msgpack.value.Value;
 import org.msgpack.value.ValueFactory;
+import org.msgpack.value.ValueType;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TarantoolResultMapperTest {
     @Test
@@ -47,6 +56,34 @@ class TarantoolResultMapperTest {
         assertEquals(nestedList2, result.get(1).getList(2));
     }
 
+    @Test
+    void testWithArrayTarantoolTuple_fromUnpacker() throws IOException {
+        MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
+        TarantoolTupleResultMapperFactory tarantoolTupleResultMapperFactory =
+            TarantoolTupleResultMapperFactoryImpl.getInstance();
+        TarantoolResultMapper<TarantoolTuple> mapper = tarantoolTupleResultMapperFactory.
+            withArrayValueToTarantoolTupleResultConverter(defaultMapper);
+        List<Object> nestedList1 = Arrays.asList("nested", "array", 1);
+        TarantoolTuple tupleOne = new TarantoolTupleImpl(Arrays.asList("abc", 1234, nestedList1), defaultMapper);
+        TarantoolTuple tupleTwo = new TarantoolTupleImpl(Arrays.asList("def", null), defaultMapper);
+        MessageBufferPacker packer = MessagePack.newDefaultBufferPacker();
+        packer.packValue(ValueFactory.newArray(
+            tupleOne.toMessagePackValue(defaultMapper), tupleTwo.toMessagePackValue(defaultMapper)));
+        MessageUnpacker unpacker = MessagePack.newDefaultUnpacker(packer.toByteArray());
+
+        Optional<MessageUnpackerConverter<TarantoolResult<TarantoolTuple>>> converter =
+            mapper.getUnpackerConverter(ValueType.ARRAY);
+        assertTrue(converter.isPresent());
+        TarantoolResult<TarantoolTuple> result = converter.get().fromUnpacker(unpacker);
+
+        assertEquals(2, result.size());
+        assertEquals("abc", result.get(0).getString(0));
+        assertEquals(1234, result.get(0).getInteger(1));
+        assertEquals(nestedList1, result.get(0).getList(2));
+        assertEquals("def", result.get(1).getString(0));
+        assertNull(result.get(1).getObject(1).orElse(null));
+    }
+
     @Test
     void testWithRowsMetadataTarantoolTuple() {
         MessagePackMapper defaultMapper = DefaultMessagePackMapperFactory.getInstance().defaultComplexTypesMapper();
@@ -43,7 +43,7 @@ class TarantoolAuthRequestTest {
         // check header
         TarantoolHeader authHeader = TarantoolHeader.fromMessagePackValue(unpacker.unpackValue());
         assertEquals(TarantoolRequestType.IPROTO_AUTH.getCode(), authHeader.getCode());
-        assertTrue(authHeader.getSync() >= 1);
+        assertEquals(0L, authHeader.getSync()); // not tracked by the connection
         // check body
         Value value = unpacker.unpackValue();
         assertTrue(value.isMapValue());